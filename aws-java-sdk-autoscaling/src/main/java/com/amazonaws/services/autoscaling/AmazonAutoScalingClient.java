@@ -75,6 +75,12 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
      */
     protected final List<Unmarshaller<AmazonServiceException, Node>> exceptionUnmarshallers = new ArrayList<Unmarshaller<AmazonServiceException, Node>>();
 
+    /**
+     * Handler of the error responses, built once all the exception
+     * unmarshallers are registered
+     */
+    private volatile DefaultErrorResponseHandler errorResponseHandler;
+
     /**
      * Constructs a new client to invoke service methods on Auto Scaling. A
      * credentials provider chain will be used that searches for credentials in
@@ -256,6 +262,9 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
                 .add(new StandardErrorUnmarshaller(
                         com.amazonaws.services.autoscaling.model.AmazonAutoScalingException.class));
 
+        errorResponseHandler = new DefaultErrorResponseHandler(
+                exceptionUnmarshallers);
+
         setServiceNameIntern(DEFAULT_SIGNING_NAME);
         setEndpointPrefix(ENDPOINT_PREFIX);
         // calling this.setEndPoint(...) will also modify the signer accordingly
@@ -3139,9 +3148,6 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
         request.setEndpoint(endpoint);
         request.setTimeOffset(timeOffset);
 
-        DefaultErrorResponseHandler errorResponseHandler = new DefaultErrorResponseHandler(
-                exceptionUnmarshallers);
-
         return client.execute(request, responseHandler, errorResponseHandler,
                 executionContext);
     }
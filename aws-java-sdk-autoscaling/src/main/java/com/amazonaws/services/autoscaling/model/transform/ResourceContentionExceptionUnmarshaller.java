@@ -26,7 +26,7 @@ public class ResourceContentionExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public ResourceContentionExceptionUnmarshaller() {
-        super(ResourceContentionException.class);
+        super(ResourceContentionException.class, "ResourceContention");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class ResourceInUseExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public ResourceInUseExceptionUnmarshaller() {
-        super(ResourceInUseException.class);
+        super(ResourceInUseException.class, "ResourceInUse");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class ScalingActivityInProgressExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public ScalingActivityInProgressExceptionUnmarshaller() {
-        super(ScalingActivityInProgressException.class);
+        super(ScalingActivityInProgressException.class, "ScalingActivityInProgress");
     }
 
     @Override
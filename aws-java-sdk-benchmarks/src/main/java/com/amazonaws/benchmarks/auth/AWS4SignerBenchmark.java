@@ -0,0 +1,95 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.auth;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.Request;
+import com.amazonaws.auth.AWS4Signer;
+import com.amazonaws.auth.AWSCredentials;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.http.HttpMethodName;
+import com.amazonaws.util.StringUtils;
+
+/**
+ * Throughput of {@link AWS4Signer#sign} when one signer is shared by many threads. Every thread
+ * signs with the same credentials, region and service, so all of them hit the same cached
+ * signing key and any contention on the signing key cache shows up as lower throughput per thread.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AWS4SignerBenchmark {
+
+    private static final URI ENDPOINT = URI.create("https://dynamodb.us-east-1.amazonaws.com");
+    private static final byte[] CONTENT = "{\"TableName\":\"benchmark\"}".getBytes(StringUtils.UTF8);
+
+    private final AWS4Signer signer = new AWS4Signer();
+    private final AWSCredentials credentials = new BasicAWSCredentials("access", "secret");
+
+    @Setup
+    public void setUp() {
+        signer.setServiceName("dynamodb");
+        signer.setRegionName("us-east-1");
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Request<?> sign_1Thread() {
+        return sign();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Request<?> sign_8Threads() {
+        return sign();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Request<?> sign_64Threads() {
+        return sign();
+    }
+
+    private Request<?> sign() {
+        Request<Void> request = new DefaultRequest<Void>("AmazonDynamoDBv2");
+        request.setEndpoint(ENDPOINT);
+        request.setResourcePath("/");
+        request.setHttpMethod(HttpMethodName.POST);
+        request.addHeader("Content-Type", "application/x-amz-json-1.0");
+        request.addHeader("X-Amz-Target", "DynamoDB_20120810.GetItem");
+        request.setContent(new ByteArrayInputStream(CONTENT));
+        signer.sign(request, credentials);
+        return request;
+    }
+}
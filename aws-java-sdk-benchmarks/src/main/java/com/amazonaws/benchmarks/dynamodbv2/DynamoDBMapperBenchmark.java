@@ -0,0 +1,224 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.dynamodbv2;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBAttribute;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBHashKey;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.SaveBehavior;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTable;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+
+/**
+ * Throughput of saving and loading a mapped object with {@link DynamoDBMapper} against an
+ * in-memory DynamoDB stub, which measures converting objects to and from DynamoDB items, and
+ * of unmarshalling items directly as done for each page of a query or scan.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DynamoDBMapperBenchmark {
+
+    /** {@code UPDATE} saves with an UpdateItem call, {@code CLOBBER} with a PutItem call */
+    @Param({ "UPDATE", "CLOBBER" })
+    public SaveBehavior saveBehavior;
+
+    /** Number of items in a page of query or scan results */
+    private static final int PAGE_SIZE = 100;
+
+    private DynamoDBMapper mapper;
+    private BenchmarkItem item;
+    private Map<String, AttributeValue> attributes;
+    private List<Map<String, AttributeValue>> page;
+
+    @Setup
+    public void setUp() {
+        StubDynamoDBClient dynamoDB = new StubDynamoDBClient();
+        mapper = new DynamoDBMapper(dynamoDB, new DynamoDBMapperConfig(saveBehavior));
+        item = BenchmarkItem.newItem();
+        attributes = newAttributes();
+        dynamoDB.setItem(attributes);
+        page = new ArrayList<Map<String, AttributeValue>>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            page.add(newAttributes());
+        }
+    }
+
+    @Benchmark
+    public BenchmarkItem save() {
+        mapper.save(item);
+        return item;
+    }
+
+    @Benchmark
+    public BenchmarkItem load() {
+        return mapper.load(BenchmarkItem.class, item.getId());
+    }
+
+    @Benchmark
+    public BenchmarkItem marshallIntoObject() {
+        return mapper.marshallIntoObject(BenchmarkItem.class, attributes);
+    }
+
+    @Benchmark
+    public List<BenchmarkItem> marshallIntoObjects() {
+        return mapper.marshallIntoObjects(BenchmarkItem.class, page);
+    }
+
+    private static Map<String, AttributeValue> newAttributes() {
+        Map<String, AttributeValue> attributes = new HashMap<String, AttributeValue>();
+        BenchmarkItem item = BenchmarkItem.newItem();
+        attributes.put("id", new AttributeValue().withS(item.getId()));
+        attributes.put("name", new AttributeValue().withS(item.getName()));
+        attributes.put("description", new AttributeValue().withS(item.getDescription()));
+        attributes.put("count", new AttributeValue().withN(Integer.toString(item.getCount())));
+        attributes.put("size", new AttributeValue().withN(Long.toString(item.getSize())));
+        attributes.put("price", new AttributeValue().withN(Double.toString(item.getPrice())));
+        attributes.put("enabled", new AttributeValue().withN(item.isEnabled() ? "1" : "0"));
+        attributes.put("created", new AttributeValue().withS("2016-08-01T12:00:00.000Z"));
+        attributes.put("tags", new AttributeValue().withSS(item.getTags()));
+        return attributes;
+    }
+
+    @DynamoDBTable(tableName = "benchmark")
+    public static class BenchmarkItem {
+        private String id;
+        private String name;
+        private String description;
+        private int count;
+        private long size;
+        private double price;
+        private boolean enabled;
+        private Date created;
+        private Set<String> tags;
+
+        static BenchmarkItem newItem() {
+            BenchmarkItem item = new BenchmarkItem();
+            item.setId("id-0123456789");
+            item.setName("benchmark item");
+            item.setDescription("an item with a handful of attributes of the common types");
+            item.setCount(42);
+            item.setSize(1234567890123L);
+            item.setPrice(19.99);
+            item.setEnabled(true);
+            item.setCreated(new Date(1470052800000L));
+            Set<String> tags = new HashSet<String>();
+            tags.add("red");
+            tags.add("green");
+            tags.add("blue");
+            item.setTags(tags);
+            return item;
+        }
+
+        @DynamoDBHashKey
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        @DynamoDBAttribute
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public void setDescription(String description) {
+            this.description = description;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public void setSize(long size) {
+            this.size = size;
+        }
+
+        public double getPrice() {
+            return price;
+        }
+
+        public void setPrice(double price) {
+            this.price = price;
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Date getCreated() {
+            return created;
+        }
+
+        public void setCreated(Date created) {
+            this.created = created;
+        }
+
+        public Set<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(Set<String> tags) {
+            this.tags = tags;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.dynamodbv2;
+
+import java.util.Map;
+
+import com.amazonaws.services.dynamodbv2.AbstractAmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.GetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.GetItemResult;
+import com.amazonaws.services.dynamodbv2.model.PutItemRequest;
+import com.amazonaws.services.dynamodbv2.model.PutItemResult;
+import com.amazonaws.services.dynamodbv2.model.UpdateItemRequest;
+import com.amazonaws.services.dynamodbv2.model.UpdateItemResult;
+
+/**
+ * An in-memory DynamoDB stub that accepts every write and returns the same item for every read,
+ * so that the mapper benchmarks only measure the mapper itself.
+ */
+class StubDynamoDBClient extends AbstractAmazonDynamoDB {
+
+    private volatile Map<String, AttributeValue> item;
+
+    void setItem(Map<String, AttributeValue> item) {
+        this.item = item;
+    }
+
+    @Override
+    public PutItemResult putItem(PutItemRequest request) {
+        return new PutItemResult();
+    }
+
+    @Override
+    public UpdateItemResult updateItem(UpdateItemRequest request) {
+        return new UpdateItemResult();
+    }
+
+    @Override
+    public GetItemResult getItem(GetItemRequest request) {
+        return new GetItemResult().withItem(item);
+    }
+}
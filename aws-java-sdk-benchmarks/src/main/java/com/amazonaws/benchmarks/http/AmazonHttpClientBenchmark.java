@@ -0,0 +1,181 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonWebServiceResponse;
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.Request;
+import com.amazonaws.auth.AWS4Signer;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.http.AmazonHttpClient;
+import com.amazonaws.http.ExecutionContext;
+import com.amazonaws.http.HttpMethodName;
+import com.amazonaws.http.HttpResponse;
+import com.amazonaws.http.HttpResponseHandler;
+import com.amazonaws.internal.StaticCredentialsProvider;
+import com.amazonaws.util.IOUtils;
+import com.amazonaws.util.StringUtils;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Throughput of a full request through {@link AmazonHttpClient}, including signing, retries
+ * bookkeeping, request metrics and connection pooling, against a stub HTTP server on the loopback
+ * interface that always answers with a small JSON document.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AmazonHttpClientBenchmark {
+
+    private static final byte[] REQUEST_BODY = "{\"TableName\":\"benchmark\",\"Key\":{\"id\":{\"S\":\"1\"}}}"
+            .getBytes(StringUtils.UTF8);
+    private static final byte[] RESPONSE_BODY = "{\"Item\":{\"id\":{\"S\":\"1\"},\"value\":{\"N\":\"42\"}}}"
+            .getBytes(StringUtils.UTF8);
+
+    /** whether request metrics are collected for each request */
+    @Param({ "false", "true" })
+    public boolean metricsEnabled;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private AmazonHttpClient client;
+    private URI endpoint;
+    private AWS4Signer signer;
+    private StaticCredentialsProvider credentialsProvider;
+
+    private final HttpResponseHandler<AmazonWebServiceResponse<String>> responseHandler = new StringResponseHandler();
+    private final HttpResponseHandler<AmazonServiceException> errorResponseHandler = new ErrorResponseHandler();
+
+    @Setup
+    public void setUp() throws IOException {
+        // Without TCP_NODELAY the stub server's small writes wait on delayed ACKs
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", new StubHandler());
+        serverExecutor = Executors.newFixedThreadPool(4);
+        server.setExecutor(serverExecutor);
+        server.start();
+        endpoint = URI.create("http://127.0.0.1:" + server.getAddress().getPort());
+
+        client = new AmazonHttpClient(new ClientConfiguration());
+        signer = new AWS4Signer();
+        signer.setServiceName("dynamodb");
+        signer.setRegionName("us-east-1");
+        credentialsProvider = new StaticCredentialsProvider(new BasicAWSCredentials("access", "secret"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.shutdown();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public String execute() {
+        Request<Void> request = new DefaultRequest<Void>("AmazonDynamoDBv2");
+        request.setEndpoint(endpoint);
+        request.setResourcePath("/");
+        request.setHttpMethod(HttpMethodName.POST);
+        request.addHeader("Content-Type", "application/x-amz-json-1.0");
+        request.addHeader("X-Amz-Target", "DynamoDB_20120810.GetItem");
+        request.addHeader("Content-Length", Integer.toString(REQUEST_BODY.length));
+        request.setContent(new ByteArrayInputStream(REQUEST_BODY));
+
+        ExecutionContext executionContext = new ExecutionContext(metricsEnabled);
+        executionContext.setSigner(signer);
+        executionContext.setCredentialsProvider(credentialsProvider);
+        return client.execute(request, responseHandler, errorResponseHandler, executionContext)
+                .getAwsResponse();
+    }
+
+    private static class StubHandler implements HttpHandler {
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            InputStream in = exchange.getRequestBody();
+            try {
+                IOUtils.toByteArray(in);
+            } finally {
+                in.close();
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/x-amz-json-1.0");
+            exchange.sendResponseHeaders(200, RESPONSE_BODY.length);
+            OutputStream out = exchange.getResponseBody();
+            try {
+                out.write(RESPONSE_BODY);
+            } finally {
+                out.close();
+            }
+        }
+    }
+
+    private static class StringResponseHandler implements HttpResponseHandler<AmazonWebServiceResponse<String>> {
+        @Override
+        public AmazonWebServiceResponse<String> handle(HttpResponse response) throws Exception {
+            AmazonWebServiceResponse<String> awsResponse = new AmazonWebServiceResponse<String>();
+            awsResponse.setResult(IOUtils.toString(response.getContent()));
+            return awsResponse;
+        }
+
+        @Override
+        public boolean needsConnectionLeftOpen() {
+            return false;
+        }
+    }
+
+    private static class ErrorResponseHandler implements HttpResponseHandler<AmazonServiceException> {
+        @Override
+        public AmazonServiceException handle(HttpResponse response) throws Exception {
+            AmazonServiceException ase = new AmazonServiceException(IOUtils.toString(response.getContent()));
+            ase.setStatusCode(response.getStatusCode());
+            return ase;
+        }
+
+        @Override
+        public boolean needsConnectionLeftOpen() {
+            return false;
+        }
+    }
+}
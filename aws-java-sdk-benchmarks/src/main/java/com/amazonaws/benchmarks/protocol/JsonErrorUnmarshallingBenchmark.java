@@ -0,0 +1,127 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.protocol;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.http.HttpResponse;
+import com.amazonaws.http.HttpResponseHandler;
+import com.amazonaws.protocol.json.JsonClientMetadata;
+import com.amazonaws.protocol.json.JsonErrorResponseMetadata;
+import com.amazonaws.protocol.json.JsonErrorShapeMetadata;
+import com.amazonaws.protocol.json.SdkJsonProtocolFactory;
+import com.amazonaws.protocol.json.StructuredJsonGenerator;
+import com.amazonaws.services.dynamodbv2.model.AmazonDynamoDBException;
+import com.amazonaws.services.dynamodbv2.model.ConditionalCheckFailedException;
+import com.amazonaws.services.dynamodbv2.model.InternalServerErrorException;
+import com.amazonaws.services.dynamodbv2.model.ItemCollectionSizeLimitExceededException;
+import com.amazonaws.services.dynamodbv2.model.LimitExceededException;
+import com.amazonaws.services.dynamodbv2.model.ProvisionedThroughputExceededException;
+import com.amazonaws.services.dynamodbv2.model.ResourceInUseException;
+import com.amazonaws.services.dynamodbv2.model.ResourceNotFoundException;
+
+/**
+ * Throughput of handling DynamoDB error responses through the JSON error response handler, as
+ * during throttling storms or conditional write contention, where error responses outnumber the
+ * successful ones.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonErrorUnmarshallingBenchmark {
+
+    /** wire format of the response */
+    @Param({ "json", "cbor" })
+    public String format;
+
+    /**
+     * error code of the response: the last modeled exception of the client, and an error code
+     * only handled by the base service exception
+     */
+    @Param({ "LimitExceededException", "ThrottlingException" })
+    public String errorCode;
+
+    private SdkJsonProtocolFactory protocolFactory;
+    private byte[] content;
+
+    @Setup
+    public void setUp() {
+        protocolFactory = new SdkJsonProtocolFactory(new JsonClientMetadata()
+                .withProtocolVersion("1.0")
+                .withSupportsCbor("cbor".equals(format))
+                .addErrorMetadata(newErrorMetadata("ItemCollectionSizeLimitExceededException",
+                                                   ItemCollectionSizeLimitExceededException.class))
+                .addErrorMetadata(newErrorMetadata("ResourceInUseException", ResourceInUseException.class))
+                .addErrorMetadata(newErrorMetadata("ResourceNotFoundException", ResourceNotFoundException.class))
+                .addErrorMetadata(newErrorMetadata("ProvisionedThroughputExceededException",
+                                                   ProvisionedThroughputExceededException.class))
+                .addErrorMetadata(newErrorMetadata("ConditionalCheckFailedException",
+                                                   ConditionalCheckFailedException.class))
+                .addErrorMetadata(newErrorMetadata("InternalServerError", InternalServerErrorException.class))
+                .addErrorMetadata(newErrorMetadata("LimitExceededException", LimitExceededException.class))
+                .withBaseServiceExceptionClass(AmazonDynamoDBException.class));
+        content = newErrorResponse(protocolFactory, errorCode);
+    }
+
+    /**
+     * Like the generated clients, creates the error response handler for each response.
+     */
+    @Benchmark
+    public AmazonServiceException unmarshall() throws Exception {
+        HttpResponseHandler<AmazonServiceException> errorResponseHandler = protocolFactory
+                .createErrorResponseHandler(new JsonErrorResponseMetadata());
+        HttpResponse response = new HttpResponse(new DefaultRequest<Void>("AmazonDynamoDBv2"), null);
+        response.setStatusCode(400);
+        response.addHeader("x-amzn-RequestId", "4KBNVRGD25RG1KEO9UT4V3FQDJVV4KQNSO5AEMVJF66Q9ASUAAJG");
+        response.setContent(new ByteArrayInputStream(content));
+        return errorResponseHandler.handle(response);
+    }
+
+    private static JsonErrorShapeMetadata newErrorMetadata(String errorCode,
+                                                           Class<? extends AmazonServiceException> modeledClass) {
+        return new JsonErrorShapeMetadata().withErrorCode(errorCode).withModeledClass(modeledClass);
+    }
+
+    /**
+     * Returns an error response with the given error code, written in the wire format of the
+     * protocol factory.
+     */
+    private static byte[] newErrorResponse(SdkJsonProtocolFactory protocolFactory, String errorCode) {
+        StructuredJsonGenerator generator = protocolFactory.createGenerator();
+        generator.writeStartObject();
+        generator.writeFieldName("__type").writeValue("com.amazonaws.dynamodb.v20120810#" + errorCode);
+        generator.writeFieldName("message").writeValue("The request rate for the table exceeds the limit.");
+        generator.writeEndObject();
+        return generator.getBytes();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.protocol;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazonaws.Request;
+import com.amazonaws.protocol.json.JsonClientMetadata;
+import com.amazonaws.protocol.json.SdkJsonProtocolFactory;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.PutItemRequest;
+import com.amazonaws.services.dynamodbv2.model.transform.PutItemRequestMarshaller;
+
+/**
+ * Throughput of marshalling a DynamoDB {@code PutItem} request with a generated JSON marshaller,
+ * which writes through {@code SdkJsonGenerator} for plain JSON and {@code SdkCborGenerator} for
+ * CBOR.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonMarshallingBenchmark {
+
+    /** wire format the request is marshalled to */
+    @Param({ "json", "cbor" })
+    public String format;
+
+    /** number of attributes in the item */
+    @Param({ "10", "100" })
+    public int attributes;
+
+    private PutItemRequestMarshaller marshaller;
+    private PutItemRequest putItemRequest;
+
+    @Setup
+    public void setUp() {
+        marshaller = new PutItemRequestMarshaller(new SdkJsonProtocolFactory(new JsonClientMetadata()
+                .withProtocolVersion("1.0")
+                .withSupportsCbor("cbor".equals(format))));
+        putItemRequest = new PutItemRequest("benchmark", newItem(attributes));
+    }
+
+    @Benchmark
+    public Request<PutItemRequest> marshall() {
+        return marshaller.marshall(putItemRequest);
+    }
+
+    /**
+     * Returns an item with the given number of attributes of mixed types, shared with the
+     * unmarshalling benchmarks.
+     */
+    static Map<String, AttributeValue> newItem(int attributes) {
+        Map<String, AttributeValue> item = new HashMap<String, AttributeValue>();
+        item.put("id", new AttributeValue().withS("id-0123456789"));
+        for (int i = 1; i < attributes; i++) {
+            switch (i % 4) {
+            case 0:
+                item.put("string" + i, new AttributeValue().withS("value of attribute " + i));
+                break;
+            case 1:
+                item.put("number" + i, new AttributeValue().withN(Integer.toString(i * 1000)));
+                break;
+            case 2:
+                item.put("bool" + i, new AttributeValue().withBOOL(i % 3 == 0));
+                break;
+            default:
+                item.put("set" + i, new AttributeValue().withSS("a" + i, "b" + i, "c" + i));
+                break;
+            }
+        }
+        return item;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.protocol;
+
+import java.io.ByteArrayInputStream;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazonaws.AmazonWebServiceResponse;
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.http.HttpResponse;
+import com.amazonaws.http.HttpResponseHandler;
+import com.amazonaws.protocol.json.JsonClientMetadata;
+import com.amazonaws.protocol.json.JsonOperationMetadata;
+import com.amazonaws.protocol.json.SdkJsonProtocolFactory;
+import com.amazonaws.protocol.json.StructuredJsonGenerator;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.QueryResult;
+import com.amazonaws.services.dynamodbv2.model.transform.QueryResultJsonUnmarshaller;
+
+/**
+ * Throughput of unmarshalling a DynamoDB {@code Query} response through the JSON response handler,
+ * which drives the generated unmarshallers with a {@code JsonUnmarshallerContextImpl}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonUnmarshallingBenchmark {
+
+    /** wire format of the response */
+    @Param({ "json", "cbor" })
+    public String format;
+
+    /** number of items in the response */
+    @Param({ "1", "100" })
+    public int items;
+
+    private HttpResponseHandler<AmazonWebServiceResponse<QueryResult>> responseHandler;
+    private byte[] content;
+
+    @Setup
+    public void setUp() {
+        SdkJsonProtocolFactory protocolFactory = new SdkJsonProtocolFactory(new JsonClientMetadata()
+                .withProtocolVersion("1.0")
+                .withSupportsCbor("cbor".equals(format)));
+        responseHandler = protocolFactory.createResponseHandler(new JsonOperationMetadata()
+                .withPayloadJson(true)
+                .withHasStreamingSuccessResponse(false), new QueryResultJsonUnmarshaller());
+        content = newQueryResponse(protocolFactory, items);
+    }
+
+    @Benchmark
+    public QueryResult unmarshall() throws Exception {
+        HttpResponse response = new HttpResponse(new DefaultRequest<Void>("AmazonDynamoDBv2"), null);
+        response.setStatusCode(200);
+        response.setContent(new ByteArrayInputStream(content));
+        return responseHandler.handle(response).getResult();
+    }
+
+    /**
+     * Returns a query response with the given number of items, written in the wire format of the
+     * protocol factory.
+     */
+    private static byte[] newQueryResponse(SdkJsonProtocolFactory protocolFactory, int items) {
+        StructuredJsonGenerator generator = protocolFactory.createGenerator();
+        generator.writeStartObject();
+        generator.writeFieldName("Count").writeValue(items);
+        generator.writeFieldName("ScannedCount").writeValue(items);
+        generator.writeFieldName("Items").writeStartArray();
+        for (int i = 0; i < items; i++) {
+            generator.writeStartObject();
+            for (Map.Entry<String, AttributeValue> attribute : JsonMarshallingBenchmark.newItem(20).entrySet()) {
+                generator.writeFieldName(attribute.getKey());
+                writeAttributeValue(generator, attribute.getValue());
+            }
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+        return generator.getBytes();
+    }
+
+    private static void writeAttributeValue(StructuredJsonGenerator generator, AttributeValue value) {
+        generator.writeStartObject();
+        if (value.getS() != null) {
+            generator.writeFieldName("S").writeValue(value.getS());
+        } else if (value.getN() != null) {
+            generator.writeFieldName("N").writeValue(value.getN());
+        } else if (value.getBOOL() != null) {
+            generator.writeFieldName("BOOL").writeValue(value.getBOOL());
+        } else if (value.getSS() != null) {
+            generator.writeFieldName("SS").writeStartArray();
+            for (String member : value.getSS()) {
+                generator.writeValue(member);
+            }
+            generator.writeEndArray();
+        }
+        generator.writeEndObject();
+    }
+}
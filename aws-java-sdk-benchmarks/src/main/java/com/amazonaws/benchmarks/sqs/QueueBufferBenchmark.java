@@ -0,0 +1,125 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.sqs;
+
+import java.lang.reflect.Constructor;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazonaws.services.sqs.AmazonSQSAsync;
+import com.amazonaws.services.sqs.buffered.AmazonSQSBufferedAsyncClient;
+import com.amazonaws.services.sqs.buffered.QueueBufferConfig;
+import com.amazonaws.services.sqs.model.DeleteMessageRequest;
+import com.amazonaws.services.sqs.model.Message;
+import com.amazonaws.services.sqs.model.ReceiveMessageRequest;
+import com.amazonaws.services.sqs.model.SendMessageRequest;
+
+/**
+ * Throughput of {@link AmazonSQSBufferedAsyncClient} when many threads share one queue, against
+ * an in-memory SQS stub.
+ * <p>
+ * Run with a range of thread counts, e.g.
+ * {@code java -jar target/benchmarks.jar QueueBufferBenchmark -t 64}. To compare with an earlier
+ * implementation of the buffered client, build this module again with
+ * {@code -Dbenchmark.sdk.version=<version>}; the {@code bounded} executor is skipped by versions
+ * that can't be given an executor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueueBufferBenchmark {
+
+    private static final String QUEUE_URL = "https://sqs.us-east-1.amazonaws.com/123456789012/benchmark";
+
+    /**
+     * {@code shared} uses the executor shared by all buffered clients, {@code bounded} gives the
+     * client a fixed size pool of its own.
+     */
+    @Param({ "shared", "bounded" })
+    public String executor;
+
+    /** simulated service latency of each SQS call */
+    @Param({ "0", "1000" })
+    public long serviceLatencyMicros;
+
+    private ExecutorService boundedExecutor;
+    private AmazonSQSBufferedAsyncClient client;
+
+    @Setup
+    public void setUp() throws Exception {
+        AmazonSQSAsync sqs = new StubSqsClient(TimeUnit.MICROSECONDS.toNanos(serviceLatencyMicros));
+        QueueBufferConfig config = new QueueBufferConfig().withMaxBatchOpenMs(10);
+        if ("bounded".equals(executor)) {
+            boundedExecutor = Executors.newFixedThreadPool(32);
+            client = newClientWithExecutor(sqs, config, boundedExecutor);
+        } else {
+            client = new AmazonSQSBufferedAsyncClient(sqs, config);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.shutdown();
+        if (boundedExecutor != null) {
+            boundedExecutor.shutdownNow();
+        }
+    }
+
+    @Benchmark
+    public Object sendMessage() {
+        return client.sendMessage(new SendMessageRequest(QUEUE_URL, "benchmark"));
+    }
+
+    @Benchmark
+    public Object receiveAndDeleteMessage() {
+        Message message = client.receiveMessage(new ReceiveMessageRequest(QUEUE_URL).withMaxNumberOfMessages(1))
+                .getMessages().get(0);
+        return client.deleteMessageAsync(new DeleteMessageRequest(QUEUE_URL, message.getReceiptHandle()));
+    }
+
+    /**
+     * Looked up reflectively so that the benchmark still compiles against versions of the client
+     * that always use the shared executor.
+     */
+    private static AmazonSQSBufferedAsyncClient newClientWithExecutor(AmazonSQSAsync sqs, QueueBufferConfig config,
+            ExecutorService executor) throws Exception {
+        Constructor<AmazonSQSBufferedAsyncClient> constructor;
+        try {
+            constructor = AmazonSQSBufferedAsyncClient.class.getConstructor(AmazonSQSAsync.class,
+                    QueueBufferConfig.class, Executor.class);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("This version of the buffered client can't be given an executor", e);
+        }
+        return constructor.newInstance(sqs, config, executor);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.sqs;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import com.amazonaws.services.sqs.AbstractAmazonSQSAsync;
+import com.amazonaws.services.sqs.model.ChangeMessageVisibilityBatchRequest;
+import com.amazonaws.services.sqs.model.ChangeMessageVisibilityBatchRequestEntry;
+import com.amazonaws.services.sqs.model.ChangeMessageVisibilityBatchResult;
+import com.amazonaws.services.sqs.model.ChangeMessageVisibilityBatchResultEntry;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchRequest;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchRequestEntry;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchResult;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchResultEntry;
+import com.amazonaws.services.sqs.model.GetQueueAttributesRequest;
+import com.amazonaws.services.sqs.model.GetQueueAttributesResult;
+import com.amazonaws.services.sqs.model.Message;
+import com.amazonaws.services.sqs.model.ReceiveMessageRequest;
+import com.amazonaws.services.sqs.model.ReceiveMessageResult;
+import com.amazonaws.services.sqs.model.SendMessageBatchRequest;
+import com.amazonaws.services.sqs.model.SendMessageBatchRequestEntry;
+import com.amazonaws.services.sqs.model.SendMessageBatchResult;
+import com.amazonaws.services.sqs.model.SendMessageBatchResultEntry;
+
+/**
+ * An in-memory stand-in for SQS that answers the calls made by the buffered client after a fixed
+ * service latency. Every receive returns a full batch, so the benchmarks measure the client and
+ * not an empty queue.
+ */
+class StubSqsClient extends AbstractAmazonSQSAsync {
+
+    private final long latencyNanos;
+    private final AtomicLong messageIds = new AtomicLong();
+
+    StubSqsClient(long latencyNanos) {
+        this.latencyNanos = latencyNanos;
+    }
+
+    @Override
+    public SendMessageBatchResult sendMessageBatch(SendMessageBatchRequest request) {
+        simulateLatency();
+        List<SendMessageBatchResultEntry> successful = new ArrayList<SendMessageBatchResultEntry>();
+        for (SendMessageBatchRequestEntry entry : request.getEntries()) {
+            successful.add(new SendMessageBatchResultEntry().withId(entry.getId())
+                    .withMessageId(Long.toString(messageIds.incrementAndGet())));
+        }
+        return new SendMessageBatchResult().withSuccessful(successful);
+    }
+
+    @Override
+    public DeleteMessageBatchResult deleteMessageBatch(DeleteMessageBatchRequest request) {
+        simulateLatency();
+        List<DeleteMessageBatchResultEntry> successful = new ArrayList<DeleteMessageBatchResultEntry>();
+        for (DeleteMessageBatchRequestEntry entry : request.getEntries()) {
+            successful.add(new DeleteMessageBatchResultEntry().withId(entry.getId()));
+        }
+        return new DeleteMessageBatchResult().withSuccessful(successful);
+    }
+
+    @Override
+    public ChangeMessageVisibilityBatchResult changeMessageVisibilityBatch(ChangeMessageVisibilityBatchRequest request) {
+        simulateLatency();
+        List<ChangeMessageVisibilityBatchResultEntry> successful = new ArrayList<ChangeMessageVisibilityBatchResultEntry>();
+        for (ChangeMessageVisibilityBatchRequestEntry entry : request.getEntries()) {
+            successful.add(new ChangeMessageVisibilityBatchResultEntry().withId(entry.getId()));
+        }
+        return new ChangeMessageVisibilityBatchResult().withSuccessful(successful);
+    }
+
+    @Override
+    public ReceiveMessageResult receiveMessage(ReceiveMessageRequest request) {
+        simulateLatency();
+        int count = request.getMaxNumberOfMessages() == null ? 1 : request.getMaxNumberOfMessages();
+        List<Message> messages = new ArrayList<Message>(count);
+        for (int i = 0; i < count; i++) {
+            String id = Long.toString(messageIds.incrementAndGet());
+            messages.add(new Message().withMessageId(id).withReceiptHandle(id).withBody("benchmark"));
+        }
+        return new ReceiveMessageResult().withMessages(messages);
+    }
+
+    @Override
+    public GetQueueAttributesResult getQueueAttributes(GetQueueAttributesRequest request) {
+        return new GetQueueAttributesResult().withAttributes(Collections.singletonMap("VisibilityTimeout", "30"));
+    }
+
+    @Override
+    public void shutdown() {
+    }
+
+    private void simulateLatency() {
+        if (latencyNanos > 0) {
+            LockSupport.parkNanos(latencyNanos);
+        }
+    }
+}
@@ -94,6 +94,12 @@ public class AmazonCloudFormationClient extends AmazonWebServiceClient
      */
     protected final List<Unmarshaller<AmazonServiceException, Node>> exceptionUnmarshallers = new ArrayList<Unmarshaller<AmazonServiceException, Node>>();
 
+    /**
+     * Handler of the error responses, built once all the exception
+     * unmarshallers are registered
+     */
+    private volatile DefaultErrorResponseHandler errorResponseHandler;
+
     /**
      * Constructs a new client to invoke service methods on AWS CloudFormation.
      * A credentials provider chain will be used that searches for credentials
@@ -281,6 +287,9 @@ public class AmazonCloudFormationClient extends AmazonWebServiceClient
                 .add(new StandardErrorUnmarshaller(
                         com.amazonaws.services.cloudformation.model.AmazonCloudFormationException.class));
 
+        errorResponseHandler = new DefaultErrorResponseHandler(
+                exceptionUnmarshallers);
+
         setServiceNameIntern(DEFAULT_SIGNING_NAME);
         setEndpointPrefix(ENDPOINT_PREFIX);
         // calling this.setEndPoint(...) will also modify the signer accordingly
@@ -1630,9 +1639,6 @@ public class AmazonCloudFormationClient extends AmazonWebServiceClient
         request.setEndpoint(endpoint);
         request.setTimeOffset(timeOffset);
 
-        DefaultErrorResponseHandler errorResponseHandler = new DefaultErrorResponseHandler(
-                exceptionUnmarshallers);
-
         return client.execute(request, responseHandler, errorResponseHandler,
                 executionContext);
     }
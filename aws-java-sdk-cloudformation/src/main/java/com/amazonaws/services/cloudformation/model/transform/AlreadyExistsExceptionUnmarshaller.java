@@ -26,7 +26,7 @@ public class AlreadyExistsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public AlreadyExistsExceptionUnmarshaller() {
-        super(AlreadyExistsException.class);
+        super(AlreadyExistsException.class, "AlreadyExistsException");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class ChangeSetNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public ChangeSetNotFoundExceptionUnmarshaller() {
-        super(ChangeSetNotFoundException.class);
+        super(ChangeSetNotFoundException.class, "ChangeSetNotFound");
     }
 
     @Override
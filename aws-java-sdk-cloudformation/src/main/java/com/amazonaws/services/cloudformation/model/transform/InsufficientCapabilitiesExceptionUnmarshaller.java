@@ -26,7 +26,7 @@ public class InsufficientCapabilitiesExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InsufficientCapabilitiesExceptionUnmarshaller() {
-        super(InsufficientCapabilitiesException.class);
+        super(InsufficientCapabilitiesException.class, "InsufficientCapabilitiesException");
     }
 
     @Override
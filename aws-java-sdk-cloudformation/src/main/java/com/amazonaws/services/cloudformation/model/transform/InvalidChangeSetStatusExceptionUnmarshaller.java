@@ -26,7 +26,7 @@ public class InvalidChangeSetStatusExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidChangeSetStatusExceptionUnmarshaller() {
-        super(InvalidChangeSetStatusException.class);
+        super(InvalidChangeSetStatusException.class, "InvalidChangeSetStatus");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class LimitExceededExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public LimitExceededExceptionUnmarshaller() {
-        super(LimitExceededException.class);
+        super(LimitExceededException.class, "LimitExceededException");
     }
 
     @Override
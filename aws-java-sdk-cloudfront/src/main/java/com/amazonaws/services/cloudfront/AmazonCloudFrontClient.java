@@ -69,6 +69,12 @@ public class AmazonCloudFrontClient extends AmazonWebServiceClient implements
      */
     protected final List<Unmarshaller<AmazonServiceException, Node>> exceptionUnmarshallers = new ArrayList<Unmarshaller<AmazonServiceException, Node>>();
 
+    /**
+     * Handler of the error responses, built once all the exception
+     * unmarshallers are registered
+     */
+    private volatile DefaultErrorResponseHandler errorResponseHandler;
+
     /**
      * Constructs a new client to invoke service methods on CloudFront. A
      * credentials provider chain will be used that searches for credentials in
@@ -331,6 +337,9 @@ public class AmazonCloudFrontClient extends AmazonWebServiceClient implements
                 .add(new StandardErrorUnmarshaller(
                         com.amazonaws.services.cloudfront.model.AmazonCloudFrontException.class));
 
+        errorResponseHandler = new DefaultErrorResponseHandler(
+                exceptionUnmarshallers);
+
         setServiceNameIntern(DEFAULT_SIGNING_NAME);
         setEndpointPrefix(ENDPOINT_PREFIX);
         // calling this.setEndPoint(...) will also modify the signer accordingly
@@ -1669,9 +1678,6 @@ public class AmazonCloudFrontClient extends AmazonWebServiceClient implements
         request.setEndpoint(endpoint);
         request.setTimeOffset(timeOffset);
 
-        DefaultErrorResponseHandler errorResponseHandler = new DefaultErrorResponseHandler(
-                exceptionUnmarshallers);
-
         return client.execute(request, responseHandler, errorResponseHandler,
                 executionContext);
     }
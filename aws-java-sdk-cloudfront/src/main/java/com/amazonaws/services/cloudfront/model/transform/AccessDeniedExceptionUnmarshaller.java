@@ -26,7 +26,7 @@ public class AccessDeniedExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public AccessDeniedExceptionUnmarshaller() {
-        super(AccessDeniedException.class);
+        super(AccessDeniedException.class, "AccessDenied");
     }
 
     @Override
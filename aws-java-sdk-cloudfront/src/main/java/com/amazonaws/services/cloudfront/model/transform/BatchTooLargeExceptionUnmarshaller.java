@@ -26,7 +26,7 @@ public class BatchTooLargeExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public BatchTooLargeExceptionUnmarshaller() {
-        super(BatchTooLargeException.class);
+        super(BatchTooLargeException.class, "BatchTooLarge");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class CNAMEAlreadyExistsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public CNAMEAlreadyExistsExceptionUnmarshaller() {
-        super(CNAMEAlreadyExistsException.class);
+        super(CNAMEAlreadyExistsException.class, "CNAMEAlreadyExists");
     }
 
     @Override
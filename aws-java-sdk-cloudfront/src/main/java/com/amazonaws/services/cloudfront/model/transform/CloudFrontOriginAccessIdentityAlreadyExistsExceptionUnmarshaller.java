@@ -26,7 +26,7 @@ public class CloudFrontOriginAccessIdentityAlreadyExistsExceptionUnmarshaller
         extends StandardErrorUnmarshaller {
 
     public CloudFrontOriginAccessIdentityAlreadyExistsExceptionUnmarshaller() {
-        super(CloudFrontOriginAccessIdentityAlreadyExistsException.class);
+        super(CloudFrontOriginAccessIdentityAlreadyExistsException.class, "CloudFrontOriginAccessIdentityAlreadyExists");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class CloudFrontOriginAccessIdentityInUseExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public CloudFrontOriginAccessIdentityInUseExceptionUnmarshaller() {
-        super(CloudFrontOriginAccessIdentityInUseException.class);
+        super(CloudFrontOriginAccessIdentityInUseException.class, "CloudFrontOriginAccessIdentityInUse");
     }
 
     @Override
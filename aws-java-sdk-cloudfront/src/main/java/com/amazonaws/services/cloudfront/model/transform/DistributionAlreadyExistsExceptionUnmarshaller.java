@@ -26,7 +26,7 @@ public class DistributionAlreadyExistsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public DistributionAlreadyExistsExceptionUnmarshaller() {
-        super(DistributionAlreadyExistsException.class);
+        super(DistributionAlreadyExistsException.class, "DistributionAlreadyExists");
     }
 
     @Override
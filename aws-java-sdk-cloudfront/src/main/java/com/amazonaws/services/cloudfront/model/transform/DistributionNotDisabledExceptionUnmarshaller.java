@@ -26,7 +26,7 @@ public class DistributionNotDisabledExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public DistributionNotDisabledExceptionUnmarshaller() {
-        super(DistributionNotDisabledException.class);
+        super(DistributionNotDisabledException.class, "DistributionNotDisabled");
     }
 
     @Override
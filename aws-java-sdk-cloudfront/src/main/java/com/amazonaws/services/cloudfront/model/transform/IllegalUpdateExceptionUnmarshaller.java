@@ -26,7 +26,7 @@ public class IllegalUpdateExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public IllegalUpdateExceptionUnmarshaller() {
-        super(IllegalUpdateException.class);
+        super(IllegalUpdateException.class, "IllegalUpdate");
     }
 
     @Override
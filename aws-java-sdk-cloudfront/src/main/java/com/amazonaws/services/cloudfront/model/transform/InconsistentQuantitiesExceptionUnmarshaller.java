@@ -26,7 +26,7 @@ public class InconsistentQuantitiesExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InconsistentQuantitiesExceptionUnmarshaller() {
-        super(InconsistentQuantitiesException.class);
+        super(InconsistentQuantitiesException.class, "InconsistentQuantities");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InvalidArgumentExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidArgumentExceptionUnmarshaller() {
-        super(InvalidArgumentException.class);
+        super(InvalidArgumentException.class, "InvalidArgument");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InvalidDefaultRootObjectExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidDefaultRootObjectExceptionUnmarshaller() {
-        super(InvalidDefaultRootObjectException.class);
+        super(InvalidDefaultRootObjectException.class, "InvalidDefaultRootObject");
     }
 
     @Override
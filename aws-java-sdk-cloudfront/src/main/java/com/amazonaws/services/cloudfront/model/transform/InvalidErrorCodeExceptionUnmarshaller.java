@@ -26,7 +26,7 @@ public class InvalidErrorCodeExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidErrorCodeExceptionUnmarshaller() {
-        super(InvalidErrorCodeException.class);
+        super(InvalidErrorCodeException.class, "InvalidErrorCode");
     }
 
     @Override
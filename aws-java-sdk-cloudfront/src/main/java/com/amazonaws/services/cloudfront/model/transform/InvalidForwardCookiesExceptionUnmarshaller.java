@@ -26,7 +26,7 @@ public class InvalidForwardCookiesExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidForwardCookiesExceptionUnmarshaller() {
-        super(InvalidForwardCookiesException.class);
+        super(InvalidForwardCookiesException.class, "InvalidForwardCookies");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InvalidGeoRestrictionParameterExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidGeoRestrictionParameterExceptionUnmarshaller() {
-        super(InvalidGeoRestrictionParameterException.class);
+        super(InvalidGeoRestrictionParameterException.class, "InvalidGeoRestrictionParameter");
     }
 
     @Override
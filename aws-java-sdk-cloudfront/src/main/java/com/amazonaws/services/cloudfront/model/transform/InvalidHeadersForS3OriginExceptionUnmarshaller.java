@@ -26,7 +26,7 @@ public class InvalidHeadersForS3OriginExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidHeadersForS3OriginExceptionUnmarshaller() {
-        super(InvalidHeadersForS3OriginException.class);
+        super(InvalidHeadersForS3OriginException.class, "InvalidHeadersForS3Origin");
     }
 
     @Override
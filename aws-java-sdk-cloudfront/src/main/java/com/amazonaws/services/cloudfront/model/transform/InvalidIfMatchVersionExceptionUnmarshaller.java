@@ -26,7 +26,7 @@ public class InvalidIfMatchVersionExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidIfMatchVersionExceptionUnmarshaller() {
-        super(InvalidIfMatchVersionException.class);
+        super(InvalidIfMatchVersionException.class, "InvalidIfMatchVersion");
     }
 
     @Override
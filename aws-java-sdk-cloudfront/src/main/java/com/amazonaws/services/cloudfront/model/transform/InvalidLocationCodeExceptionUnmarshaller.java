@@ -26,7 +26,7 @@ public class InvalidLocationCodeExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidLocationCodeExceptionUnmarshaller() {
-        super(InvalidLocationCodeException.class);
+        super(InvalidLocationCodeException.class, "InvalidLocationCode");
     }
 
     @Override
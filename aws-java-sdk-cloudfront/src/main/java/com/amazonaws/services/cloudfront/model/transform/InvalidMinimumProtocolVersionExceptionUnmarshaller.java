@@ -26,7 +26,7 @@ public class InvalidMinimumProtocolVersionExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidMinimumProtocolVersionExceptionUnmarshaller() {
-        super(InvalidMinimumProtocolVersionException.class);
+        super(InvalidMinimumProtocolVersionException.class, "InvalidMinimumProtocolVersion");
     }
 
     @Override
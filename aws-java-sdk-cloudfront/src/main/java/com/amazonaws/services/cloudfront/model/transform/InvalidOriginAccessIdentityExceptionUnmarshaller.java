@@ -26,7 +26,7 @@ public class InvalidOriginAccessIdentityExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidOriginAccessIdentityExceptionUnmarshaller() {
-        super(InvalidOriginAccessIdentityException.class);
+        super(InvalidOriginAccessIdentityException.class, "InvalidOriginAccessIdentity");
     }
 
     @Override
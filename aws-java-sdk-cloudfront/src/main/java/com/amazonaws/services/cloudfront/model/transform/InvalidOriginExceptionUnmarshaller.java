@@ -26,7 +26,7 @@ public class InvalidOriginExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidOriginExceptionUnmarshaller() {
-        super(InvalidOriginException.class);
+        super(InvalidOriginException.class, "InvalidOrigin");
     }
 
     @Override
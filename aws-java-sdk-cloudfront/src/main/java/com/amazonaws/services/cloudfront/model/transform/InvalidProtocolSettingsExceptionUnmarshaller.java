@@ -26,7 +26,7 @@ public class InvalidProtocolSettingsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidProtocolSettingsExceptionUnmarshaller() {
-        super(InvalidProtocolSettingsException.class);
+        super(InvalidProtocolSettingsException.class, "InvalidProtocolSettings");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InvalidRelativePathExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidRelativePathExceptionUnmarshaller() {
-        super(InvalidRelativePathException.class);
+        super(InvalidRelativePathException.class, "InvalidRelativePath");
     }
 
     @Override
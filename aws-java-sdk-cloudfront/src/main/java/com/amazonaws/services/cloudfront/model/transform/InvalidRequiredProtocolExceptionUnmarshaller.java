@@ -26,7 +26,7 @@ public class InvalidRequiredProtocolExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidRequiredProtocolExceptionUnmarshaller() {
-        super(InvalidRequiredProtocolException.class);
+        super(InvalidRequiredProtocolException.class, "InvalidRequiredProtocol");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InvalidResponseCodeExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidResponseCodeExceptionUnmarshaller() {
-        super(InvalidResponseCodeException.class);
+        super(InvalidResponseCodeException.class, "InvalidResponseCode");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InvalidTTLOrderExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidTTLOrderExceptionUnmarshaller() {
-        super(InvalidTTLOrderException.class);
+        super(InvalidTTLOrderException.class, "InvalidTTLOrder");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InvalidViewerCertificateExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidViewerCertificateExceptionUnmarshaller() {
-        super(InvalidViewerCertificateException.class);
+        super(InvalidViewerCertificateException.class, "InvalidViewerCertificate");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InvalidWebACLIdExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidWebACLIdExceptionUnmarshaller() {
-        super(InvalidWebACLIdException.class);
+        super(InvalidWebACLIdException.class, "InvalidWebACLId");
     }
 
     @Override
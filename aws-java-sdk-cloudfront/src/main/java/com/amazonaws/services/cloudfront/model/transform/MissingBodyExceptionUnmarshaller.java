@@ -25,7 +25,7 @@ import com.amazonaws.services.cloudfront.model.MissingBodyException;
 public class MissingBodyExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public MissingBodyExceptionUnmarshaller() {
-        super(MissingBodyException.class);
+        super(MissingBodyException.class, "MissingBody");
     }
 
     @Override
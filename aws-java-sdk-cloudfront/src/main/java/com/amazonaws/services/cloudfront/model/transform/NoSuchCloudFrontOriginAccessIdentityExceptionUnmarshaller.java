@@ -26,7 +26,7 @@ public class NoSuchCloudFrontOriginAccessIdentityExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public NoSuchCloudFrontOriginAccessIdentityExceptionUnmarshaller() {
-        super(NoSuchCloudFrontOriginAccessIdentityException.class);
+        super(NoSuchCloudFrontOriginAccessIdentityException.class, "NoSuchCloudFrontOriginAccessIdentity");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class NoSuchDistributionExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public NoSuchDistributionExceptionUnmarshaller() {
-        super(NoSuchDistributionException.class);
+        super(NoSuchDistributionException.class, "NoSuchDistribution");
     }
 
     @Override
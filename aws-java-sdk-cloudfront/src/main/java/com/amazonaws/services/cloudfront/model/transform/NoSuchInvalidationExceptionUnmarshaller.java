@@ -26,7 +26,7 @@ public class NoSuchInvalidationExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public NoSuchInvalidationExceptionUnmarshaller() {
-        super(NoSuchInvalidationException.class);
+        super(NoSuchInvalidationException.class, "NoSuchInvalidation");
     }
 
     @Override
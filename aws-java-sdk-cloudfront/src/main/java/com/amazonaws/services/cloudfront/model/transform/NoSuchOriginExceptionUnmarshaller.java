@@ -26,7 +26,7 @@ public class NoSuchOriginExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public NoSuchOriginExceptionUnmarshaller() {
-        super(NoSuchOriginException.class);
+        super(NoSuchOriginException.class, "NoSuchOrigin");
     }
 
     @Override
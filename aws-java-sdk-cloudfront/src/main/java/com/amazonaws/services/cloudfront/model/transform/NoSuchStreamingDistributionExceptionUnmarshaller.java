@@ -26,7 +26,7 @@ public class NoSuchStreamingDistributionExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public NoSuchStreamingDistributionExceptionUnmarshaller() {
-        super(NoSuchStreamingDistributionException.class);
+        super(NoSuchStreamingDistributionException.class, "NoSuchStreamingDistribution");
     }
 
     @Override
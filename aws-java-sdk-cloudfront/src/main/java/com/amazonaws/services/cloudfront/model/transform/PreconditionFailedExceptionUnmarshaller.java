@@ -26,7 +26,7 @@ public class PreconditionFailedExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public PreconditionFailedExceptionUnmarshaller() {
-        super(PreconditionFailedException.class);
+        super(PreconditionFailedException.class, "PreconditionFailed");
     }
 
     @Override
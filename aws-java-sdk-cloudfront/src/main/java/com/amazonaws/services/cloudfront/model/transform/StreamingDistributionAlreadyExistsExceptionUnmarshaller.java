@@ -26,7 +26,7 @@ public class StreamingDistributionAlreadyExistsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public StreamingDistributionAlreadyExistsExceptionUnmarshaller() {
-        super(StreamingDistributionAlreadyExistsException.class);
+        super(StreamingDistributionAlreadyExistsException.class, "StreamingDistributionAlreadyExists");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class StreamingDistributionNotDisabledExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public StreamingDistributionNotDisabledExceptionUnmarshaller() {
-        super(StreamingDistributionNotDisabledException.class);
+        super(StreamingDistributionNotDisabledException.class, "StreamingDistributionNotDisabled");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class TooManyCacheBehaviorsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public TooManyCacheBehaviorsExceptionUnmarshaller() {
-        super(TooManyCacheBehaviorsException.class);
+        super(TooManyCacheBehaviorsException.class, "TooManyCacheBehaviors");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class TooManyCertificatesExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public TooManyCertificatesExceptionUnmarshaller() {
-        super(TooManyCertificatesException.class);
+        super(TooManyCertificatesException.class, "TooManyCertificates");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class TooManyCloudFrontOriginAccessIdentitiesExceptionUnmarshaller
         extends StandardErrorUnmarshaller {
 
     public TooManyCloudFrontOriginAccessIdentitiesExceptionUnmarshaller() {
-        super(TooManyCloudFrontOriginAccessIdentitiesException.class);
+        super(TooManyCloudFrontOriginAccessIdentitiesException.class, "TooManyCloudFrontOriginAccessIdentities");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class TooManyCookieNamesInWhiteListExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public TooManyCookieNamesInWhiteListExceptionUnmarshaller() {
-        super(TooManyCookieNamesInWhiteListException.class);
+        super(TooManyCookieNamesInWhiteListException.class, "TooManyCookieNamesInWhiteList");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class TooManyDistributionCNAMEsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public TooManyDistributionCNAMEsExceptionUnmarshaller() {
-        super(TooManyDistributionCNAMEsException.class);
+        super(TooManyDistributionCNAMEsException.class, "TooManyDistributionCNAMEs");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class TooManyDistributionsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public TooManyDistributionsExceptionUnmarshaller() {
-        super(TooManyDistributionsException.class);
+        super(TooManyDistributionsException.class, "TooManyDistributions");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class TooManyHeadersInForwardedValuesExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public TooManyHeadersInForwardedValuesExceptionUnmarshaller() {
-        super(TooManyHeadersInForwardedValuesException.class);
+        super(TooManyHeadersInForwardedValuesException.class, "TooManyHeadersInForwardedValues");
     }
 
     @Override
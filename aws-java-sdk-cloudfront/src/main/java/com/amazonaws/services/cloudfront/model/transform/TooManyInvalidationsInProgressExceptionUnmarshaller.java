@@ -26,7 +26,7 @@ public class TooManyInvalidationsInProgressExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public TooManyInvalidationsInProgressExceptionUnmarshaller() {
-        super(TooManyInvalidationsInProgressException.class);
+        super(TooManyInvalidationsInProgressException.class, "TooManyInvalidationsInProgress");
     }
 
     @Override
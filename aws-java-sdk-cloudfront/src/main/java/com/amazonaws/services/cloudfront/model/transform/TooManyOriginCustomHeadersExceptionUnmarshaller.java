@@ -26,7 +26,7 @@ public class TooManyOriginCustomHeadersExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public TooManyOriginCustomHeadersExceptionUnmarshaller() {
-        super(TooManyOriginCustomHeadersException.class);
+        super(TooManyOriginCustomHeadersException.class, "TooManyOriginCustomHeaders");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class TooManyOriginsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public TooManyOriginsExceptionUnmarshaller() {
-        super(TooManyOriginsException.class);
+        super(TooManyOriginsException.class, "TooManyOrigins");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class TooManyStreamingDistributionCNAMEsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public TooManyStreamingDistributionCNAMEsExceptionUnmarshaller() {
-        super(TooManyStreamingDistributionCNAMEsException.class);
+        super(TooManyStreamingDistributionCNAMEsException.class, "TooManyStreamingDistributionCNAMEs");
     }
 
     @Override
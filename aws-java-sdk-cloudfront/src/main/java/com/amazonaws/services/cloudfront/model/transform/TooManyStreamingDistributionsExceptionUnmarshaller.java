@@ -26,7 +26,7 @@ public class TooManyStreamingDistributionsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public TooManyStreamingDistributionsExceptionUnmarshaller() {
-        super(TooManyStreamingDistributionsException.class);
+        super(TooManyStreamingDistributionsException.class, "TooManyStreamingDistributions");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class TooManyTrustedSignersExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public TooManyTrustedSignersExceptionUnmarshaller() {
-        super(TooManyTrustedSignersException.class);
+        super(TooManyTrustedSignersException.class, "TooManyTrustedSigners");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class TrustedSignerDoesNotExistExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public TrustedSignerDoesNotExistExceptionUnmarshaller() {
-        super(TrustedSignerDoesNotExistException.class);
+        super(TrustedSignerDoesNotExistException.class, "TrustedSignerDoesNotExist");
     }
 
     @Override
@@ -83,6 +83,12 @@ public class AmazonCloudSearchClient extends AmazonWebServiceClient implements
      */
     protected final List<Unmarshaller<AmazonServiceException, Node>> exceptionUnmarshallers = new ArrayList<Unmarshaller<AmazonServiceException, Node>>();
 
+    /**
+     * Handler of the error responses, built once all the exception
+     * unmarshallers are registered
+     */
+    private volatile DefaultErrorResponseHandler errorResponseHandler;
+
     /**
      * Constructs a new client to invoke service methods on Amazon CloudSearch.
      * A credentials provider chain will be used that searches for credentials
@@ -268,6 +274,9 @@ public class AmazonCloudSearchClient extends AmazonWebServiceClient implements
                 .add(new StandardErrorUnmarshaller(
                         com.amazonaws.services.cloudsearchv2.model.AmazonCloudSearchException.class));
 
+        errorResponseHandler = new DefaultErrorResponseHandler(
+                exceptionUnmarshallers);
+
         setServiceNameIntern(DEFAULT_SIGNING_NAME);
         setEndpointPrefix(ENDPOINT_PREFIX);
         // calling this.setEndPoint(...) will also modify the signer accordingly
@@ -1916,9 +1925,6 @@ public class AmazonCloudSearchClient extends AmazonWebServiceClient implements
         request.setEndpoint(endpoint);
         request.setTimeOffset(timeOffset);
 
-        DefaultErrorResponseHandler errorResponseHandler = new DefaultErrorResponseHandler(
-                exceptionUnmarshallers);
-
         return client.execute(request, responseHandler, errorResponseHandler,
                 executionContext);
     }
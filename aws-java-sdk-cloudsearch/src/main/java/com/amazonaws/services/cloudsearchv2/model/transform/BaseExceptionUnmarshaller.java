@@ -25,7 +25,7 @@ import com.amazonaws.services.cloudsearchv2.model.BaseException;
 public class BaseExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public BaseExceptionUnmarshaller() {
-        super(BaseException.class);
+        super(BaseException.class, "BaseException");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class DisabledOperationExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public DisabledOperationExceptionUnmarshaller() {
-        super(DisabledOperationException.class);
+        super(DisabledOperationException.class, "DisabledAction");
     }
 
     @Override
@@ -25,7 +25,7 @@ import com.amazonaws.services.cloudsearchv2.model.InternalException;
 public class InternalExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public InternalExceptionUnmarshaller() {
-        super(InternalException.class);
+        super(InternalException.class, "InternalException");
     }
 
     @Override
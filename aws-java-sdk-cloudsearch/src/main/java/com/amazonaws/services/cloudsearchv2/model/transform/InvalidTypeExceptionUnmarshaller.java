@@ -25,7 +25,7 @@ import com.amazonaws.services.cloudsearchv2.model.InvalidTypeException;
 public class InvalidTypeExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public InvalidTypeExceptionUnmarshaller() {
-        super(InvalidTypeException.class);
+        super(InvalidTypeException.class, "InvalidType");
     }
 
     @Override
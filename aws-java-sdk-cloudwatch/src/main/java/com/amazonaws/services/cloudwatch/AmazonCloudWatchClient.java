@@ -88,6 +88,12 @@ public class AmazonCloudWatchClient extends AmazonWebServiceClient implements
      */
     protected final List<Unmarshaller<AmazonServiceException, Node>> exceptionUnmarshallers = new ArrayList<Unmarshaller<AmazonServiceException, Node>>();
 
+    /**
+     * Handler of the error responses, built once all the exception
+     * unmarshallers are registered
+     */
+    private volatile DefaultErrorResponseHandler errorResponseHandler;
+
     /**
      * Constructs a new client to invoke service methods on CloudWatch. A
      * credentials provider chain will be used that searches for credentials in
@@ -272,6 +278,9 @@ public class AmazonCloudWatchClient extends AmazonWebServiceClient implements
                 .add(new StandardErrorUnmarshaller(
                         com.amazonaws.services.cloudwatch.model.AmazonCloudWatchException.class));
 
+        errorResponseHandler = new DefaultErrorResponseHandler(
+                exceptionUnmarshallers);
+
         setServiceNameIntern(DEFAULT_SIGNING_NAME);
         setEndpointPrefix(ENDPOINT_PREFIX);
         // calling this.setEndPoint(...) will also modify the signer accordingly
@@ -1058,9 +1067,6 @@ public class AmazonCloudWatchClient extends AmazonWebServiceClient implements
         request.setEndpoint(endpoint);
         request.setTimeOffset(timeOffset);
 
-        DefaultErrorResponseHandler errorResponseHandler = new DefaultErrorResponseHandler(
-                exceptionUnmarshallers);
-
         return client.execute(request, responseHandler, errorResponseHandler,
                 executionContext);
     }
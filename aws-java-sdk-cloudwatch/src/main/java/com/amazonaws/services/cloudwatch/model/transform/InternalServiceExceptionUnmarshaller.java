@@ -26,7 +26,7 @@ public class InternalServiceExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InternalServiceExceptionUnmarshaller() {
-        super(InternalServiceException.class);
+        super(InternalServiceException.class, "InternalServiceError");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InvalidFormatExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidFormatExceptionUnmarshaller() {
-        super(InvalidFormatException.class);
+        super(InvalidFormatException.class, "InvalidFormat");
     }
 
     @Override
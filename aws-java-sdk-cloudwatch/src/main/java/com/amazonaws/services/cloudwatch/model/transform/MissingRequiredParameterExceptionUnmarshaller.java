@@ -26,7 +26,7 @@ public class MissingRequiredParameterExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public MissingRequiredParameterExceptionUnmarshaller() {
-        super(MissingRequiredParameterException.class);
+        super(MissingRequiredParameterException.class, "MissingParameter");
     }
 
     @Override
@@ -44,10 +44,23 @@ class BlockingRequestBuilder {
     private static final String OS_METRIC_NAME = MachineMetric.getOSMetricName();
     private final MachineMetricFactory machineMetricFactory = new MachineMetricFactory();
     private final BlockingQueue<MetricDatum> queue;
+    private final MetricAggregator aggregator;
     private final long timeoutNano;
 
     BlockingRequestBuilder(CloudWatchMetricConfig config, BlockingQueue<MetricDatum> queue) {
+        this(config, queue, null);
+    }
+
+    /**
+     * @param aggregator
+     *            the aggregator to flush to the queue once per polling
+     *            interval; or null if metric data are added to the queue
+     *            directly
+     */
+    BlockingRequestBuilder(CloudWatchMetricConfig config, BlockingQueue<MetricDatum> queue,
+            MetricAggregator aggregator) {
         this.queue = queue;
+        this.aggregator = aggregator;
         this.timeoutNano = TimeUnit.MILLISECONDS.toNanos(config.getQueuePollTimeoutMilli());
     }
 
@@ -57,7 +70,9 @@ class BlockingRequestBuilder {
      * necessary statistics. If there is no metrics data, this call blocks
      * indefinitely. If there is metrics data, this call will block up to about
      * {@link CloudWatchMetricConfig#getQueuePollTimeoutMilli()} number of
-     * milliseconds.
+     * milliseconds. Metrics accumulated by the aggregator, if any, are flushed
+     * at the end of every such period, so the call then wakes up periodically
+     * instead of blocking indefinitely.
      */
     Iterable<PutMetricDataRequest> nextUploadUnits() throws InterruptedException {
         final Map<String,MetricDatum> uniqueMetrics = new HashMap<String,MetricDatum>();
@@ -66,11 +81,13 @@ class BlockingRequestBuilder {
         while(true) {
             final long elapsedNano = System.nanoTime() - startNano;
             if (elapsedNano >= timeoutNano) {
+                summarizeAggregated(uniqueMetrics);
                 return toPutMetricDataRequests(uniqueMetrics);
             }
             MetricDatum datum = queue.poll(timeoutNano - elapsedNano, TimeUnit.NANOSECONDS);
             if (datum == null) {
                 // timed out
+                summarizeAggregated(uniqueMetrics);
                 if (uniqueMetrics.size() > 0) {
                     // return whatever we have so far
                     return toPutMetricDataRequests(uniqueMetrics);
@@ -89,7 +106,11 @@ class BlockingRequestBuilder {
                     // I (hchar@) think we should optimize for the most typical
                     // cases instead of the edge cases. Going into long wait has
                     // the benefit of relatively less runtime footprint.)
-                    datum = queue.take();   
+                    // The aggregated metrics however only reach the queue
+                    // when flushed, so keep polling in that case.
+                    if (aggregator == null) {
+                        datum = queue.take();
+                    }
                     startNano = System.nanoTime();
                 }
             }
@@ -101,13 +122,37 @@ class BlockingRequestBuilder {
     }
 
     /**
-     * Summarizes the given datum into the statistics of the respective unique metric.
+     * Flushes the aggregated metrics, if any, to the queue and summarizes
+     * everything in the queue without blocking.
      */
-    private void summarize(MetricDatum datum, Map<String, MetricDatum> uniqueMetrics) {
-        Double value = datum.getValue();
-        if (value == null) {
+    private void summarizeAggregated(Map<String, MetricDatum> uniqueMetrics) {
+        if (aggregator == null) {
             return;
         }
+        aggregator.flush();
+        MetricDatum datum;
+        while ((datum = queue.poll()) != null) {
+            summarize(datum, uniqueMetrics);
+        }
+    }
+
+    /**
+     * Summarizes the given datum, which is either a single value or a set of
+     * statistics, into the statistics of the respective unique metric.
+     */
+    private void summarize(MetricDatum datum, Map<String, MetricDatum> uniqueMetrics) {
+        StatisticSet stats = datum.getStatisticValues();
+        if (stats == null) {
+            Double value = datum.getValue();
+            if (value == null) {
+                return;
+            }
+            stats = new StatisticSet()
+                .withMaximum(value)
+                .withMinimum(value)
+                .withSampleCount(1.0)
+                .withSum(value);
+        }
         List<Dimension> dims = datum.getDimensions();
         Collections.sort(dims, DimensionComparator.INSTANCE);
         String metricName = datum.getMetricName();
@@ -119,20 +164,21 @@ class BlockingRequestBuilder {
                 .withMetricName(metricName)
                 .withUnit(datum.getUnit())
                 .withStatisticValues(new StatisticSet()
-                    .withMaximum(value)
-                    .withMinimum(value)
+                    .withMaximum(stats.getMaximum())
+                    .withMinimum(stats.getMinimum())
                     .withSampleCount(0.0)
                     .withSum(0.0))
                 ;
             uniqueMetrics.put(key, statDatum);
         }
         StatisticSet stat = statDatum.getStatisticValues();
-        stat.setSampleCount(stat.getSampleCount() + 1.0);
-        stat.setSum(stat.getSum() + value);
-        if (value > stat.getMaximum()) {
-            stat.setMaximum(value);
-        } else if (value < stat.getMinimum()) {
-            stat.setMinimum(value);
+        stat.setSampleCount(stat.getSampleCount() + stats.getSampleCount());
+        stat.setSum(stat.getSum() + stats.getSum());
+        if (stats.getMaximum() > stat.getMaximum()) {
+            stat.setMaximum(stats.getMaximum());
+        }
+        if (stats.getMinimum() < stat.getMinimum()) {
+            stat.setMinimum(stats.getMinimum());
         }
     }
     /**
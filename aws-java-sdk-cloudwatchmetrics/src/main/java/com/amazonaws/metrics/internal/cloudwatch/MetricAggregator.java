@@ -0,0 +1,300 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.metrics.internal.cloudwatch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.annotation.ThreadSafe;
+
+import com.amazonaws.services.cloudwatch.model.Dimension;
+import com.amazonaws.services.cloudwatch.model.MetricDatum;
+import com.amazonaws.services.cloudwatch.model.StatisticSet;
+
+/**
+ * Accumulates metric data points into per-metric statistics in memory, so that
+ * only the aggregated {@link StatisticSet}s are put on the metrics queue when
+ * {@link #flush()} is called once per upload interval.
+ * <p>
+ * Each unique metric, identified by its name and dimensions, is accumulated in
+ * a number of stripes selected by the calling thread, so that threads
+ * collecting the same metric concurrently seldom contend with each other.
+ * Metrics without any data point for a whole upload interval are removed on
+ * flush, so that only the metrics in use count toward the maximum.
+ */
+@ThreadSafe
+class MetricAggregator {
+    private static final Log log = LogFactory.getLog(MetricAggregator.class);
+    private static final int STRIPES = stripes(Runtime.getRuntime().availableProcessors());
+
+    private final ConcurrentMap<Key, Accumulator> accumulators = new ConcurrentHashMap<Key, Accumulator>();
+    private final BlockingQueue<MetricDatum> queue;
+    private final int maxMetrics;
+
+    /**
+     * @param queue
+     *            the queue the aggregated metrics are flushed to
+     * @param maxMetrics
+     *            the maximum number of unique metrics accumulated at a time;
+     *            data points of any further metric are dropped to prevent
+     *            resource exhaustion
+     */
+    MetricAggregator(BlockingQueue<MetricDatum> queue, int maxMetrics) {
+        if (queue == null || maxMetrics < 1) {
+            throw new IllegalArgumentException();
+        }
+        this.queue = queue;
+        this.maxMetrics = maxMetrics;
+    }
+
+    /**
+     * Accumulates the value, or the statistic values, of the given metric
+     * datum, returning true if successful or false if the maximum number of
+     * unique metrics has been reached.
+     */
+    boolean add(MetricDatum datum) {
+        final StatisticSet stats = datum.getStatisticValues();
+        final Double value = datum.getValue();
+        if (stats == null && value == null) {
+            return true;
+        }
+        final Key key = new Key(datum.getMetricName(), datum.getDimensions());
+        if (stats == null) {
+            return add(key, datum.getUnit(), 1, value, value, value);
+        }
+        return add(key, datum.getUnit(), (long) stats.getSampleCount().doubleValue(),
+                stats.getSum(), stats.getMinimum(), stats.getMaximum());
+    }
+
+    private boolean add(Key key, String unit, long count, double sum, double min, double max) {
+        while (true) {
+            Accumulator accumulator = accumulators.get(key);
+            if (accumulator == null) {
+                if (accumulators.size() >= maxMetrics) {
+                    return false;
+                }
+                final Accumulator newAccumulator = new Accumulator(unit);
+                accumulator = accumulators.putIfAbsent(key, newAccumulator);
+                if (accumulator == null) {
+                    accumulator = newAccumulator;
+                }
+            }
+            if (accumulator.stripe().add(count, sum, min, max)) {
+                return true;
+            }
+            // Removed by a concurrent flush; go around with a new one
+            accumulators.remove(key, accumulator);
+        }
+    }
+
+    /**
+     * Puts the statistics accumulated since the last flush onto the queue,
+     * one metric datum per unique metric, and resets them.
+     *
+     * @return the number of metric data put onto the queue
+     */
+    int flush() {
+        int count = 0;
+        for (Map.Entry<Key, Accumulator> entry : accumulators.entrySet()) {
+            final StatisticSet stats = entry.getValue().drain();
+            if (stats == null) {
+                remove(entry.getKey(), entry.getValue());
+                continue;
+            }
+            final Key key = entry.getKey();
+            final MetricDatum datum = new MetricDatum()
+                .withMetricName(key.metricName)
+                .withDimensions(key.dimensions)
+                .withUnit(entry.getValue().unit)
+                .withStatisticValues(stats);
+            if (queue.offer(datum)) {
+                count++;
+            } else if (log.isDebugEnabled()) {
+                log.debug("Failed to add to the metrics queue (due to no space available) for "
+                        + key.metricName);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Removes the given idle metric. Data points added to it concurrently are
+     * moved to the metric accumulating them from now on.
+     */
+    private void remove(Key key, Accumulator accumulator) {
+        accumulators.remove(key, accumulator);
+        accumulator.retire();
+        final StatisticSet late = accumulator.drain();
+        if (late != null) {
+            add(key, accumulator.unit, (long) late.getSampleCount().doubleValue(),
+                    late.getSum(), late.getMinimum(), late.getMaximum());
+        }
+    }
+
+    /** Returns the number of stripes to use for the given number of processors. */
+    private static int stripes(int processors) {
+        int stripes = 1;
+        while (stripes < processors && stripes < 64) {
+            stripes <<= 1;
+        }
+        return stripes;
+    }
+
+    /**
+     * Identifies a unique metric by its name and its dimensions in order.
+     */
+    private static final class Key {
+        private final String metricName;
+        private final List<Dimension> dimensions;
+        private final int hashCode;
+
+        Key(String metricName, List<Dimension> dimensions) {
+            List<Dimension> sorted = new ArrayList<Dimension>(dimensions);
+            Collections.sort(sorted, DimensionComparator.INSTANCE);
+            this.metricName = metricName;
+            this.dimensions = sorted;
+            this.hashCode = 31 * (metricName == null ? 0 : metricName.hashCode()) + sorted.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) obj;
+            return hashCode == that.hashCode
+                && (metricName == null ? that.metricName == null : metricName.equals(that.metricName))
+                && dimensions.equals(that.dimensions);
+        }
+    }
+
+    /**
+     * The statistics of a unique metric, striped by thread.
+     */
+    private static final class Accumulator {
+        private final String unit;
+        private final Stripe[] stripes = new Stripe[STRIPES];
+
+        Accumulator(String unit) {
+            this.unit = unit;
+            for (int i = 0; i < stripes.length; i++) {
+                stripes[i] = new Stripe();
+            }
+        }
+
+        Stripe stripe() {
+            return stripes[(int) Thread.currentThread().getId() & (stripes.length - 1)];
+        }
+
+        /**
+         * Makes all the stripes refuse further data points, once the
+         * accumulator has been removed.
+         */
+        void retire() {
+            for (Stripe stripe : stripes) {
+                synchronized (stripe) {
+                    stripe.retired = true;
+                }
+            }
+        }
+
+        /**
+         * Returns the statistics merged from all the stripes and resets them;
+         * or null if there has been no data point since the last call.
+         */
+        StatisticSet drain() {
+            long count = 0;
+            double sum = 0, min = Double.POSITIVE_INFINITY, max = Double.NEGATIVE_INFINITY;
+            for (Stripe stripe : stripes) {
+                synchronized (stripe) {
+                    if (stripe.count == 0) {
+                        continue;
+                    }
+                    count += stripe.count;
+                    sum += stripe.sum;
+                    min = Math.min(min, stripe.min);
+                    max = Math.max(max, stripe.max);
+                    stripe.reset();
+                }
+            }
+            if (count == 0) {
+                return null;
+            }
+            return new StatisticSet()
+                .withSampleCount((double) count)
+                .withSum(sum)
+                .withMinimum(min)
+                .withMaximum(max);
+        }
+    }
+
+    /**
+     * Count, sum, minimum and maximum of the data points of one stripe.
+     */
+    private static final class Stripe {
+        private long count;
+        private double sum;
+        private double min;
+        private double max;
+        /** Set once the accumulator has been removed. */
+        private boolean retired;
+
+        Stripe() {
+            reset();
+        }
+
+        /**
+         * Adds the given statistics, returning false if the stripe has been
+         * retired.
+         */
+        synchronized boolean add(long count, double sum, double min, double max) {
+            if (retired) {
+                return false;
+            }
+            this.count += count;
+            this.sum += sum;
+            if (min < this.min) {
+                this.min = min;
+            }
+            if (max > this.max) {
+                this.max = max;
+            }
+            return true;
+        }
+
+        /** Must be called with the lock held. */
+        void reset() {
+            count = 0;
+            sum = 0;
+            min = Double.POSITIVE_INFINITY;
+            max = Double.NEGATIVE_INFINITY;
+        }
+    }
+}
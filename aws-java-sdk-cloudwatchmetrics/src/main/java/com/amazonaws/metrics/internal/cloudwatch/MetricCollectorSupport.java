@@ -87,6 +87,7 @@ public class MetricCollectorSupport extends MetricCollector {
     private final ServiceMetricCollectorSupport serviceMetricCollector;
 
     private final BlockingQueue<MetricDatum> queue;
+    private final MetricAggregator aggregator;
 //    private final PredefinedMetricTransformer transformer = new PredefinedMetricTransformer();
     private final CloudWatchMetricConfig config;
     private MetricUploaderThread uploaderThread;
@@ -97,8 +98,9 @@ public class MetricCollectorSupport extends MetricCollector {
         }
         this.config = config;
         this.queue = new LinkedBlockingQueue<MetricDatum>(config.getMetricQueueSize());
-        this.requestMetricCollector = new RequestMetricCollectorSupport(queue);
-        this.serviceMetricCollector = new ServiceMetricCollectorSupport(queue);
+        this.aggregator = new MetricAggregator(queue, config.getMetricQueueSize());
+        this.requestMetricCollector = new RequestMetricCollectorSupport(aggregator);
+        this.serviceMetricCollector = new ServiceMetricCollectorSupport(aggregator);
     }
 
     @Override
@@ -107,7 +109,7 @@ public class MetricCollectorSupport extends MetricCollector {
             if (uploaderThread != null) {
                 return false;   // already started
             }
-            uploaderThread = new MetricUploaderThread(config, queue);
+            uploaderThread = new MetricUploaderThread(config, queue, aggregator);
             uploaderThread.start();
         }
         return true;
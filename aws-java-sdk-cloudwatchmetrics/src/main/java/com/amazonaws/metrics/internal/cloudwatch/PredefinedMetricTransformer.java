@@ -76,7 +76,8 @@ public class PredefinedMetricTransformer {
                 case RetryCount:
                     return metricOfRequestOrRetryCount(predefined, request, response);
                 case ThrottledRetryCount: // drop through
-                case RetryCapacityConsumed:
+                case RetryCapacityConsumed: // drop through
+                case RetryCapacityAvailable:
                     return counterMetricOf(predefined, request, response, EXCLUDE_REQUEST_TYPE);
                 case ResponseProcessingTime: // drop through
                 case RequestSigningTime: // drop through
@@ -40,10 +40,21 @@ public class RequestMetricCollectorSupport extends RequestMetricCollector
 {
     protected final static Log log = LogFactory.getLog(RequestMetricCollectorSupport.class);
     private final BlockingQueue<MetricDatum> queue;
+    private final MetricAggregator aggregator;
     private final PredefinedMetricTransformer transformer = new PredefinedMetricTransformer();
 
     protected RequestMetricCollectorSupport(BlockingQueue<MetricDatum> queue) {
         this.queue = queue;
+        this.aggregator = null;
+    }
+
+    /**
+     * Constructs a collector that accumulates the metrics into the given
+     * aggregator instead of adding every metric datum to the queue.
+     */
+    RequestMetricCollectorSupport(MetricAggregator aggregator) {
+        this.queue = null;
+        this.aggregator = aggregator;
     }
 
     /**
@@ -95,6 +106,9 @@ public class RequestMetricCollectorSupport extends RequestMetricCollector
      * if no space available.
      */
     protected boolean addMetricsToQueue(MetricDatum metric) {
+        if (aggregator != null) {
+            return aggregator.add(metric);
+        }
         return queue.offer(metric); 
     }
     /** Returns the predefined metrics transformer. */
@@ -47,9 +47,20 @@ public class ServiceMetricCollectorSupport extends ServiceMetricCollector
     static final double NANO_PER_SEC = TimeUnit.SECONDS.toNanos(1);
     protected final static Log log = LogFactory.getLog(ServiceMetricCollectorSupport.class);
     private final BlockingQueue<MetricDatum> queue;
+    private final MetricAggregator aggregator;
 
     protected ServiceMetricCollectorSupport(BlockingQueue<MetricDatum> queue) {
         this.queue = queue;
+        this.aggregator = null;
+    }
+
+    /**
+     * Constructs a collector that accumulates the metrics into the given
+     * aggregator instead of adding every metric datum to the queue.
+     */
+    ServiceMetricCollectorSupport(MetricAggregator aggregator) {
+        this.queue = null;
+        this.aggregator = aggregator;
     }
 
     @Override
@@ -136,6 +147,22 @@ public class ServiceMetricCollectorSupport extends ServiceMetricCollector
         }
     }
 
+    @Override
+    public void collectValue(ServiceMetricType type, double value) {
+        final Set<MetricType> metrics = AwsSdkMetrics.getPredefinedMetrics();
+        if (metrics.contains(type)) {
+            final Dimension dim = new Dimension()
+                .withName(Dimensions.MetricType.name())
+                .withValue(type.name());
+            final MetricDatum datum = new MetricDatum()
+                .withMetricName(type.getServiceName())
+                .withDimensions(dim)
+                .withUnit(StandardUnit.None)
+                .withValue(value);
+            safeAddMetricsToQueue(datum);
+        }
+    }
+
     private void safeAddMetricsToQueue(MetricDatum metric) {
         try {
             if (!addMetricsToQueue(metric)) {
@@ -154,6 +181,9 @@ public class ServiceMetricCollectorSupport extends ServiceMetricCollector
      * if no space available.
      */
     protected boolean addMetricsToQueue(MetricDatum metric) {
+        if (aggregator != null) {
+            return aggregator.add(metric);
+        }
         return queue.offer(metric); 
     }
 }
@@ -4,4 +4,9 @@
     */
     protected final List<Unmarshaller<AmazonServiceException, Node>> exceptionUnmarshallers
             = new ArrayList<Unmarshaller<AmazonServiceException, Node>>();
+
+   /**
+    * Handler of the error responses, built once all the exception unmarshallers are registered
+    */
+    private volatile DefaultErrorResponseHandler errorResponseHandler;
 </#macro>
@@ -8,6 +8,8 @@
         exceptionUnmarshallers.add(
             new ${serviceModelRoot.exceptionUnmarshallerImpl}(${serviceModelRoot.sdkModeledExceptionBaseFqcn}.class));
 
+        errorResponseHandler = new DefaultErrorResponseHandler(exceptionUnmarshallers);
+
         setServiceNameIntern(DEFAULT_SIGNING_NAME);
         setEndpointPrefix(ENDPOINT_PREFIX);
 <#if serviceModelRoot.metadata.defaultEndpoint?has_content>
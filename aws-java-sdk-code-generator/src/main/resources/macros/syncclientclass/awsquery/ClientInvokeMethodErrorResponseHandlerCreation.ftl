@@ -1,3 +1,3 @@
 <#macro content metadata customizationConfig>
-    DefaultErrorResponseHandler errorResponseHandler = new DefaultErrorResponseHandler(exceptionUnmarshallers);
+    <#-- The error response handler of the client is built in init() -->
 </#macro>
@@ -12,7 +12,7 @@ import ${metadata.packageName}.model.${shape.shapeName};
 public class ${shape.shapeName}Unmarshaller extends ${exceptionUnmarshallerImpl} {
 
     public ${shape.shapeName}Unmarshaller() {
-        super(${shape.shapeName}.class);
+        super(${shape.shapeName}.class, "${shape.errorCode}");
     }
 
     @Override
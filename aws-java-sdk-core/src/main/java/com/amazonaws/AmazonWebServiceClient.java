@@ -20,10 +20,12 @@ import com.amazonaws.auth.RegionAwareSigner;
 import com.amazonaws.auth.Signer;
 import com.amazonaws.auth.SignerFactory;
 import com.amazonaws.client.AwsSyncClientParams;
+import com.amazonaws.handlers.AsyncHandler;
 import com.amazonaws.handlers.RequestHandler;
 import com.amazonaws.handlers.RequestHandler2;
 import com.amazonaws.http.AmazonHttpClient;
 import com.amazonaws.http.ExecutionContext;
+import com.amazonaws.http.HttpResponseHandler;
 import com.amazonaws.internal.DefaultServiceEndpointBuilder;
 import com.amazonaws.internal.auth.DefaultSignerProvider;
 import com.amazonaws.internal.auth.SignerProviderContext;
@@ -42,10 +44,14 @@ import com.amazonaws.util.StringUtils;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.http.concurrent.BasicFuture;
+import org.apache.http.concurrent.FutureCallback;
 
 import java.net.URI;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
 import static com.amazonaws.SDKGlobalConfiguration.PROFILING_SYSTEM_PROPERTY;
 
@@ -590,6 +596,99 @@ public abstract class AmazonWebServiceClient {
         }
     }
 
+    /**
+     * Executes the marshalled request over the non-blocking transport of the
+     * http client, see
+     * {@link AmazonHttpClient#executeAsync(Request, HttpResponseHandler, HttpResponseHandler, ExecutionContext, Executor, FutureCallback)}.
+     * Once the execution completes, the client execution is ended and the
+     * async handler is invoked on the given executor, before the returned
+     * future completes; this is the same order as for async operations that
+     * run the blocking operation on an executor.
+     */
+    protected final <X, Y extends AmazonWebServiceRequest> Future<X> executeNonBlocking(
+            final Y originalRequest,
+            final Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            HttpResponseHandler<AmazonServiceException> errorResponseHandler,
+            ExecutionContext executionContext,
+            final AsyncHandler<Y, X> asyncHandler,
+            Executor responseExecutor) {
+        final AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
+        final NonBlockingResult<X> result = new NonBlockingResult<X>();
+        final FutureCallback<Response<X>> callback = new FutureCallback<Response<X>>() {
+            @Override
+            public void completed(Response<X> response) {
+                endClientExecution(awsRequestMetrics, request, response);
+                final X awsResponse = response.getAwsResponse();
+                if (asyncHandler != null) {
+                    try {
+                        asyncHandler.onSuccess(originalRequest, awsResponse);
+                    } catch (Exception e) {
+                        result.failed(e);
+                        return;
+                    }
+                }
+                result.completed(awsResponse);
+            }
+
+            @Override
+            public void failed(Exception ex) {
+                endClientExecution(awsRequestMetrics, request, null);
+                try {
+                    if (asyncHandler != null) {
+                        asyncHandler.onError(ex);
+                    }
+                } finally {
+                    result.failed(ex);
+                }
+            }
+
+            @Override
+            public void cancelled() {
+                endClientExecution(awsRequestMetrics, request, null);
+                result.cancel(true);
+            }
+        };
+        try {
+            result.setExecution(client.executeAsync(request, responseHandler, errorResponseHandler,
+                    executionContext, responseExecutor, callback));
+        } catch (RuntimeException e) {
+            callback.failed(e);
+        }
+        return result;
+    }
+
+    /**
+     * The result of a non-blocking execution, which aborts the execution when
+     * canceled.
+     */
+    private static final class NonBlockingResult<X> extends BasicFuture<X> {
+        private volatile Future<?> execution;
+
+        NonBlockingResult() {
+            super(null);
+        }
+
+        void setExecution(Future<?> execution) {
+            this.execution = execution;
+            if (isCancelled()) {
+                execution.cancel(true);
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            if (!super.cancel(mayInterruptIfRunning)) {
+                return false;
+            }
+            final Future<?> e = execution;
+            if (e != null) {
+                e.cancel(true);
+            }
+            return true;
+        }
+    }
+
     /**
      * @deprecated by {@link #getServiceName()}.
      */
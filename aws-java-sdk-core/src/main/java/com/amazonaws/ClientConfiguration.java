@@ -15,6 +15,7 @@
 package com.amazonaws;
 
 import com.amazonaws.http.IdleConnectionReaper;
+import com.amazonaws.retry.HedgingPolicy;
 import com.amazonaws.retry.PredefinedRetryPolicies;
 import com.amazonaws.retry.RetryPolicy;
 import com.amazonaws.util.VersionInfoUtils;
@@ -100,6 +101,27 @@ public class ClientConfiguration {
      */
     public static final boolean DEFAULT_THROTTLE_RETRIES = true;
 
+    /**
+     * The default number of consecutive failed retries allowed before retries are throttled.
+     */
+    public static final int DEFAULT_MAX_CONSECUTIVE_RETRIES_BEFORE_THROTTLING = 100;
+
+    /**
+     * The default number of throttled retries refilled per second, regardless of successful
+     * responses. Zero means that retry capacity is only refilled by successful responses.
+     */
+    public static final int DEFAULT_THROTTLED_RETRY_REFILL_PER_SECOND = 0;
+
+    /**
+     * The default on whether to limit the rate of requests sent to endpoints that throttle them.
+     */
+    public static final boolean DEFAULT_USE_ADAPTIVE_RATE_LIMITING = false;
+
+    /**
+     * The default on whether async clients use the non-blocking transport.
+     */
+    public static final boolean DEFAULT_USE_NON_BLOCKING_TRANSPORT = false;
+
     /**
      * The default on whether to cache response metadata.
      */
@@ -123,6 +145,9 @@ public class ClientConfiguration {
     /** The retry policy upon failed requests. **/
     private RetryPolicy retryPolicy = DEFAULT_RETRY_POLICY;
 
+    /** The hedging policy of the client; or null if requests aren't hedged */
+    private HedgingPolicy hedgingPolicy;
+
     /** Optionally specifies the local address to bind to */
     private InetAddress localAddress;
 
@@ -187,6 +212,12 @@ public class ClientConfiguration {
 
     private boolean throttleRetries = DEFAULT_THROTTLE_RETRIES;
 
+    private int maxConsecutiveRetriesBeforeThrottling = DEFAULT_MAX_CONSECUTIVE_RETRIES_BEFORE_THROTTLING;
+
+    private int throttledRetryRefillPerSecond = DEFAULT_THROTTLED_RETRY_REFILL_PER_SECOND;
+
+    private boolean useAdaptiveRateLimiting = DEFAULT_USE_ADAPTIVE_RATE_LIMITING;
+
     /**
      * Optional size hint (in bytes) for the low level TCP send buffer. This is an advanced option
      * for advanced users who want to tune low level TCP parameters to try and squeeze out more
@@ -286,6 +317,14 @@ public class ClientConfiguration {
      */
     private boolean useExpectContinue = DEFAULT_USE_EXPECT_CONTINUE;
 
+    /**
+     * Optional override to let async clients that support it send requests over a non-blocking
+     * transport instead of blocking a thread of their executor for the duration of each request.
+     * <p>
+     * Requires the optional org.apache.httpcomponents:httpasyncclient dependency on the classpath.
+     */
+    private boolean useNonBlockingTransport = DEFAULT_USE_NON_BLOCKING_TRANSPORT;
+
     /**
      * Can be used to specify custom specific Apache HTTP client configurations.
      */
@@ -300,7 +339,11 @@ public class ClientConfiguration {
         this.maxConnections = other.maxConnections;
         this.maxErrorRetry = other.maxErrorRetry;
         this.retryPolicy = other.retryPolicy;
+        this.hedgingPolicy = other.hedgingPolicy;
         this.throttleRetries = other.throttleRetries;
+        this.maxConsecutiveRetriesBeforeThrottling = other.maxConsecutiveRetriesBeforeThrottling;
+        this.throttledRetryRefillPerSecond = other.throttledRetryRefillPerSecond;
+        this.useAdaptiveRateLimiting = other.useAdaptiveRateLimiting;
         this.localAddress = other.localAddress;
         this.protocol = other.protocol;
         this.proxyDomain = other.proxyDomain;
@@ -325,6 +368,7 @@ public class ClientConfiguration {
         this.useExpectContinue = other.useExpectContinue;
         this.apacheHttpClientConfig = new ApacheHttpClientConfig(other.apacheHttpClientConfig);
         this.cacheResponseMetadata = other.cacheResponseMetadata;
+        this.useNonBlockingTransport = other.useNonBlockingTransport;
     }
 
     /**
@@ -830,6 +874,42 @@ public class ClientConfiguration {
         return this;
     }
 
+    /**
+     * Returns the hedging policy upon which requests of idempotent operations are duplicated to
+     * cut their tail latency; or null if requests aren't hedged, which is the default.
+     *
+     * @return The hedging policy for this client, or null.
+     */
+    public HedgingPolicy getHedgingPolicy() {
+        return hedgingPolicy;
+    }
+
+    /**
+     * Sets the hedging policy upon which requests of idempotent operations are duplicated to cut
+     * their tail latency. Requests are only hedged over the blocking transport.
+     *
+     * @param hedgingPolicy
+     *            The hedging policy for this client, or null to not hedge requests.
+     * @see HedgingPolicy
+     */
+    public void setHedgingPolicy(HedgingPolicy hedgingPolicy) {
+        this.hedgingPolicy = hedgingPolicy;
+    }
+
+    /**
+     * Sets the hedging policy upon which requests of idempotent operations are duplicated to cut
+     * their tail latency, and returns the updated ClientConfiguration object.
+     *
+     * @param hedgingPolicy
+     *            The hedging policy for this client, or null to not hedge requests.
+     * @return The updated ClientConfiguration object.
+     * @see HedgingPolicy
+     */
+    public ClientConfiguration withHedgingPolicy(HedgingPolicy hedgingPolicy) {
+        setHedgingPolicy(hedgingPolicy);
+        return this;
+    }
+
     /**
      * Returns the maximum number of retry attempts for failed retryable requests (ex: 5xx error
      * responses from a service). This method returns -1 before a maxErrorRetry value is explicitly
@@ -1251,6 +1331,131 @@ public class ClientConfiguration {
         return this;
     }
 
+    /**
+     * Returns the maximum number of consecutive failed retries that the client will permit before
+     * throttling all subsequent retries. Only used when {@link #useThrottledRetries()} is true.
+     *
+     * @return the maximum number of consecutive failed retries before retries are throttled
+     */
+    public int getMaxConsecutiveRetriesBeforeThrottling() {
+        return maxConsecutiveRetriesBeforeThrottling;
+    }
+
+    /**
+     * Sets the maximum number of consecutive failed retries that the client will permit before
+     * throttling all subsequent retries. Only used when {@link #useThrottledRetries()} is true.
+     *
+     * @param maxConsecutiveRetriesBeforeThrottling
+     *            maximum number of consecutive failed retries before retries are throttled; must
+     *            be positive
+     */
+    public void setMaxConsecutiveRetriesBeforeThrottling(int maxConsecutiveRetriesBeforeThrottling) {
+        if (maxConsecutiveRetriesBeforeThrottling <= 0) {
+            throw new IllegalArgumentException("maxConsecutiveRetriesBeforeThrottling should be positive");
+        }
+        this.maxConsecutiveRetriesBeforeThrottling = maxConsecutiveRetriesBeforeThrottling;
+    }
+
+    /**
+     * Sets the maximum number of consecutive failed retries that the client will permit before
+     * throttling all subsequent retries. Only used when {@link #useThrottledRetries()} is true.
+     *
+     * @param maxConsecutiveRetriesBeforeThrottling
+     *            maximum number of consecutive failed retries before retries are throttled; must
+     *            be positive
+     * @return The updated ClientConfiguration object.
+     */
+    public ClientConfiguration withMaxConsecutiveRetriesBeforeThrottling(int maxConsecutiveRetriesBeforeThrottling) {
+        setMaxConsecutiveRetriesBeforeThrottling(maxConsecutiveRetriesBeforeThrottling);
+        return this;
+    }
+
+    /**
+     * Returns the number of throttled retries whose capacity is refilled every second, in
+     * addition to the capacity returned by successful responses. Zero, the default, means that
+     * retry capacity is only refilled by successful responses.
+     *
+     * @return the number of throttled retries refilled per second
+     */
+    public int getThrottledRetryRefillPerSecond() {
+        return throttledRetryRefillPerSecond;
+    }
+
+    /**
+     * Sets the number of throttled retries whose capacity is refilled every second, in addition
+     * to the capacity returned by successful responses. This lets a client whose retry capacity
+     * was drained during an outage resume retrying even if none of its requests succeed, at a
+     * bounded rate. Only used when {@link #useThrottledRetries()} is true.
+     *
+     * @param throttledRetryRefillPerSecond
+     *            number of throttled retries refilled per second; zero to only refill retry
+     *            capacity on successful responses
+     */
+    public void setThrottledRetryRefillPerSecond(int throttledRetryRefillPerSecond) {
+        if (throttledRetryRefillPerSecond < 0) {
+            throw new IllegalArgumentException("throttledRetryRefillPerSecond should be non-negative");
+        }
+        this.throttledRetryRefillPerSecond = throttledRetryRefillPerSecond;
+    }
+
+    /**
+     * Sets the number of throttled retries whose capacity is refilled every second, in addition
+     * to the capacity returned by successful responses. Only used when
+     * {@link #useThrottledRetries()} is true.
+     *
+     * @param throttledRetryRefillPerSecond
+     *            number of throttled retries refilled per second; zero to only refill retry
+     *            capacity on successful responses
+     * @return The updated ClientConfiguration object.
+     */
+    public ClientConfiguration withThrottledRetryRefillPerSecond(int throttledRetryRefillPerSecond) {
+        setThrottledRetryRefillPerSecond(throttledRetryRefillPerSecond);
+        return this;
+    }
+
+    /**
+     * Returns whether the client limits the rate of requests sent to endpoints that throttle them.
+     */
+    public boolean isUseAdaptiveRateLimiting() {
+        return useAdaptiveRateLimiting;
+    }
+
+    /**
+     * Sets whether the client should limit the rate of requests sent to endpoints that throttle
+     * them.
+     * <p>
+     * When enabled, the client doesn't limit requests to an endpoint until it receives a
+     * throttling error from it, such as ProvisionedThroughputExceededException or
+     * ThrottlingException. From then on, requests to that endpoint are delayed before being sent
+     * so that they don't exceed a rate that the client adapts to the throttling errors it keeps
+     * receiving: the rate is cut multiplicatively on throttling, and increases linearly while
+     * requests succeed. This trades some latency for fewer throttled requests and retries, and is
+     * best suited to clients that share a fixed throughput, such as a provisioned DynamoDB table.
+     * Requests that would be delayed by more than 20 seconds fail with an
+     * {@link AmazonClientException} without being sent.
+     * By default, it is set to {@value #DEFAULT_USE_ADAPTIVE_RATE_LIMITING}.
+     *
+     * @param useAdaptiveRateLimiting
+     *            whether to limit the rate of requests sent to endpoints that throttle them
+     */
+    public void setUseAdaptiveRateLimiting(boolean useAdaptiveRateLimiting) {
+        this.useAdaptiveRateLimiting = useAdaptiveRateLimiting;
+    }
+
+    /**
+     * Sets whether the client should limit the rate of requests sent to endpoints that throttle
+     * them. By default, it is set to {@value #DEFAULT_USE_ADAPTIVE_RATE_LIMITING}.
+     *
+     * @param useAdaptiveRateLimiting
+     *            whether to limit the rate of requests sent to endpoints that throttle them
+     * @return The updated ClientConfiguration object.
+     * @see #setUseAdaptiveRateLimiting(boolean)
+     */
+    public ClientConfiguration withAdaptiveRateLimiting(boolean useAdaptiveRateLimiting) {
+        setUseAdaptiveRateLimiting(useAdaptiveRateLimiting);
+        return this;
+    }
+
     /**
      * Checks if gzip compression is used
      *
@@ -1826,4 +2031,42 @@ public class ClientConfiguration {
 
         return this;
     }
+
+    /**
+     * Returns whether async clients that support it use the non-blocking transport.
+     */
+    public boolean isUseNonBlockingTransport() {
+        return useNonBlockingTransport;
+    }
+
+    /**
+     * Sets whether async clients that support it should send requests over a non-blocking
+     * transport, so that no executor thread is blocked while a request is in flight. Request
+     * handlers, signing, retries and metrics work the same as with the blocking transport; the
+     * executor of the async client is only used to unmarshall responses and to invoke the async
+     * handlers. Operations with streaming responses always use the blocking transport. By default,
+     * it is set to {@value #DEFAULT_USE_NON_BLOCKING_TRANSPORT}.
+     * <p>
+     * Requires the optional org.apache.httpcomponents:httpasyncclient dependency on the classpath.
+     *
+     * @param useNonBlockingTransport
+     *            whether to use the non-blocking transport.
+     */
+    public void setUseNonBlockingTransport(boolean useNonBlockingTransport) {
+        this.useNonBlockingTransport = useNonBlockingTransport;
+    }
+
+    /**
+     * Sets whether async clients that support it should send requests over a non-blocking
+     * transport. By default, it is set to {@value #DEFAULT_USE_NON_BLOCKING_TRANSPORT}.
+     *
+     * @param useNonBlockingTransport
+     *            whether to use the non-blocking transport.
+     * @return The updated ClientConfiguration object.
+     * @see #setUseNonBlockingTransport(boolean)
+     */
+    public ClientConfiguration withNonBlockingTransport(boolean useNonBlockingTransport) {
+        setUseNonBlockingTransport(useNonBlockingTransport);
+        return this;
+    }
 }
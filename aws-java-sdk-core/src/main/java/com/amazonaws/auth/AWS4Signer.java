@@ -20,7 +20,7 @@ import com.amazonaws.SignableRequest;
 import com.amazonaws.auth.internal.AWS4SignerRequestParams;
 import com.amazonaws.auth.internal.AWS4SignerUtils;
 import com.amazonaws.auth.internal.SignerKey;
-import com.amazonaws.internal.FIFOCache;
+import com.amazonaws.auth.internal.SignerKeyCache;
 import com.amazonaws.log.InternalLogApi;
 import com.amazonaws.log.InternalLogFactory;
 import com.amazonaws.util.BinaryUtils;
@@ -30,11 +30,9 @@ import com.amazonaws.util.StringUtils;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.reflect.Method;
 import java.net.URI;
-import java.nio.charset.Charset;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -63,9 +61,22 @@ public class AWS4Signer extends AbstractAWSSigner implements
 
     protected static final InternalLogApi log = InternalLogFactory.getLog(AWS4Signer.class);
     private static final int SIGNER_CACHE_MAX_SIZE = 300;
-    private static final FIFOCache<SignerKey> signerCache = new FIFOCache<SignerKey>(SIGNER_CACHE_MAX_SIZE);
+    private static final SignerKeyCache signerCache = new SignerKeyCache(SIGNER_CACHE_MAX_SIZE);
     private static final List<String> listOfHeadersToIgnoreInLowerCase = Arrays.asList("connection");
 
+    private static final int MAX_CANONICAL_REQUEST_BUFFER_SIZE = 16 * 1024;
+
+    /**
+     * Canonical requests are built in a buffer of the current thread, so the
+     * buffer only has to grow once instead of for every request.
+     */
+    private static final ThreadLocal<StringBuilder> CANONICAL_REQUEST_BUFFER = new ThreadLocal<StringBuilder>() {
+        @Override
+        protected StringBuilder initialValue() {
+            return new StringBuilder(512);
+        }
+    };
+
     /**
      * Service name override for use when the endpoint can't be used to
      * determine the service name.
@@ -91,6 +102,14 @@ public class AWS4Signer extends AbstractAWSSigner implements
      */
     protected boolean doubleUrlEncode;
 
+    /**
+     * Whether this signer is of a subclass overriding how the canonical
+     * request is built, in which case requests are signed with the
+     * overriding methods rather than by building the canonical headers and
+     * the signed headers in a single pass.
+     */
+    private final boolean overridesCanonicalRequest;
+
     /**
      * Construct a new AWS4 signer instance. By default, enable double
      * url-encoding.
@@ -108,6 +127,32 @@ public class AWS4Signer extends AbstractAWSSigner implements
      */
     public AWS4Signer(boolean doubleUrlEncoding) {
         this.doubleUrlEncode = doubleUrlEncoding;
+        this.overridesCanonicalRequest = overridesCanonicalRequest(getClass());
+    }
+
+    /**
+     * Returns whether the given signer class, or one of its superclasses
+     * below this one, overrides one of the methods building the canonical
+     * request.
+     */
+    private static boolean overridesCanonicalRequest(Class<?> signerClass) {
+        for (Class<?> c = signerClass; c != AWS4Signer.class; c = c.getSuperclass()) {
+            final Method[] methods;
+            try {
+                methods = c.getDeclaredMethods();
+            } catch (SecurityException e) {
+                return true;
+            }
+            for (Method method : methods) {
+                final String name = method.getName();
+                if (name.equals("createCanonicalRequest")
+                        || name.equals("getCanonicalizedHeaderString")
+                        || name.equals("getSignedHeadersString")) {
+                    return true;
+                }
+            }
+        }
+        return false;
     }
 
     /**
@@ -198,8 +243,19 @@ public class AWS4Signer extends AbstractAWSSigner implements
             request.addHeader(X_AMZ_CONTENT_SHA256, contentSha256);
         }
 
-        final String canonicalRequest = createCanonicalRequest(request,
-                contentSha256);
+        final String canonicalRequest;
+        final String signedHeaders;
+        if (overridesCanonicalRequest) {
+            canonicalRequest = createCanonicalRequest(request, contentSha256);
+            signedHeaders = getSignedHeadersString(request);
+        } else {
+            final StringBuilder canonicalHeaders = new StringBuilder();
+            final StringBuilder signedHeadersBuffer = new StringBuilder();
+            appendCanonicalizedHeaders(request, canonicalHeaders, signedHeadersBuffer);
+            canonicalRequest = createCanonicalRequest(request, contentSha256,
+                    canonicalHeaders, signedHeadersBuffer);
+            signedHeaders = signedHeadersBuffer.toString();
+        }
 
         final String stringToSign = createStringToSign(canonicalRequest,
                 signerParams);
@@ -212,7 +268,7 @@ public class AWS4Signer extends AbstractAWSSigner implements
 
         request.addHeader(
                 AUTHORIZATION,
-                buildAuthorizationHeader(request, signature,
+                buildAuthorizationHeader(signedHeaders, signature,
                         sanitizedCredentials, signerParams));
 
         processRequestPayload(request, signature, signingKey,
@@ -249,13 +305,28 @@ public class AWS4Signer extends AbstractAWSSigner implements
         // Add the important parameters for v4 signing
         final String timeStamp = signerRequestParams.getFormattedSigningDateTime();
 
+        final StringBuilder canonicalHeaders;
+        final String signedHeaders;
+        if (overridesCanonicalRequest) {
+            canonicalHeaders = null;
+            signedHeaders = getSignedHeadersString(request);
+        } else {
+            canonicalHeaders = new StringBuilder();
+            final StringBuilder signedHeadersBuffer = new StringBuilder();
+            appendCanonicalizedHeaders(request, canonicalHeaders, signedHeadersBuffer);
+            signedHeaders = signedHeadersBuffer.toString();
+        }
+
         addPreSignInformationToRequest(request, sanitizedCredentials,
-                signerRequestParams, timeStamp, expirationInSeconds);
+                signerRequestParams, timeStamp, expirationInSeconds,
+                signedHeaders);
 
         final String contentSha256 = calculateContentHashPresign(request);
 
-        final String canonicalRequest = createCanonicalRequest(request,
-                contentSha256);
+        final String canonicalRequest = canonicalHeaders == null
+                ? createCanonicalRequest(request, contentSha256)
+                : createCanonicalRequest(request, contentSha256,
+                        canonicalHeaders, signedHeaders);
 
         final String stringToSign = createStringToSign(canonicalRequest,
                 signerRequestParams);
@@ -277,25 +348,45 @@ public class AWS4Signer extends AbstractAWSSigner implements
      */
     protected String createCanonicalRequest(SignableRequest<?> request,
             String contentSha256) {
+        final StringBuilder canonicalHeaders = new StringBuilder();
+        final StringBuilder signedHeaders = new StringBuilder();
+        appendCanonicalizedHeaders(request, canonicalHeaders, signedHeaders);
+        return createCanonicalRequest(request, contentSha256,
+                canonicalHeaders, signedHeaders);
+    }
+
+    /**
+     * Creates the canonical request with the given canonical and signed
+     * headers of the request, so that their names, which are also needed for
+     * the authorization, are only lowercased once.
+     */
+    private String createCanonicalRequest(SignableRequest<?> request,
+            String contentSha256, CharSequence canonicalHeaders,
+            CharSequence signedHeaders) {
         /* This would url-encode the resource path for the first time. */
         final String path = SdkHttpUtils.appendUri(
                 request.getEndpoint().getPath(), request.getResourcePath());
 
-        final StringBuilder canonicalRequestBuilder = new StringBuilder(request
-                .getHttpMethod().toString());
+        final StringBuilder canonicalRequestBuilder = CANONICAL_REQUEST_BUFFER.get();
+        canonicalRequestBuilder.setLength(0);
 
-        canonicalRequestBuilder.append(LINE_SEPARATOR)
+        canonicalRequestBuilder.append(request.getHttpMethod().toString())
+                .append(LINE_SEPARATOR)
                 // This would optionally double url-encode the resource path
                 .append(getCanonicalizedResourcePath(path, doubleUrlEncode))
                 .append(LINE_SEPARATOR)
                 .append(getCanonicalizedQueryString(request))
                 .append(LINE_SEPARATOR)
-                .append(getCanonicalizedHeaderString(request))
+                .append(canonicalHeaders)
                 .append(LINE_SEPARATOR)
-                .append(getSignedHeadersString(request)).append(LINE_SEPARATOR)
+                .append(signedHeaders).append(LINE_SEPARATOR)
                 .append(contentSha256);
 
         final String canonicalRequest = canonicalRequestBuilder.toString();
+        if (canonicalRequestBuilder.capacity() > MAX_CANONICAL_REQUEST_BUFFER_SIZE) {
+            // Don't hold on to the buffer of an unusually large request
+            CANONICAL_REQUEST_BUFFER.remove();
+        }
 
         if (log.isDebugEnabled())
             log.debug("AWS4 Canonical Request: '\"" + canonicalRequest + "\"");
@@ -343,13 +434,11 @@ public class AWS4Signer extends AbstractAWSSigner implements
                 .numberOfDaysSinceEpoch(signerRequestParams
                         .getSigningDateTimeMilli());
 
-        SignerKey signerKey = signerCache.get(cacheKey);
+        byte[] cachedSigningKey = signerCache.get(cacheKey,
+                daysSinceEpochSigningDate);
 
-        if (signerKey != null) {
-            if (daysSinceEpochSigningDate == signerKey
-                    .getNumberOfDaysSinceEpoch()) {
-                return signerKey.getSigningKey();
-            }
+        if (cachedSigningKey != null) {
+            return cachedSigningKey;
         }
         if (log.isDebugEnabled()) {
             log.debug("Generating a new signing key as the signing key not available in the cache for the date "
@@ -386,14 +475,14 @@ public class AWS4Signer extends AbstractAWSSigner implements
      */
     protected final byte[] computeSignature(String stringToSign,
             byte[] signingKey, AWS4SignerRequestParams signerRequestParams) {
-        return sign(stringToSign.getBytes(Charset.forName("UTF-8")), signingKey,
+        return sign(stringToSign.getBytes(StringUtils.UTF8), signingKey,
                 SigningAlgorithm.HmacSHA256);
     }
 
     /**
      * Creates the authorization header to be included in the request.
      */
-    private String buildAuthorizationHeader(SignableRequest<?> request,
+    private String buildAuthorizationHeader(String signedHeaders,
             byte[] signature, AWSCredentials credentials,
             AWS4SignerRequestParams signerParams) {
         final String signingCredentials = credentials.getAWSAccessKeyId() + "/"
@@ -402,7 +491,7 @@ public class AWS4Signer extends AbstractAWSSigner implements
         final String credential = "Credential="
                 + signingCredentials;
         final String signerHeaders = "SignedHeaders="
-                + getSignedHeadersString(request);
+                + signedHeaders;
         final String signatureHeader = "Signature="
                 + BinaryUtils.toHex(signature);
 
@@ -424,15 +513,14 @@ public class AWS4Signer extends AbstractAWSSigner implements
      */
     private void addPreSignInformationToRequest(SignableRequest<?> request,
             AWSCredentials credentials, AWS4SignerRequestParams signerParams,
-            String timeStamp, long expirationInSeconds) {
+            String timeStamp, long expirationInSeconds, String signedHeaders) {
 
         String signingCredentials = credentials.getAWSAccessKeyId() + "/"
                 + signerParams.getScope();
 
         request.addParameter(X_AMZ_ALGORITHM, AWS4_SIGNING_ALGORITHM);
         request.addParameter(X_AMZ_DATE, timeStamp);
-        request.addParameter(X_AMZ_SIGNED_HEADER,
-                getSignedHeadersString(request));
+        request.addParameter(X_AMZ_SIGNED_HEADER, signedHeaders);
         request.addParameter(X_AMZ_EXPIRES,
                 Long.toString(expirationInSeconds));
         request.addParameter(X_AMZ_CREDENTIAL, signingCredentials);
@@ -445,51 +533,73 @@ public class AWS4Signer extends AbstractAWSSigner implements
     }
 
     protected String getCanonicalizedHeaderString(SignableRequest<?> request) {
-        final List<String> sortedHeaders = new ArrayList<String>(request.getHeaders()
-                .keySet());
-        Collections.sort(sortedHeaders, String.CASE_INSENSITIVE_ORDER);
+        StringBuilder buffer = new StringBuilder(request.getHeaders().size() * 64);
+        appendCanonicalizedHeaders(request, buffer, null);
+        return buffer.toString();
+    }
 
+    protected String getSignedHeadersString(SignableRequest<?> request) {
+        StringBuilder buffer = new StringBuilder(request.getHeaders().size() * 24);
+        appendCanonicalizedHeaders(request, null, buffer);
+        return buffer.toString();
+    }
+
+    /**
+     * Appends the canonical headers and the signed headers of the given
+     * request to the given buffers, either of which may be null, in a single
+     * pass lowercasing each header name once.
+     */
+    private void appendCanonicalizedHeaders(SignableRequest<?> request,
+            StringBuilder canonicalHeaders, StringBuilder signedHeaders) {
         final Map<String, String> requestHeaders = request.getHeaders();
-        StringBuilder buffer = new StringBuilder();
+        final String[] sortedHeaders = getSortedHeaderNames(requestHeaders);
+
+        boolean first = true;
         for (String header : sortedHeaders) {
             if (shouldExcludeHeaderFromSigning(header)) {
                 continue;
             }
             String key = StringUtils.lowerCase(header);
-            String value = requestHeaders.get(header);
-
-            StringUtils.appendCompactedString(buffer, key);
-            buffer.append(":");
-            if (value != null) {
-                StringUtils.appendCompactedString(buffer, value);
-            }
 
-            buffer.append("\n");
-        }
+            if (canonicalHeaders != null) {
+                String value = requestHeaders.get(header);
 
-        return buffer.toString();
-    }
+                StringUtils.appendCompactedString(canonicalHeaders, key);
+                canonicalHeaders.append(':');
+                if (value != null) {
+                    StringUtils.appendCompactedString(canonicalHeaders, value);
+                }
 
-    protected String getSignedHeadersString(SignableRequest<?> request) {
-        final List<String> sortedHeaders = new ArrayList<String>(request
-                .getHeaders().keySet());
-        Collections.sort(sortedHeaders, String.CASE_INSENSITIVE_ORDER);
-
-        StringBuilder buffer = new StringBuilder();
-        for (String header : sortedHeaders) {
-            if (shouldExcludeHeaderFromSigning(header)) {
-                continue;
+                canonicalHeaders.append('\n');
+            }
+            if (signedHeaders != null) {
+                if (!first)
+                    signedHeaders.append(';');
+                signedHeaders.append(key);
             }
-            if (buffer.length() > 0)
-                buffer.append(";");
-            buffer.append(StringUtils.lowerCase(header));
+            first = false;
         }
+    }
 
-        return buffer.toString();
+    /**
+     * Returns the names of the given headers in case insensitive order. The
+     * sort is stable, so headers whose names only differ in case keep their
+     * relative order.
+     */
+    private static String[] getSortedHeaderNames(Map<String, String> headers) {
+        final String[] sortedHeaders = headers.keySet().toArray(
+                new String[headers.size()]);
+        Arrays.sort(sortedHeaders, String.CASE_INSENSITIVE_ORDER);
+        return sortedHeaders;
     }
 
     protected boolean shouldExcludeHeaderFromSigning(String header) {
-        return listOfHeadersToIgnoreInLowerCase.contains(header.toLowerCase());
+        for (String headerToIgnore : listOfHeadersToIgnoreInLowerCase) {
+            if (headerToIgnore.equalsIgnoreCase(header)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     protected void addHostHeader(SignableRequest<?> request) {
@@ -585,7 +695,7 @@ public class AWS4Signer extends AbstractAWSSigner implements
     private byte[] newSigningKey(AWSCredentials credentials,
             String dateStamp, String regionName, String serviceName) {
         byte[] kSecret = ("AWS4" + credentials.getAWSSecretKey())
-                .getBytes(Charset.forName("UTF-8"));
+                .getBytes(StringUtils.UTF8);
         byte[] kDate = sign(dateStamp, kSecret, SigningAlgorithm.HmacSHA256);
         byte[] kRegion = sign(regionName, kDate, SigningAlgorithm.HmacSHA256);
         byte[] kService = sign(serviceName, kRegion,
@@ -20,8 +20,8 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.net.URI;
-import java.security.DigestInputStream;
 import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
@@ -38,7 +38,6 @@ import com.amazonaws.AmazonClientException;
 import com.amazonaws.ReadLimitInfo;
 import com.amazonaws.SDKGlobalTime;
 import com.amazonaws.SignableRequest;
-import com.amazonaws.internal.SdkDigestInputStream;
 import com.amazonaws.util.Base64;
 import com.amazonaws.util.BinaryUtils;
 import com.amazonaws.util.SdkHttpUtils;
@@ -54,6 +53,45 @@ import com.amazonaws.util.StringUtils;
 public abstract class AbstractAWSSigner implements Signer {
     public static final String EMPTY_STRING_SHA256_HEX;
 
+    /**
+     * The SHA-256 digest of the current thread, reused for hashing strings and
+     * byte arrays instead of looking up a new instance for every hash.
+     */
+    private static final ThreadLocal<MessageDigest> SHA256_MESSAGE_DIGEST = new ThreadLocal<MessageDigest>() {
+        @Override
+        protected MessageDigest initialValue() {
+            return newSha256MessageDigest();
+        }
+    };
+
+    /**
+     * A separate SHA-256 digest for hashing payload streams, so that reading
+     * a stream that hashes strings as it goes can't corrupt the digest in
+     * use.
+     */
+    private static final ThreadLocal<MessageDigest> SHA256_PAYLOAD_DIGEST = new ThreadLocal<MessageDigest>() {
+        @Override
+        protected MessageDigest initialValue() {
+            return newSha256MessageDigest();
+        }
+    };
+
+    /** Buffer of the current thread for reading payload streams to hash. */
+    private static final ThreadLocal<byte[]> PAYLOAD_BUFFER = new ThreadLocal<byte[]>() {
+        @Override
+        protected byte[] initialValue() {
+            return new byte[1024 * 4];
+        }
+    };
+
+    /** The Mac of the current thread for each signing algorithm. */
+    private static final ThreadLocal<Mac[]> MACS = new ThreadLocal<Mac[]>() {
+        @Override
+        protected Mac[] initialValue() {
+            return new Mac[SigningAlgorithm.values().length];
+        }
+    };
+
     static {
         EMPTY_STRING_SHA256_HEX = BinaryUtils.toHex(doHash(""));
     }
@@ -108,7 +146,7 @@ public abstract class AbstractAWSSigner implements Signer {
     protected byte[] sign(byte[] data, byte[] key,
             SigningAlgorithm algorithm) throws AmazonClientException {
         try {
-            Mac mac = Mac.getInstance(algorithm.toString());
+            Mac mac = getMac(algorithm);
             mac.init(new SecretKeySpec(key, algorithm.toString()));
             return mac.doFinal(data);
         } catch (Exception e) {
@@ -136,7 +174,7 @@ public abstract class AbstractAWSSigner implements Signer {
 
     private static byte[] doHash(String text) throws AmazonClientException {
         try {
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            MessageDigest md = getMessageDigest(SHA256_MESSAGE_DIGEST);
             md.update(text.getBytes(UTF8));
             return md.digest();
         } catch (Exception e) {
@@ -148,14 +186,13 @@ public abstract class AbstractAWSSigner implements Signer {
 
     protected byte[] hash(InputStream input) throws AmazonClientException {
         try {
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
-            @SuppressWarnings("resource")
-            DigestInputStream digestInputStream = new SdkDigestInputStream(
-                    input, md);
-            byte[] buffer = new byte[1024];
-            while (digestInputStream.read(buffer) > -1)
-                ;
-            return digestInputStream.getMessageDigest().digest();
+            MessageDigest md = getMessageDigest(SHA256_PAYLOAD_DIGEST);
+            byte[] buffer = PAYLOAD_BUFFER.get();
+            int bytesRead;
+            while ((bytesRead = input.read(buffer)) > -1) {
+                md.update(buffer, 0, bytesRead);
+            }
+            return md.digest();
         } catch (Exception e) {
             throw new AmazonClientException(
                     "Unable to compute hash while signing request: "
@@ -176,7 +213,7 @@ public abstract class AbstractAWSSigner implements Signer {
      */
     public byte[] hash(byte[] data) throws AmazonClientException {
         try {
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            MessageDigest md = getMessageDigest(SHA256_MESSAGE_DIGEST);
             md.update(data);
             return md.digest();
         } catch (Exception e) {
@@ -185,6 +222,39 @@ public abstract class AbstractAWSSigner implements Signer {
                             + e.getMessage(), e);
         }
     }
+
+    /**
+     * Returns the given digest of the current thread, reset so that any
+     * update left over from a failed hash is discarded.
+     */
+    private static MessageDigest getMessageDigest(ThreadLocal<MessageDigest> digest) {
+        MessageDigest md = digest.get();
+        md.reset();
+        return md;
+    }
+
+    private static MessageDigest newSha256MessageDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new AmazonClientException(
+                    "Unable to get SHA256 Function: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the Mac of the current thread for the given algorithm. The
+     * caller must initialize it with its key before use.
+     */
+    private static Mac getMac(SigningAlgorithm algorithm) throws NoSuchAlgorithmException {
+        Mac[] macs = MACS.get();
+        Mac mac = macs[algorithm.ordinal()];
+        if (mac == null) {
+            mac = Mac.getInstance(algorithm.toString());
+            macs[algorithm.ordinal()] = mac;
+        }
+        return mac;
+    }
     /**
      * Examines the specified query string parameters and returns a
      * canonicalized form.
@@ -31,6 +31,10 @@ import com.amazonaws.internal.CredentialsEndpointProvider;
  * By default, the URI path is retrieved from the environment variable
  * "AWS_CONTAINER_CREDENTIALS_RELATIVE_URI" in the container's environment.
  * </p>
+ * <p>
+ * Credentials that are due for refresh but still valid are returned without
+ * blocking while new ones are loaded by a shared background thread.
+ * </p>
  */
 public class ContainerCredentialsProvider implements AWSCredentialsProvider {
 
@@ -48,7 +52,7 @@ public class ContainerCredentialsProvider implements AWSCredentialsProvider {
 
     @SdkInternalApi
     public ContainerCredentialsProvider(CredentialsEndpointProvider credentailsEndpointProvider) {
-        this.credentialsFetcher = new EC2CredentialsFetcher(credentailsEndpointProvider);
+        this.credentialsFetcher = new EC2CredentialsFetcher(credentailsEndpointProvider, true);
     }
 
     @Override
@@ -17,6 +17,13 @@ package com.amazonaws.auth;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.util.Date;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -34,6 +41,12 @@ import com.fasterxml.jackson.databind.JsonNode;
  * Helper class that contains the common behavior of the
  * CredentialsProviders that loads the credentials from a
  * local endpoint on an EC2 instance.
+ * <p>
+ * By default, credentials are refreshed by the calling thread, and concurrent
+ * callers wait for it to finish. In the non-blocking refresh mode, credentials
+ * that are due for refresh but still valid are returned immediately, without
+ * locking, while a single background thread loads new ones; callers only wait
+ * when there are no credentials or they are about to expire.
  */
 @SdkInternalApi
 class EC2CredentialsFetcher {
@@ -52,6 +65,26 @@ class EC2CredentialsFetcher {
      */
     private static final int EXPIRATION_THRESHOLD = 1000 * 60 * 15;
 
+    /**
+     * The threshold before credentials expire (in milliseconds) at which
+     * a non-blocking fetcher stops returning them and waits for new
+     * credentials to be loaded.
+     */
+    private static final int BLOCKING_REFRESH_THRESHOLD = 1000 * 60;
+
+    /**
+     * The maximum time (in milliseconds) by which a non-blocking fetcher
+     * randomly refreshes credentials ahead of the thresholds above, so that
+     * the hosts of a fleet don't all call the endpoint at the same time.
+     */
+    private static final int PREFETCH_JITTER = 1000 * 60 * 5;
+
+    /**
+     * The minimum time (in milliseconds) between two attempts of a
+     * non-blocking fetcher to refresh credentials in the background.
+     */
+    private static final int MIN_PREFETCH_INTERVAL = 1000 * 10;
+
     /** The name of the Json Object that contains the access key.*/
     private static final String ACCESS_KEY_ID = "AccessKeyId";
 
@@ -61,11 +94,10 @@ class EC2CredentialsFetcher {
     /** The name of the Json Object that contains the token.*/
     private static final String TOKEN = "Token";
 
-    /** The current instance profile credentials */
-    private volatile AWSCredentials credentials;
+    private static final Random RANDOM = new Random();
 
-    /** The expiration for the current instance profile credentials */
-    private volatile Date credentialsExpiration;
+    /** The current instance profile credentials and their expiration */
+    private volatile CredentialsSnapshot snapshot;
 
     /** The time of the last attempt to check for new credentials */
     protected volatile Date lastInstanceProfileCheck;
@@ -73,18 +105,44 @@ class EC2CredentialsFetcher {
     /** Used to load the endpoint where the credentials are stored. */
     private final CredentialsEndpointProvider credentailsEndpointProvider;
 
+    /** True if credentials are refreshed in the background whenever possible. */
+    private final boolean nonBlockingRefresh;
+
+    /** Used to ensure only one background refresh is in progress at any given time. */
+    private final AtomicBoolean prefetching = new AtomicBoolean(false);
+
     public EC2CredentialsFetcher(CredentialsEndpointProvider credentailsEndpointProvider) {
+        this(credentailsEndpointProvider, false);
+    }
+
+    /**
+     * @param nonBlockingRefresh
+     *            true if credentials that are due for refresh but still valid
+     *            should be returned while new ones are loaded in the
+     *            background; false if they should be refreshed by the calling
+     *            thread.
+     */
+    public EC2CredentialsFetcher(CredentialsEndpointProvider credentailsEndpointProvider,
+                                 boolean nonBlockingRefresh) {
         this.credentailsEndpointProvider = credentailsEndpointProvider;
+        this.nonBlockingRefresh = nonBlockingRefresh;
     }
 
     public AWSCredentials getCredentials() {
-        if (needsToLoadCredentials())
+        if (needsBlockingRefresh()) {
             fetchCredentials();
-        if (expired()) {
+        } else if (nonBlockingRefresh && needsToPrefetchCredentials()) {
+            prefetchCredentials();
+        }
+        CredentialsSnapshot current = snapshot;
+        if (current == null) {
+            throw new AmazonClientException("Unable to load credentials.");
+        }
+        if (current.isExpired()) {
             throw new AmazonClientException(
                     "The credentials received have been expired");
         }
-        return credentials;
+        return current.credentials;
     }
 
     /**
@@ -92,25 +150,110 @@ class EC2CredentialsFetcher {
      * if the last attempt to refresh credentials is beyond the refresh threshold.
      */
      protected boolean needsToLoadCredentials() {
-        if (credentials == null) return true;
+        return needsToLoadCredentials(0);
+    }
+
+    /**
+     * Returns true if credentials are null, credentials are within expiration
+     * or if the last attempt to refresh credentials is beyond the refresh
+     * threshold, either threshold being brought forward by the given time in
+     * milliseconds.
+     */
+    private boolean needsToLoadCredentials(long ahead) {
+        CredentialsSnapshot current = snapshot;
+        if (current == null) return true;
 
-        if (credentialsExpiration != null) {
-            if (isWithinExpirationThreshold()) return true;
+        if (current.expiration != null) {
+            if (isWithinExpirationThreshold(current.expiration, EXPIRATION_THRESHOLD + ahead)) return true;
         }
 
         if (lastInstanceProfileCheck != null) {
-            if (isPastRefreshThreshold()) return true;
+            if (isPastRefreshThreshold(ahead)) return true;
         }
 
         return false;
     }
 
+    /**
+     * Returns true if the calling thread has to wait for credentials to be
+     * loaded.
+     */
+    private boolean needsBlockingRefresh() {
+        if (!nonBlockingRefresh) {
+            return needsToLoadCredentials();
+        }
+        CredentialsSnapshot current = snapshot;
+        return current == null
+                || (current.expiration != null
+                        && isWithinExpirationThreshold(current.expiration, BLOCKING_REFRESH_THRESHOLD));
+    }
+
+    /**
+     * Returns true if new credentials should be loaded in the background,
+     * which is at a random time ahead of when a blocking fetcher would load
+     * them, and not sooner than {@link #MIN_PREFETCH_INTERVAL} after the last
+     * attempt.
+     */
+    private boolean needsToPrefetchCredentials() {
+        CredentialsSnapshot current = snapshot;
+        if (current == null) {
+            return false;
+        }
+        Date lastCheck = lastInstanceProfileCheck;
+        if (lastCheck != null && System.currentTimeMillis() - lastCheck.getTime() < MIN_PREFETCH_INTERVAL) {
+            return false;
+        }
+        return needsToLoadCredentials(current.prefetchAhead);
+    }
+
     /**
      * Fetches the credentials from the endpoint.
      */
     private synchronized void fetchCredentials() {
-        if (!needsToLoadCredentials()) return;
+        if (!needsBlockingRefresh()) return;
+        loadCredentials();
+    }
+
+    /**
+     * Submits a background refresh of the credentials, unless one is already
+     * in progress. Never blocks the caller.
+     */
+    private void prefetchCredentials() {
+        if (!prefetching.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            RefreshExecutorHolder.EXECUTOR.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        refreshInBackground();
+                    } catch (RuntimeException e) {
+                        // The current credentials are returned until they are about to expire
+                        LOG.debug("Unable to refresh credentials in the background", e);
+                    } finally {
+                        prefetching.set(false);
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            prefetching.set(false);
+            LOG.debug("Unable to schedule a background refresh of credentials", e);
+        }
+    }
+
+    private synchronized void refreshInBackground() {
+        CredentialsSnapshot current = snapshot;
+        // Return if the credentials were loaded while waiting for the lock
+        if (current != null && !needsToLoadCredentials(current.prefetchAhead)) return;
+        loadCredentials();
+    }
 
+    /**
+     * Loads the credentials from the endpoint. Must be called with the lock
+     * held.
+     */
+    private void loadCredentials() {
         JsonNode accessKey;
         JsonNode secretKey;
         JsonNode node;
@@ -129,6 +272,7 @@ class EC2CredentialsFetcher {
                 throw new AmazonClientException("Unable to load credentials.");
             }
 
+            AWSCredentials credentials;
             if (null != token) {
                 credentials = new BasicSessionCredentials(accessKey.asText(),
                         secretKey.asText(), token.asText());
@@ -136,6 +280,7 @@ class EC2CredentialsFetcher {
                 credentials = new BasicAWSCredentials(accessKey.asText(),
                         secretKey.asText());
             }
+            long prefetchAhead = nonBlockingRefresh ? RANDOM.nextInt(PREFETCH_JITTER) : 0;
 
             JsonNode expirationJsonNode = node.get("Expiration");
             if (null != expirationJsonNode) {
@@ -148,10 +293,14 @@ class EC2CredentialsFetcher {
                 expiration = expiration.replaceAll("\\+0000$", "Z");
 
                 try {
-                    credentialsExpiration = DateUtils.parseISO8601Date(expiration);
+                    snapshot = new CredentialsSnapshot(credentials,
+                            DateUtils.parseISO8601Date(expiration), prefetchAhead);
                 } catch(Exception ex) {
+                    snapshot = new CredentialsSnapshot(credentials, null, prefetchAhead);
                     handleError("Unable to parse credentials expiration date from Amazon EC2 instance", ex);
                 }
+            } else {
+                snapshot = new CredentialsSnapshot(credentials, null, prefetchAhead);
             }
         } catch (JsonMappingException e) {
             handleError("Unable to parse response returned from service endpoint", e);
@@ -176,7 +325,8 @@ class EC2CredentialsFetcher {
      */
     private void handleError(String errorMessage, Exception e) {
         // If we don't have any valid credentials to fall back on, then throw an exception
-        if (credentials == null || expired())
+        CredentialsSnapshot current = snapshot;
+        if (current == null || current.isExpired())
             throw new AmazonClientException(errorMessage, e);
 
         // Otherwise, just log the error and continuing using the current credentials
@@ -184,42 +334,77 @@ class EC2CredentialsFetcher {
     }
 
     public void refresh() {
-        credentials = null;
+        snapshot = null;
     }
 
     /**
-     * Returns true if the current credentials are within the expiration
-     * threshold, and therefore, should be refreshed.
+     * Returns true if the given expiration is within the given threshold (in
+     * milliseconds), and therefore, the credentials should be refreshed.
      */
-    private boolean isWithinExpirationThreshold() {
-        return (credentialsExpiration.getTime() - System.currentTimeMillis()) < EXPIRATION_THRESHOLD;
+    private static boolean isWithinExpirationThreshold(Date expiration, long threshold) {
+        return (expiration.getTime() - System.currentTimeMillis()) < threshold;
     }
 
     /**
      * Returns true if the last attempt to refresh credentials is beyond the
-     * refresh threshold, and therefore the credentials should attempt to be
-     * refreshed.
+     * refresh threshold, brought forward by the given time in milliseconds,
+     * and therefore the credentials should attempt to be refreshed.
      */
-    private boolean isPastRefreshThreshold() {
-        return (System.currentTimeMillis() - lastInstanceProfileCheck.getTime()) > REFRESH_THRESHOLD;
-    }
-
-    private boolean expired() {
-        if (credentialsExpiration != null) {
-            if (credentialsExpiration.getTime() < System.currentTimeMillis()) {
-                return true;
-            }
-        }
-
-        return false;
+    private boolean isPastRefreshThreshold(long ahead) {
+        return (System.currentTimeMillis() - lastInstanceProfileCheck.getTime()) > REFRESH_THRESHOLD - ahead;
     }
 
     public Date getCredentialsExpiration() {
-        return credentialsExpiration;
+        CredentialsSnapshot current = snapshot;
+        return current == null ? null : current.expiration;
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName();
     }
+
+    /**
+     * Credentials together with their expiration, published atomically so
+     * that they can be read without locking.
+     */
+    private static final class CredentialsSnapshot {
+        private final AWSCredentials credentials;
+        private final Date expiration;
+        /** The random time (in milliseconds) by which to refresh these credentials early. */
+        private final long prefetchAhead;
+
+        CredentialsSnapshot(AWSCredentials credentials, Date expiration, long prefetchAhead) {
+            this.credentials = credentials;
+            this.expiration = expiration;
+            this.prefetchAhead = prefetchAhead;
+        }
+
+        boolean isExpired() {
+            return expiration != null && expiration.getTime() < System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Used to avoid creating the background thread until absolutely necessary.
+     */
+    private static final class RefreshExecutorHolder {
+        /** A single daemon thread shared by all the fetchers for background refreshes. */
+        private static final ExecutorService EXECUTOR = createExecutor();
+
+        private static ExecutorService createExecutor() {
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+                        @Override
+                        public Thread newThread(Runnable runnable) {
+                            Thread thread = new Thread(runnable);
+                            thread.setName("java-sdk-credentials-refresh-thread");
+                            thread.setDaemon(true);
+                            return thread;
+                        }
+                    });
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
 }
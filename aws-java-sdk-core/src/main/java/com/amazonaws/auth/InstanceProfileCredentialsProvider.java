@@ -32,6 +32,11 @@ import com.amazonaws.util.EC2MetadataUtils;
 /**
  * Credentials provider implementation that loads credentials from the Amazon
  * EC2 Instance Metadata Service.
+ * <p>
+ * Credentials that are due for refresh but still valid are returned without
+ * blocking while new ones are loaded by a shared background thread; callers only
+ * wait for the Instance Metadata Service when there are no credentials or they
+ * are about to expire.
  */
 public class InstanceProfileCredentialsProvider implements AWSCredentialsProvider {
 
@@ -65,7 +70,7 @@ public class InstanceProfileCredentialsProvider implements AWSCredentialsProvide
      *            false.
      */
     public InstanceProfileCredentialsProvider(boolean refreshCredentialsAsync) {
-        credentialsFetcher = new EC2CredentialsFetcher(new InstanceMetadataCredentialsEndpointProvider());
+        credentialsFetcher = new EC2CredentialsFetcher(new InstanceMetadataCredentialsEndpointProvider(), true);
 
         if (refreshCredentialsAsync) {
             executor = Executors.newScheduledThreadPool(1);
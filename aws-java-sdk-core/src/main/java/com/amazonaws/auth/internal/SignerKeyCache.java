@@ -0,0 +1,147 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.auth.internal;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.annotation.ThreadSafe;
+
+/**
+ * A bounded, lock free cache of derived AWS4 signing keys.
+ * <p>
+ * A signing key is only valid for the UTC day it was derived for, so the day
+ * is part of the cache key. Once a key for a later day is added, all the
+ * entries for earlier days are expired. When the cache grows beyond its
+ * maximum size, arbitrary entries are evicted until it fits again; the cache
+ * is sized so that this only happens with an unusually large number of
+ * distinct credentials, regions and services.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class SignerKeyCache {
+    private final ConcurrentMap<CacheKey, SignerKey> map = new ConcurrentHashMap<CacheKey, SignerKey>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong currentDay = new AtomicLong();
+    private final int maxSize;
+
+    /**
+     * @param maxSize
+     *            the maximum number of entries of the cache
+     */
+    public SignerKeyCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize " + maxSize
+                    + " must be at least 1");
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the signing key cached under the given name for the given
+     * number of days since epoch; or null if no such entry exists.
+     */
+    public byte[] get(String name, long numberOfDaysSinceEpoch) {
+        SignerKey signerKey = map.get(new CacheKey(name, numberOfDaysSinceEpoch));
+        return signerKey == null ? null : signerKey.getSigningKey();
+    }
+
+    /**
+     * Adds a signing key to the cache under the given name, expiring the
+     * entries of earlier days if the signer key is for a new day.
+     */
+    public void add(String name, SignerKey signerKey) {
+        final long day = signerKey.getNumberOfDaysSinceEpoch();
+        if (map.put(new CacheKey(name, day), signerKey) == null) {
+            size.incrementAndGet();
+        }
+        long previousDay = currentDay.get();
+        if (day > previousDay && currentDay.compareAndSet(previousDay, day)) {
+            expireBefore(day);
+        }
+        if (size.get() > maxSize) {
+            evict();
+        }
+    }
+
+    /**
+     * Returns the current size of the cache.
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Returns the maximum size of the cache.
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    private void expireBefore(long day) {
+        for (Iterator<CacheKey> it = map.keySet().iterator(); it.hasNext();) {
+            CacheKey key = it.next();
+            if (key.numberOfDaysSinceEpoch < day) {
+                remove(key);
+            }
+        }
+    }
+
+    private void evict() {
+        for (Iterator<CacheKey> it = map.keySet().iterator(); it.hasNext()
+                && size.get() > maxSize;) {
+            remove(it.next());
+        }
+    }
+
+    private void remove(CacheKey key) {
+        if (map.remove(key) != null) {
+            size.decrementAndGet();
+        }
+    }
+
+    private static final class CacheKey {
+        private final String name;
+        private final long numberOfDaysSinceEpoch;
+
+        CacheKey(String name, long numberOfDaysSinceEpoch) {
+            this.name = name;
+            this.numberOfDaysSinceEpoch = numberOfDaysSinceEpoch;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * name.hashCode()
+                    + (int) (numberOfDaysSinceEpoch ^ (numberOfDaysSinceEpoch >>> 32));
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey other = (CacheKey) obj;
+            return numberOfDaysSinceEpoch == other.numberOfDaysSinceEpoch
+                    && name.equals(other.name);
+        }
+    }
+}
@@ -157,20 +157,24 @@ public class ProfilesConfigFile {
                 throw new IllegalArgumentException("No AWS profile named '" + profileName + "'");
             }
             final AWSCredentialsProvider newProvider = fromProfile(profile);
-            credentialProviderCache.put(profileName, newProvider);
-            return newProvider.getCredentials();
+            // Concurrent callers share the first provider, and so its session credentials
+            final AWSCredentialsProvider existingProvider = credentialProviderCache
+                    .putIfAbsent(profileName, newProvider);
+            return (existingProvider == null ? newProvider : existingProvider).getCredentials();
         }
     }
 
     /**
-     * Reread data from disk.
+     * Reread data from disk. The cached credential providers are only discarded if the file has
+     * been modified, so that assume role providers keep refreshing their session credentials in
+     * the background rather than blocking the next caller.
      */
     public void refresh() {
         if (profileFile.lastModified() > profileFileLastModified) {
             profileFileLastModified = profileFile.lastModified();
             allProfiles = loadProfiles(profileFile);
+            credentialProviderCache.clear();
         }
-        credentialProviderCache.clear();
     }
 
     public Map<String, BasicProfile> getAllBasicProfiles() {
@@ -39,6 +39,13 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -48,8 +55,11 @@ import org.apache.http.HttpEntityEnclosingRequest;
 import org.apache.http.HttpStatus;
 import org.apache.http.StatusLine;
 import org.apache.http.annotation.ThreadSafe;
+import org.apache.http.client.ClientProtocolException;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.concurrent.BasicFuture;
+import org.apache.http.concurrent.FutureCallback;
 import org.apache.http.entity.BufferedHttpEntity;
 import org.apache.http.pool.ConnPoolControl;
 import org.apache.http.protocol.HttpContext;
@@ -77,14 +87,17 @@ import com.amazonaws.event.ProgressInputStream;
 import com.amazonaws.event.ProgressListener;
 import com.amazonaws.handlers.CredentialsRequestHandler;
 import com.amazonaws.handlers.RequestHandler2;
+import com.amazonaws.http.apache.client.impl.ApacheHttpAsyncClientFactory;
 import com.amazonaws.http.apache.client.impl.ApacheHttpClientFactory;
 import com.amazonaws.http.apache.client.impl.ConnectionManagerAwareHttpClient;
+import com.amazonaws.http.apache.client.impl.SdkHttpAsyncClient;
 import com.amazonaws.http.apache.request.impl.ApacheHttpRequestFactory;
 import com.amazonaws.http.apache.utils.ApacheUtils;
 import com.amazonaws.http.client.HttpClientFactory;
 import com.amazonaws.http.exception.HttpRequestTimeoutException;
 import com.amazonaws.http.request.HttpRequestFactory;
 import com.amazonaws.http.settings.HttpClientSettings;
+import com.amazonaws.http.timers.TimeoutThreadPoolBuilder;
 import com.amazonaws.http.timers.client.ClientExecutionTimeoutException;
 import com.amazonaws.http.timers.client.ClientExecutionTimer;
 import com.amazonaws.http.timers.client.SdkInterruptedException;
@@ -99,6 +112,7 @@ import com.amazonaws.metrics.AwsSdkMetrics;
 import com.amazonaws.metrics.RequestMetricCollector;
 import com.amazonaws.retry.RetryPolicy;
 import com.amazonaws.retry.RetryUtils;
+import com.amazonaws.retry.internal.AdaptiveRateLimiter;
 import com.amazonaws.retry.internal.AuthErrorRetryStrategy;
 import com.amazonaws.retry.internal.AuthRetryParameters;
 import com.amazonaws.util.AWSRequestMetrics;
@@ -151,12 +165,6 @@ public class AmazonHttpClient {
      */
     private static final int THROTTLED_RETRY_COST = 5;
 
-    /**
-     * When throttled retries are enabled, this is the total number of subsequent failed retries
-     * that may be attempted before retry capacity is fully drained.
-     */
-    private static final int THROTTLED_RETRIES = 100;
-
     static {
         // Customers have reported XML parsing issues with the following
         // JVM versions, which don't occur with more recent versions, so
@@ -176,6 +184,14 @@ public class AmazonHttpClient {
      * Internal client for sending HTTP requests
      */
     private ConnectionManagerAwareHttpClient httpClient;
+    /**
+     * Internal non-blocking client, created on the first call to {@link #executeAsync}.
+     */
+    private volatile SdkHttpAsyncClient asyncHttpClient;
+    /**
+     * Schedules the retries and enforces the timeouts of the non-blocking executions.
+     */
+    private volatile ScheduledExecutorService asyncScheduler;
     /**
      * Client configuration options, such as proxy httpClientSettings, max retries, etc.
      */
@@ -197,6 +213,12 @@ public class AmazonHttpClient {
     /** Retry capacity manager, used to manage throttled retry resource */
     private final CapacityManager retryCapacity;
 
+    /** Limits the rate of requests to throttling endpoints; or null if disabled. */
+    private final AdaptiveRateLimiter rateLimiter;
+
+    /** Hedges the requests of idempotent operations; or null if disabled. */
+    private final RequestHedger hedger;
+
     /**
      * Timer to enforce timeouts on the whole execution of the request (request handlers, retries, backoff strategy,
      * unmarshalling, etc)
@@ -307,8 +329,12 @@ public class AmazonHttpClient {
         // When enabled, total retry capacity is computed based on retry cost
         // and desired number of retries.
         int throttledRetryMaxCapacity = clientConfig.useThrottledRetries()
-                ? THROTTLED_RETRY_COST * THROTTLED_RETRIES : -1;
-        this.retryCapacity = new CapacityManager(throttledRetryMaxCapacity);
+                ? THROTTLED_RETRY_COST * clientConfig.getMaxConsecutiveRetriesBeforeThrottling() : -1;
+        this.retryCapacity = new CapacityManager(throttledRetryMaxCapacity,
+                THROTTLED_RETRY_COST * clientConfig.getThrottledRetryRefillPerSecond());
+        this.rateLimiter = clientConfig.isUseAdaptiveRateLimiting() ? new AdaptiveRateLimiter() : null;
+        this.hedger = clientConfig.getHedgingPolicy() == null ? null
+                : new RequestHedger(clientConfig.getHedgingPolicy());
     }
 
     /**
@@ -392,6 +418,63 @@ public class AmazonHttpClient {
         }
     }
 
+    /**
+     * Executes the request over a non-blocking transport, going through the same request handlers,
+     * signing, retries and metrics as {@link #execute(Request, HttpResponseHandler,
+     * HttpResponseHandler, ExecutionContext)}, without blocking any thread while the request is in
+     * flight or waiting to be retried. The response is unmarshalled, and the callback invoked, on
+     * the given executor.
+     * <p>
+     * As the whole response is read into memory before being handled, response handlers which need
+     * the connection left open are not supported. Requires the optional httpasyncclient dependency
+     * on the classpath.
+     *
+     * @param request              The AmazonWebServices request to send to the remote server
+     * @param responseHandler      A response handler to accept a successful response from the remote server
+     * @param errorResponseHandler A response handler to accept an unsuccessful response from the remote server
+     * @param executionContext     Additional information about the context of this web service call
+     * @param responseExecutor     The executor to handle the responses and invoke the callback on
+     * @param callback             The callback to notify of the outcome of the execution; or null if none
+     * @return The future response, which aborts the execution when canceled.
+     */
+    public <T> Future<Response<T>> executeAsync(Request<?> request,
+                                                HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler,
+                                                HttpResponseHandler<AmazonServiceException> errorResponseHandler,
+                                                ExecutionContext executionContext,
+                                                Executor responseExecutor,
+                                                FutureCallback<Response<T>> callback) {
+        if (executionContext == null) {
+            throw new AmazonClientException("Internal SDK Error: No execution context parameter specified.");
+        }
+        final HttpResponseHandler<AmazonWebServiceResponse<T>> nonNullResponseHandler =
+                getNonNullResponseHandler(responseHandler);
+        if (nonNullResponseHandler.needsConnectionLeftOpen()) {
+            throw new AmazonClientException("Responses which need the connection left open are not supported "
+                    + "by the non-blocking transport");
+        }
+        final AsyncExecution<T> execution = new AsyncExecution<T>(request, nonNullResponseHandler,
+                getNonNullResponseHandler(errorResponseHandler), executionContext, responseExecutor, callback);
+        execution.start();
+        return execution.future;
+    }
+
+    /**
+     * Returns the non-blocking client, creating it and its scheduler on first use.
+     */
+    private SdkHttpAsyncClient getAsyncHttpClient() {
+        SdkHttpAsyncClient client = asyncHttpClient;
+        if (client == null) {
+            synchronized (this) {
+                client = asyncHttpClient;
+                if (client == null) {
+                    asyncScheduler = TimeoutThreadPoolBuilder.buildDefaultTimeoutThreadPool();
+                    asyncHttpClient = client = new ApacheHttpAsyncClientFactory().create(httpClientSettings);
+                }
+            }
+        }
+        return client;
+    }
+
     /**
      * Ensures the response handler is not null. If it is this method returns a dummy response handler.
      *
@@ -444,24 +527,8 @@ public class AmazonHttpClient {
                                       HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler,
                                       HttpResponseHandler<AmazonServiceException> errorResponseHandler,
                                       ExecutionContext executionContext) throws InterruptedException {
-        final List<RequestHandler2> requestHandler2s = requestHandler2s(request, executionContext);
-
-        AmazonWebServiceRequest awsreq = request.getOriginalRequest();
-
-        setSdkTransactionId(request);
-        setUserAgent(request);
-
-        ProgressListener listener = awsreq.getGeneralProgressListener();
-        // add custom headers
-        Map<String, String> customHeaders = awsreq.getCustomRequestHeaders();
-        if (customHeaders != null) {
-            request.getHeaders().putAll(customHeaders);
-        }
-        // add custom query parameters
-        Map<String, List<String>> customQueryParams = awsreq.getCustomQueryParameters();
-        if (customQueryParams != null) {
-            mergeQueryParameters(request, customQueryParams);
-        }
+        final List<RequestHandler2> requestHandler2s = beforeExecution(request, executionContext);
+        ProgressListener listener = request.getOriginalRequest().getGeneralProgressListener();
         final AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
         Response<T> response = null;
         final InputStream origContent = request.getContent();
@@ -489,6 +556,33 @@ public class AmazonHttpClient {
         }
     }
 
+    /**
+     * Runs the request handlers and adds the SDK and custom headers and query parameters to the
+     * request, before its first attempt.
+     *
+     * @return the request handlers of the execution
+     */
+    private List<RequestHandler2> beforeExecution(Request<?> request, ExecutionContext executionContext) {
+        final List<RequestHandler2> requestHandler2s = requestHandler2s(request, executionContext);
+
+        AmazonWebServiceRequest awsreq = request.getOriginalRequest();
+
+        setSdkTransactionId(request);
+        setUserAgent(request);
+
+        // add custom headers
+        Map<String, String> customHeaders = awsreq.getCustomRequestHeaders();
+        if (customHeaders != null) {
+            request.getHeaders().putAll(customHeaders);
+        }
+        // add custom query parameters
+        Map<String, List<String>> customQueryParams = awsreq.getCustomQueryParameters();
+        if (customQueryParams != null) {
+            mergeQueryParameters(request, customQueryParams);
+        }
+        return requestHandler2s;
+    }
+
     /**
      * Determine if an interrupted exception is caused by the client execution timer interrupting the current thread or
      * some other task interrupting the thread for another purpose.
@@ -690,35 +784,8 @@ public class AmazonHttpClient {
         }
         while (true) {
             checkInterrupted();
-            if (originalContent instanceof BufferedInputStream && originalContent.markSupported()) {
-                // Mark everytime for BufferedInputStream, since the marker could
-                // have been invalidated
-                AmazonWebServiceRequest awsreq = request.getOriginalRequest();
-                final int readLimit = awsreq.getRequestClientOptions().getReadLimit();
-                originalContent.mark(readLimit);
-            }
-            execOneParams.initPerRetry();
-            if (execOneParams.redirectedURI != null) {
-                /*
-                 * [scheme:][//authority][path][?query][#fragment]
-                 */
-                String scheme = execOneParams.redirectedURI.getScheme();
-                String beforeAuthority = scheme == null ? "" : scheme + "://";
-                String authority = execOneParams.redirectedURI.getAuthority();
-                String path = execOneParams.redirectedURI.getPath();
-
-                request.setEndpoint(URI.create(beforeAuthority + authority));
-                request.setResourcePath(SdkHttpUtils.urlEncode(path, true));
-            }
-            if (execOneParams.authRetryParam != null) {
-                request.setEndpoint(execOneParams.authRetryParam.getEndpointForRetry());
-            }
-            awsRequestMetrics.setCounter(Field.RequestCount, execOneParams.requestCount);
-            if (execOneParams.isRetry()) {
-                request.setParameters(originalParameters);
-                request.setHeaders(originalHeaders);
-                request.setContent(originalContent);
-            }
+            beginAttempt(request, awsRequestMetrics, execOneParams, originalParameters, originalHeaders,
+                    originalContent);
             try {
                 Response<T> response = executeOneRequest(request, responseHandler, errorResponseHandler,
                         executionContext, awsRequestMetrics, execOneParams, requestHandlers);
@@ -726,13 +793,7 @@ public class AmazonHttpClient {
                     return response;
                 }
             } catch (IOException ioe) {
-                if (log.isInfoEnabled()) {
-                    log.info("Unable to execute HTTP request: " + ioe.getMessage(), ioe);
-                }
-                captureExceptionMetrics(ioe, awsRequestMetrics);
-                awsRequestMetrics.addProperty(Field.AWSRequestID, null);
-                AmazonClientException ace = new AmazonClientException(
-                        "Unable to execute HTTP request: " + ioe.getMessage(), ioe);
+                AmazonClientException ace = handleIOException(ioe, awsRequestMetrics);
                 if (!shouldRetry(request.getOriginalRequest(), execOneParams, ace,
                         executionContext)) {
                     throw lastReset(ace, request);
@@ -766,6 +827,60 @@ public class AmazonHttpClient {
         } /* end while (true) */
     }
 
+    /**
+     * Restores the request to its original state, or points it to the location it was redirected
+     * to, before each attempt of the request.
+     */
+    private void beginAttempt(final Request<?> request,
+                              final AWSRequestMetrics awsRequestMetrics,
+                              final ExecOneRequestParams execOneParams,
+                              final Map<String, List<String>> originalParameters,
+                              final Map<String, String> originalHeaders,
+                              final InputStream originalContent) {
+        if (originalContent instanceof BufferedInputStream && originalContent.markSupported()) {
+            // Mark everytime for BufferedInputStream, since the marker could
+            // have been invalidated
+            AmazonWebServiceRequest awsreq = request.getOriginalRequest();
+            final int readLimit = awsreq.getRequestClientOptions().getReadLimit();
+            originalContent.mark(readLimit);
+        }
+        execOneParams.initPerRetry();
+        if (execOneParams.redirectedURI != null) {
+            /*
+             * [scheme:][//authority][path][?query][#fragment]
+             */
+            String scheme = execOneParams.redirectedURI.getScheme();
+            String beforeAuthority = scheme == null ? "" : scheme + "://";
+            String authority = execOneParams.redirectedURI.getAuthority();
+            String path = execOneParams.redirectedURI.getPath();
+
+            request.setEndpoint(URI.create(beforeAuthority + authority));
+            request.setResourcePath(SdkHttpUtils.urlEncode(path, true));
+        }
+        if (execOneParams.authRetryParam != null) {
+            request.setEndpoint(execOneParams.authRetryParam.getEndpointForRetry());
+        }
+        awsRequestMetrics.setCounter(Field.RequestCount, execOneParams.requestCount);
+        if (execOneParams.isRetry()) {
+            request.setParameters(originalParameters);
+            request.setHeaders(originalHeaders);
+            request.setContent(originalContent);
+        }
+    }
+
+    /**
+     * Captures the metrics of an attempt that failed with an I/O error, and returns the client
+     * exception to retry or fail the request with.
+     */
+    private AmazonClientException handleIOException(IOException ioe, AWSRequestMetrics awsRequestMetrics) {
+        if (log.isInfoEnabled()) {
+            log.info("Unable to execute HTTP request: " + ioe.getMessage(), ioe);
+        }
+        captureExceptionMetrics(ioe, awsRequestMetrics);
+        awsRequestMetrics.addProperty(Field.AWSRequestID, null);
+        return new AmazonClientException("Unable to execute HTTP request: " + ioe.getMessage(), ioe);
+    }
+
     /**
      * Used to perform a last reset on the content input stream (if mark-supported); this is so that, for backward
      * compatibility reason, any "blind" retry (ie without calling reset) by user of this library with the same input
@@ -832,8 +947,134 @@ public class AmazonHttpClient {
         if (execOneParams.isRetry()) {
             pauseBeforeRetry(request, awsRequestMetrics, execOneParams, listener);
         }
+        pauseForRateLimit(request, awsRequestMetrics);
         updateRetryHeaderInfo(request, execOneParams);
+        signRequest(request, execContext, awsRequestMetrics, execOneParams, credentials);
+
+        checkInterrupted();
+        execOneParams.newApacheRequest(httpRequestFactory, request, httpClientSettings);
+
+        if (awsRequestMetrics.isEnabled()) {
+            captureConnectionPoolMetrics(awsRequestMetrics, httpClient.getHttpClientConnectionManager());
+        }
+
+        final HttpClientContext localRequestContext = beforeHttpRequest(awsRequestMetrics, execOneParams, listener);
+
+        /////////// Send HTTP request ////////////
+        execContext.getClientExecutionTrackerTask().setCurrentHttpRequest(execOneParams.apacheRequest);
+        final boolean isHeaderReqIdAvail;
+        HttpRequestAbortTaskTracker requestAbortTaskTracker = httpRequestTimer
+                .startTimer(execOneParams.apacheRequest, getRequestTimeout(awsreq));
+        boolean streamHttpEntity = false;
+
+        try {
+            requestAbortTaskTracker = executeHttpRequest(awsreq, execContext, execOneParams,
+                    localRequestContext, requestAbortTaskTracker);
+            if (shouldStreamHttpEntity(responseHandler, execContext, execOneParams, requestAbortTaskTracker)) {
+                streamHttpEntity = true;
+            } else if (shouldBufferHttpEntity(responseHandler.needsConnectionLeftOpen(), execContext,
+                    execOneParams, requestAbortTaskTracker)) {
+                execOneParams.apacheResponse
+                        .setEntity(new BufferedHttpEntity(execOneParams.apacheResponse.getEntity()));
+            }
+            isHeaderReqIdAvail = logHeaderRequestId(execOneParams.apacheResponse);
+        } catch (IOException ioe) {
+            throw handleRequestIOException(ioe, execContext, requestAbortTaskTracker);
+        } finally {
+            if (!streamHttpEntity) {
+                requestAbortTaskTracker.cancelTask();
+            }
+            awsRequestMetrics.endEvent(Field.HttpRequestTime);
+        }
+
+        if (!streamHttpEntity) {
+            return handleHttpResponse(request, responseHandler, errorResponseHandler, execContext,
+                    awsRequestMetrics, execOneParams, requestHandlers, localRequestContext, isHeaderReqIdAvail);
+        }
+        // The response is unmarshalled straight from the connection, so the
+        // request timer keeps running until the content has been read.
+        try {
+            return handleHttpResponse(request, responseHandler, errorResponseHandler, execContext,
+                    awsRequestMetrics, execOneParams, requestHandlers, localRequestContext, isHeaderReqIdAvail);
+        } catch (IOException ioe) {
+            throw handleRequestIOException(ioe, execContext, requestAbortTaskTracker);
+        } finally {
+            requestAbortTaskTracker.cancelTask();
+        }
+    }
 
+    /**
+     * Sends the HTTP request of the current attempt, hedging it if it is of an
+     * operation hedged by the hedging policy of the client, and sets the HTTP
+     * response of the attempt. If the hedge wins, it replaces the HTTP request
+     * of the attempt.
+     *
+     * @return The tracker of the request timeout of the HTTP request of the
+     *         attempt, which is the given one unless the hedge won.
+     */
+    private HttpRequestAbortTaskTracker executeHttpRequest(final AmazonWebServiceRequest awsreq,
+                                                            final ExecutionContext execContext,
+                                                            final ExecOneRequestParams execOneParams,
+                                                            final HttpClientContext localRequestContext,
+                                                            final HttpRequestAbortTaskTracker requestAbortTaskTracker)
+            throws IOException {
+        if (hedger == null || !hedger.isHedged(awsreq)) {
+            execOneParams.apacheResponse = httpClient.execute(execOneParams.apacheRequest, localRequestContext);
+            return requestAbortTaskTracker;
+        }
+        final long startNanos = System.nanoTime();
+        final long hedgingDelay = hedger.getHedgingDelay(awsreq);
+        final HttpRequestBase hedge = hedgingDelay < 0 ? null : RequestHedger.duplicate(execOneParams.apacheRequest);
+        HttpRequestAbortTaskTracker winnerAbortTaskTracker = requestAbortTaskTracker;
+        if (hedge == null) {
+            execOneParams.apacheResponse = httpClient.execute(execOneParams.apacheRequest, localRequestContext);
+        } else {
+            // The hedge is sent without the request metrics, which aren't thread safe.
+            final RequestHedger.HedgedRequest hedgedRequest = hedger.new HedgedRequest(httpClient,
+                    execOneParams.apacheRequest, localRequestContext,
+                    hedge, ApacheUtils.newClientContext(httpClientSettings, null),
+                    requestAbortTaskTracker, execContext.getClientExecutionTrackerTask(),
+                    httpRequestTimer, getRequestTimeout(awsreq));
+            execOneParams.apacheResponse = hedgedRequest.execute(hedgingDelay);
+            if (hedgedRequest.getWinner() == hedge) {
+                execOneParams.apacheRequest = hedge;
+                execContext.getClientExecutionTrackerTask().setCurrentHttpRequest(hedge);
+                winnerAbortTaskTracker = hedgedRequest.getWinnerAbortTaskTracker();
+            }
+        }
+        hedger.recordLatency(awsreq, System.nanoTime() - startNanos);
+        return winnerAbortTaskTracker;
+    }
+
+    /**
+     * Returns the exception to throw for an I/O error while the request
+     * timers are running, taking into account whether one of the timers has
+     * aborted the request.
+     *
+     * @throws InterruptedException if the client execution timeout has expired
+     */
+    private IOException handleRequestIOException(final IOException ioe,
+                                                 final ExecutionContext execContext,
+                                                 final HttpRequestAbortTaskTracker requestAbortTaskTracker)
+            throws InterruptedException {
+        // Client execution timeouts take precedence as it's not retryable
+        if (execContext.getClientExecutionTrackerTask().hasTimeoutExpired()) {
+            throw new InterruptedException();
+        } else if (requestAbortTaskTracker.httpRequestAborted()) {
+            return new HttpRequestTimeoutException(ioe);
+        } else {
+            return ioe;
+        }
+    }
+
+    /**
+     * Signs the request with the signer of the current attempt, if any.
+     */
+    private void signRequest(final Request<?> request,
+                             final ExecutionContext execContext,
+                             final AWSRequestMetrics awsRequestMetrics,
+                             final ExecOneRequestParams execOneParams,
+                             final AWSCredentials credentials) {
         // Sign the request if a signer was provided
         execOneParams.newSigner(request, execContext);
         if (execOneParams.signer != null && credentials != null) {
@@ -855,12 +1096,14 @@ public class AmazonHttpClient {
                 awsRequestMetrics.endEvent(Field.RequestSigningTime);
             }
         }
+    }
 
-        checkInterrupted();
-        execOneParams.newApacheRequest(httpRequestFactory, request, httpClientSettings);
-
-        captureConnectionPoolMetrics(awsRequestMetrics);
-
+    /**
+     * Creates the HTTP context of the current attempt and starts timing its HTTP request.
+     */
+    private HttpClientContext beforeHttpRequest(final AWSRequestMetrics awsRequestMetrics,
+                                                final ExecOneRequestParams execOneParams,
+                                                final ProgressListener listener) {
         final HttpClientContext localRequestContext =
                 ApacheUtils.newClientContext(httpClientSettings, ImmutableMapParameter.of
                         (AWSRequestMetrics.class.getSimpleName(), awsRequestMetrics));
@@ -869,35 +1112,28 @@ public class AmazonHttpClient {
         publishProgress(listener, ProgressEventType.HTTP_REQUEST_STARTED_EVENT);
         awsRequestMetrics.startEvent(Field.HttpRequestTime);
         awsRequestMetrics.setCounter(Field.RetryCapacityConsumed, retryCapacity.consumedCapacity());
-
-        /////////// Send HTTP request ////////////
-        execContext.getClientExecutionTrackerTask().setCurrentHttpRequest(execOneParams.apacheRequest);
-        final boolean isHeaderReqIdAvail;
-        final HttpRequestAbortTaskTracker requestAbortTaskTracker = httpRequestTimer
-                .startTimer(execOneParams.apacheRequest, getRequestTimeout(awsreq));
-
-        try {
-            execOneParams.apacheResponse = httpClient.execute(execOneParams.apacheRequest, localRequestContext);
-            if (shouldBufferHttpEntity(responseHandler.needsConnectionLeftOpen(), execContext, execOneParams,
-                    requestAbortTaskTracker)) {
-                execOneParams.apacheResponse
-                        .setEntity(new BufferedHttpEntity(execOneParams.apacheResponse.getEntity()));
-            }
-            isHeaderReqIdAvail = logHeaderRequestId(execOneParams.apacheResponse);
-        } catch (IOException ioe) {
-            // Client execution timeouts take precedence as it's not retryable
-            if (execContext.getClientExecutionTrackerTask().hasTimeoutExpired()) {
-                throw new InterruptedException();
-            } else if (requestAbortTaskTracker.httpRequestAborted()) {
-                throw new HttpRequestTimeoutException(ioe);
-            } else {
-                throw ioe;
-            }
-        } finally {
-            requestAbortTaskTracker.cancelTask();
-            awsRequestMetrics.endEvent(Field.HttpRequestTime);
+        int availableRetryCapacity = retryCapacity.availableCapacity();
+        if (availableRetryCapacity >= 0) {
+            awsRequestMetrics.setCounter(Field.RetryCapacityAvailable, availableRetryCapacity);
         }
+        return localRequestContext;
+    }
 
+    /**
+     * Handles the HTTP response of the current attempt, and returns the unmarshalled response; or
+     * null for retry.
+     */
+    private <T> Response<T> handleHttpResponse(final Request<?> request,
+                                               final HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler,
+                                               final HttpResponseHandler<AmazonServiceException> errorResponseHandler,
+                                               final ExecutionContext execContext,
+                                               final AWSRequestMetrics awsRequestMetrics,
+                                               final ExecOneRequestParams execOneParams,
+                                               final List<RequestHandler2> requestHandlers,
+                                               final HttpClientContext localRequestContext,
+                                               final boolean isHeaderReqIdAvail)
+            throws IOException, InterruptedException {
+        final ProgressListener listener = request.getOriginalRequest().getGeneralProgressListener();
         publishProgress(listener, ProgressEventType.HTTP_REQUEST_COMPLETED_EVENT);
         final StatusLine statusLine = execOneParams.apacheResponse.getStatusLine();
         final int statusCode = statusLine == null ? -1 : statusLine.getStatusCode();
@@ -923,6 +1159,7 @@ public class AmazonHttpClient {
             } else {
                 retryCapacity.release();
             }
+            recordRateLimitResponse(request, false);
             return new Response<T>(response, httpResponse);
         }
         if (isTemporaryRedirect(execOneParams.apacheResponse)) {
@@ -947,6 +1184,7 @@ public class AmazonHttpClient {
         awsRequestMetrics.addPropertyWith(Field.AWSRequestID, ase.getRequestId())
                 .addPropertyWith(Field.AWSErrorCode, ase.getErrorCode())
                 .addPropertyWith(Field.StatusCode, ase.getStatusCode());
+        recordRateLimitResponse(request, RetryUtils.isThrottlingException(ase));
         // Check whether we should internally retry the auth error
         execOneParams.authRetryParam = null;
         AuthErrorRetryStrategy authRetry = execContext.getAuthErrorRetryStrategy();
@@ -999,6 +1237,26 @@ public class AmazonHttpClient {
         }
     }
 
+    /**
+     * Successful responses of JSON protocol services are unmarshalled
+     * incrementally, with their CRC32 checksum verified once the content has
+     * been read. Instead of buffering the whole content so that the timeouts
+     * apply to reading it, the timers are left running while the response is
+     * handled.
+     *
+     * @return True if the {@link HttpEntity} should be passed to the response
+     *         handler as is, with the timers still running
+     */
+    private boolean shouldStreamHttpEntity(final HttpResponseHandler<?> responseHandler,
+                                           final ExecutionContext execContext,
+                                           ExecOneRequestParams execParams,
+                                           final HttpRequestAbortTaskTracker requestAbortTaskTracker) {
+        return responseHandler instanceof JsonResponseHandler
+                && shouldBufferHttpEntity(responseHandler.needsConnectionLeftOpen(), execContext, execParams,
+                        requestAbortTaskTracker)
+                && isRequestSuccessful(execParams.apacheResponse);
+    }
+
     /**
      * @return True if the {@link HttpEntity} should be wrapped in a {@link BufferedHttpEntity}
      */
@@ -1052,11 +1310,9 @@ public class AmazonHttpClient {
     /**
      * Captures the connection pool metrics.
      */
-    private void captureConnectionPoolMetrics(AWSRequestMetrics awsRequestMetrics) {
-        if (awsRequestMetrics.isEnabled() && httpClient.getHttpClientConnectionManager() instanceof
-                ConnPoolControl<?>) {
-            ConnPoolControl<?> control = (ConnPoolControl<?>) httpClient
-                    .getHttpClientConnectionManager();
+    private void captureConnectionPoolMetrics(AWSRequestMetrics awsRequestMetrics, Object connectionManager) {
+        if (connectionManager instanceof ConnPoolControl<?>) {
+            ConnPoolControl<?> control = (ConnPoolControl<?>) connectionManager;
 
             awsRequestMetrics
                     .withCounter(HttpClientPoolAvailableCount, control.getTotalStats().getAvailable())
@@ -1139,6 +1395,12 @@ public class AmazonHttpClient {
         IdleConnectionReaper.removeConnectionManager(httpClient
                 .getHttpClientConnectionManager());
         httpClient.getHttpClientConnectionManager().shutdown();
+        synchronized (this) {
+            if (asyncHttpClient != null) {
+                asyncHttpClient.shutdown();
+                asyncScheduler.shutdownNow();
+            }
+        }
     }
 
     /**
@@ -1453,6 +1715,47 @@ public class AmazonHttpClient {
         }
     }
 
+    /**
+     * Waits until the adaptive rate limiter, if enabled, permits sending the request.
+     */
+    private void pauseForRateLimit(final Request<?> request,
+                                   final AWSRequestMetrics awsRequestMetrics) throws InterruptedException {
+        final long delay = acquireRateLimitPermit(request);
+        if (delay > 0) {
+            awsRequestMetrics.startEvent(Field.RateLimitPauseTime);
+            try {
+                Thread.sleep(delay);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RateLimitPauseTime);
+            }
+        }
+    }
+
+    /**
+     * Reserves a permit from the adaptive rate limiter, if enabled, to send the request.
+     *
+     * @return the time in milliseconds to wait before sending the request
+     */
+    private long acquireRateLimitPermit(final Request<?> request) {
+        return rateLimiter == null ? 0 : rateLimiter.acquire(rateLimitKey(request));
+    }
+
+    /**
+     * Feeds the outcome of a request back to the adaptive rate limiter, if enabled.
+     */
+    private void recordRateLimitResponse(final Request<?> request, final boolean throttled) {
+        if (rateLimiter != null) {
+            rateLimiter.onResponse(rateLimitKey(request), throttled);
+        }
+    }
+
+    /**
+     * Requests are rate limited per endpoint host, which is what services throttle on.
+     */
+    private static String rateLimitKey(final Request<?> request) {
+        return request.getEndpoint().getHost();
+    }
+
     /**
      * Sleep for a period of time on failed request to avoid flooding a service with retries.
      *
@@ -1466,6 +1769,23 @@ public class AmazonHttpClient {
                                     int requestCount,
                                     RetryPolicy retryPolicy,
                                     ExecOneRequestParams execOneParams) throws InterruptedException {
+        Thread.sleep(computeBackoffDelay(originalRequest, previousException, requestCount, retryPolicy,
+                execOneParams));
+    }
+
+    /**
+     * Returns the delay before the next retry, as computed by the backoff strategy of the retry policy.
+     *
+     * @param originalRequest   The original service request that is being executed.
+     * @param previousException Exception information for the previous attempt, if any.
+     * @param requestCount      current request count (including the next attempt after the delay)
+     * @param retryPolicy       The retry policy configured in this httpClientSettings client.
+     */
+    private long computeBackoffDelay(AmazonWebServiceRequest originalRequest,
+                                     AmazonClientException previousException,
+                                     int requestCount,
+                                     RetryPolicy retryPolicy,
+                                     ExecOneRequestParams execOneParams) {
         final int retries = requestCount // including next attempt
                 - 1 // number of attempted requests
                 - 1; // number of attempted retries
@@ -1476,8 +1796,7 @@ public class AmazonHttpClient {
         if (log.isDebugEnabled()) {
             log.debug("Retriable error detected, " + "will retry in " + delay + "ms, attempt number: " + retries);
         }
-
-        Thread.sleep(delay);
+        return delay;
     }
 
     // SWF: Signature not yet current: 20140819T173921Z is still later than 20140819T173829Z
@@ -1582,6 +1901,427 @@ public class AmazonHttpClient {
 
     }
 
+    /**
+     * The state of a request executed over the non-blocking transport. Each step of the execution
+     * mirrors the corresponding step of {@link #doExecute} and {@link #executeHelper}; the steps
+     * after the first one run either on the response executor or, for the timeouts, on the
+     * scheduler, and the execution completes exactly once.
+     */
+    private final class AsyncExecution<T> {
+        private final Request<?> request;
+        private final HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler;
+        private final HttpResponseHandler<AmazonServiceException> errorResponseHandler;
+        private final ExecutionContext executionContext;
+        private final Executor responseExecutor;
+        private final AWSRequestMetrics awsRequestMetrics;
+        private final ProgressListener listener;
+        private final ExecOneRequestParams execOneParams = new ExecOneRequestParams();
+        private final AtomicBoolean done = new AtomicBoolean();
+        private final BasicFuture<Response<T>> future;
+
+        private List<RequestHandler2> requestHandler2s;
+        private InputStream origContent;
+        private InputStream toBeClosed;
+        private Map<String, List<String>> originalParameters;
+        private Map<String, String> originalHeaders;
+        private InputStream originalContent;
+        private HttpClientContext localRequestContext;
+        /**
+         * The HTTP request in flight or the retry waiting to be sent, aborted when the execution is
+         * canceled or times out.
+         */
+        private volatile Future<?> pending;
+        private volatile ScheduledFuture<?> clientExecutionTimeoutTask;
+
+        AsyncExecution(Request<?> request,
+                       HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler,
+                       HttpResponseHandler<AmazonServiceException> errorResponseHandler,
+                       ExecutionContext executionContext,
+                       Executor responseExecutor,
+                       FutureCallback<Response<T>> callback) {
+            this.request = request;
+            this.responseHandler = responseHandler;
+            this.errorResponseHandler = errorResponseHandler;
+            this.executionContext = executionContext;
+            this.responseExecutor = responseExecutor;
+            this.awsRequestMetrics = executionContext.getAwsRequestMetrics();
+            this.listener = request.getOriginalRequest().getGeneralProgressListener();
+            this.future = new BasicFuture<Response<T>>(callback) {
+                @Override
+                public boolean cancel(boolean mayInterruptIfRunning) {
+                    if (!super.cancel(mayInterruptIfRunning)) {
+                        return false;
+                    }
+                    if (done.compareAndSet(false, true)) {
+                        release();
+                    }
+                    return true;
+                }
+            };
+        }
+
+        void start() {
+            try {
+                final ScheduledExecutorService scheduler = getScheduler();
+                requestHandler2s = beforeExecution(request, executionContext);
+                origContent = request.getContent();
+                toBeClosed = beforeRequest(request); // for progress tracking
+                // make "notCloseable", so reset would work with retries
+                request.setContent(toBeClosed == null ? null
+                        : ReleasableInputStream.wrap(toBeClosed).disableClose());
+                publishProgress(listener, ProgressEventType.CLIENT_REQUEST_STARTED_EVENT);
+
+                awsRequestMetrics.addPropertyWith(Field.ServiceName, request.getServiceName())
+                        .addPropertyWith(Field.ServiceEndpoint, request.getEndpoint());
+                originalParameters = new LinkedHashMap<String, List<String>>(request.getParameters());
+                originalHeaders = new HashMap<String, String>(request.getHeaders());
+                originalContent = request.getContent();
+                if (originalContent != null && originalContent.markSupported()
+                        && !(originalContent instanceof BufferedInputStream)) {
+                    // Mark only once for non-BufferedInputStream
+                    originalContent.mark(request.getOriginalRequest().getRequestClientOptions().getReadLimit());
+                }
+
+                final int clientExecutionTimeout = getClientExecutionTimeout(request.getOriginalRequest());
+                if (clientExecutionTimeout > 0) {
+                    clientExecutionTimeoutTask = scheduler.schedule(new Runnable() {
+                        @Override
+                        public void run() {
+                            // Abort the attempt in flight, then fail like the blocking
+                            // execution does, notifying the request handlers and the
+                            // progress listener
+                            final Future<?> p = pending;
+                            if (p != null) {
+                                p.cancel(true);
+                            }
+                            fail(new ClientExecutionTimeoutException());
+                        }
+                    }, clientExecutionTimeout, TimeUnit.MILLISECONDS);
+                }
+                nextAttempt();
+            } catch (RuntimeException e) {
+                fail(e);
+            }
+        }
+
+        /**
+         * Starts the next attempt, once the backoff delay of a retry has elapsed.
+         */
+        private void nextAttempt() {
+            beginAttempt(request, awsRequestMetrics, execOneParams, originalParameters, originalHeaders,
+                    originalContent);
+            if (!execOneParams.isRetry()) {
+                sendWhenPermitted();
+                return;
+            }
+            publishProgress(listener, ProgressEventType.CLIENT_REQUEST_RETRY_EVENT);
+            awsRequestMetrics.startEvent(Field.RetryPauseTime);
+            // don't pause if the retry was due to a redirection
+            final long delay = execOneParams.retriedException == null ? 0
+                    : computeBackoffDelay(request.getOriginalRequest(), execOneParams.retriedException,
+                    execOneParams.requestCount, config.getRetryPolicy(), execOneParams);
+            final Runnable retry = new Runnable() {
+                @Override
+                public void run() {
+                    awsRequestMetrics.endEvent(Field.RetryPauseTime);
+                    sendWhenPermitted();
+                }
+            };
+            if (delay <= 0) {
+                retry.run();
+                return;
+            }
+            pending = getScheduler().schedule(new Runnable() {
+                @Override
+                public void run() {
+                    dispatch(retry);
+                }
+            }, delay, TimeUnit.MILLISECONDS);
+        }
+
+        /**
+         * Sends the current attempt of the request once the adaptive rate limiter, if enabled,
+         * permits it.
+         */
+        private void sendWhenPermitted() {
+            final long delay = acquireRateLimitPermit(request);
+            if (delay <= 0) {
+                send();
+                return;
+            }
+            awsRequestMetrics.startEvent(Field.RateLimitPauseTime);
+            pending = getScheduler().schedule(new Runnable() {
+                @Override
+                public void run() {
+                    dispatch(new Runnable() {
+                        @Override
+                        public void run() {
+                            awsRequestMetrics.endEvent(Field.RateLimitPauseTime);
+                            send();
+                        }
+                    });
+                }
+            }, delay, TimeUnit.MILLISECONDS);
+        }
+
+        /**
+         * Signs and sends the current attempt of the request.
+         */
+        private void send() {
+            if (done.get()) {
+                return;
+            }
+            try {
+                if (execOneParams.isRetry()) {
+                    resetRequestInputStream(request);
+                }
+                if (requestLog.isDebugEnabled()) {
+                    requestLog.debug("Sending Request: " + request);
+                }
+                final AWSCredentials credentials = getCredentialsFromContext(executionContext, awsRequestMetrics);
+                updateRetryHeaderInfo(request, execOneParams);
+                signRequest(request, executionContext, awsRequestMetrics, execOneParams, credentials);
+                execOneParams.newApacheRequest(httpRequestFactory, request, httpClientSettings);
+
+                final SdkHttpAsyncClient client = getAsyncHttpClient();
+                if (awsRequestMetrics.isEnabled()) {
+                    captureConnectionPoolMetrics(awsRequestMetrics, client.getConnPoolControl());
+                }
+                localRequestContext = beforeHttpRequest(awsRequestMetrics, execOneParams, listener);
+
+                final AttemptCallback attempt = new AttemptCallback();
+                attempt.httpFuture = client.execute(execOneParams.apacheRequest, localRequestContext, attempt);
+                pending = attempt.httpFuture;
+                final int requestTimeout = getRequestTimeout(request.getOriginalRequest());
+                if (requestTimeout > 0) {
+                    attempt.timeoutTask = getScheduler().schedule(new Runnable() {
+                        @Override
+                        public void run() {
+                            attempt.timedOut = true;
+                            attempt.httpFuture.cancel(true);
+                        }
+                    }, requestTimeout, TimeUnit.MILLISECONDS);
+                }
+            } catch (IOException ioe) {
+                retryOrFail(ioe);
+            } catch (RuntimeException e) {
+                fail(lastReset(captureExceptionMetrics(e, awsRequestMetrics), request));
+            }
+        }
+
+        /**
+         * Handles the HTTP response of the current attempt, on the response executor.
+         */
+        private void onResponse(org.apache.http.HttpResponse apacheResponse) {
+            if (done.get()) {
+                return;
+            }
+            execOneParams.apacheResponse = apacheResponse;
+            try {
+                final boolean isHeaderReqIdAvail = logHeaderRequestId(apacheResponse);
+                final Response<T> response = handleHttpResponse(request, responseHandler, errorResponseHandler,
+                        executionContext, awsRequestMetrics, execOneParams, requestHandler2s, localRequestContext,
+                        isHeaderReqIdAvail);
+                if (response == null) {
+                    nextAttempt();
+                } else {
+                    succeed(response);
+                }
+            } catch (IOException ioe) {
+                retryOrFail(ioe);
+            } catch (InterruptedException ie) {
+                fail(new AmazonClientException(ie));
+            } catch (RuntimeException e) {
+                fail(lastReset(captureExceptionMetrics(e, awsRequestMetrics), request));
+            }
+        }
+
+        /**
+         * Retries the request after an I/O error if the retry policy allows it, or fails it.
+         */
+        private void retryOrFail(IOException ioe) {
+            if (done.get()) {
+                return;
+            }
+            final AmazonClientException ace = handleIOException(ioe, awsRequestMetrics);
+            if (!shouldRetry(request.getOriginalRequest(), execOneParams, ace, executionContext)) {
+                fail(lastReset(ace, request));
+                return;
+            }
+            // Cache the retryable exception
+            execOneParams.retriedException = ace;
+            try {
+                nextAttempt();
+            } catch (RuntimeException e) {
+                fail(e);
+            }
+        }
+
+        private void succeed(Response<T> response) {
+            if (!done.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                publishProgress(listener, ProgressEventType.CLIENT_REQUEST_SUCCESS_EVENT);
+                TimingInfo timingInfo = awsRequestMetrics.getTimingInfo().endTiming();
+                afterResponse(request, requestHandler2s, response, timingInfo);
+            } catch (AmazonClientException e) {
+                publishProgress(listener, ProgressEventType.CLIENT_REQUEST_FAILED_EVENT);
+                complete(null, notifyAfterError(response, e));
+                return;
+            } catch (InterruptedException e) {
+                complete(null, new AmazonClientException(e));
+                return;
+            } catch (RuntimeException e) {
+                complete(null, e);
+                return;
+            }
+            complete(response, null);
+        }
+
+        private void fail(RuntimeException e) {
+            if (!done.compareAndSet(false, true)) {
+                return;
+            }
+            RuntimeException failure = e;
+            if (e instanceof AmazonClientException) {
+                publishProgress(listener, ProgressEventType.CLIENT_REQUEST_FAILED_EVENT);
+                failure = notifyAfterError(null, (AmazonClientException) e);
+            }
+            complete(null, failure);
+        }
+
+        private RuntimeException notifyAfterError(Response<T> response, AmazonClientException e) {
+            if (requestHandler2s == null) {
+                return e;
+            }
+            try {
+                afterError(request, response, requestHandler2s, e);
+                return e;
+            } catch (InterruptedException ie) {
+                return new AmazonClientException(ie);
+            } catch (RuntimeException re) {
+                return re;
+            }
+        }
+
+        private void complete(Response<T> response, Exception failure) {
+            release();
+            if (failure == null) {
+                future.completed(response);
+            } else {
+                future.failed(failure);
+            }
+        }
+
+        /**
+         * Aborts whatever is pending and restores the content of the request, once the execution is
+         * done.
+         */
+        private void release() {
+            final ScheduledFuture<?> timeoutTask = clientExecutionTimeoutTask;
+            if (timeoutTask != null) {
+                timeoutTask.cancel(false);
+            }
+            final Future<?> p = pending;
+            if (p != null) {
+                p.cancel(true);
+            }
+            // Always close so any progress tracking would get the final events propagated.
+            closeQuietly(toBeClosed, log);
+            request.setContent(origContent); // restore the original content
+        }
+
+        /**
+         * Runs the task on the response executor, failing the execution if it is rejected or throws.
+         */
+        private void dispatch(final Runnable task) {
+            try {
+                responseExecutor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            task.run();
+                        } catch (RuntimeException e) {
+                            fail(e);
+                        } catch (Error e) {
+                            fail(new AmazonClientException(e));
+                            throw e;
+                        }
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                fail(new AmazonClientException("Unable to handle the response of the request", e));
+            }
+        }
+
+        private ScheduledExecutorService getScheduler() {
+            getAsyncHttpClient();
+            return asyncScheduler;
+        }
+
+        /**
+         * Receives the outcome of one attempt on an I/O dispatch thread, and hands it over to the
+         * response executor.
+         */
+        private final class AttemptCallback implements FutureCallback<org.apache.http.HttpResponse> {
+            volatile Future<org.apache.http.HttpResponse> httpFuture;
+            volatile ScheduledFuture<?> timeoutTask;
+            volatile boolean timedOut;
+
+            @Override
+            public void completed(final org.apache.http.HttpResponse response) {
+                afterHttpRequest();
+                dispatch(new Runnable() {
+                    @Override
+                    public void run() {
+                        onResponse(response);
+                    }
+                });
+            }
+
+            @Override
+            public void failed(final Exception ex) {
+                afterHttpRequest();
+                dispatch(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (ex instanceof IOException) {
+                            retryOrFail((IOException) ex);
+                        } else if (ex instanceof RuntimeException) {
+                            fail(lastReset(captureExceptionMetrics((RuntimeException) ex, awsRequestMetrics),
+                                    request));
+                        } else {
+                            retryOrFail(new ClientProtocolException(ex));
+                        }
+                    }
+                });
+            }
+
+            @Override
+            public void cancelled() {
+                afterHttpRequest();
+                if (timedOut) {
+                    dispatch(new Runnable() {
+                        @Override
+                        public void run() {
+                            retryOrFail(new HttpRequestTimeoutException(
+                                    "Request did not complete before the request timeout configuration."));
+                        }
+                    });
+                }
+            }
+
+            private void afterHttpRequest() {
+                final ScheduledFuture<?> task = timeoutTask;
+                if (task != null) {
+                    task.cancel(false);
+                }
+                awsRequestMetrics.endEvent(Field.HttpRequestTime);
+            }
+        }
+    }
+
     /**
      * Stateful parameters that are used for executing a single httpClientSettings request.
      */
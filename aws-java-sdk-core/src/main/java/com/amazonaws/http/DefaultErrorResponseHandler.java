@@ -17,7 +17,10 @@ package com.amazonaws.http;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.annotation.SdkProtectedApi;
+import com.amazonaws.transform.LegacyErrorUnmarshaller;
+import com.amazonaws.transform.StandardErrorUnmarshaller;
 import com.amazonaws.transform.Unmarshaller;
+import com.amazonaws.transform.XmlErrorResponse;
 import com.amazonaws.util.IOUtils;
 import com.amazonaws.util.StringUtils;
 import com.amazonaws.util.XpathUtils;
@@ -30,7 +33,10 @@ import org.xml.sax.SAXException;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.xml.parsers.ParserConfigurationException;
 
@@ -41,6 +47,15 @@ import javax.xml.parsers.ParserConfigurationException;
  * response.  If no unmarshaller is found that can unmarshall the error response, a generic
  * AmazonServiceException is created and populated with the AWS error response information (error
  * message, AWS error code, AWS request ID, etc).
+ * <p>
+ * The error code, message, type and request ID are read in a single streaming pass over the
+ * response, and handed to the {@link StandardErrorUnmarshaller}s and {@link LegacyErrorUnmarshaller}s
+ * along with the DOM tree, so that they don't need to evaluate any XPath expressions. When all the
+ * unmarshallers of the list are of one of these two kinds, the ones declaring the error code they
+ * handle are indexed by it when the handler is constructed, and are looked up by error code rather
+ * than tried in turn. Responses unmarshalled by the generic unmarshaller of the list, such as
+ * throttling errors, then don't need a DOM tree at all. Handlers are meant to be constructed once
+ * per client, since a client's list of unmarshallers never changes.
  */
 @SdkProtectedApi
 public class DefaultErrorResponseHandler implements HttpResponseHandler<AmazonServiceException> {
@@ -51,6 +66,11 @@ public class DefaultErrorResponseHandler implements HttpResponseHandler<AmazonSe
      */
     private List<Unmarshaller<AmazonServiceException, Node>> unmarshallerList;
 
+    /**
+     * The index of the unmarshallers by the error code they handle.
+     */
+    private final ErrorCodeIndex index;
+
     /**
      * Constructs a new DefaultErrorResponseHandler that will handle error responses from Amazon
      * services using the specified list of unmarshallers. Each unmarshaller will be tried, in
@@ -62,6 +82,7 @@ public class DefaultErrorResponseHandler implements HttpResponseHandler<AmazonSe
     public DefaultErrorResponseHandler(
             List<Unmarshaller<AmazonServiceException, Node>> unmarshallerList) {
         this.unmarshallerList = unmarshallerList;
+        this.index = new ErrorCodeIndex(unmarshallerList);
     }
 
     @Override
@@ -78,8 +99,32 @@ public class DefaultErrorResponseHandler implements HttpResponseHandler<AmazonSe
     }
 
     private AmazonServiceException createAse(HttpResponse errorResponse) throws Exception {
-        // Try to parse the error response as XML
-        final Document document = parseContentAsXml(errorResponse.getContent());
+        final String content = readContent(errorResponse.getContent());
+        final XmlErrorResponse parsedResponse = XmlErrorResponse.parse(content);
+        final String errorCode = index.errorCodeOf(parsedResponse);
+
+        Document document = null;
+        Unmarshaller<AmazonServiceException, Node> indexed =
+                parsedResponse == null ? null : index.get(errorCode);
+        if (indexed != null) {
+            AmazonServiceException ase;
+            if (indexed.getClass() == StandardErrorUnmarshaller.class) {
+                ase = ((StandardErrorUnmarshaller) indexed).unmarshallErrorResponse(parsedResponse);
+            } else if (indexed.getClass() == LegacyErrorUnmarshaller.class) {
+                ase = ((LegacyErrorUnmarshaller) indexed).unmarshallErrorResponse(parsedResponse);
+            } else {
+                document = parseContentAsXml(content, parsedResponse);
+                ase = indexed.unmarshall(document);
+            }
+            if (ase != null) {
+                ase.setStatusCode(errorResponse.getStatusCode());
+                return ase;
+            }
+        }
+
+        if (document == null) {
+            document = parseContentAsXml(content, parsedResponse);
+        }
 
         /*
          * We need to select which exception unmarshaller is the correct one to
@@ -98,15 +143,118 @@ public class DefaultErrorResponseHandler implements HttpResponseHandler<AmazonSe
         return null;
     }
 
-    private Document parseContentAsXml(InputStream content) throws ParserConfigurationException,
-                                                                   SAXException, IOException {
+    private String readContent(InputStream content) {
         try {
-            return XpathUtils.documentFrom(IOUtils.toString(content));
+            return IOUtils.toString(content);
         } catch (Exception e) {
-            log.info("Unable to parse HTTP response content.", e);
-            // Generate an empty document to make the unmarshallers happy. Ultimately the default
-            // unmarshaller will be called to unmarshall into the service base exception.
-            return XpathUtils.documentFrom("<empty/>");
+            log.info("Unable to read HTTP response content.", e);
+            return null;
+        }
+    }
+
+    private Document parseContentAsXml(String content, XmlErrorResponse parsedResponse)
+            throws ParserConfigurationException, SAXException, IOException {
+        if (parsedResponse != null) {
+            try {
+                Document document = XpathUtils.documentFrom(content);
+                parsedResponse.attachTo(document);
+                return document;
+            } catch (Exception e) {
+                log.info("Unable to parse HTTP response content.", e);
+            }
+        } else {
+            log.info("Unable to parse HTTP response content.");
+        }
+        // Generate an empty document to make the unmarshallers happy. Ultimately the default
+        // unmarshaller will be called to unmarshall into the service base exception.
+        return XpathUtils.documentFrom("<empty/>");
+    }
+
+    /**
+     * Immutable index of the unmarshallers of a list by the error code they declare. Looking up
+     * an error code returns the same unmarshaller as trying the unmarshallers of the list in
+     * order, or null if that can only be found by trying them.
+     */
+    private static final class ErrorCodeIndex {
+        /**
+         * The path of the error code the unmarshallers of the list select responses by, or null
+         * if they can't be indexed.
+         */
+        private final String errorCodePath;
+
+        private final Map<String, Unmarshaller<AmazonServiceException, Node>> unmarshallers;
+
+        /**
+         * The generic unmarshaller of the list that the responses with any other error code go
+         * to, or null if they must be tried against all the unmarshallers of the list.
+         */
+        private final Unmarshaller<AmazonServiceException, Node> defaultUnmarshaller;
+
+        ErrorCodeIndex(List<Unmarshaller<AmazonServiceException, Node>> unmarshallerList) {
+            this.errorCodePath = errorCodePathOf(unmarshallerList);
+            Map<String, Unmarshaller<AmazonServiceException, Node>> byErrorCode =
+                    new HashMap<String, Unmarshaller<AmazonServiceException, Node>>();
+            Unmarshaller<AmazonServiceException, Node> matchesAll = null;
+            if (errorCodePath != null) {
+                for (Unmarshaller<AmazonServiceException, Node> unmarshaller : unmarshallerList) {
+                    String errorCode = handledErrorCodeOf(unmarshaller);
+                    if (errorCode != null) {
+                        if (!byErrorCode.containsKey(errorCode)) {
+                            byErrorCode.put(errorCode, unmarshaller);
+                        }
+                    } else {
+                        if (unmarshaller.getClass() == StandardErrorUnmarshaller.class
+                                || unmarshaller.getClass() == LegacyErrorUnmarshaller.class) {
+                            // No unmarshaller after this one is ever tried.
+                            matchesAll = unmarshaller;
+                        }
+                        // Otherwise the unmarshallers from this one on can only be tried in turn.
+                        break;
+                    }
+                }
+            }
+            this.unmarshallers = Collections.unmodifiableMap(byErrorCode);
+            this.defaultUnmarshaller = matchesAll;
+        }
+
+        private static String errorCodePathOf(List<Unmarshaller<AmazonServiceException, Node>> unmarshallerList) {
+            boolean standard = true;
+            boolean legacy = true;
+            for (Unmarshaller<AmazonServiceException, Node> unmarshaller : unmarshallerList) {
+                standard &= unmarshaller instanceof StandardErrorUnmarshaller;
+                legacy &= unmarshaller instanceof LegacyErrorUnmarshaller;
+            }
+            if (unmarshallerList.isEmpty()) {
+                return null;
+            } else if (standard) {
+                return XmlErrorResponse.STANDARD_CODE_PATH;
+            } else if (legacy) {
+                return XmlErrorResponse.LEGACY_CODE_PATH;
+            }
+            return null;
+        }
+
+        private static String handledErrorCodeOf(Unmarshaller<AmazonServiceException, Node> unmarshaller) {
+            if (unmarshaller instanceof StandardErrorUnmarshaller) {
+                return ((StandardErrorUnmarshaller) unmarshaller).getHandledErrorCode();
+            }
+            return ((LegacyErrorUnmarshaller) unmarshaller).getHandledErrorCode();
+        }
+
+        /**
+         * Returns the error code to index the given response by, or null if it can't be indexed.
+         */
+        String errorCodeOf(XmlErrorResponse parsedResponse) {
+            if (errorCodePath == null || parsedResponse == null) {
+                return null;
+            }
+            return parsedResponse.getValue(errorCodePath);
+        }
+
+        Unmarshaller<AmazonServiceException, Node> get(String errorCode) {
+            Unmarshaller<AmazonServiceException, Node> unmarshaller =
+                    errorCode == null ? null : unmarshallers.get(errorCode);
+            return unmarshaller != null ? unmarshaller : defaultUnmarshaller;
         }
     }
 
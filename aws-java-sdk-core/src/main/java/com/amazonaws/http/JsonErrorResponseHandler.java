@@ -19,17 +19,19 @@ import com.amazonaws.AmazonServiceException.ErrorType;
 import com.amazonaws.annotation.SdkInternalApi;
 import com.amazonaws.internal.http.JsonErrorCodeParser;
 import com.amazonaws.internal.http.JsonErrorMessageParser;
+import com.amazonaws.internal.http.JsonErrorUnmarshallerIndex;
 import com.amazonaws.transform.JsonErrorUnmarshaller;
 import com.amazonaws.util.IOUtils;
+import com.amazonaws.util.StringUtils;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.MapperFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonToken;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -39,7 +41,14 @@ public class JsonErrorResponseHandler implements HttpResponseHandler<AmazonServi
 
     private static final Log LOG = LogFactory.getLog(JsonErrorResponseHandler.class);
 
-    private final List<JsonErrorUnmarshaller> unmarshallers;
+    /**
+     * Content unmarshalled in place of response content that isn't a JSON object.
+     */
+    private static final byte[] EMPTY_OBJECT = "{}".getBytes(StringUtils.UTF8);
+
+    private static final JsonFactory EMPTY_OBJECT_FACTORY = new JsonFactory();
+
+    private final JsonErrorUnmarshallerIndex unmarshallers;
     private final JsonErrorCodeParser errorCodeParser;
     private final JsonErrorMessageParser errorMessageParser;
     private final JsonFactory jsonFactory;
@@ -49,6 +58,19 @@ public class JsonErrorResponseHandler implements HttpResponseHandler<AmazonServi
             JsonErrorCodeParser errorCodeParser,
             JsonErrorMessageParser errorMessageParser,
             JsonFactory jsonFactory) {
+        this(new JsonErrorUnmarshallerIndex(errorUnmarshallers), errorCodeParser, errorMessageParser,
+             jsonFactory);
+    }
+
+    /**
+     * @param errorUnmarshallers
+     *            Index of the error unmarshallers, shared by all the handlers of a client.
+     */
+    public JsonErrorResponseHandler(
+            JsonErrorUnmarshallerIndex errorUnmarshallers,
+            JsonErrorCodeParser errorCodeParser,
+            JsonErrorMessageParser errorMessageParser,
+            JsonFactory jsonFactory) {
         this.unmarshallers = errorUnmarshallers;
         this.errorCodeParser = errorCodeParser;
         this.errorMessageParser = errorMessageParser;
@@ -63,7 +85,7 @@ public class JsonErrorResponseHandler implements HttpResponseHandler<AmazonServi
     @Override
     public AmazonServiceException handle(HttpResponse response) throws Exception {
         JsonContent jsonContent = JsonContent.createJsonContent(response, jsonFactory);
-        String errorCode = errorCodeParser.parseErrorCode(response.getHeaders(), jsonContent.jsonNode);
+        String errorCode = errorCodeParser.parseErrorCodeFromFields(response.getHeaders(), jsonContent.fields);
         AmazonServiceException ase = createException(errorCode, jsonContent);
 
         // Jackson has special-casing for 'message' values when deserializing
@@ -71,7 +93,7 @@ public class JsonErrorResponseHandler implements HttpResponseHandler<AmazonServi
         // other JSON fields - handle it here.
         if (ase.getErrorMessage() == null) {
             ase.setErrorMessage(errorMessageParser
-                    .parseErrorMessage(jsonContent.jsonNode));
+                    .parseErrorMessageFromFields(jsonContent.fields));
         }
 
         ase.setErrorCode(errorCode);
@@ -107,17 +129,21 @@ public class JsonErrorResponseHandler implements HttpResponseHandler<AmazonServi
     }
 
     private AmazonServiceException unmarshallException(String errorCode, JsonContent jsonContent) {
-        for (JsonErrorUnmarshaller unmarshaller : unmarshallers) {
-            if (unmarshaller.matchErrorCode(errorCode)) {
-                try {
-                    return unmarshaller.unmarshall(jsonContent.jsonNode);
-                } catch (Exception e) {
-                    LOG.info("Unable to unmarshall exception content", e);
-                    return null;
-                }
+        JsonErrorUnmarshaller unmarshaller = unmarshallers.get(errorCode);
+        if (unmarshaller == null) {
+            return null;
+        }
+        try {
+            JsonParser jsonParser = jsonContent.createParser(jsonFactory);
+            try {
+                return unmarshaller.unmarshall(jsonParser);
+            } finally {
+                jsonParser.close();
             }
+        } catch (Exception e) {
+            LOG.info("Unable to unmarshall exception content", e);
+            return null;
         }
-        return null;
     }
 
     private ErrorType getErrorTypeFromStatusCode(int statusCode) {
@@ -134,12 +160,15 @@ public class JsonErrorResponseHandler implements HttpResponseHandler<AmazonServi
     }
 
     /**
-     * Simple struct like class to hold both the raw json string content and it's parsed JsonNode
+     * Simple struct like class to hold both the raw json string content and its top level text
+     * fields, read with a streaming parser rather than by building a tree of the content.
      */
     private static class JsonContent {
 
         public final byte[] rawContent;
-        public final JsonNode jsonNode;
+        public final Map<String, String> fields;
+        /** Whether the raw content is a JSON object that the unmarshallers can read. */
+        private final boolean isObject;
 
         /**
          * Static factory method to create a JsonContent object from the contents of the
@@ -155,31 +184,60 @@ public class JsonErrorResponseHandler implements HttpResponseHandler<AmazonServi
             } catch (Exception e) {
                 LOG.info("Unable to read HTTP response content", e);
             }
-            return new JsonContent(rawJsonContent, createMapper(jsonFactory));
-        }
-
-        private static ObjectMapper createMapper(JsonFactory jsonFactory) {
-            return new ObjectMapper(jsonFactory)
-                    .enable(JsonParser.Feature.ALLOW_COMMENTS)
-                    .disable(MapperFeature.CAN_OVERRIDE_ACCESS_MODIFIERS);
+            return new JsonContent(rawJsonContent, parseFields(rawJsonContent, jsonFactory));
         }
 
-        private JsonContent(byte[] rawJsonContent, ObjectMapper mapper) {
+        private JsonContent(byte[] rawJsonContent, Map<String, String> fields) {
             this.rawContent = rawJsonContent;
-            this.jsonNode = parseJsonContent(rawJsonContent, mapper);
+            this.isObject = fields != null;
+            this.fields = fields != null ? fields : Collections.<String, String>emptyMap();
         }
 
-        private static JsonNode parseJsonContent(byte[] rawJsonContent,
-                                                 ObjectMapper mapper) {
-            if (rawJsonContent == null) {
+        /**
+         * Reads the top level text fields of the content, skipping over everything else.
+         *
+         * @return The fields by name, or null if the content isn't a JSON object.
+         */
+        private static Map<String, String> parseFields(byte[] rawJsonContent, JsonFactory jsonFactory) {
+            if (rawJsonContent == null || rawJsonContent.length == 0) {
                 return null;
             }
             try {
-                return mapper.readTree(rawJsonContent);
+                JsonParser jsonParser = createParser(jsonFactory, rawJsonContent);
+                try {
+                    if (jsonParser.nextToken() != JsonToken.START_OBJECT) {
+                        return null;
+                    }
+                    Map<String, String> fields = new HashMap<String, String>();
+                    while (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+                        String fieldName = jsonParser.getCurrentName();
+                        if (jsonParser.nextToken() == JsonToken.VALUE_STRING) {
+                            fields.put(fieldName, jsonParser.getText());
+                        } else {
+                            jsonParser.skipChildren();
+                        }
+                    }
+                    return fields;
+                } finally {
+                    jsonParser.close();
+                }
             } catch (Exception e) {
                 LOG.info("Unable to parse HTTP response content", e);
-                return mapper.createObjectNode();
+                return null;
             }
         }
+
+        /**
+         * Returns a parser of the content for the unmarshallers, or of an empty object if the
+         * content isn't a JSON object.
+         */
+        public JsonParser createParser(JsonFactory jsonFactory) throws Exception {
+            return isObject ? createParser(jsonFactory, rawContent)
+                    : createParser(EMPTY_OBJECT_FACTORY, EMPTY_OBJECT);
+        }
+
+        private static JsonParser createParser(JsonFactory jsonFactory, byte[] content) throws Exception {
+            return jsonFactory.createParser(content).enable(JsonParser.Feature.ALLOW_COMMENTS);
+        }
     }
 }
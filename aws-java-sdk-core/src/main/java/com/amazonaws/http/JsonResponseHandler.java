@@ -36,6 +36,7 @@ import com.amazonaws.transform.JsonUnmarshallerContextImpl;
 import com.amazonaws.transform.Unmarshaller;
 import com.amazonaws.transform.VoidJsonUnmarshaller;
 import com.amazonaws.util.CRC32ChecksumCalculatingInputStream;
+import com.amazonaws.util.IOUtils;
 
 /**
  * Default implementation of HttpResponseHandler that handles a successful response from an AWS
@@ -119,6 +120,12 @@ public class JsonResponseHandler<T> implements HttpResponseHandler<AmazonWebServ
             T result = responseUnmarshaller.unmarshall(unmarshallerContext);
 
             if (CRC32Checksum != null) {
+                // The response may be read straight from the connection, and
+                // the parser can stop before the end of the content; the
+                // checksum covers all of it.
+                if (response.getContent() != null) {
+                    IOUtils.drainInputStream(response.getContent());
+                }
                 long serverSideCRC = Long.parseLong(CRC32Checksum);
                 long clientSideCRC = response.getCRC32Checksum();
                 if (clientSideCRC != serverSideCRC) {
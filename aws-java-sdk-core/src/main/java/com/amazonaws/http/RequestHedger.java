@@ -0,0 +1,467 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpEntityEnclosingRequestBase;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.protocol.HttpContext;
+
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.annotation.ThreadSafe;
+import com.amazonaws.http.apache.client.impl.ConnectionManagerAwareHttpClient;
+import com.amazonaws.http.timers.client.ClientExecutionAbortTrackerTask;
+import com.amazonaws.http.timers.request.HttpRequestAbortTaskImpl;
+import com.amazonaws.http.timers.request.HttpRequestAbortTaskTracker;
+import com.amazonaws.http.timers.request.HttpRequestTimer;
+import com.amazonaws.metrics.LatencyHistogram;
+import com.amazonaws.retry.HedgingPolicy;
+import com.amazonaws.util.CapacityManager;
+
+/**
+ * Sends a duplicate of the requests of the operations hedged by a
+ * {@link HedgingPolicy} when they take longer than the configured percentile
+ * of the latencies recently observed for their operation, and keeps track of
+ * those latencies and of the hedging budget of a client.
+ */
+@ThreadSafe
+class RequestHedger {
+
+    private static final Log log = LogFactory.getLog(RequestHedger.class);
+
+    /**
+     * Number of latencies to observe for an operation before its requests are
+     * hedged, and over which the percentile is computed.
+     */
+    static final int LATENCY_WINDOW = 100;
+
+    /**
+     * Budget units earned by each request, per percent of the budget. A hedge
+     * costs 100 times as much.
+     */
+    private static final int HEDGE_COST = 100;
+
+    /**
+     * Number of hedges that can be sent in a burst when the budget is full.
+     */
+    private static final int MAX_BURST = 10;
+
+    /**
+     * Requests with a larger content aren't hedged, since their content is
+     * buffered to be sent twice.
+     */
+    private static final long MAX_HEDGED_CONTENT_LENGTH = 64 * 1024;
+
+    /**
+     * Maximum number of hedges in flight at once, across all the clients, the
+     * same as the default maximum number of connections of a client. Hedges
+     * that would exceed it aren't sent.
+     */
+    private static final int MAX_CONCURRENT_HEDGES = 50;
+
+    private final HedgingPolicy policy;
+
+    private final CapacityManager budget = new CapacityManager(HEDGE_COST * MAX_BURST);
+
+    private final ConcurrentMap<Class<?>, OperationLatencies> latencies =
+            new ConcurrentHashMap<Class<?>, OperationLatencies>();
+
+    RequestHedger(HedgingPolicy policy) {
+        this.policy = policy;
+    }
+
+    /**
+     * Returns whether the given request is of a hedged operation.
+     */
+    boolean isHedged(AmazonWebServiceRequest request) {
+        return policy.isHedged(request);
+    }
+
+    /**
+     * Returns the time in milliseconds after which the given request should be
+     * hedged, or -1 if it shouldn't be, such as before enough latencies of its
+     * operation have been observed.
+     */
+    long getHedgingDelay(AmazonWebServiceRequest request) {
+        if (!policy.isHedged(request)) {
+            return -1;
+        }
+        OperationLatencies operationLatencies = latencies.get(request.getClass());
+        return operationLatencies == null ? -1 : operationLatencies.getDelayMillis(policy.getDelayPercentile());
+    }
+
+    /**
+     * Records the time it took to receive the response of a hedged operation,
+     * and earns the budget of the request.
+     */
+    void recordLatency(AmazonWebServiceRequest request, long latencyNanos) {
+        budget.release(policy.getBudgetPercent());
+        OperationLatencies operationLatencies = latencies.get(request.getClass());
+        if (operationLatencies == null) {
+            OperationLatencies newLatencies = new OperationLatencies();
+            operationLatencies = latencies.putIfAbsent(request.getClass(), newLatencies);
+            if (operationLatencies == null) {
+                operationLatencies = newLatencies;
+            }
+        }
+        operationLatencies.record(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+    }
+
+    /**
+     * Returns a copy of the given request that can be sent concurrently with
+     * it, replacing the entity of both with a buffered one if needed; or null
+     * if the request can't be duplicated.
+     */
+    static HttpRequestBase duplicate(HttpRequestBase request) throws IOException {
+        HttpEntity bufferedEntity = null;
+        if (request instanceof HttpEntityEnclosingRequest) {
+            HttpEntityEnclosingRequest enclosingRequest = (HttpEntityEnclosingRequest) request;
+            HttpEntity entity = enclosingRequest.getEntity();
+            if (entity != null) {
+                if (!entity.isRepeatable() || entity.getContentLength() < 0
+                        || entity.getContentLength() > MAX_HEDGED_CONTENT_LENGTH) {
+                    return null;
+                }
+                ByteArrayOutputStream content = new ByteArrayOutputStream((int) entity.getContentLength());
+                entity.writeTo(content);
+                ByteArrayEntity byteArrayEntity = new ByteArrayEntity(content.toByteArray());
+                byteArrayEntity.setContentType(entity.getContentType());
+                byteArrayEntity.setContentEncoding(entity.getContentEncoding());
+                enclosingRequest.setEntity(byteArrayEntity);
+                bufferedEntity = byteArrayEntity;
+            }
+        }
+        final String method = request.getMethod();
+        HttpRequestBase copy;
+        if (request instanceof HttpEntityEnclosingRequest) {
+            HttpEntityEnclosingRequestBase enclosingCopy = new HttpEntityEnclosingRequestBase() {
+                @Override
+                public String getMethod() {
+                    return method;
+                }
+            };
+            enclosingCopy.setEntity(bufferedEntity);
+            copy = enclosingCopy;
+        } else {
+            copy = new HttpRequestBase() {
+                @Override
+                public String getMethod() {
+                    return method;
+                }
+            };
+        }
+        copy.setURI(request.getURI());
+        copy.setHeaders(request.getAllHeaders());
+        copy.setConfig(request.getConfig());
+        return copy;
+    }
+
+    /**
+     * Latencies of the last responses of an operation. Latencies are recorded
+     * in the current window, and the delay is computed from the last full one.
+     */
+    private static final class OperationLatencies {
+        private volatile LatencyHistogram current = new LatencyHistogram();
+        private volatile LatencyHistogram last;
+
+        void record(long latencyMicros) {
+            LatencyHistogram histogram = current;
+            histogram.recordValue(latencyMicros);
+            if (histogram.getTotalCount() >= LATENCY_WINDOW) {
+                synchronized (this) {
+                    if (current == histogram) {
+                        last = histogram;
+                        current = new LatencyHistogram();
+                    }
+                }
+            }
+        }
+
+        long getDelayMillis(double percentile) {
+            LatencyHistogram histogram = last;
+            if (histogram == null) {
+                return -1;
+            }
+            return Math.max(1, TimeUnit.MICROSECONDS.toMillis(histogram.getValueAtPercentile(percentile)));
+        }
+    }
+
+    /**
+     * A request raced against its hedge. The hedge is sent on a separate
+     * thread if the request hasn't received a response after the hedging
+     * delay and the budget allows it; the first response wins and the other
+     * request is aborted. The hedge is aborted by the request timeout of the
+     * attempt like the request is, so the attempt times out after the same
+     * time whichever request wins.
+     */
+    final class HedgedRequest {
+        private final ConnectionManagerAwareHttpClient httpClient;
+        private final HttpRequestBase primary;
+        private final HttpContext primaryContext;
+        private final HttpRequestBase hedge;
+        private final HttpContext hedgeContext;
+        private final HttpRequestAbortTaskTracker primaryAbortTaskTracker;
+        private final ClientExecutionAbortTrackerTask clientExecutionTrackerTask;
+        private final HttpRequestTimer httpRequestTimer;
+        private final int requestTimeoutMillis;
+
+        private final Object lock = new Object();
+        private HttpRequestBase winner;
+        private boolean primaryFailed;
+        private boolean hedgeStarted;
+        private boolean hedgeDone;
+        private HttpResponse hedgeResponse;
+        private HttpRequestAbortTaskTracker hedgeAbortTaskTracker;
+        private long startNanos;
+
+        HedgedRequest(ConnectionManagerAwareHttpClient httpClient,
+                      HttpRequestBase primary,
+                      HttpContext primaryContext,
+                      HttpRequestBase hedge,
+                      HttpContext hedgeContext,
+                      HttpRequestAbortTaskTracker primaryAbortTaskTracker,
+                      ClientExecutionAbortTrackerTask clientExecutionTrackerTask,
+                      HttpRequestTimer httpRequestTimer,
+                      int requestTimeoutMillis) {
+            this.httpClient = httpClient;
+            this.primary = primary;
+            this.primaryContext = primaryContext;
+            this.hedge = hedge;
+            this.hedgeContext = hedgeContext;
+            this.primaryAbortTaskTracker = primaryAbortTaskTracker;
+            this.clientExecutionTrackerTask = clientExecutionTrackerTask;
+            this.httpRequestTimer = httpRequestTimer;
+            this.requestTimeoutMillis = requestTimeoutMillis;
+        }
+
+        /**
+         * Executes the request, hedging it after the given delay, and returns
+         * the first response.
+         */
+        HttpResponse execute(long delayMillis) throws IOException {
+            synchronized (lock) {
+                startNanos = System.nanoTime();
+            }
+            final ScheduledFuture<?> hedgeTask = LazyHolder.SCHEDULER.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    startHedge();
+                }
+            }, delayMillis, TimeUnit.MILLISECONDS);
+            HttpResponse response;
+            try {
+                response = httpClient.execute(primary, primaryContext);
+            } catch (IOException e) {
+                hedgeTask.cancel(false);
+                return awaitHedge(e);
+            } catch (RuntimeException e) {
+                hedgeTask.cancel(false);
+                abortHedge();
+                throw e;
+            }
+            hedgeTask.cancel(false);
+            synchronized (lock) {
+                if (winner == null) {
+                    winner = primary;
+                }
+            }
+            if (winner == primary) {
+                abortHedge();
+                return response;
+            }
+            // The hedge won while the response was being received
+            abort(primary);
+            return hedgeResponse;
+        }
+
+        /**
+         * Returns the request whose response was returned.
+         */
+        HttpRequestBase getWinner() {
+            synchronized (lock) {
+                return winner;
+            }
+        }
+
+        /**
+         * Returns the tracker of the request timeout of the request whose
+         * response was returned, which keeps running while its content is
+         * read. The timeout of the other request has been cancelled.
+         */
+        HttpRequestAbortTaskTracker getWinnerAbortTaskTracker() {
+            synchronized (lock) {
+                return winner == hedge ? hedgeAbortTaskTracker : primaryAbortTaskTracker;
+            }
+        }
+
+        private HttpResponse awaitHedge(IOException primaryFailure) throws IOException {
+            boolean timedOut = primaryAbortTaskTracker.httpRequestAborted()
+                    || clientExecutionTrackerTask.hasTimeoutExpired();
+            synchronized (lock) {
+                if (winner == hedge) {
+                    return hedgeResponse;   // the primary was aborted by the hedge
+                }
+                primaryFailed = true;
+                if (!hedgeStarted || timedOut) {
+                    abortHedge();
+                    throw primaryFailure;
+                }
+            }
+            // The hedge may still succeed, and is now the request to abort if
+            // the client execution times out.
+            clientExecutionTrackerTask.setCurrentHttpRequest(hedge);
+            synchronized (lock) {
+                while (!hedgeDone) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        abortHedge();
+                        throw primaryFailure;
+                    }
+                }
+                if (winner == hedge) {
+                    return hedgeResponse;
+                }
+            }
+            throw primaryFailure;
+        }
+
+        private void startHedge() {
+            synchronized (lock) {
+                // The hedge gets what is left of the request timeout of the attempt
+                long remainingMillis = requestTimeoutMillis
+                        - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+                if (winner != null || primaryFailed || (requestTimeoutMillis > 0 && remainingMillis <= 0)
+                        || !budget.acquire(HEDGE_COST)) {
+                    return;
+                }
+                hedgeStarted = true;
+                hedgeAbortTaskTracker = httpRequestTimer.startTimer(hedge,
+                        requestTimeoutMillis > 0 ? (int) remainingMillis : requestTimeoutMillis);
+            }
+            try {
+                LazyHolder.HEDGES.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        runHedge();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // Too many hedges in flight, the budget wasn't spent
+                budget.release(HEDGE_COST);
+                hedgeFinished(null);
+            }
+        }
+
+        private void runHedge() {
+            HttpResponse response = null;
+            try {
+                response = httpClient.execute(hedge, hedgeContext);
+            } catch (IOException e) {
+                log.debug("Hedged request failed", e);
+            } catch (RuntimeException e) {
+                log.debug("Hedged request failed", e);
+            }
+            hedgeFinished(response);
+        }
+
+        private void hedgeFinished(HttpResponse response) {
+            boolean won;
+            synchronized (lock) {
+                hedgeDone = true;
+                if (response != null && winner == null) {
+                    winner = hedge;
+                    hedgeResponse = response;
+                }
+                won = winner == hedge;
+                lock.notifyAll();
+            }
+            if (won) {
+                primaryAbortTaskTracker.cancelTask();
+                abort(primary);
+            } else {
+                abortHedge();
+            }
+        }
+
+        /**
+         * Aborts the hedge, if it was started, and cancels its request timeout.
+         */
+        private void abortHedge() {
+            HttpRequestAbortTaskTracker tracker;
+            synchronized (lock) {
+                tracker = hedgeAbortTaskTracker;
+            }
+            if (tracker != null) {
+                tracker.cancelTask();
+            }
+            abort(hedge);
+        }
+    }
+
+    /**
+     * Aborts the losing request of a race, releasing its connection.
+     */
+    private static void abort(HttpRequestBase request) {
+        new HttpRequestAbortTaskImpl(request).run();
+    }
+
+    /**
+     * Threads shared by the hedged requests of all the clients, created only
+     * once a request is hedged.
+     */
+    private static final class LazyHolder {
+        private static final ScheduledExecutorService SCHEDULER =
+                Executors.newSingleThreadScheduledExecutor(newThreadFactory("java-sdk-hedging-scheduler-thread"));
+
+        private static final ExecutorService HEDGES = new ThreadPoolExecutor(0, MAX_CONCURRENT_HEDGES,
+                60, TimeUnit.SECONDS, new SynchronousQueue<Runnable>(),
+                newThreadFactory("java-sdk-hedged-request-thread"));
+
+        private static ThreadFactory newThreadFactory(final String name) {
+            final AtomicInteger threadCount = new AtomicInteger();
+            return new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable);
+                    thread.setName(name + "-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.apache.client.impl;
+
+import java.security.cert.X509Certificate;
+import java.util.concurrent.TimeUnit;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.RedirectStrategy;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.protocol.RequestAcceptEncoding;
+import org.apache.http.client.protocol.ResponseContentEncoding;
+import org.apache.http.config.ConnectionConfig;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.conn.ssl.TrustStrategy;
+import org.apache.http.impl.conn.DefaultSchemePortResolver;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.conn.NoopIOSessionStrategy;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
+import org.apache.http.nio.reactor.IOReactorException;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpProcessor;
+import org.apache.http.protocol.HttpProcessorBuilder;
+import org.apache.http.ssl.SSLContexts;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.SDKGlobalConfiguration;
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.http.AmazonHttpClient;
+import com.amazonaws.http.DelegatingDnsResolver;
+import com.amazonaws.http.apache.SdkProxyRoutePlanner;
+import com.amazonaws.http.apache.utils.ApacheUtils;
+import com.amazonaws.http.client.HttpClientFactory;
+import com.amazonaws.http.conn.SdkConnectionKeepAliveStrategy;
+import com.amazonaws.http.settings.HttpClientSettings;
+import com.amazonaws.internal.SdkSSLContext;
+
+/**
+ * Factory class that builds the non-blocking apache http client from the
+ * settings, configured the same way as the blocking client built by
+ * {@link ApacheHttpClientFactory}.
+ */
+@SdkInternalApi
+public class ApacheHttpAsyncClientFactory implements HttpClientFactory<SdkHttpAsyncClient> {
+
+    private static final Log LOG = LogFactory.getLog(AmazonHttpClient.class);
+
+    /**
+     * Redirects are handled by {@link AmazonHttpClient} itself.
+     */
+    private static final RedirectStrategy NO_REDIRECTS = new RedirectStrategy() {
+        @Override
+        public boolean isRedirected(HttpRequest request, HttpResponse response, HttpContext context) {
+            return false;
+        }
+
+        @Override
+        public HttpUriRequest getRedirect(HttpRequest request, HttpResponse response, HttpContext context) {
+            throw new UnsupportedOperationException();
+        }
+    };
+
+    @Override
+    public SdkHttpAsyncClient create(HttpClientSettings settings) {
+        final PoolingNHttpClientConnectionManager cm = createConnectionManager(settings);
+        final HttpAsyncClientBuilder builder = HttpAsyncClientBuilder.create()
+                .setConnectionManager(cm)
+                .setRedirectStrategy(NO_REDIRECTS)
+                .disableCookieManagement();
+
+        if (settings.getMaxIdleConnectionTime() > 0) {
+            builder.setKeepAliveStrategy(new SdkConnectionKeepAliveStrategy(
+                    settings.getMaxIdleConnectionTime()));
+        }
+        if (settings.useGzip()) {
+            builder.addInterceptorLast(new RequestAcceptEncoding());
+        }
+        if (isProxyEnabled(settings)) {
+            LOG.info("Configuring Proxy. Proxy Host: " + settings.getProxyHost() + " " +
+                    "Proxy Port: " + settings.getProxyPort());
+
+            builder.setRoutePlanner(new SdkProxyRoutePlanner(
+                    settings.getProxyHost(), settings.getProxyPort(), settings.getNonProxyHosts()));
+
+            if (isAuthenticatedProxy(settings)) {
+                builder.setDefaultCredentialsProvider(ApacheUtils
+                        .newProxyCredentialsProvider(settings));
+            }
+        }
+
+        return new SdkHttpAsyncClient(builder.build(), cm, buildResponseProcessor(settings));
+    }
+
+    private PoolingNHttpClientConnectionManager createConnectionManager(HttpClientSettings settings) {
+        final IOReactorConfig ioReactorConfig = IOReactorConfig.custom()
+                .setConnectTimeout(settings.getConnectionTimeout())
+                .setSoTimeout(settings.getSocketTimeout())
+                .setSoKeepAlive(settings.useTcpKeepAlive())
+                .setTcpNoDelay(true)
+                .build();
+
+        final DefaultConnectingIOReactor ioReactor;
+        try {
+            ioReactor = new DefaultConnectingIOReactor(ioReactorConfig);
+        } catch (IOReactorException e) {
+            throw new AmazonClientException("Unable to create the non-blocking http client", e);
+        }
+
+        final Registry<SchemeIOSessionStrategy> registry = RegistryBuilder.<SchemeIOSessionStrategy>create()
+                .register("http", NoopIOSessionStrategy.INSTANCE)
+                .register("https", createSSLStrategy(settings))
+                .build();
+
+        final PoolingNHttpClientConnectionManager cm = new PoolingNHttpClientConnectionManager(
+                ioReactor,
+                null,
+                registry,
+                DefaultSchemePortResolver.INSTANCE,
+                new DelegatingDnsResolver(settings.getDnsResolver()),
+                settings.getConnectionPoolTTL(),
+                TimeUnit.MILLISECONDS);
+
+        cm.setDefaultMaxPerRoute(settings.getMaxConnections());
+        cm.setMaxTotal(settings.getMaxConnections());
+
+        int socketBufferSize = Math.max(settings.getSocketBufferSize()[0],
+                settings.getSocketBufferSize()[1]);
+        if (socketBufferSize > 0) {
+            cm.setDefaultConnectionConfig(ConnectionConfig.custom()
+                    .setBufferSize(socketBufferSize)
+                    .build());
+        }
+        return cm;
+    }
+
+    private SchemeIOSessionStrategy createSSLStrategy(HttpClientSettings settings) {
+        if (SDKGlobalConfiguration.isCertCheckingDisabled()) {
+            if (LOG.isWarnEnabled()) {
+                LOG.warn("SSL Certificate checking for endpoints has been " +
+                        "explicitly disabled.");
+            }
+            try {
+                SSLContext trustingContext = SSLContexts.custom()
+                        .loadTrustMaterial(null, new TrustStrategy() {
+                            @Override
+                            public boolean isTrusted(X509Certificate[] chain, String authType) {
+                                return true;
+                            }
+                        })
+                        .build();
+                return new SSLIOSessionStrategy(trustingContext, getHostNameVerifier(settings));
+            } catch (Exception e) {
+                throw new AmazonClientException("Unable to create the non-blocking http client", e);
+            }
+        }
+        return new SSLIOSessionStrategy(
+                SdkSSLContext.getPreferredSSLContext(settings.getSecureRandom()),
+                getHostNameVerifier(settings));
+    }
+
+    /**
+     * Mirrors the order of the response interceptors of the blocking client:
+     * the CRC32 checksum is calculated either from the compressed or from the
+     * decompressed content.
+     */
+    private HttpProcessor buildResponseProcessor(HttpClientSettings settings) {
+        final HttpProcessorBuilder builder = HttpProcessorBuilder.create();
+        final CRC32ChecksumResponseInterceptor crc32Interceptor = new CRC32ChecksumResponseInterceptor();
+        if (settings.calculateCRC32FromCompressedData()) {
+            builder.add(crc32Interceptor);
+        }
+        if (settings.useGzip()) {
+            builder.add(new ResponseContentEncoding());
+        }
+        if (!settings.calculateCRC32FromCompressedData()) {
+            builder.add(crc32Interceptor);
+        }
+        return builder.build();
+    }
+
+    private HostnameVerifier getHostNameVerifier(HttpClientSettings settings) {
+        return settings.useBrowserCompatibleHostNameVerifier()
+                ? SSLConnectionSocketFactory.BROWSER_COMPATIBLE_HOSTNAME_VERIFIER
+                : SSLConnectionSocketFactory.STRICT_HOSTNAME_VERIFIER;
+    }
+
+    private boolean isAuthenticatedProxy(HttpClientSettings settings) {
+        return settings.getProxyUsername() != null
+                && settings.getProxyPassword() != null;
+    }
+
+    private boolean isProxyEnabled(HttpClientSettings settings) {
+        return settings.getProxyHost() != null && settings.getProxyPort() > 0;
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.apache.client.impl;
+
+import java.io.IOException;
+import java.util.concurrent.Future;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.pool.ConnPoolControl;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpProcessor;
+
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.http.AmazonHttpClient;
+
+/**
+ * A started Apache {@link CloseableHttpAsyncClient} together with its
+ * connection manager.
+ * <p>
+ * Only this class and {@link ApacheHttpAsyncClientFactory} refer to the
+ * classes of the optional httpasyncclient dependency, so that the rest of the
+ * SDK can be loaded without it.
+ */
+@SdkInternalApi
+public class SdkHttpAsyncClient {
+
+    private static final Log LOG = LogFactory.getLog(AmazonHttpClient.class);
+
+    private final CloseableHttpAsyncClient delegate;
+
+    private final PoolingNHttpClientConnectionManager cm;
+
+    /**
+     * Processes the responses once their entity has been read, as the
+     * interceptors of the async client itself run before the entity is
+     * available.
+     */
+    private final HttpProcessor responseProcessor;
+
+    public SdkHttpAsyncClient(final CloseableHttpAsyncClient delegate,
+                              final PoolingNHttpClientConnectionManager cm,
+                              final HttpProcessor responseProcessor) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("delegate cannot be null");
+        }
+        if (cm == null) {
+            throw new IllegalArgumentException("connection manager cannot be null");
+        }
+        this.delegate = delegate;
+        this.cm = cm;
+        this.responseProcessor = responseProcessor;
+        delegate.start();
+    }
+
+    /**
+     * Sends the request without blocking the calling thread. The response
+     * entity is fully read into memory before the callback is invoked on one
+     * of the I/O dispatch threads.
+     */
+    public Future<HttpResponse> execute(HttpUriRequest request,
+                                        final HttpContext context,
+                                        final FutureCallback<HttpResponse> callback) {
+        return delegate.execute(request, context, new FutureCallback<HttpResponse>() {
+            @Override
+            public void completed(HttpResponse response) {
+                try {
+                    responseProcessor.process(response, context);
+                } catch (Exception e) {
+                    callback.failed(e);
+                    return;
+                }
+                callback.completed(response);
+            }
+
+            @Override
+            public void failed(Exception ex) {
+                callback.failed(ex);
+            }
+
+            @Override
+            public void cancelled() {
+                callback.cancelled();
+            }
+        });
+    }
+
+    /**
+     * Returns the connection pool of this client, for metrics purposes.
+     */
+    public ConnPoolControl<?> getConnPoolControl() {
+        return cm;
+    }
+
+    /**
+     * Closes the client, aborting any request in flight and shutting down
+     * the I/O dispatch threads.
+     */
+    public void shutdown() {
+        try {
+            delegate.close();
+        } catch (IOException e) {
+            LOG.debug("Unable to close the non-blocking http client", e);
+        }
+    }
+}
@@ -52,6 +52,25 @@ public class JsonErrorCodeParser {
         }
     }
 
+    /**
+     * Parse the error code from the response, given the top level text fields of its content
+     * rather than its parsed tree.
+     *
+     * @param contentFields Top level text fields of the response content, by name.
+     * @return Error Code of exceptional response or null if it can't be determined
+     */
+    public String parseErrorCodeFromFields(Map<String, String> httpHeaders,
+                                           Map<String, String> contentFields) {
+        String errorCodeFromHeader = parseErrorCodeFromHeader(httpHeaders);
+        if (errorCodeFromHeader != null) {
+            return errorCodeFromHeader;
+        } else if (contentFields == null || !contentFields.containsKey(errorCodeFieldName)) {
+            return null;
+        } else {
+            return stripErrorCodePrefix(contentFields.get(errorCodeFieldName));
+        }
+    }
+
     /**
      * Attempt to parse the error code from the response headers. Returns null if information is not
      * present in the header.
@@ -76,7 +95,10 @@ public class JsonErrorCodeParser {
         if (jsonContents == null || !jsonContents.has(errorCodeFieldName)) {
             return null;
         }
-        String code = jsonContents.findValue(errorCodeFieldName).asText();
+        return stripErrorCodePrefix(jsonContents.findValue(errorCodeFieldName).asText());
+    }
+
+    private String stripErrorCodePrefix(String code) {
         int separator = code.lastIndexOf("#");
         return code.substring(separator + 1);
     }
@@ -17,6 +17,7 @@ package com.amazonaws.internal.http;
 import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 import com.amazonaws.annotation.SdkInternalApi;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -59,4 +60,21 @@ public class JsonErrorMessageParser {
         return null;
     }
 
+    /**
+     * Parse the error message from the top level text fields of the response content, rather than
+     * from its parsed tree.
+     *
+     * @param contentFields Top level text fields of the response content, by name.
+     * @return Error message of exceptional response or null if it can't be determined
+     */
+    public String parseErrorMessageFromFields(Map<String, String> contentFields) {
+        for (String field : errorMessageJsonLocations) {
+            String value = contentFields.get(field);
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
 }
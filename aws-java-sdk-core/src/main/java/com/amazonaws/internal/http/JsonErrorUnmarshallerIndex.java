@@ -0,0 +1,75 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.internal.http;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.amazonaws.annotation.Immutable;
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.transform.JsonErrorUnmarshaller;
+
+/**
+ * Immutable index of a list of {@link JsonErrorUnmarshaller}s by the error code they handle. Looking
+ * up an error code returns the same unmarshaller as trying {@link
+ * JsonErrorUnmarshaller#matchErrorCode(String)} on each unmarshaller of the list in order, without
+ * going through the list. Meant to be built once per client, since a client's list of
+ * unmarshallers never changes.
+ */
+@SdkInternalApi
+@Immutable
+public class JsonErrorUnmarshallerIndex {
+
+    private final Map<String, JsonErrorUnmarshaller> unmarshallersByErrorCode;
+
+    /**
+     * The first unmarshaller of the list handling all error codes, if any.
+     */
+    private final JsonErrorUnmarshaller defaultUnmarshaller;
+
+    /**
+     * @param errorUnmarshallers Unmarshallers to index, in the order they're to be tried in.
+     */
+    public JsonErrorUnmarshallerIndex(List<JsonErrorUnmarshaller> errorUnmarshallers) {
+        Map<String, JsonErrorUnmarshaller> byErrorCode = new HashMap<String, JsonErrorUnmarshaller>();
+        JsonErrorUnmarshaller matchesAll = null;
+        for (JsonErrorUnmarshaller unmarshaller : errorUnmarshallers) {
+            String errorCode = unmarshaller.getHandledErrorCode();
+            if (errorCode == null) {
+                // No unmarshaller after this one is ever tried.
+                matchesAll = unmarshaller;
+                break;
+            }
+            if (!byErrorCode.containsKey(errorCode)) {
+                byErrorCode.put(errorCode, unmarshaller);
+            }
+        }
+        this.unmarshallersByErrorCode = Collections.unmodifiableMap(byErrorCode);
+        this.defaultUnmarshaller = matchesAll;
+    }
+
+    /**
+     * @param errorCode
+     *            Error code of the error response, may be null.
+     * @return The first unmarshaller of the list that matches the error code, or null if none
+     *         does.
+     */
+    public JsonErrorUnmarshaller get(String errorCode) {
+        JsonErrorUnmarshaller unmarshaller = errorCode == null ? null : unmarshallersByErrorCode.get(errorCode);
+        return unmarshaller != null ? unmarshaller : defaultUnmarshaller;
+    }
+}
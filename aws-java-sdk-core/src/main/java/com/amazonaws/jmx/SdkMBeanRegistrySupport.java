@@ -31,6 +31,19 @@ public class SdkMBeanRegistrySupport implements SdkMBeanRegistry {
         return false;
     }
 
+    /**
+     * Returns true if the registration of the given MBean under the given
+     * object name succeeded; false otherwise.
+     */
+    public boolean registerMBean(String objectName, Object mbean) {
+        try {
+            return MBeans.registerMBean(objectName, mbean);
+        } catch(Exception ex) {
+            LogFactory.getLog(SdkMBeanRegistrySupport.class).warn("", ex);
+        }
+        return false;
+    }
+
     @Override
     public boolean unregisterMBean(String objectName) {
         try {
@@ -873,6 +873,7 @@ public enum AwsSdkMetrics {
 //            metricTypes.add(Field.ResponseProcessingTime);
             metricTypes.add(Field.RetryCount);
             metricTypes.add(Field.RetryCapacityConsumed);
+            metricTypes.add(Field.RetryCapacityAvailable);
             metricTypes.add(Field.ThrottledRetryCount);
             metricTypes.add(Field.HttpClientSendRequestTime);
             metricTypes.add(Field.HttpClientReceiveResponseTime);
@@ -0,0 +1,293 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.metrics;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.annotation.ThreadSafe;
+
+import com.amazonaws.Request;
+import com.amazonaws.Response;
+import com.amazonaws.jmx.SdkMBeanRegistrySupport;
+import com.amazonaws.jmx.spi.SdkMBeanRegistry;
+import com.amazonaws.util.AWSRequestMetrics;
+import com.amazonaws.util.AWSRequestMetrics.Field;
+import com.amazonaws.util.TimingInfo;
+
+/**
+ * A request metric collector that records the latencies of every
+ * {@link AWSRequestMetrics.Field} timed during a request, such as
+ * {@link Field#ClientExecuteTime} or {@link Field#HttpRequestTime}, into a
+ * {@link LatencyHistogram} per service, operation and field, so that
+ * percentiles can be read in-process without uploading every data point.
+ * <p>
+ * Latencies are recorded in microseconds. Snapshots can be pulled with
+ * {@link #getSnapshot(String, String, Field)} and {@link #getSnapshots()}, or
+ * read through JMX once {@link #registerMBean(String)} is called.
+ *
+ * <pre>
+ * HistogramRequestMetricCollector histograms = new HistogramRequestMetricCollector();
+ * AmazonDynamoDBClient client = new AmazonDynamoDBClient(credentials, config, histograms);
+ * ...
+ * long p99Micros = histograms.getSnapshot("AmazonDynamoDBv2", "GetItemRequest", Field.ClientExecuteTime)
+ *         .getValueAtPercentile(99);
+ * </pre>
+ */
+@ThreadSafe
+public class HistogramRequestMetricCollector extends RequestMetricCollector
+        implements HistogramRequestMetricCollectorMBean {
+    private static final Log log = LogFactory.getLog(HistogramRequestMetricCollector.class);
+
+    /** Default JMX object name. */
+    public static final String DEFAULT_MBEAN_OBJECT_NAME =
+        "com.amazonaws.management:type=" + HistogramRequestMetricCollector.class.getSimpleName();
+
+    private static final Map<String, Field> FIELDS_BY_NAME = new HashMap<String, Field>();
+    static {
+        for (Field field : Field.values()) {
+            FIELDS_BY_NAME.put(field.name(), field);
+        }
+    }
+
+    private final ConcurrentMap<Key, LatencyHistogram> histograms = new ConcurrentHashMap<Key, LatencyHistogram>();
+    private volatile String registeredMBeanName;
+
+    @Override
+    public void collectMetrics(Request<?> request, Response<?> response) {
+        try {
+            collectMetrics0(request);
+        } catch (Exception ex) { // defensive code
+            if (log.isDebugEnabled()) {
+                log.debug("Ignoring unexpected failure", ex);
+            }
+        }
+    }
+
+    private void collectMetrics0(Request<?> request) {
+        AWSRequestMetrics arm = request.getAWSRequestMetrics();
+        if (arm == null || !arm.isEnabled()) {
+            return;
+        }
+        String operationName = request.getOriginalRequest().getClass().getSimpleName();
+        for (Map.Entry<String, List<TimingInfo>> entry : arm.getTimingInfo().getSubMeasurementsByName().entrySet()) {
+            Field field = FIELDS_BY_NAME.get(entry.getKey());
+            if (field == null) {
+                continue;
+            }
+            LatencyHistogram histogram = null;
+            for (TimingInfo timing : entry.getValue()) {
+                Long endTimeNano = timing.getEndTimeNanoIfKnown();
+                if (endTimeNano == null) {
+                    continue;
+                }
+                if (histogram == null) {
+                    histogram = histogramOf(new Key(request.getServiceName(), operationName, field));
+                }
+                long durationNano = Math.max(0, endTimeNano - timing.getStartTimeNano());
+                histogram.recordValue(TimeUnit.NANOSECONDS.toMicros(durationNano));
+            }
+        }
+    }
+
+    private LatencyHistogram histogramOf(Key key) {
+        LatencyHistogram histogram = histograms.get(key);
+        if (histogram == null) {
+            LatencyHistogram newHistogram = new LatencyHistogram();
+            histogram = histograms.putIfAbsent(key, newHistogram);
+            if (histogram == null) {
+                histogram = newHistogram;
+            }
+        }
+        return histogram;
+    }
+
+    /**
+     * Returns a snapshot of the latencies in microseconds recorded for the
+     * given field of the given operation; or of all the operations of the
+     * service merged if the operation name is null.
+     *
+     * @param serviceName
+     *            the service name, as in {@link Request#getServiceName()}
+     * @param operationName
+     *            the simple class name of the original request, e.g.
+     *            "GetItemRequest"; or null for all operations
+     * @param field
+     *            the timed field
+     * @return a copy of the histogram, which is empty if nothing has been
+     *         recorded
+     */
+    public LatencyHistogram getSnapshot(String serviceName, String operationName, Field field) {
+        LatencyHistogram snapshot = new LatencyHistogram();
+        for (Map.Entry<Key, LatencyHistogram> entry : histograms.entrySet()) {
+            Key key = entry.getKey();
+            if (key.serviceName.equals(serviceName)
+                    && key.field == field
+                    && (operationName == null || key.operationName.equals(operationName))) {
+                snapshot.add(entry.getValue());
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Returns snapshots of all the histograms with recorded latencies in
+     * microseconds, sorted by keys in the format of "service.operation.field".
+     */
+    public Map<String, LatencyHistogram> getSnapshots() {
+        Map<String, LatencyHistogram> snapshots = new TreeMap<String, LatencyHistogram>();
+        for (Map.Entry<Key, LatencyHistogram> entry : histograms.entrySet()) {
+            snapshots.put(entry.getKey().toString(), entry.getValue().copy());
+        }
+        return snapshots;
+    }
+
+    @Override
+    public String[] getHistogramKeys() {
+        Set<String> keys = new TreeSet<String>();
+        for (Key key : histograms.keySet()) {
+            keys.add(key.toString());
+        }
+        return keys.toArray(new String[keys.size()]);
+    }
+
+    @Override
+    public long getCount(String key) {
+        return histogramOf(key).getTotalCount();
+    }
+
+    @Override
+    public double getPercentileMillis(String key, double percentile) {
+        return toMillis(histogramOf(key).getValueAtPercentile(percentile));
+    }
+
+    @Override
+    public String getSummary(String key) {
+        LatencyHistogram histogram = histogramOf(key).copy();
+        return "count=" + histogram.getTotalCount()
+            + ", min=" + toMillis(histogram.getMinValue())
+            + ", mean=" + histogram.getMean() / 1000
+            + ", p50=" + toMillis(histogram.getValueAtPercentile(50))
+            + ", p90=" + toMillis(histogram.getValueAtPercentile(90))
+            + ", p99=" + toMillis(histogram.getValueAtPercentile(99))
+            + ", p99.9=" + toMillis(histogram.getValueAtPercentile(99.9))
+            + ", max=" + toMillis(histogram.getMaxValue());
+    }
+
+    @Override
+    public void reset() {
+        histograms.clear();
+    }
+
+    /**
+     * Registers this collector for JMX access under the given object name.
+     *
+     * @return true if the registration succeeded; false otherwise, such as
+     *         when JMX is not available.
+     */
+    public synchronized boolean registerMBean(String objectName) {
+        if (registeredMBeanName != null) {
+            return false;   // already registered
+        }
+        SdkMBeanRegistry registry = SdkMBeanRegistry.Factory.getMBeanRegistry();
+        if (registry == SdkMBeanRegistry.NONE) {
+            return false;   // JMX is not available
+        }
+        boolean registered = ((SdkMBeanRegistrySupport) registry).registerMBean(objectName, this);
+        if (registered) {
+            registeredMBeanName = objectName;
+        }
+        return registered;
+    }
+
+    /**
+     * Unregisters this collector from JMX.
+     *
+     * @return true if the unregistration succeeded or if the collector is not
+     *         registered; false otherwise.
+     */
+    public synchronized boolean unregisterMBean() {
+        if (registeredMBeanName == null) {
+            return true;
+        }
+        boolean success = SdkMBeanRegistry.Factory.getMBeanRegistry().unregisterMBean(registeredMBeanName);
+        if (success) {
+            registeredMBeanName = null;
+        }
+        return success;
+    }
+
+    /**
+     * Returns the histogram of the given key in the format of
+     * "service.operation.field"; or an empty one if there is none.
+     */
+    private LatencyHistogram histogramOf(String key) {
+        for (Map.Entry<Key, LatencyHistogram> entry : histograms.entrySet()) {
+            if (entry.getKey().toString().equals(key)) {
+                return entry.getValue();
+            }
+        }
+        return new LatencyHistogram();
+    }
+
+    private static double toMillis(long micros) {
+        return micros / 1000.0;
+    }
+
+    /**
+     * Identifies a histogram by service, operation and field.
+     */
+    private static final class Key {
+        private final String serviceName;
+        private final String operationName;
+        private final Field field;
+
+        Key(String serviceName, String operationName, Field field) {
+            this.serviceName = serviceName;
+            this.operationName = operationName;
+            this.field = field;
+        }
+
+        @Override
+        public int hashCode() {
+            return (31 * serviceName.hashCode() + operationName.hashCode()) * 31 + field.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) obj;
+            return field == that.field
+                && serviceName.equals(that.serviceName)
+                && operationName.equals(that.operationName);
+        }
+
+        @Override
+        public String toString() {
+            return serviceName + "." + operationName + "." + field.name();
+        }
+    }
+}
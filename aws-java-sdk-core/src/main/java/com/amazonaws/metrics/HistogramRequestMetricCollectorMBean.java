@@ -0,0 +1,50 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.metrics;
+
+/**
+ * MBean interface for reading the latency histograms of a
+ * {@link HistogramRequestMetricCollector}. Histograms are identified by keys
+ * in the format of "service.operation.field", as returned by
+ * {@link #getHistogramKeys()}; all latencies are in milliseconds.
+ */
+public interface HistogramRequestMetricCollectorMBean {
+    /**
+     * Returns the keys of all the histograms with recorded latencies.
+     */
+    public String[] getHistogramKeys();
+
+    /**
+     * Returns the number of latencies recorded in the given histogram.
+     */
+    public long getCount(String key);
+
+    /**
+     * Returns the latency in milliseconds at the given percentile, from 0 to
+     * 100, of the given histogram.
+     */
+    public double getPercentileMillis(String key, double percentile);
+
+    /**
+     * Returns a summary of the given histogram, with the count, minimum, mean,
+     * maximum and the main percentiles.
+     */
+    public String getSummary(String key);
+
+    /**
+     * Clears all the histograms.
+     */
+    public void reset();
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.apache.http.annotation.ThreadSafe;
+
+/**
+ * A fixed-memory histogram of non-negative long values, such as latencies in
+ * microseconds, from which percentiles can be read.
+ * <p>
+ * Values are counted in log-linear buckets in the manner of an HDR histogram:
+ * values below 128 are counted exactly, and larger values in 64 buckets per
+ * power of two, whose width is at most 1/64, or about 1.6%, of the values
+ * they hold.
+ * Values above {@link #MAX_TRACKABLE_VALUE} are counted as that value.
+ * Recording is lock-free, and histograms can be merged with
+ * {@link #add(LatencyHistogram)}.
+ */
+@ThreadSafe
+public class LatencyHistogram {
+    /** Number of sub-buckets per power of two; determines the precision. */
+    private static final int SUB_BUCKET_COUNT = 128;
+    private static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT / 2;
+    private static final int SUB_BUCKET_HALF_COUNT_MAGNITUDE = 6;
+
+    /** The largest value counted exactly: one hour in microseconds. */
+    public static final long MAX_TRACKABLE_VALUE = 60L * 60 * 1000 * 1000;
+
+    private final AtomicLongArray counts = new AtomicLongArray(indexOf(MAX_TRACKABLE_VALUE) + 1);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong totalSum = new AtomicLong();
+    private final AtomicLong minValue = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong maxValue = new AtomicLong();
+
+    /**
+     * Records the given value.
+     *
+     * @param value
+     *            a non-negative value; values above
+     *            {@link #MAX_TRACKABLE_VALUE} are recorded as that value.
+     */
+    public void recordValue(long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("value must not be negative: " + value);
+        }
+        value = Math.min(value, MAX_TRACKABLE_VALUE);
+        counts.incrementAndGet(indexOf(value));
+        totalCount.incrementAndGet();
+        totalSum.addAndGet(value);
+        long min;
+        while (value < (min = minValue.get()) && !minValue.compareAndSet(min, value)) {
+        }
+        long max;
+        while (value > (max = maxValue.get()) && !maxValue.compareAndSet(max, value)) {
+        }
+    }
+
+    /**
+     * Adds all the values recorded by the given histogram to this one.
+     */
+    public void add(LatencyHistogram other) {
+        long count = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            long c = other.counts.get(i);
+            if (c > 0) {
+                counts.addAndGet(i, c);
+                count += c;
+            }
+        }
+        if (count == 0) {
+            return;
+        }
+        totalCount.addAndGet(count);
+        totalSum.addAndGet(other.totalSum.get());
+        long value = other.minValue.get();
+        long min;
+        while (value < (min = minValue.get()) && !minValue.compareAndSet(min, value)) {
+        }
+        value = other.maxValue.get();
+        long max;
+        while (value > (max = maxValue.get()) && !maxValue.compareAndSet(max, value)) {
+        }
+    }
+
+    /**
+     * Returns a copy of this histogram. Values recorded concurrently with the
+     * copy may or may not be included.
+     */
+    public LatencyHistogram copy() {
+        LatencyHistogram copy = new LatencyHistogram();
+        copy.add(this);
+        return copy;
+    }
+
+    /**
+     * Clears all the recorded values. Values recorded concurrently with the
+     * reset may or may not be cleared.
+     */
+    public void reset() {
+        for (int i = 0; i < counts.length(); i++) {
+            counts.set(i, 0);
+        }
+        totalCount.set(0);
+        totalSum.set(0);
+        minValue.set(Long.MAX_VALUE);
+        maxValue.set(0);
+    }
+
+    /** Returns the number of recorded values. */
+    public long getTotalCount() {
+        return totalCount.get();
+    }
+
+    /** Returns the smallest recorded value; or 0 if there is none. */
+    public long getMinValue() {
+        return getTotalCount() == 0 ? 0 : minValue.get();
+    }
+
+    /** Returns the largest recorded value; or 0 if there is none. */
+    public long getMaxValue() {
+        return maxValue.get();
+    }
+
+    /** Returns the mean of the recorded values; or 0 if there is none. */
+    public double getMean() {
+        long count = getTotalCount();
+        return count == 0 ? 0 : (double) totalSum.get() / count;
+    }
+
+    /**
+     * Returns the value below or at which the given percentage of the recorded
+     * values fall, to within the precision of the histogram; or 0 if there is
+     * none.
+     *
+     * @param percentile
+     *            the percentile, from 0 to 100, e.g. 99.9
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100: " + percentile);
+        }
+        long total = 0;
+        long[] snapshot = new long[counts.length()];
+        for (int i = 0; i < snapshot.length; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < snapshot.length; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(Math.max(highestEquivalentValue(i), getMinValue()), getMaxValue());
+            }
+        }
+        return getMaxValue();
+    }
+
+    @Override
+    public String toString() {
+        return "count=" + getTotalCount()
+            + ", min=" + getMinValue()
+            + ", mean=" + getMean()
+            + ", p50=" + getValueAtPercentile(50)
+            + ", p90=" + getValueAtPercentile(90)
+            + ", p99=" + getValueAtPercentile(99)
+            + ", p99.9=" + getValueAtPercentile(99.9)
+            + ", max=" + getMaxValue();
+    }
+
+    /**
+     * Returns the bucket index of the given value. Values below
+     * {@link #SUB_BUCKET_COUNT} have a bucket each; every larger power of two
+     * is split into {@link #SUB_BUCKET_HALF_COUNT} buckets.
+     */
+    static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_HALF_COUNT_MAGNITUDE;
+        int subBucket = (int) (value >>> shift);
+        return SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_HALF_COUNT + (subBucket - SUB_BUCKET_HALF_COUNT);
+    }
+
+    /**
+     * Returns the largest value that falls into the bucket of the given index.
+     */
+    static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int offset = index - SUB_BUCKET_COUNT;
+        int shift = offset / SUB_BUCKET_HALF_COUNT + 1;
+        long subBucket = SUB_BUCKET_HALF_COUNT + offset % SUB_BUCKET_HALF_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -35,6 +35,11 @@ public abstract class ServiceMetricCollector {
      * Collects metrics for non-request specific latencies.
      */
     public abstract void collectLatency(ServiceLatencyProvider provider);
+    /**
+     * Collects the current value of a non-request specific metric, such as a
+     * setting the SDK tunes at runtime. Ignored unless overridden.
+     */
+    public void collectValue(ServiceMetricType type, double value) {}
 
     public boolean isEnabled() { return true; }
     /** A convenient instance of a no-op service metric collector. */
@@ -23,6 +23,7 @@ import com.amazonaws.SDKGlobalConfiguration;
 import com.amazonaws.annotation.SdkProtectedApi;
 import com.amazonaws.annotation.ThreadSafe;
 import com.amazonaws.http.HttpResponseHandler;
+import com.amazonaws.internal.http.JsonErrorUnmarshallerIndex;
 import com.amazonaws.transform.JsonErrorUnmarshaller;
 import com.amazonaws.transform.JsonUnmarshallerContext;
 import com.amazonaws.transform.Unmarshaller;
@@ -40,11 +41,15 @@ public class SdkJsonProtocolFactory {
 
     private final JsonClientMetadata metadata;
 
-    private final List<JsonErrorUnmarshaller> errorUnmarshallers = new ArrayList<JsonErrorUnmarshaller>();
+    /**
+     * Error unmarshallers of the client, indexed by error code once rather than for each error
+     * response handler.
+     */
+    private final JsonErrorUnmarshallerIndex errorUnmarshallers;
 
     public SdkJsonProtocolFactory(JsonClientMetadata metadata) {
         this.metadata = metadata;
-        createErrorUnmarshallers();
+        this.errorUnmarshallers = new JsonErrorUnmarshallerIndex(createErrorUnmarshallers());
     }
 
     /**
@@ -82,7 +87,8 @@ public class SdkJsonProtocolFactory {
         return getContentTypeResolver().resolveContentType(metadata);
     }
 
-    private void createErrorUnmarshallers() {
+    private List<JsonErrorUnmarshaller> createErrorUnmarshallers() {
+        List<JsonErrorUnmarshaller> errorUnmarshallers = new ArrayList<JsonErrorUnmarshaller>();
         for (JsonErrorShapeMetadata errorMetadata : metadata.getErrorShapeMetadata()) {
             errorUnmarshallers.add(new JsonErrorUnmarshaller(errorMetadata.getModeledClass(),
                                                              errorMetadata.getErrorCode()));
@@ -90,6 +96,7 @@ public class SdkJsonProtocolFactory {
         }
         errorUnmarshallers
                 .add(new JsonErrorUnmarshaller(metadata.getBaseServiceExceptionClass(), null));
+        return errorUnmarshallers;
     }
 
     /**
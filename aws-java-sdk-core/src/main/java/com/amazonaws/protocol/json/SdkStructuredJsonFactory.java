@@ -18,12 +18,10 @@ package com.amazonaws.protocol.json;
 import com.amazonaws.annotation.SdkInternalApi;
 import com.amazonaws.http.JsonErrorResponseHandler;
 import com.amazonaws.http.JsonResponseHandler;
-import com.amazonaws.transform.JsonErrorUnmarshaller;
+import com.amazonaws.internal.http.JsonErrorUnmarshallerIndex;
 import com.amazonaws.transform.JsonUnmarshallerContext;
 import com.amazonaws.transform.Unmarshaller;
 
-import java.util.List;
-
 /**
  * Common interface for creating generators (writers) and protocol handlers for JSON like protocols.
  * Current implementations include {@link SdkStructuredPlainJsonFactory} and {@link
@@ -51,9 +49,10 @@ interface SdkStructuredJsonFactory {
     /**
      * Returns the error response handler for handling a error response.
      *
-     * @param errorUnmarshallers Response unmarshallers to unamrshall the error responses.
+     * @param errorUnmarshallers Index of the response unmarshallers to unmarshall the error
+     *                           responses.
      */
     JsonErrorResponseHandler createErrorResponseHandler(
-            List<JsonErrorUnmarshaller> errorUnmarshallers, String customErrorCodeFieldName);
+            JsonErrorUnmarshallerIndex errorUnmarshallers, String customErrorCodeFieldName);
 
 }
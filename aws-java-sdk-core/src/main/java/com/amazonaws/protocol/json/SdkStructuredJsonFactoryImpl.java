@@ -18,12 +18,11 @@ import com.amazonaws.http.JsonErrorResponseHandler;
 import com.amazonaws.http.JsonResponseHandler;
 import com.amazonaws.internal.http.JsonErrorCodeParser;
 import com.amazonaws.internal.http.JsonErrorMessageParser;
-import com.amazonaws.transform.JsonErrorUnmarshaller;
+import com.amazonaws.internal.http.JsonErrorUnmarshallerIndex;
 import com.amazonaws.transform.JsonUnmarshallerContext;
 import com.amazonaws.transform.Unmarshaller;
 import com.fasterxml.jackson.core.JsonFactory;
 
-import java.util.List;
 import java.util.Map;
 
 /**
@@ -60,7 +59,7 @@ public abstract class SdkStructuredJsonFactoryImpl implements SdkStructuredJsonF
 
     @Override
     public JsonErrorResponseHandler createErrorResponseHandler(
-            final List<JsonErrorUnmarshaller> errorUnmarshallers, String customErrorCodeFieldName) {
+            final JsonErrorUnmarshallerIndex errorUnmarshallers, String customErrorCodeFieldName) {
         return new JsonErrorResponseHandler(errorUnmarshallers,
                                             getErrorCodeParser(customErrorCodeFieldName),
                                             JsonErrorMessageParser.DEFAULT_ERROR_MESSAGE_PARSER,
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.retry;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.http.annotation.Immutable;
+
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.ClientConfiguration;
+
+/**
+ * Hedging policy that can be configured on a specific service client using
+ * {@link ClientConfiguration}. This class is immutable, therefore safe to be
+ * shared by multiple clients.
+ * <p>
+ * When a request of one of the hedged operations hasn't received a response
+ * after the given percentile of the latencies recently observed for that
+ * operation, the client sends a duplicate of the request on another pooled
+ * connection, uses whichever response arrives first and aborts the other
+ * request. This cuts the tail latency caused by a few slow connections or
+ * hosts. Hedged requests are sent only as long as they stay within the
+ * budget, a percentage of the requests sent, so that they can't amplify the
+ * load on a service that is slow for everyone.
+ * <p>
+ * Only idempotent read operations, such as {@code GetItemRequest} or
+ * {@code GetObjectRequest}, should be hedged, since both requests may be
+ * processed by the service.
+ *
+ * @see ClientConfiguration#setHedgingPolicy(HedgingPolicy)
+ */
+@Immutable
+public final class HedgingPolicy {
+
+    /**
+     * The default percentile of the observed latencies after which a request
+     * is hedged.
+     */
+    public static final double DEFAULT_DELAY_PERCENTILE = 95;
+
+    /**
+     * The default maximum percentage of requests that can be hedged.
+     */
+    public static final int DEFAULT_BUDGET_PERCENT = 5;
+
+    private final Set<Class<? extends AmazonWebServiceRequest>> operations;
+
+    private final double delayPercentile;
+
+    private final int budgetPercent;
+
+    /**
+     * Constructs a new hedging policy for the given operations, with the
+     * default delay percentile and budget.
+     *
+     * @param operations
+     *            The request classes of the idempotent operations to hedge.
+     */
+    public HedgingPolicy(Collection<Class<? extends AmazonWebServiceRequest>> operations) {
+        this(operations, DEFAULT_DELAY_PERCENTILE, DEFAULT_BUDGET_PERCENT);
+    }
+
+    /**
+     * Constructs a new hedging policy.
+     *
+     * @param operations
+     *            The request classes of the idempotent operations to hedge.
+     * @param delayPercentile
+     *            The percentile of the latencies observed for an operation
+     *            after which its requests are hedged, between 0 and 100.
+     * @param budgetPercent
+     *            The maximum percentage of requests that can be hedged,
+     *            between 1 and 100.
+     */
+    public HedgingPolicy(Collection<Class<? extends AmazonWebServiceRequest>> operations,
+                         double delayPercentile,
+                         int budgetPercent) {
+        if (operations == null) {
+            throw new IllegalArgumentException("operations cannot be null");
+        }
+        if (delayPercentile < 0 || delayPercentile > 100) {
+            throw new IllegalArgumentException("delayPercentile must be between 0 and 100: " + delayPercentile);
+        }
+        if (budgetPercent < 1 || budgetPercent > 100) {
+            throw new IllegalArgumentException("budgetPercent must be between 1 and 100: " + budgetPercent);
+        }
+        this.operations = Collections.unmodifiableSet(
+                new HashSet<Class<? extends AmazonWebServiceRequest>>(operations));
+        this.delayPercentile = delayPercentile;
+        this.budgetPercent = budgetPercent;
+    }
+
+    /**
+     * Returns the request classes of the hedged operations.
+     */
+    public Set<Class<? extends AmazonWebServiceRequest>> getOperations() {
+        return operations;
+    }
+
+    /**
+     * Returns the percentile of the observed latencies after which a request
+     * is hedged.
+     */
+    public double getDelayPercentile() {
+        return delayPercentile;
+    }
+
+    /**
+     * Returns the maximum percentage of requests that can be hedged.
+     */
+    public int getBudgetPercent() {
+        return budgetPercent;
+    }
+
+    /**
+     * Returns whether the given request is of one of the hedged operations.
+     */
+    public boolean isHedged(AmazonWebServiceRequest request) {
+        return request != null && operations.contains(request.getClass());
+    }
+}
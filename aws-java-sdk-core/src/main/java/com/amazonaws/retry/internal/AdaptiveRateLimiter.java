@@ -0,0 +1,272 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.retry.internal;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.annotation.ThreadSafe;
+
+/**
+ * Client side rate limiter that adapts the rate at which requests are sent to
+ * an endpoint to the throttling responses received from it, so that requests
+ * are delayed before being sent rather than failing and being retried.
+ * <p>
+ * Each endpoint has its own token bucket, which doesn't limit anything until
+ * the endpoint first throttles a request. The rate of the bucket is then
+ * adjusted with additive increase, multiplicative decrease (AIMD): each
+ * throttling response cuts the rate to {@link #DECREASE_FACTOR} of the rate
+ * requests were being sent at, and the rate grows back linearly with time
+ * while requests succeed, by {@link #INCREASE_FACTOR} of the rate at the last
+ * throttling per second.
+ * <p>
+ * A request is never delayed by more than {@link #MAX_DELAY_MILLIS}: when
+ * the requests queued up for an endpoint would make it wait longer, it fails
+ * right away without being sent, so that the endpoint is still only sent
+ * requests at the limited rate under sustained overload.
+ * <p>
+ * For internal use only.
+ */
+@SdkInternalApi
+@ThreadSafe
+public class AdaptiveRateLimiter {
+
+    /**
+     * Fraction of the measured send rate that the rate is cut to on throttling.
+     */
+    static final double DECREASE_FACTOR = 0.7;
+
+    /**
+     * Fraction of the rate at the last throttling that the rate grows by per
+     * second without throttling.
+     */
+    static final double INCREASE_FACTOR = 0.1;
+
+    /**
+     * Lowest rate, in requests per second, that the limiter will go down to.
+     */
+    static final double MIN_RATE = 0.5;
+
+    /**
+     * Longest time, in milliseconds, that a request is delayed for; the same
+     * as the maximum backoff of the default retry policy.
+     */
+    static final long MAX_DELAY_MILLIS = 20 * 1000;
+
+    /**
+     * Interval over which the send rate is measured.
+     */
+    private static final long MEASUREMENT_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+    /**
+     * Weight of the last measurement in the smoothed send rate.
+     */
+    private static final double MEASUREMENT_SMOOTHING = 0.8;
+
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final ConcurrentMap<String, EndpointRate> rates = new ConcurrentHashMap<String, EndpointRate>();
+
+    /**
+     * Reserves a permit to send a request to the given endpoint.
+     *
+     * @param endpoint
+     *            the endpoint the request is sent to
+     * @return the time in milliseconds the caller must wait before sending the
+     *         request, at most {@link #MAX_DELAY_MILLIS}; zero if it can be
+     *         sent right away
+     * @throws AmazonClientException
+     *             if the request would have to wait longer than
+     *             {@link #MAX_DELAY_MILLIS}, in which case it mustn't be sent
+     */
+    public long acquire(String endpoint) {
+        long delay = rateOf(endpoint).acquire(System.nanoTime());
+        if (delay < 0) {
+            throw new AmazonClientException("Unable to send the request to " + endpoint
+                    + ": the requests to the endpoint are limited to " + getRate(endpoint)
+                    + " per second after it throttled requests, and too many are already waiting to be sent");
+        }
+        return delay;
+    }
+
+    /**
+     * Records the response of a request sent to the given endpoint.
+     *
+     * @param endpoint
+     *            the endpoint the request was sent to
+     * @param throttled
+     *            whether the request was throttled
+     */
+    public void onResponse(String endpoint, boolean throttled) {
+        EndpointRate rate = rateOf(endpoint);
+        if (throttled) {
+            rate.onThrottle(System.nanoTime());
+        } else {
+            rate.onSuccess(System.nanoTime());
+        }
+    }
+
+    /**
+     * Returns the rate in requests per second that requests to the given
+     * endpoint are limited to, or {@link Double#POSITIVE_INFINITY} if they are
+     * not limited.
+     */
+    public double getRate(String endpoint) {
+        EndpointRate rate = rates.get(endpoint);
+        return rate == null ? Double.POSITIVE_INFINITY : rate.getRate();
+    }
+
+    private EndpointRate rateOf(String endpoint) {
+        EndpointRate rate = rates.get(endpoint);
+        if (rate == null) {
+            EndpointRate newRate = new EndpointRate(System.nanoTime());
+            rate = rates.putIfAbsent(endpoint, newRate);
+            if (rate == null) {
+                rate = newRate;
+            }
+        }
+        return rate;
+    }
+
+    /**
+     * Token bucket and rate of a single endpoint. The state is only held
+     * locked for a few arithmetic operations; callers wait for their permit
+     * outside of the lock.
+     */
+    private static final class EndpointRate {
+        /** Whether the endpoint has throttled a request yet. */
+        private boolean limiting;
+        private double rate;
+        private double rateAtLastThrottle;
+        private double tokens;
+        private long lastRefillNanos;
+        private long lastIncreaseNanos;
+        private long lastThrottleNanos;
+
+        private double measuredRate;
+        private long measuredCount;
+        private long measurementStartNanos;
+
+        EndpointRate(long nowNanos) {
+            this.measurementStartNanos = nowNanos;
+        }
+
+        /**
+         * Returns the delay before the request can be sent, or -1 if it
+         * would exceed the maximum delay, in which case no permit is reserved
+         * and the request isn't counted as sent.
+         */
+        synchronized long acquire(long nowNanos) {
+            if (!limiting) {
+                measure(nowNanos);
+                return 0;
+            }
+            refill(nowNanos);
+            long delay = 0;
+            if (tokens < 1) {
+                delay = (long) Math.ceil((1 - tokens) / rate * 1000);
+                if (delay > MAX_DELAY_MILLIS) {
+                    // Too many requests are queued up already; don't add to
+                    // the debt, which would only grow while they keep coming.
+                    return -1;
+                }
+            }
+            // The permit is reserved ahead of time: later callers queue up
+            // behind it.
+            tokens -= 1;
+            measure(nowNanos);
+            return delay;
+        }
+
+        synchronized void onSuccess(long nowNanos) {
+            if (!limiting) {
+                return;
+            }
+            refill(nowNanos);
+            double seconds = (nowNanos - lastIncreaseNanos) / NANOS_PER_SECOND;
+            lastIncreaseNanos = nowNanos;
+            // Don't grow the rate far beyond what is actually used, or the
+            // next throttling would take many round trips to catch up with.
+            double ceiling = Math.max(2 * measuredRate, rateAtLastThrottle);
+            rate = Math.min(rate + rateAtLastThrottle * INCREASE_FACTOR * seconds, ceiling);
+        }
+
+        synchronized void onThrottle(long nowNanos) {
+            refill(nowNanos);
+            if (limiting && nowNanos - lastThrottleNanos < MEASUREMENT_INTERVAL_NANOS) {
+                // The requests in flight when the rate was cut are throttled
+                // too; the rate is only cut once for all of them.
+                return;
+            }
+            double currentRate = limiting ? Math.min(rate, sendRate(nowNanos)) : sendRate(nowNanos);
+            rate = Math.max(MIN_RATE, currentRate * DECREASE_FACTOR);
+            rateAtLastThrottle = rate;
+            // Permits reserved at the old rate would delay new requests more
+            // than the new rate calls for.
+            tokens = Math.max(0, Math.min(tokens, capacity()));
+            lastThrottleNanos = nowNanos;
+            lastIncreaseNanos = nowNanos;
+            limiting = true;
+        }
+
+        synchronized double getRate() {
+            return limiting ? rate : Double.POSITIVE_INFINITY;
+        }
+
+        /** Up to a second of requests can be sent in a burst. */
+        private double capacity() {
+            return Math.max(1, rate);
+        }
+
+        private void refill(long nowNanos) {
+            if (limiting) {
+                double seconds = (nowNanos - lastRefillNanos) / NANOS_PER_SECOND;
+                tokens = Math.min(capacity(), tokens + seconds * rate);
+            }
+            lastRefillNanos = nowNanos;
+        }
+
+        /**
+         * Returns the smoothed send rate, or the rate measured so far if the
+         * first measurement interval hasn't ended yet.
+         */
+        private double sendRate(long nowNanos) {
+            if (measuredRate > 0) {
+                return measuredRate;
+            }
+            long elapsed = Math.max(nowNanos - measurementStartNanos, TimeUnit.MILLISECONDS.toNanos(1));
+            return measuredCount * NANOS_PER_SECOND / elapsed;
+        }
+
+        /**
+         * Counts a request sent, and updates the smoothed send rate at the end
+         * of each measurement interval.
+         */
+        private void measure(long nowNanos) {
+            measuredCount++;
+            long elapsed = nowNanos - measurementStartNanos;
+            if (elapsed >= MEASUREMENT_INTERVAL_NANOS) {
+                double sample = measuredCount * NANOS_PER_SECOND / elapsed;
+                measuredRate = measuredRate == 0 ? sample
+                        : MEASUREMENT_SMOOTHING * sample + (1 - MEASUREMENT_SMOOTHING) * measuredRate;
+                measuredCount = 0;
+                measurementStartNanos = nowNanos;
+            }
+        }
+    }
+}
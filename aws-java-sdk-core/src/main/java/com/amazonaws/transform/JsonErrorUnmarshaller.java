@@ -17,6 +17,7 @@ package com.amazonaws.transform;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.annotation.SdkInternalApi;
 import com.amazonaws.annotation.ThreadSafe;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -54,6 +55,24 @@ public class JsonErrorUnmarshaller extends AbstractErrorUnmarshaller<JsonNode> {
         return MAPPER.treeToValue(jsonContent, exceptionClass);
     }
 
+    /**
+     * Deserializes the error response read by the given parser directly, without building a tree
+     * of it first.
+     *
+     * @param jsonParser
+     *            Parser positioned before the error response content.
+     */
+    public AmazonServiceException unmarshall(JsonParser jsonParser) throws Exception {
+        return MAPPER.readValue(jsonParser, exceptionClass);
+    }
+
+    /**
+     * @return AWS error code that this unmarshaller handles, or null if it handles all exceptions
+     */
+    public String getHandledErrorCode() {
+        return handledErrorCode;
+    }
+
     /**
      * @param actualErrorCode
      *            Actual AWS error code found in the error response.
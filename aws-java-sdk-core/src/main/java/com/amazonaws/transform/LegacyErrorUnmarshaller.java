@@ -25,6 +25,7 @@ import org.w3c.dom.Node;
 
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.AmazonServiceException.ErrorType;
+import com.amazonaws.annotation.SdkInternalApi;
 import com.amazonaws.annotation.SdkProtectedApi;
 
 /**
@@ -40,6 +41,12 @@ public class LegacyErrorUnmarshaller implements Unmarshaller<AmazonServiceExcept
      */
     private final Class<? extends AmazonServiceException> exceptionClass;
 
+    /**
+     * The AWS error code of the responses this unmarshaller is limited to, or
+     * null if it doesn't declare one.
+     */
+    private final String handledErrorCode;
+
     /**
      * Constructs a new unmarshaller that will unmarshall AWS error responses as
      * a generic AmazonServiceException object.
@@ -58,17 +65,67 @@ public class LegacyErrorUnmarshaller implements Unmarshaller<AmazonServiceExcept
      *            when unmarshalling the AWS error response.
      */
     public LegacyErrorUnmarshaller(Class<? extends AmazonServiceException> exceptionClass) {
+        this(exceptionClass, null);
+    }
+
+    /**
+     * Constructor allowing subclasses to specify a specific type of
+     * AmazonServiceException to instantiate, and the only AWS error code of the
+     * AWS error response they unmarshall. Subclasses declaring an error code must not
+     * unmarshall responses with any other error code, so that they can be
+     * looked up by error code instead of being tried in turn.
+     *
+     * @param exceptionClass
+     *            The class of AmazonServiceException to create and populate
+     *            when unmarshalling the AWS error response.
+     * @param handledErrorCode
+     *            The AWS error code this unmarshaller handles.
+     */
+    public LegacyErrorUnmarshaller(Class<? extends AmazonServiceException> exceptionClass, String handledErrorCode) {
         this.exceptionClass = exceptionClass;
+        this.handledErrorCode = handledErrorCode;
     }
 
     @Override
     public AmazonServiceException unmarshall(Node in) throws Exception {
+        XmlErrorResponse errorResponse = XmlErrorResponse.attachedTo(in);
+        if (errorResponse != null) {
+            return createException(parseErrorCode(in),
+                                   errorResponse.getValue(XmlErrorResponse.LEGACY_MESSAGE_PATH),
+                                   errorResponse.getValue(XmlErrorResponse.LEGACY_REQUEST_ID_PATH),
+                                   errorResponse.getValue(XmlErrorResponse.LEGACY_TYPE_PATH));
+        }
+
         XPath xpath = xpath();
         String errorCode = parseErrorCode(in, xpath);
         String message = asString("Response/Errors/Error/Message", in, xpath);
         String requestId = asString("Response/RequestID", in, xpath);
         String errorType = asString("Response/Errors/Error/Type", in, xpath);
+        return createException(errorCode, message, requestId, errorType);
+    }
+
+    /**
+     * Unmarshalls an error response that was parsed without building a DOM
+     * tree. Only used for unmarshallers of this exact class, since
+     * subclasses may read more of the error response from the DOM tree.
+     * <p>
+     * For internal use only.
+     *
+     * @param errorResponse
+     *            The parsed error response.
+     *
+     * @return The unmarshalled exception.
+     */
+    @SdkInternalApi
+    public AmazonServiceException unmarshallErrorResponse(XmlErrorResponse errorResponse) throws Exception {
+        return createException(errorResponse.getValue(XmlErrorResponse.LEGACY_CODE_PATH),
+                               errorResponse.getValue(XmlErrorResponse.LEGACY_MESSAGE_PATH),
+                               errorResponse.getValue(XmlErrorResponse.LEGACY_REQUEST_ID_PATH),
+                               errorResponse.getValue(XmlErrorResponse.LEGACY_TYPE_PATH));
+    }
 
+    private AmazonServiceException createException(String errorCode, String message, String requestId,
+                                                   String errorType) throws Exception {
         Constructor<? extends AmazonServiceException> constructor = exceptionClass.getConstructor(String.class);
         AmazonServiceException ase = constructor.newInstance(message);
         ase.setErrorCode(errorCode);
@@ -98,13 +155,29 @@ public class LegacyErrorUnmarshaller implements Unmarshaller<AmazonServiceExcept
      *             code.
      */
     public String parseErrorCode(Node in) throws Exception {
+        XmlErrorResponse errorResponse = XmlErrorResponse.attachedTo(in);
+        if (errorResponse != null) {
+            return errorResponse.getValue(XmlErrorResponse.LEGACY_CODE_PATH);
+        }
         return asString("Response/Errors/Error/Code", in);
     }
 
     public String parseErrorCode(Node in, XPath xpath) throws Exception {
+        XmlErrorResponse errorResponse = XmlErrorResponse.attachedTo(in);
+        if (errorResponse != null) {
+            return errorResponse.getValue(XmlErrorResponse.LEGACY_CODE_PATH);
+        }
         return asString("Response/Errors/Error/Code", in, xpath);
     }
 
+    /**
+     * @return The AWS error code this unmarshaller handles, or null if it
+     *         doesn't declare one
+     */
+    public String getHandledErrorCode() {
+        return handledErrorCode;
+    }
+
     /**
      * Returns the path to the specified property within an error response.
      *
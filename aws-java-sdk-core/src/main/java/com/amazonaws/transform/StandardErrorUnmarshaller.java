@@ -23,6 +23,7 @@ import org.w3c.dom.Node;
 
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.AmazonServiceException.ErrorType;
+import com.amazonaws.annotation.SdkInternalApi;
 import com.amazonaws.annotation.SdkProtectedApi;
 
 /**
@@ -35,11 +36,19 @@ import com.amazonaws.annotation.SdkProtectedApi;
 @SdkProtectedApi
 public class StandardErrorUnmarshaller extends AbstractErrorUnmarshaller<Node> {
 
+    /**
+     * The AWS error code of the responses this unmarshaller is limited to, or
+     * null if it doesn't declare one.
+     */
+    private final String handledErrorCode;
+
     /**
      * Constructs a new unmarshaller that will unmarshall a standard AWS error
      * message as a generic AmazonServiceException object.
      */
-    public StandardErrorUnmarshaller() {}
+    public StandardErrorUnmarshaller() {
+        this(AmazonServiceException.class);
+    }
 
     /**
      * Constructor allowing subclasses to specify a specific type of
@@ -51,19 +60,69 @@ public class StandardErrorUnmarshaller extends AbstractErrorUnmarshaller<Node> {
      *            when unmarshalling the error message.
      */
     public StandardErrorUnmarshaller(Class<? extends AmazonServiceException> exceptionClass) {
+        this(exceptionClass, null);
+    }
+
+    /**
+     * Constructor allowing subclasses to specify a specific type of
+     * AmazonServiceException to instantiate, and the only AWS error code of the
+     * error message they unmarshall. Subclasses declaring an error code must not
+     * unmarshall responses with any other error code, so that they can be
+     * looked up by error code instead of being tried in turn.
+     *
+     * @param exceptionClass
+     *            The class of AmazonServiceException to create and populate
+     *            when unmarshalling the error message.
+     * @param handledErrorCode
+     *            The AWS error code this unmarshaller handles.
+     */
+    public StandardErrorUnmarshaller(Class<? extends AmazonServiceException> exceptionClass, String handledErrorCode) {
         super(exceptionClass);
+        this.handledErrorCode = handledErrorCode;
     }
 
     /**
      * @see com.amazonaws.transform.Unmarshaller#unmarshall(java.lang.Object)
      */
     public AmazonServiceException unmarshall(Node in) throws Exception {
+        XmlErrorResponse errorResponse = XmlErrorResponse.attachedTo(in);
+        if (errorResponse != null) {
+            return createException(parseErrorCode(in),
+                                   errorResponse.getValue(XmlErrorResponse.STANDARD_TYPE_PATH),
+                                   errorResponse.getValue(XmlErrorResponse.STANDARD_REQUEST_ID_PATH),
+                                   errorResponse.getValue(XmlErrorResponse.STANDARD_MESSAGE_PATH));
+        }
+
         XPath xpath = xpath();
         String errorCode = parseErrorCode(in, xpath);
         String errorType = asString("ErrorResponse/Error/Type", in, xpath);
         String requestId = asString("ErrorResponse/RequestId", in, xpath);
         String message = asString("ErrorResponse/Error/Message", in, xpath);
+        return createException(errorCode, errorType, requestId, message);
+    }
+
+    /**
+     * Unmarshalls an error response that was parsed without building a DOM
+     * tree. Only used for unmarshallers of this exact class, since
+     * subclasses may read more of the error response from the DOM tree.
+     * <p>
+     * For internal use only.
+     *
+     * @param errorResponse
+     *            The parsed error response.
+     *
+     * @return The unmarshalled exception.
+     */
+    @SdkInternalApi
+    public AmazonServiceException unmarshallErrorResponse(XmlErrorResponse errorResponse) throws Exception {
+        return createException(errorResponse.getValue(XmlErrorResponse.STANDARD_CODE_PATH),
+                               errorResponse.getValue(XmlErrorResponse.STANDARD_TYPE_PATH),
+                               errorResponse.getValue(XmlErrorResponse.STANDARD_REQUEST_ID_PATH),
+                               errorResponse.getValue(XmlErrorResponse.STANDARD_MESSAGE_PATH));
+    }
 
+    private AmazonServiceException createException(String errorCode, String errorType, String requestId,
+                                                   String message) throws Exception {
         AmazonServiceException ase = newException(message);
         ase.setErrorCode(errorCode);
         ase.setRequestId(requestId);
@@ -92,13 +151,29 @@ public class StandardErrorUnmarshaller extends AbstractErrorUnmarshaller<Node> {
      *             code.
      */
     public String parseErrorCode(Node in) throws Exception {
+        XmlErrorResponse errorResponse = XmlErrorResponse.attachedTo(in);
+        if (errorResponse != null) {
+            return errorResponse.getValue(XmlErrorResponse.STANDARD_CODE_PATH);
+        }
         return asString("ErrorResponse/Error/Code", in);
     }
 
     public String parseErrorCode(Node in, XPath xpath) throws Exception {
+        XmlErrorResponse errorResponse = XmlErrorResponse.attachedTo(in);
+        if (errorResponse != null) {
+            return errorResponse.getValue(XmlErrorResponse.STANDARD_CODE_PATH);
+        }
         return asString("ErrorResponse/Error/Code", in, xpath);
     }
 
+    /**
+     * @return The AWS error code this unmarshaller handles, or null if it
+     *         doesn't declare one
+     */
+    public String getHandledErrorCode() {
+        return handledErrorCode;
+    }
+
     /**
      * Returns the path to the specified property within an error response.
      *
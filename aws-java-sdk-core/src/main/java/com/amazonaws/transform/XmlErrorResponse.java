@@ -0,0 +1,196 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.transform;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+
+import com.amazonaws.annotation.Immutable;
+import com.amazonaws.annotation.SdkInternalApi;
+
+/**
+ * The error code, message, type and request id of an XML error response,
+ * read in a single streaming pass over the response content.
+ * <p>
+ * Values are looked up by the same paths the XPath based unmarshallers use,
+ * and follow the same rules: a value is null if the element isn't present,
+ * and otherwise the trimmed text content of the first element at that path.
+ * <p>
+ * For internal use only.
+ */
+@SdkInternalApi
+@Immutable
+public final class XmlErrorResponse {
+
+    /** Paths of the values of errors in the standard format. */
+    public static final String STANDARD_CODE_PATH = "ErrorResponse/Error/Code";
+    public static final String STANDARD_TYPE_PATH = "ErrorResponse/Error/Type";
+    public static final String STANDARD_MESSAGE_PATH = "ErrorResponse/Error/Message";
+    public static final String STANDARD_REQUEST_ID_PATH = "ErrorResponse/RequestId";
+
+    /** Paths of the values of errors in the legacy format. */
+    public static final String LEGACY_CODE_PATH = "Response/Errors/Error/Code";
+    public static final String LEGACY_TYPE_PATH = "Response/Errors/Error/Type";
+    public static final String LEGACY_MESSAGE_PATH = "Response/Errors/Error/Message";
+    public static final String LEGACY_REQUEST_ID_PATH = "Response/RequestID";
+
+    /** The paths of the values read from error responses. */
+    private static final Set<String> PATHS = Collections.unmodifiableSet(new HashSet<String>(Arrays.asList(
+            STANDARD_CODE_PATH, STANDARD_TYPE_PATH, STANDARD_MESSAGE_PATH, STANDARD_REQUEST_ID_PATH,
+            LEGACY_CODE_PATH, LEGACY_TYPE_PATH, LEGACY_MESSAGE_PATH, LEGACY_REQUEST_ID_PATH)));
+
+    /** The key the error response is attached to its DOM document with. */
+    private static final String USER_DATA_KEY = XmlErrorResponse.class.getName();
+
+    private static final Log log = LogFactory.getLog(XmlErrorResponse.class);
+
+    /** Shared factory for creating XML stream readers */
+    private static final XMLInputFactory xmlInputFactory = XMLInputFactory.newInstance();
+
+    private final Map<String, String> values;
+
+    private XmlErrorResponse(Map<String, String> values) {
+        this.values = values;
+    }
+
+    /**
+     * Parses the given error response content.
+     *
+     * @param xml
+     *            The content of the error response.
+     * @return The parsed error response, or null if the content isn't well
+     *         formed XML.
+     */
+    public static XmlErrorResponse parse(String xml) {
+        if (xml == null) {
+            return null;
+        }
+        Map<String, String> values = new HashMap<String, String>();
+        try {
+            XMLStreamReader reader;
+            synchronized (xmlInputFactory) {
+                reader = xmlInputFactory.createXMLStreamReader(new StringReader(xml));
+            }
+            try {
+                readValues(reader, values);
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            log.debug("Unable to parse error response content", e);
+            return null;
+        }
+        return new XmlErrorResponse(values);
+    }
+
+    private static void readValues(XMLStreamReader reader, Map<String, String> values)
+            throws XMLStreamException {
+        StringBuilder path = new StringBuilder();
+        List<Integer> parentPathLengths = new ArrayList<Integer>();
+        StringBuilder text = new StringBuilder();
+        String capturedPath = null;
+        int capturedDepth = 0;
+
+        while (reader.hasNext()) {
+            switch (reader.next()) {
+            case XMLStreamConstants.START_ELEMENT:
+                parentPathLengths.add(path.length());
+                if (path.length() > 0) {
+                    path.append('/');
+                }
+                // Like the XPath expressions of the unmarshallers, elements are
+                // matched by local name regardless of namespace or prefix.
+                path.append(reader.getLocalName());
+                if (capturedPath == null && PATHS.contains(path.toString())
+                        && !values.containsKey(path.toString())) {
+                    capturedPath = path.toString();
+                    capturedDepth = parentPathLengths.size();
+                    text.setLength(0);
+                }
+                break;
+            case XMLStreamConstants.CHARACTERS:
+            case XMLStreamConstants.CDATA:
+            case XMLStreamConstants.SPACE:
+                if (capturedPath != null) {
+                    text.append(reader.getText());
+                }
+                break;
+            case XMLStreamConstants.END_ELEMENT:
+                if (capturedPath != null && capturedDepth == parentPathLengths.size()) {
+                    values.put(capturedPath, text.toString().trim());
+                    capturedPath = null;
+                }
+                path.setLength(parentPathLengths.remove(parentPathLengths.size() - 1));
+                break;
+            default:
+                break;
+            }
+        }
+    }
+
+    /**
+     * Returns the value at the given path of the error response, or null if
+     * it isn't present.
+     *
+     * @throws IllegalArgumentException
+     *             If the given path isn't one of the paths read from error
+     *             responses.
+     */
+    public String getValue(String path) {
+        if (!PATHS.contains(path)) {
+            throw new IllegalArgumentException("Path not read from error responses: " + path);
+        }
+        return values.get(path);
+    }
+
+    /**
+     * Attaches this error response to the DOM document parsed from the same
+     * content, so that the error unmarshallers given the document can read
+     * its values without evaluating XPath expressions.
+     */
+    public void attachTo(Document document) {
+        document.setUserData(USER_DATA_KEY, this, null);
+    }
+
+    /**
+     * Returns the error response attached to the given node, or null if none
+     * is. Only documents have error responses attached, since the paths of
+     * the values are relative to the document.
+     */
+    public static XmlErrorResponse attachedTo(Node node) {
+        if (node == null || node.getNodeType() != Node.DOCUMENT_NODE) {
+            return null;
+        }
+        Object userData = node.getUserData(USER_DATA_KEY);
+        return userData instanceof XmlErrorResponse ? (XmlErrorResponse) userData : null;
+    }
+}
@@ -148,6 +148,14 @@ public class AWSRequestMetrics {
         ServiceEndpoint,
         ServiceName,
         StatusCode, // The http status code
+        /**
+         * Snapshot of currently available retry capacity, when retries are throttled.
+         */
+        RetryCapacityAvailable,
+        /**
+         * Time a request was delayed by the adaptive rate limiter before being sent.
+         */
+        RateLimitPauseTime,
         ;
     }
 
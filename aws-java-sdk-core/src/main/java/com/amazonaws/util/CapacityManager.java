@@ -14,16 +14,37 @@
  */
 package com.amazonaws.util;
 
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.amazonaws.annotation.ThreadSafe;
+
 /**
  * Manages capacity of a finite resource.  Capacity can be acquired and
  * released.
+ * <p>
+ * Capacity is acquired and released with compare-and-set operations rather than
+ * under a lock, so that concurrent callers never block each other.  Optionally,
+ * capacity is also refilled over time as a token bucket, in addition to being
+ * released explicitly.
  */
+@ThreadSafe
 public class CapacityManager {
 
-    private volatile int availableCapacity;
+    private final AtomicInteger availableCapacity;
     private final int maxCapacity;
 
-    private final Object lock = new Object();
+    /**
+     * Time it takes to refill one unit of capacity; or zero if capacity is only
+     * refilled when released.
+     */
+    private final long refillIntervalNanos;
+
+    /**
+     * Time up to which the elapsed time has been converted into refilled capacity.
+     */
+    private final AtomicLong lastRefillNanos;
 
     /**
      * Creates a CapacityManager.
@@ -34,8 +55,29 @@ public class CapacityManager {
      *                    passthrough mode in which all acquire calls will return true.
      */
     public CapacityManager(final int maxCapacity) {
+        this(maxCapacity, 0);
+    }
+
+    /**
+     * Creates a CapacityManager that also refills capacity over time.
+     *
+     * @param maxCapacity maximum capacity of this resource.
+     *                    available capacity will initially be set to this value.
+     *                    if a negative value is provided the capacity manager will operate in a no-op
+     *                    passthrough mode in which all acquire calls will return true.
+     * @param refillPerSecond units of capacity refilled per second, up to the maximum capacity;
+     *                        zero if capacity is only refilled when released.
+     * @throws IllegalArgumentException if given refill rate is negative
+     */
+    public CapacityManager(final int maxCapacity, final int refillPerSecond) {
+        if (refillPerSecond < 0) {
+            throw new IllegalArgumentException("refillPerSecond cannot be negative");
+        }
         this.maxCapacity = maxCapacity;
-        this.availableCapacity = maxCapacity;
+        this.availableCapacity = new AtomicInteger(maxCapacity);
+        this.refillIntervalNanos = refillPerSecond == 0
+                ? 0 : Math.max(1, TimeUnit.SECONDS.toNanos(1) / refillPerSecond);
+        this.lastRefillNanos = new AtomicLong(System.nanoTime());
     }
 
     /**
@@ -61,17 +103,19 @@ public class CapacityManager {
             throw new IllegalArgumentException("capacity to acquire cannot be negative");
         }
 
-        if (availableCapacity < 0) {
+        if (maxCapacity < 0) {
             return true;
         }
 
-        synchronized (lock) {
-            if (availableCapacity - capacity >= 0) {
-                availableCapacity -= capacity;
-                return true;
-            } else {
+        refill();
+        for (;;) {
+            int current = availableCapacity.get();
+            if (current - capacity < 0) {
                 return false;
             }
+            if (availableCapacity.compareAndSet(current, current - capacity)) {
+                return true;
+            }
         }
     }
 
@@ -95,12 +139,8 @@ public class CapacityManager {
             throw new IllegalArgumentException("capacity to release cannot be negative");
         }
 
-        // in the common 'good' case where we have our full capacity available we can
-        // short circuit going any further and avoid unnecessary locking.
-        if (availableCapacity >= 0 && availableCapacity != maxCapacity) {
-            synchronized (lock) {
-                availableCapacity = Math.min((availableCapacity + capacity), maxCapacity);
-            }
+        if (maxCapacity >= 0) {
+            add(capacity);
         }
     }
 
@@ -110,7 +150,7 @@ public class CapacityManager {
      * @return consumed capacity
      */
     public int consumedCapacity() {
-        return (availableCapacity < 0) ? 0 : (maxCapacity - availableCapacity);
+        return (maxCapacity < 0) ? 0 : (maxCapacity - availableCapacity());
     }
 
     /**
@@ -119,6 +159,47 @@ public class CapacityManager {
      * @return available capacity
      */
     public int availableCapacity() {
-        return availableCapacity;
+        if (maxCapacity >= 0) {
+            refill();
+        }
+        return availableCapacity.get();
+    }
+
+    /**
+     * Adds the capacity refilled since the last refill, if any.  Only the
+     * caller that advances the refill time adds the capacity, so that elapsed
+     * time is never counted twice.
+     */
+    private void refill() {
+        if (refillIntervalNanos == 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        long last = lastRefillNanos.get();
+        long units = (now - last) / refillIntervalNanos;
+        if (units <= 0) {
+            return;
+        }
+        if (availableCapacity.get() >= maxCapacity) {
+            // time spent at full capacity doesn't accrue into a later burst
+            lastRefillNanos.compareAndSet(last, now);
+        } else if (lastRefillNanos.compareAndSet(last, last + units * refillIntervalNanos)) {
+            add((int) Math.min(units, maxCapacity));
+        }
+    }
+
+    private void add(int capacity) {
+        // in the common 'good' case where we have our full capacity available we can
+        // short circuit going any further.
+        for (;;) {
+            int current = availableCapacity.get();
+            if (current >= maxCapacity) {
+                return;
+            }
+            int updated = (int) Math.min((long) current + capacity, maxCapacity);
+            if (availableCapacity.compareAndSet(current, updated)) {
+                return;
+            }
+        }
     }
 }
@@ -101,6 +101,24 @@ public enum IOUtils {
         }
     }
 
+    /**
+     * Reads and discards the rest of the given input stream, so that any
+     * stream it wraps sees all of its content. Unlike {@link InputStream#skip},
+     * the content is always read.
+     * Caller is responsible for closing the given input stream.
+     *
+     * @return the number of bytes read
+     */
+    public static long drainInputStream(InputStream in) throws IOException {
+        byte[] buf = new byte[BUFFER_SIZE];
+        long count = 0;
+        int n = 0;
+        while ((n = in.read(buf)) > -1) {
+            count += n;
+        }
+        return count;
+    }
+
     /**
      * Copies all bytes from the given input stream to the given output stream.
      * Caller is responsible for closing the streams.
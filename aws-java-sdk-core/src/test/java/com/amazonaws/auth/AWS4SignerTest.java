@@ -20,6 +20,7 @@ package com.amazonaws.auth;
 
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.Request;
+import com.amazonaws.SignableRequest;
 import com.amazonaws.auth.internal.AWS4SignerUtils;
 
 import org.junit.Assert;
@@ -145,6 +146,49 @@ public class AWS4SignerTest {
         assertEquals(EXPECTED_AMZ_EXPIRES, request.getParameters().get("X-Amz-Expires").get(0));
     }
 
+    @Test
+    public void testSigningWithOverriddenCanonicalHeaders() throws Exception {
+        AWSCredentials credentials = new BasicAWSCredentials("access", "secret");
+        AWS4Signer overridingSigner = new AWS4Signer() {
+            @Override
+            protected String getCanonicalizedHeaderString(SignableRequest<?> request) {
+                return super.getCanonicalizedHeaderString(request) + "x-custom:value\n";
+            }
+
+            @Override
+            protected String getSignedHeadersString(SignableRequest<?> request) {
+                return super.getSignedHeadersString(request) + ";x-custom";
+            }
+        };
+
+        Calendar c = new GregorianCalendar();
+        c.set(1981, 1, 16, 6, 30, 0);
+        c.setTimeZone(TimeZone.getTimeZone("UTC"));
+        for (AWS4Signer s : new AWS4Signer[] { signer, overridingSigner }) {
+            s.setOverrideDate(c.getTime());
+            s.setServiceName("demo");
+        }
+
+        Request<?> request = generateBasicRequest();
+        signer.sign(request, credentials);
+        Request<?> overriddenRequest = generateBasicRequest();
+        overridingSigner.sign(overriddenRequest, credentials);
+
+        String authorization = overriddenRequest.getHeaders().get("Authorization");
+        Assert.assertTrue(authorization.contains("SignedHeaders=host;x-amz-archive-description;x-amz-date;x-custom,"));
+        Assert.assertFalse(authorization.equals(request.getHeaders().get("Authorization")));
+
+        request = generateBasicRequest();
+        signer.presignRequest(request, credentials, null);
+        overriddenRequest = generateBasicRequest();
+        overridingSigner.presignRequest(overriddenRequest, credentials, null);
+
+        assertEquals("host;x-amz-archive-description;x-custom",
+                overriddenRequest.getParameters().get("X-Amz-SignedHeaders").get(0));
+        Assert.assertFalse(overriddenRequest.getParameters().get("X-Amz-Signature").get(0)
+                .equals(request.getParameters().get("X-Amz-Signature").get(0)));
+    }
+
     /**
      * Tests that if passed anonymous credentials, signer will not generate a signature
      */
@@ -149,6 +149,39 @@ public class EC2CredentialsFetcherTest {
         }
     }
 
+    /**
+     * Tests that a non-blocking fetcher returns the current credentials while
+     * it refreshes them in the background, and blocks only when they are
+     * about to expire.
+     */
+    @Test
+    public void testNonBlockingRefresh() throws Exception {
+        TestCredentialsProvider credentialsProvider = new TestCredentialsProvider(true);
+
+        // Credentials within the expiration threshold are refreshed in the background
+        stubForSuccessResponseWithCustomKey("OLD_KEY", new Date(System.currentTimeMillis() + ONE_MINUTE * 10), 0);
+        assertEquals("OLD_KEY", credentialsProvider.getCredentials().getAWSAccessKeyId());
+        credentialsProvider.setLastInstanceProfileCheck(new Date(System.currentTimeMillis() - ONE_MINUTE));
+
+        stubForSuccessResponseWithCustomKey("NEW_KEY", new Date(System.currentTimeMillis() + ONE_MINUTE * 60 * 24), 1000);
+        long start = System.currentTimeMillis();
+        assertEquals("OLD_KEY", credentialsProvider.getCredentials().getAWSAccessKeyId());
+        assertTrue(System.currentTimeMillis() - start < 1000);
+
+        long deadline = System.currentTimeMillis() + 10 * 1000;
+        while (credentialsProvider.needsToLoadCredentials() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertEquals("NEW_KEY", credentialsProvider.getCredentials().getAWSAccessKeyId());
+
+        // Credentials about to expire are refreshed by the calling thread
+        credentialsProvider.refresh();
+        stubForSuccessResponseWithCustomKey("OLD_KEY", new Date(System.currentTimeMillis() + ONE_MINUTE / 2), 0);
+        assertEquals("OLD_KEY", credentialsProvider.getCredentials().getAWSAccessKeyId());
+        stubForSuccessResponseWithCustomKey("NEW_KEY", new Date(System.currentTimeMillis() + ONE_MINUTE * 60 * 24), 0);
+        assertEquals("NEW_KEY", credentialsProvider.getCredentials().getAWSAccessKeyId());
+    }
+
     private void stubForSuccessResponseWithCustomBody(int statusCode, String body) {
         stubFor(
                 get(urlPathEqualTo(CREDENTIALS_PATH))
@@ -170,6 +203,18 @@ public class EC2CredentialsFetcherTest {
                                         + "\"Expiration\":\"" + expiration + "\"}")));
     }
 
+    private void stubForSuccessResponseWithCustomKey(String accessKey, Date expiration, int delayMillis) {
+        stubFor(
+                get(urlPathEqualTo(CREDENTIALS_PATH))
+                .willReturn(aResponse()
+                                .withStatus(200)
+                                .withHeader("Content-Type", "application/json")
+                                .withHeader("charset", "utf-8")
+                                .withFixedDelay(delayMillis)
+                                .withBody("{\"AccessKeyId\":\"" + accessKey + "\",\"SecretAccessKey\":\"SECRET_ACCESS_KEY\","
+                                        + "\"Expiration\":\"" + DateUtils.formatISO8601Date(expiration) + "\"}")));
+    }
+
     private void stubForErrorResponse() {
         stubFor(
                 get(urlPathEqualTo(CREDENTIALS_PATH))
@@ -183,7 +228,11 @@ public class EC2CredentialsFetcherTest {
 
     private static class TestCredentialsProvider extends EC2CredentialsFetcher {
         public TestCredentialsProvider() {
-            super(new TestCredentialsEndpointProvider("http://localhost:" + mockServer.port()));
+            this(false);
+        }
+
+        public TestCredentialsProvider(boolean nonBlockingRefresh) {
+            super(new TestCredentialsEndpointProvider("http://localhost:" + mockServer.port()), nonBlockingRefresh);
         }
 
         public void setLastInstanceProfileCheck(Date lastInstanceProfileCheck) {
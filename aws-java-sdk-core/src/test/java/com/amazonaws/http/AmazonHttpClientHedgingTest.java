@@ -0,0 +1,180 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.AmazonWebServiceResponse;
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.http.exception.HttpRequestTimeoutException;
+import com.amazonaws.Request;
+import com.amazonaws.Response;
+import com.amazonaws.retry.HedgingPolicy;
+import com.amazonaws.util.IOUtils;
+import com.amazonaws.util.StringInputStream;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+
+import utils.http.WireMockTestBase;
+
+public class AmazonHttpClientHedgingTest extends WireMockTestBase {
+
+    private static final String RESOURCE_PATH = "/hedging/";
+
+    private static final String CONTENT = "{\"Key\":{\"id\":{\"S\":\"1\"}}}";
+
+    private AmazonHttpClient httpClient;
+
+    @After
+    public void tearDown() {
+        if (httpClient != null) {
+            httpClient.shutdown();
+        }
+    }
+
+    @Test
+    public void slowRequest_IsHedgedAndFirstResponseWins() throws Exception {
+        stubFor(get(urlEqualTo(RESOURCE_PATH)).willReturn(aResponse().withStatus(200).withBody("fast")));
+        httpClient = new AmazonHttpClient(new ClientConfiguration().withHedgingPolicy(newHedgingPolicy()));
+        warmUp();
+
+        stubFor(get(urlEqualTo(RESOURCE_PATH)).inScenario("hedging").whenScenarioStateIs(Scenario.STARTED)
+                .willReturn(aResponse().withStatus(200).withBody("slow").withFixedDelay(5000))
+                .willSetStateTo("hedged"));
+        stubFor(get(urlEqualTo(RESOURCE_PATH)).inScenario("hedging").whenScenarioStateIs("hedged")
+                .willReturn(aResponse().withStatus(200).withBody("hedge")));
+
+        long startNanos = System.nanoTime();
+        Response<String> response = execute();
+
+        assertEquals("hedge", response.getAwsResponse());
+        assertTrue(System.nanoTime() - startNanos < TimeUnit.SECONDS.toNanos(4));
+        verify(RequestHedger.LATENCY_WINDOW + 2, getRequestedFor(urlEqualTo(RESOURCE_PATH)));
+    }
+
+    @Test
+    public void slowRequestAndHedge_AreAbortedByRequestTimeout() throws Exception {
+        stubFor(get(urlEqualTo(RESOURCE_PATH)).willReturn(aResponse().withStatus(200).withBody("fast")));
+        httpClient = new AmazonHttpClient(new ClientConfiguration().withHedgingPolicy(newHedgingPolicy())
+                .withRequestTimeout(1000).withMaxErrorRetry(0));
+        warmUp();
+
+        stubFor(get(urlEqualTo(RESOURCE_PATH)).willReturn(aResponse().withStatus(200).withBody("slow")
+                .withFixedDelay(5000)));
+
+        long startNanos = System.nanoTime();
+        try {
+            execute();
+            fail("Expected the request to time out");
+        } catch (AmazonClientException expected) {
+            assertTrue(expected.getCause() instanceof HttpRequestTimeoutException);
+        }
+        assertTrue(System.nanoTime() - startNanos < TimeUnit.SECONDS.toNanos(4));
+        verify(RequestHedger.LATENCY_WINDOW + 2, getRequestedFor(urlEqualTo(RESOURCE_PATH)));
+    }
+
+    @Test
+    public void slowRequest_IsNotHedgedBeforeLatenciesAreObserved() throws Exception {
+        stubFor(get(urlEqualTo(RESOURCE_PATH)).willReturn(aResponse().withStatus(200).withBody("slow")
+                .withFixedDelay(500)));
+        httpClient = new AmazonHttpClient(new ClientConfiguration().withHedgingPolicy(newHedgingPolicy()));
+
+        assertEquals("slow", execute().getAwsResponse());
+        verify(1, getRequestedFor(urlEqualTo(RESOURCE_PATH)));
+    }
+
+    @Test
+    public void slowRequestWithContent_IsHedgedWithSameContent() throws Exception {
+        stubFor(post(urlEqualTo(RESOURCE_PATH)).willReturn(aResponse().withStatus(200).withBody("fast")));
+        httpClient = new AmazonHttpClient(new ClientConfiguration().withHedgingPolicy(newHedgingPolicy()));
+        for (int i = 0; i < RequestHedger.LATENCY_WINDOW; i++) {
+            executePost();
+        }
+
+        stubFor(post(urlEqualTo(RESOURCE_PATH)).inScenario("hedging").whenScenarioStateIs(Scenario.STARTED)
+                .willReturn(aResponse().withStatus(200).withBody("slow").withFixedDelay(5000))
+                .willSetStateTo("hedged"));
+        stubFor(post(urlEqualTo(RESOURCE_PATH)).inScenario("hedging").whenScenarioStateIs("hedged")
+                .willReturn(aResponse().withStatus(200).withBody("hedge")));
+
+        assertEquals("hedge", executePost().getAwsResponse());
+        verify(RequestHedger.LATENCY_WINDOW + 2,
+                postRequestedFor(urlEqualTo(RESOURCE_PATH)).withRequestBody(equalTo(CONTENT)));
+    }
+
+    private void warmUp() throws Exception {
+        for (int i = 0; i < RequestHedger.LATENCY_WINDOW; i++) {
+            execute();
+        }
+    }
+
+    private Response<String> execute() throws Exception {
+        Request<?> request = new DefaultRequest<String>(new HedgedRequest(), "mock");
+        request.setEndpoint(URI.create("http://localhost:" + mockServer.port() + RESOURCE_PATH));
+        request.setHttpMethod(HttpMethodName.GET);
+        return httpClient.execute(request, new StringResponseHandler(), stubErrorHandler(), new ExecutionContext());
+    }
+
+    private Response<String> executePost() throws Exception {
+        Request<?> request = new DefaultRequest<String>(new HedgedRequest(), "mock");
+        request.setEndpoint(URI.create("http://localhost:" + mockServer.port() + RESOURCE_PATH));
+        request.setHttpMethod(HttpMethodName.POST);
+        request.setContent(new StringInputStream(CONTENT));
+        request.addHeader("Content-Length", String.valueOf(CONTENT.length()));
+        return httpClient.execute(request, new StringResponseHandler(), stubErrorHandler(), new ExecutionContext());
+    }
+
+    private static HedgingPolicy newHedgingPolicy() {
+        return new HedgingPolicy(
+                Collections.<Class<? extends AmazonWebServiceRequest>>singleton(HedgedRequest.class), 95, 100);
+    }
+
+    private static class HedgedRequest extends AmazonWebServiceRequest {
+    }
+
+    private static class StringResponseHandler implements HttpResponseHandler<AmazonWebServiceResponse<String>> {
+        @Override
+        public AmazonWebServiceResponse<String> handle(HttpResponse response) throws Exception {
+            AmazonWebServiceResponse<String> awsResponse = new AmazonWebServiceResponse<String>();
+            awsResponse.setResult(IOUtils.toString(response.getContent()));
+            return awsResponse;
+        }
+
+        @Override
+        public boolean needsConnectionLeftOpen() {
+            return false;
+        }
+    }
+}
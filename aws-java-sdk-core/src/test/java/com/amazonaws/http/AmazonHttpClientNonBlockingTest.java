@@ -0,0 +1,215 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http;
+
+import static com.amazonaws.http.AmazonHttpClient.HEADER_SDK_RETRY_INFO;
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.containing;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Collections;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonWebServiceResponse;
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.Request;
+import com.amazonaws.Response;
+import com.amazonaws.handlers.RequestHandler2;
+import com.amazonaws.http.exception.HttpRequestTimeoutException;
+import com.amazonaws.http.response.DummyResponseHandler;
+import com.amazonaws.http.timers.client.ClientExecutionTimeoutException;
+import com.amazonaws.internal.auth.NoOpSignerProvider;
+import com.amazonaws.retry.RetryPolicy;
+import com.amazonaws.util.IOUtils;
+
+import utils.http.WireMockTestBase;
+import utils.retry.AlwaysRetryCondition;
+import utils.retry.SimpleArrayBackoffStrategy;
+
+public class AmazonHttpClientNonBlockingTest extends WireMockTestBase {
+
+    private static final String RESOURCE_PATH = "/non-blocking/";
+
+    private ExecutorService responseExecutor;
+
+    private AmazonHttpClient httpClient;
+
+    @Before
+    public void setUp() {
+        responseExecutor = Executors.newSingleThreadExecutor();
+    }
+
+    @After
+    public void tearDown() {
+        if (httpClient != null) {
+            httpClient.shutdown();
+        }
+        responseExecutor.shutdownNow();
+    }
+
+    @Test
+    public void successfulResponse_IsUnmarshalledAndRequestHandlersAreRun() throws Exception {
+        stubFor(get(urlEqualTo(RESOURCE_PATH)).willReturn(aResponse().withStatus(200).withBody("hello")));
+        httpClient = new AmazonHttpClient(new ClientConfiguration());
+        CountingRequestHandler requestHandler = new CountingRequestHandler();
+
+        Response<String> response = httpClient.executeAsync(newGetRequest(RESOURCE_PATH), new StringResponseHandler(),
+                stubErrorHandler(), newExecutionContext(requestHandler), responseExecutor, null)
+                .get(10, TimeUnit.SECONDS);
+
+        assertEquals("hello", response.getAwsResponse());
+        assertEquals(1, requestHandler.beforeRequest.get());
+        assertEquals(1, requestHandler.afterResponse.get());
+        assertEquals(0, requestHandler.afterError.get());
+    }
+
+    @Test
+    public void retriedRequest_BacksOffAndFailsWithLastException() throws Exception {
+        stubFor(get(urlEqualTo(RESOURCE_PATH)).willReturn(aResponse().withStatus(500)));
+        RetryPolicy retryPolicy = new RetryPolicy(new AlwaysRetryCondition(),
+                new SimpleArrayBackoffStrategy(new int[] { 0, 10, 20 }), 3, false);
+        httpClient = new AmazonHttpClient(new ClientConfiguration().withRetryPolicy(retryPolicy));
+        CountingRequestHandler requestHandler = new CountingRequestHandler();
+
+        try {
+            httpClient.executeAsync(newGetRequest(RESOURCE_PATH), new DummyResponseHandler(), stubErrorHandler(),
+                    newExecutionContext(requestHandler), responseExecutor, null).get(10, TimeUnit.SECONDS);
+            fail("Expected exception");
+        } catch (ExecutionException expected) {
+            assertTrue(expected.getCause() instanceof AmazonServiceException);
+        }
+
+        verify(1, getRequestedFor(urlEqualTo(RESOURCE_PATH)).withHeader(HEADER_SDK_RETRY_INFO, containing("0/0/")));
+        verify(1, getRequestedFor(urlEqualTo(RESOURCE_PATH)).withHeader(HEADER_SDK_RETRY_INFO, containing("1/0/")));
+        verify(1, getRequestedFor(urlEqualTo(RESOURCE_PATH)).withHeader(HEADER_SDK_RETRY_INFO, containing("2/10/")));
+        verify(1, getRequestedFor(urlEqualTo(RESOURCE_PATH)).withHeader(HEADER_SDK_RETRY_INFO, containing("3/20/")));
+        assertEquals(1, requestHandler.afterError.get());
+    }
+
+    @Test
+    public void slowResponse_TimesOutRequest() throws Exception {
+        stubFor(get(urlEqualTo(RESOURCE_PATH)).willReturn(aResponse().withStatus(200).withFixedDelay(2000)));
+        httpClient = new AmazonHttpClient(new ClientConfiguration().withRequestTimeout(100).withMaxErrorRetry(0));
+
+        try {
+            httpClient.executeAsync(newGetRequest(RESOURCE_PATH), new DummyResponseHandler(), stubErrorHandler(),
+                    new ExecutionContext(), responseExecutor, null).get(10, TimeUnit.SECONDS);
+            fail("Expected exception");
+        } catch (ExecutionException expected) {
+            assertTrue(expected.getCause().getCause() instanceof HttpRequestTimeoutException);
+        }
+    }
+
+    @Test
+    public void slowResponse_TimesOutClientExecution() throws Exception {
+        stubFor(get(urlEqualTo(RESOURCE_PATH)).willReturn(aResponse().withStatus(200).withFixedDelay(2000)));
+        httpClient = new AmazonHttpClient(new ClientConfiguration().withClientExecutionTimeout(100));
+        CountingRequestHandler requestHandler = new CountingRequestHandler();
+
+        try {
+            httpClient.executeAsync(newGetRequest(RESOURCE_PATH), new DummyResponseHandler(), stubErrorHandler(),
+                    newExecutionContext(requestHandler), responseExecutor, null).get(10, TimeUnit.SECONDS);
+            fail("Expected exception");
+        } catch (ExecutionException expected) {
+            assertTrue(expected.getCause() instanceof ClientExecutionTimeoutException);
+        }
+        assertEquals(1, requestHandler.afterError.get());
+    }
+
+    @Test
+    public void responseHandlerLeavingConnectionOpen_IsNotSupported() throws Exception {
+        httpClient = new AmazonHttpClient(new ClientConfiguration());
+        try {
+            httpClient.executeAsync(newGetRequest(RESOURCE_PATH), new DummyResponseHandler().leaveConnectionOpen(),
+                    stubErrorHandler(), new ExecutionContext(), responseExecutor, null);
+            fail("Expected exception");
+        } catch (AmazonClientException expected) {
+        }
+    }
+
+    @Test
+    public void canceledExecution_IsNotRetried() throws Exception {
+        stubFor(get(urlEqualTo(RESOURCE_PATH)).willReturn(aResponse().withStatus(200).withFixedDelay(2000)));
+        httpClient = new AmazonHttpClient(new ClientConfiguration());
+
+        Future<Response<String>> future = httpClient.executeAsync(newGetRequest(RESOURCE_PATH),
+                new DummyResponseHandler(), stubErrorHandler(), new ExecutionContext(), responseExecutor, null);
+        assertTrue(future.cancel(true));
+        assertTrue(future.isCancelled());
+
+        Thread.sleep(200);
+        verify(1, getRequestedFor(urlEqualTo(RESOURCE_PATH)));
+    }
+
+    private ExecutionContext newExecutionContext(RequestHandler2 requestHandler) {
+        return ExecutionContext.builder()
+                .withRequestHandler2s(Collections.singletonList(requestHandler))
+                .withSignerProvider(new NoOpSignerProvider())
+                .build();
+    }
+
+    private static class StringResponseHandler implements HttpResponseHandler<AmazonWebServiceResponse<String>> {
+        @Override
+        public AmazonWebServiceResponse<String> handle(HttpResponse response) throws Exception {
+            AmazonWebServiceResponse<String> awsResponse = new AmazonWebServiceResponse<String>();
+            awsResponse.setResult(IOUtils.toString(response.getContent()));
+            return awsResponse;
+        }
+
+        @Override
+        public boolean needsConnectionLeftOpen() {
+            return false;
+        }
+    }
+
+    private static class CountingRequestHandler extends RequestHandler2 {
+        final AtomicInteger beforeRequest = new AtomicInteger();
+        final AtomicInteger afterResponse = new AtomicInteger();
+        final AtomicInteger afterError = new AtomicInteger();
+
+        @Override
+        public void beforeRequest(Request<?> request) {
+            beforeRequest.incrementAndGet();
+        }
+
+        @Override
+        public void afterResponse(Request<?> request, Response<?> response) {
+            afterResponse.incrementAndGet();
+        }
+
+        @Override
+        public void afterError(Request<?> request, Response<?> response, Exception e) {
+            afterError.incrementAndGet();
+        }
+    }
+}
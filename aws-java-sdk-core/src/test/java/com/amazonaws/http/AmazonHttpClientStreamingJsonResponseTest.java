@@ -0,0 +1,144 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.zip.CRC32;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.Response;
+import com.amazonaws.internal.CRC32MismatchException;
+import com.amazonaws.protocol.json.SdkStructuredPlainJsonFactory;
+import com.amazonaws.transform.JsonUnmarshallerContext;
+import com.amazonaws.transform.Unmarshaller;
+import com.amazonaws.util.StringUtils;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonToken;
+
+import utils.http.WireMockTestBase;
+
+public class AmazonHttpClientStreamingJsonResponseTest extends WireMockTestBase {
+
+    private static final String RESOURCE_PATH = "/streaming-json/";
+
+    /**
+     * Trailing content the unmarshaller never reads, larger than the buffer
+     * of the parser.
+     */
+    private static final String BODY = "{\"Value\":\"hello\"}" + new String(new char[64 * 1024]).replace('\0', ' ');
+
+    private AmazonHttpClient httpClient;
+
+    @After
+    public void tearDown() {
+        if (httpClient != null) {
+            httpClient.shutdown();
+        }
+    }
+
+    @Test
+    public void requestTimeoutEnabled_JsonResponseIsReadFromConnectionAndChecksumVerified() throws Exception {
+        stubFor(get(urlEqualTo(RESOURCE_PATH)).willReturn(aResponse().withStatus(200)
+                .withHeader("x-amz-crc32", String.valueOf(crc32(BODY)))
+                .withBody(BODY)));
+        httpClient = new AmazonHttpClient(new ClientConfiguration().withRequestTimeout(5 * 1000));
+        FirstValueUnmarshaller unmarshaller = new FirstValueUnmarshaller();
+
+        Response<String> response = httpClient.execute(newGetRequest(RESOURCE_PATH), newResponseHandler(unmarshaller),
+                stubErrorHandler(), new ExecutionContext());
+
+        assertEquals("hello", response.getAwsResponse());
+        assertFalse(unmarshaller.content instanceof ByteArrayInputStream);
+    }
+
+    @Test
+    public void timeoutsDisabled_JsonResponseChecksumVerified() throws Exception {
+        stubFor(get(urlEqualTo(RESOURCE_PATH)).willReturn(aResponse().withStatus(200)
+                .withHeader("x-amz-crc32", String.valueOf(crc32(BODY)))
+                .withBody(BODY)));
+        httpClient = new AmazonHttpClient(new ClientConfiguration());
+
+        Response<String> response = httpClient.execute(newGetRequest(RESOURCE_PATH),
+                newResponseHandler(new FirstValueUnmarshaller()), stubErrorHandler(), new ExecutionContext());
+
+        assertEquals("hello", response.getAwsResponse());
+    }
+
+    @Test
+    public void requestTimeoutEnabled_ChecksumMismatch_IsRetried() throws Exception {
+        stubFor(get(urlEqualTo(RESOURCE_PATH)).willReturn(aResponse().withStatus(200)
+                .withHeader("x-amz-crc32", String.valueOf(crc32(BODY) + 1))
+                .withBody(BODY)));
+        httpClient = new AmazonHttpClient(new ClientConfiguration().withRequestTimeout(5 * 1000)
+                .withMaxErrorRetry(2));
+
+        try {
+            httpClient.execute(newGetRequest(RESOURCE_PATH), newResponseHandler(new FirstValueUnmarshaller()),
+                    stubErrorHandler(), new ExecutionContext());
+            fail("Expected exception");
+        } catch (AmazonClientException expected) {
+            assertTrue(expected.getCause() instanceof CRC32MismatchException);
+        }
+        verify(3, getRequestedFor(urlEqualTo(RESOURCE_PATH)));
+    }
+
+    private static JsonResponseHandler<String> newResponseHandler(Unmarshaller<String, JsonUnmarshallerContext> unmarshaller) {
+        return new JsonResponseHandler<String>(unmarshaller, SdkStructuredPlainJsonFactory.JSON_SCALAR_UNMARSHALLERS,
+                new JsonFactory(), false, true);
+    }
+
+    private static long crc32(String body) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(body.getBytes(StringUtils.UTF8));
+        return crc32.getValue();
+    }
+
+    /**
+     * Stops reading at the first string value, as generated unmarshallers do
+     * at the end of the structure they unmarshall.
+     */
+    private static class FirstValueUnmarshaller implements Unmarshaller<String, JsonUnmarshallerContext> {
+        private InputStream content;
+
+        @Override
+        public String unmarshall(JsonUnmarshallerContext context) throws Exception {
+            content = context.getHttpResponse().getContent();
+            JsonToken token = context.nextToken();
+            while (token != null) {
+                if (token == JsonToken.VALUE_STRING) {
+                    return context.readText();
+                }
+                token = context.nextToken();
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.w3c.dom.Node;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonServiceException.ErrorType;
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.transform.LegacyErrorUnmarshaller;
+import com.amazonaws.transform.StandardErrorUnmarshaller;
+import com.amazonaws.transform.Unmarshaller;
+import com.amazonaws.util.StringInputStream;
+import com.amazonaws.util.XpathUtils;
+
+public class DefaultErrorResponseHandlerTest {
+
+    private static final String STANDARD_ERROR =
+            "<ErrorResponse xmlns=\"http://queue.amazonaws.com/doc/2012-11-05/\">"
+            + "<Error><Type>Sender</Type><Code>%s</Code><Message> Some message </Message>"
+            + "<Detail/><Name>some-name</Name></Error>"
+            + "<RequestId>some-request-id</RequestId></ErrorResponse>";
+
+    private static final String LEGACY_ERROR =
+            "<Response><Errors><Error><Code>%s</Code><Message>Some message</Message></Error></Errors>"
+            + "<RequestID>some-request-id</RequestID></Response>";
+
+    @Test
+    public void modeledErrorCode_IsUnmarshalledByItsUnmarshaller() throws Exception {
+        DefaultErrorResponseHandler handler = new DefaultErrorResponseHandler(standardUnmarshallers());
+
+        for (int i = 0; i < 2; i++) {
+            AmazonServiceException ase = handler.handle(newResponse(400, String.format(STANDARD_ERROR, "Modeled")));
+
+            assertTrue(ase instanceof ModeledException);
+            assertEquals("Modeled", ase.getErrorCode());
+            assertEquals("Some message", ase.getErrorMessage());
+            assertEquals("some-request-id", ase.getRequestId());
+            assertEquals(ErrorType.Client, ase.getErrorType());
+            assertEquals(400, ase.getStatusCode());
+            assertEquals("some-name", ((ModeledException) ase).getName());
+        }
+    }
+
+    @Test
+    public void unmodeledErrorCode_IsUnmarshalledByGenericUnmarshaller() throws Exception {
+        List<Unmarshaller<AmazonServiceException, Node>> unmarshallers = standardUnmarshallers();
+
+        for (int i = 0; i < 2; i++) {
+            AmazonServiceException ase = new DefaultErrorResponseHandler(unmarshallers)
+                    .handle(newResponse(400, String.format(STANDARD_ERROR, "Throttling")));
+
+            assertEquals(ServiceException.class, ase.getClass());
+            assertEquals("Throttling", ase.getErrorCode());
+            assertEquals("Some message", ase.getErrorMessage());
+            assertEquals("some-request-id", ase.getRequestId());
+            assertEquals(ErrorType.Client, ase.getErrorType());
+        }
+    }
+
+    @Test
+    public void legacyErrors_AreUnmarshalled() throws Exception {
+        List<Unmarshaller<AmazonServiceException, Node>> unmarshallers =
+                new ArrayList<Unmarshaller<AmazonServiceException, Node>>();
+        unmarshallers.add(new LegacyErrorUnmarshaller());
+        DefaultErrorResponseHandler handler = new DefaultErrorResponseHandler(unmarshallers);
+
+        for (int i = 0; i < 2; i++) {
+            AmazonServiceException ase = handler.handle(newResponse(503, String.format(LEGACY_ERROR, "RequestLimitExceeded")));
+
+            assertEquals("RequestLimitExceeded", ase.getErrorCode());
+            assertEquals("Some message", ase.getErrorMessage());
+            assertEquals("some-request-id", ase.getRequestId());
+            assertEquals(ErrorType.Unknown, ase.getErrorType());
+            assertEquals(503, ase.getStatusCode());
+        }
+    }
+
+    @Test
+    public void customUnmarshaller_IsStillTriedInOrder() throws Exception {
+        List<Unmarshaller<AmazonServiceException, Node>> unmarshallers = standardUnmarshallers();
+        unmarshallers.add(0, new Unmarshaller<AmazonServiceException, Node>() {
+            @Override
+            public AmazonServiceException unmarshall(Node in) throws Exception {
+                if (!"some-request-id".equals(XpathUtils.asString("ErrorResponse/RequestId", in))) {
+                    return null;
+                }
+                return new AmazonServiceException("custom");
+            }
+        });
+        DefaultErrorResponseHandler handler = new DefaultErrorResponseHandler(unmarshallers);
+
+        for (int i = 0; i < 2; i++) {
+            AmazonServiceException ase = handler.handle(newResponse(400, String.format(STANDARD_ERROR, "Modeled")));
+
+            assertEquals("custom", ase.getErrorMessage());
+        }
+    }
+
+    @Test
+    public void unmarshallerNotDeclaringErrorCode_IsTriedForEachResponse() throws Exception {
+        List<Unmarshaller<AmazonServiceException, Node>> unmarshallers = standardUnmarshallers();
+        unmarshallers.add(1, new StandardErrorUnmarshaller(ModeledException.class) {
+            @Override
+            public AmazonServiceException unmarshall(Node node) throws Exception {
+                if (!"other-request-id".equals(XpathUtils.asString("ErrorResponse/RequestId", node))) {
+                    return null;
+                }
+                return super.unmarshall(node);
+            }
+        });
+        DefaultErrorResponseHandler handler = new DefaultErrorResponseHandler(unmarshallers);
+
+        AmazonServiceException ase = handler.handle(newResponse(400, String.format(STANDARD_ERROR, "Throttling")));
+        assertEquals(ServiceException.class, ase.getClass());
+
+        ase = handler.handle(newResponse(400, String.format(STANDARD_ERROR, "Throttling")
+                .replace("some-request-id", "other-request-id")));
+        assertEquals(ModeledException.class, ase.getClass());
+        assertEquals("other-request-id", ase.getRequestId());
+    }
+
+    @Test
+    public void unparsableContent_IsUnmarshalledByGenericUnmarshaller() throws Exception {
+        AmazonServiceException ase = new DefaultErrorResponseHandler(standardUnmarshallers())
+                .handle(newResponse(503, "<html>Service Unavailable"));
+
+        assertEquals(ServiceException.class, ase.getClass());
+        assertEquals("503 Service Unavailable", ase.getErrorCode());
+        assertNull(ase.getRequestId());
+    }
+
+    private static List<Unmarshaller<AmazonServiceException, Node>> standardUnmarshallers() {
+        List<Unmarshaller<AmazonServiceException, Node>> unmarshallers =
+                new ArrayList<Unmarshaller<AmazonServiceException, Node>>();
+        unmarshallers.add(new ModeledExceptionUnmarshaller());
+        unmarshallers.add(new StandardErrorUnmarshaller(ServiceException.class));
+        return unmarshallers;
+    }
+
+    private static HttpResponse newResponse(int statusCode, String content) throws Exception {
+        HttpResponse response = new HttpResponse(new DefaultRequest<String>("someService"), null);
+        response.setStatusCode(statusCode);
+        response.setStatusText("Service Unavailable");
+        response.setContent(new StringInputStream(content));
+        return response;
+    }
+
+    public static class ServiceException extends AmazonServiceException {
+        private static final long serialVersionUID = 1L;
+
+        public ServiceException(String message) {
+            super(message);
+        }
+    }
+
+    public static class ModeledException extends ServiceException {
+        private static final long serialVersionUID = 1L;
+
+        private String name;
+
+        public ModeledException(String message) {
+            super(message);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    /**
+     * Follows the generated unmarshallers of modeled exceptions.
+     */
+    private static class ModeledExceptionUnmarshaller extends StandardErrorUnmarshaller {
+
+        ModeledExceptionUnmarshaller() {
+            super(ModeledException.class, "Modeled");
+        }
+
+        @Override
+        public AmazonServiceException unmarshall(Node node) throws Exception {
+            String errorCode = parseErrorCode(node);
+            if (errorCode == null || !errorCode.equals("Modeled"))
+                return null;
+
+            ModeledException e = (ModeledException) super.unmarshall(node);
+            e.setName(XpathUtils.asString(getErrorPropertyPath("Name"), node));
+            return e;
+        }
+    }
+}
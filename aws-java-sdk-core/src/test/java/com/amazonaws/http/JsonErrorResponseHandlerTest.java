@@ -23,24 +23,28 @@ import com.amazonaws.transform.JsonErrorUnmarshaller;
 import com.amazonaws.util.StringInputStream;
 import com.amazonaws.util.StringUtils;
 import com.fasterxml.jackson.core.JsonFactory;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.UnsupportedEncodingException;
 import java.util.ArrayList;
 import java.util.Arrays;
 
 import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Matchers.anyMapOf;
 import static org.mockito.Matchers.anyObject;
-import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.when;
 
 public class JsonErrorResponseHandlerTest {
@@ -60,15 +64,14 @@ public class JsonErrorResponseHandlerTest {
     public void setup() throws UnsupportedEncodingException {
         MockitoAnnotations.initMocks(this);
         when(errorCodeParser
-                     .parseErrorCode(anyMapOf(String.class, String.class), (JsonNode) anyObject()))
+                     .parseErrorCodeFromFields(anyMapOf(String.class, String.class),
+                                               anyMapOf(String.class, String.class)))
                 .thenReturn(ERROR_CODE);
 
         httpResponse = new HttpResponse(new DefaultRequest<String>(SERVICE_NAME), null);
         httpResponse.setContent(new StringInputStream("{}"));
 
-        responseHandler = new JsonErrorResponseHandler(Arrays.asList(unmarshaller), errorCodeParser,
-                                                       JsonErrorMessageParser.DEFAULT_ERROR_MESSAGE_PARSER,
-                                                       new JsonFactory());
+        responseHandler = createResponseHandler();
     }
 
     @Test
@@ -134,7 +137,7 @@ public class JsonErrorResponseHandlerTest {
     public void handle_UnmarshallerThrowsException_ReturnsGenericAmazonServiceException() throws
                                                                                           Exception {
         expectUnmarshallerMatches();
-        when(unmarshaller.unmarshall((JsonNode) anyObject())).thenThrow(new RuntimeException());
+        when(unmarshaller.unmarshall((JsonParser) anyObject())).thenThrow(new RuntimeException());
 
         AmazonServiceException ase = responseHandler.handle(httpResponse);
 
@@ -146,7 +149,7 @@ public class JsonErrorResponseHandlerTest {
     public void handle_UnmarshallerReturnsException_ClientErrorType() throws Exception {
         httpResponse.setStatusCode(400);
         expectUnmarshallerMatches();
-        when(unmarshaller.unmarshall((JsonNode) anyObject()))
+        when(unmarshaller.unmarshall((JsonParser) anyObject()))
                 .thenReturn(new CustomException("error"));
 
         AmazonServiceException ase = responseHandler.handle(httpResponse);
@@ -161,7 +164,7 @@ public class JsonErrorResponseHandlerTest {
     public void handle_UnmarshallerReturnsException_ServiceErrorType() throws Exception {
         httpResponse.setStatusCode(500);
         expectUnmarshallerMatches();
-        when(unmarshaller.unmarshall((JsonNode) anyObject()))
+        when(unmarshaller.unmarshall((JsonParser) anyObject()))
                 .thenReturn(new CustomException("error"));
 
         AmazonServiceException ase = responseHandler.handle(httpResponse);
@@ -174,7 +177,7 @@ public class JsonErrorResponseHandlerTest {
         httpResponse.setStatusCode(500);
         httpResponse.addHeader(HttpResponseHandler.X_AMZN_REQUEST_ID_HEADER, "1234");
         expectUnmarshallerMatches();
-        when(unmarshaller.unmarshall((JsonNode) anyObject()))
+        when(unmarshaller.unmarshall((JsonParser) anyObject()))
                 .thenReturn(new CustomException("error"));
 
         AmazonServiceException ase = responseHandler.handle(httpResponse);
@@ -192,7 +195,7 @@ public class JsonErrorResponseHandlerTest {
         httpResponse.addHeader(StringUtils.upperCase(HttpResponseHandler.X_AMZN_REQUEST_ID_HEADER),
                                "1234");
         expectUnmarshallerMatches();
-        when(unmarshaller.unmarshall((JsonNode) anyObject()))
+        when(unmarshaller.unmarshall((JsonParser) anyObject()))
                 .thenReturn(new CustomException("error"));
 
         AmazonServiceException ase = responseHandler.handle(httpResponse);
@@ -210,7 +213,7 @@ public class JsonErrorResponseHandlerTest {
         httpResponse.addHeader("FooHeader", "FooValue");
         httpResponse.addHeader(HttpResponseHandler.X_AMZN_REQUEST_ID_HEADER, "1234");
         expectUnmarshallerMatches();
-        when(unmarshaller.unmarshall((JsonNode) anyObject()))
+        when(unmarshaller.unmarshall((JsonParser) anyObject()))
                 .thenReturn(new CustomException("error"));
 
         AmazonServiceException ase = responseHandler.handle(httpResponse);
@@ -219,12 +222,80 @@ public class JsonErrorResponseHandlerTest {
                    hasEntry(HttpResponseHandler.X_AMZN_REQUEST_ID_HEADER, "1234"));
     }
 
+    @Test
+    public void handle_ModeledErrorCode_UnmarshallsContentIntoModeledException() throws Exception {
+        httpResponse.setStatusCode(400);
+        httpResponse.setContent(new StringInputStream(
+                "{\"__type\":\"apiVersion#" + ERROR_CODE + "\",\"Message\":\"Some error message\","
+                + "\"Details\":{\"__type\":\"Nested\"},\"Reason\":\"Some reason\"}"));
+        responseHandler = new JsonErrorResponseHandler(
+                Arrays.asList(new JsonErrorUnmarshaller(ModeledException.class, ERROR_CODE),
+                              JsonErrorUnmarshaller.DEFAULT_UNMARSHALLER),
+                new JsonErrorCodeParser(), JsonErrorMessageParser.DEFAULT_ERROR_MESSAGE_PARSER,
+                new JsonFactory());
+
+        AmazonServiceException ase = responseHandler.handle(httpResponse);
+
+        assertThat(ase, instanceOf(ModeledException.class));
+        assertEquals(ERROR_CODE, ase.getErrorCode());
+        assertEquals("Some error message", ase.getErrorMessage());
+        assertEquals("Some reason", ((ModeledException) ase).getReason());
+    }
+
+    @Test
+    public void handle_CborContent_UnmarshallsContentIntoModeledException() throws Exception {
+        CBORFactory cborFactory = new CBORFactory();
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        JsonGenerator generator = cborFactory.createGenerator(content);
+        generator.writeStartObject();
+        generator.writeStringField("__type", ERROR_CODE);
+        generator.writeStringField("message", "Some error message");
+        generator.writeStringField("Reason", "Some reason");
+        generator.writeEndObject();
+        generator.close();
+        httpResponse.setContent(new ByteArrayInputStream(content.toByteArray()));
+        responseHandler = new JsonErrorResponseHandler(
+                Arrays.asList(new JsonErrorUnmarshaller(ModeledException.class, ERROR_CODE)),
+                new JsonErrorCodeParser(), JsonErrorMessageParser.DEFAULT_ERROR_MESSAGE_PARSER,
+                cborFactory);
+
+        AmazonServiceException ase = responseHandler.handle(httpResponse);
+
+        assertThat(ase, instanceOf(ModeledException.class));
+        assertEquals("Some error message", ase.getErrorMessage());
+        assertEquals("Some reason", ((ModeledException) ase).getReason());
+    }
+
+    @Test
+    public void handle_InvalidJsonContent_ReturnsBaseServiceException() throws Exception {
+        httpResponse.setStatusCode(503);
+        httpResponse.setContent(new StringInputStream("<html>Service Unavailable</html>"));
+        responseHandler = new JsonErrorResponseHandler(
+                Arrays.asList(new JsonErrorUnmarshaller(ModeledException.class, ERROR_CODE),
+                              new JsonErrorUnmarshaller(CustomException.class, null)),
+                new JsonErrorCodeParser(), JsonErrorMessageParser.DEFAULT_ERROR_MESSAGE_PARSER,
+                new JsonFactory());
+
+        AmazonServiceException ase = responseHandler.handle(httpResponse);
+
+        assertThat(ase, instanceOf(CustomException.class));
+        assertEquals(503, ase.getStatusCode());
+    }
+
+    private JsonErrorResponseHandler createResponseHandler() {
+        return new JsonErrorResponseHandler(Arrays.asList(unmarshaller), errorCodeParser,
+                                            JsonErrorMessageParser.DEFAULT_ERROR_MESSAGE_PARSER,
+                                            new JsonFactory());
+    }
+
     private void expectUnmarshallerMatches() throws Exception {
-        when(unmarshaller.matchErrorCode(anyString())).thenReturn(true);
+        when(unmarshaller.getHandledErrorCode()).thenReturn(ERROR_CODE);
+        responseHandler = createResponseHandler();
     }
 
     private void expectUnmarshallerDoesNotMatch() throws Exception {
-        when(unmarshaller.matchErrorCode(anyString())).thenReturn(false);
+        when(unmarshaller.getHandledErrorCode()).thenReturn("NonMatchingErrorCode");
+        responseHandler = createResponseHandler();
     }
 
     private static class CustomException extends AmazonServiceException {
@@ -235,4 +306,23 @@ public class JsonErrorResponseHandlerTest {
             super(errorMessage);
         }
     }
+
+    private static class ModeledException extends AmazonServiceException {
+
+        private static final long serialVersionUID = 1L;
+
+        private String reason;
+
+        public ModeledException(String errorMessage) {
+            super(errorMessage);
+        }
+
+        public String getReason() {
+            return reason;
+        }
+
+        public void setReason(String reason) {
+            this.reason = reason;
+        }
+    }
 }
@@ -83,6 +83,26 @@ public class JsonErrorCodeParserTest {
         assertNull(parser.parseErrorCode(new HashMap<String, String>(), new ObjectMapper().createObjectNode()));
     }
 
+    @Test
+    public void parseErrorCodeFromFields_ErrorTypeInHeadersTakesPrecedence() {
+        String actualErrorType = parser.parseErrorCodeFromFields(
+                ImmutableMapParameter.of(JsonErrorCodeParser.X_AMZN_ERROR_TYPE, HEADER_ERROR_TYPE),
+                ImmutableMapParameter.of(ERROR_FIELD_NAME, JSON_ERROR_TYPE));
+        assertEquals(HEADER_ERROR_TYPE, actualErrorType);
+    }
+
+    @Test
+    public void parseErrorCodeFromFields_ErrorTypeInContent_PrefixIgnored() {
+        String actualErrorType = parser.parseErrorCodeFromFields(new HashMap<String, String>(),
+                ImmutableMapParameter.of(ERROR_FIELD_NAME, String.format("%s#%s", "somePrefix", JSON_ERROR_TYPE)));
+        assertEquals(JSON_ERROR_TYPE, actualErrorType);
+    }
+
+    @Test
+    public void parseErrorCodeFromFields_NotPresent_ReturnsNull() {
+        assertNull(parser.parseErrorCodeFromFields(new HashMap<String, String>(), new HashMap<String, String>()));
+    }
+
     private static JsonNode toJsonNode(String errorType) {
         ObjectNode node = MAPPER.createObjectNode();
         node.put(ERROR_FIELD_NAME, errorType);
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.internal.http;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.transform.JsonErrorUnmarshaller;
+
+public class JsonErrorUnmarshallerIndexTest {
+
+    private static final JsonErrorUnmarshaller FIRST = new JsonErrorUnmarshaller(AmazonServiceException.class,
+                                                                                 "FirstException");
+    private static final JsonErrorUnmarshaller DUPLICATE = new JsonErrorUnmarshaller(AmazonServiceException.class,
+                                                                                     "FirstException");
+    private static final JsonErrorUnmarshaller SECOND = new JsonErrorUnmarshaller(AmazonServiceException.class,
+                                                                                  "SecondException");
+    private static final JsonErrorUnmarshaller DEFAULT = new JsonErrorUnmarshaller(AmazonServiceException.class,
+                                                                                   null);
+
+    @Test
+    public void get_MatchingErrorCode_ReturnsFirstMatchingUnmarshaller() {
+        JsonErrorUnmarshallerIndex index = new JsonErrorUnmarshallerIndex(
+                Arrays.asList(FIRST, DUPLICATE, SECOND, DEFAULT));
+        assertSame(FIRST, index.get("FirstException"));
+        assertSame(SECOND, index.get("SecondException"));
+    }
+
+    @Test
+    public void get_NonMatchingOrNullErrorCode_ReturnsDefaultUnmarshaller() {
+        JsonErrorUnmarshallerIndex index = new JsonErrorUnmarshallerIndex(Arrays.asList(FIRST, DEFAULT));
+        assertSame(DEFAULT, index.get("UnknownException"));
+        assertSame(DEFAULT, index.get(null));
+    }
+
+    @Test
+    public void get_UnmarshallersAfterDefault_AreNeverReturned() {
+        JsonErrorUnmarshallerIndex index = new JsonErrorUnmarshallerIndex(Arrays.asList(FIRST, DEFAULT, SECOND));
+        assertSame(FIRST, index.get("FirstException"));
+        assertSame(DEFAULT, index.get("SecondException"));
+    }
+
+    @Test
+    public void get_NoMatchingUnmarshaller_ReturnsNull() {
+        assertNull(new JsonErrorUnmarshallerIndex(Arrays.asList(FIRST)).get("SecondException"));
+        assertNull(new JsonErrorUnmarshallerIndex(Collections.<JsonErrorUnmarshaller>emptyList()).get(null));
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.metrics;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.jmx.MBeans;
+import com.amazonaws.util.AWSRequestMetrics;
+import com.amazonaws.util.AWSRequestMetrics.Field;
+import com.amazonaws.util.AWSRequestMetricsFullSupport;
+import com.amazonaws.util.TimingInfo;
+
+public class HistogramRequestMetricCollectorTest {
+
+    private static final String SERVICE_NAME = "AmazonTest";
+
+    private final HistogramRequestMetricCollector collector = new HistogramRequestMetricCollector();
+
+    @Test
+    public void timedFields_AreRecordedPerServiceOperationAndField() {
+        collector.collectMetrics(newRequest(new GetRequest(), Field.ClientExecuteTime, 10, Field.HttpRequestTime, 8), null);
+        collector.collectMetrics(newRequest(new GetRequest(), Field.ClientExecuteTime, 20, Field.HttpRequestTime, 16), null);
+        collector.collectMetrics(newRequest(new PutRequest(), Field.ClientExecuteTime, 30), null);
+
+        LatencyHistogram get = collector.getSnapshot(SERVICE_NAME, "GetRequest", Field.ClientExecuteTime);
+        assertEquals(2, get.getTotalCount());
+        assertEquals(10000, get.getMinValue());
+        assertEquals(20000, get.getMaxValue());
+        assertEquals(2, collector.getSnapshot(SERVICE_NAME, "GetRequest", Field.HttpRequestTime).getTotalCount());
+        assertEquals(3, collector.getSnapshot(SERVICE_NAME, null, Field.ClientExecuteTime).getTotalCount());
+        assertEquals(0, collector.getSnapshot("OtherService", null, Field.ClientExecuteTime).getTotalCount());
+        assertArrayEquals(new String[] {
+                "AmazonTest.GetRequest.ClientExecuteTime",
+                "AmazonTest.GetRequest.HttpRequestTime",
+                "AmazonTest.PutRequest.ClientExecuteTime" },
+                collector.getHistogramKeys());
+        assertEquals(3, collector.getSnapshots().size());
+    }
+
+    @Test
+    public void mbeanOperations_ReportMillis() {
+        collector.collectMetrics(newRequest(new GetRequest(), Field.ClientExecuteTime, 10), null);
+        String key = "AmazonTest.GetRequest.ClientExecuteTime";
+
+        assertEquals(1, collector.getCount(key));
+        assertEquals(10.0, collector.getPercentileMillis(key, 99), 0.1);
+        assertTrue(collector.getSummary(key).startsWith("count=1, min=10.0"));
+        assertEquals(0, collector.getCount("AmazonTest.GetRequest.HttpRequestTime"));
+
+        collector.reset();
+        assertEquals(0, collector.getHistogramKeys().length);
+    }
+
+    @Test
+    public void disabledRequestMetrics_AreIgnored() {
+        DefaultRequest<Object> request = new DefaultRequest<Object>(new GetRequest(), SERVICE_NAME);
+        request.setAWSRequestMetrics(new AWSRequestMetrics());
+        collector.collectMetrics(request, null);
+        assertEquals(0, collector.getHistogramKeys().length);
+    }
+
+    @Test
+    public void registerMBean_ExposesCollectorThroughJmx() throws Exception {
+        String objectName = HistogramRequestMetricCollector.DEFAULT_MBEAN_OBJECT_NAME + "/test";
+        assertTrue(collector.registerMBean(objectName));
+        try {
+            assertTrue(MBeans.isRegistered(objectName));
+        } finally {
+            assertTrue(collector.unregisterMBean());
+        }
+        assertTrue(!MBeans.isRegistered(objectName));
+    }
+
+    private static DefaultRequest<Object> newRequest(AmazonWebServiceRequest originalRequest, Object... fieldsAndMillis) {
+        DefaultRequest<Object> request = new DefaultRequest<Object>(originalRequest, SERVICE_NAME);
+        AWSRequestMetrics metrics = new AWSRequestMetricsFullSupport();
+        for (int i = 0; i < fieldsAndMillis.length; i += 2) {
+            long durationNano = TimeUnit.MILLISECONDS.toNanos(((Integer) fieldsAndMillis[i + 1]).longValue());
+            metrics.getTimingInfo().addSubMeasurement(((Field) fieldsAndMillis[i]).name(),
+                    TimingInfo.newTimingInfoFullSupport(0, durationNano));
+        }
+        request.setAWSRequestMetrics(metrics);
+        return request;
+    }
+
+    private static class GetRequest extends AmazonWebServiceRequest {
+    }
+
+    private static class PutRequest extends AmazonWebServiceRequest {
+    }
+}
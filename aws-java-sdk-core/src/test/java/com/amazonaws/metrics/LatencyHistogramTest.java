@@ -0,0 +1,117 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void emptyHistogram_ReturnsZeros() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getTotalCount());
+        assertEquals(0, histogram.getMinValue());
+        assertEquals(0, histogram.getMaxValue());
+        assertEquals(0, histogram.getValueAtPercentile(99));
+        assertEquals(0.0, histogram.getMean(), 0);
+    }
+
+    @Test
+    public void smallValues_AreCountedExactly() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.recordValue(i);
+        }
+        assertEquals(100, histogram.getTotalCount());
+        assertEquals(1, histogram.getMinValue());
+        assertEquals(100, histogram.getMaxValue());
+        assertEquals(50, histogram.getValueAtPercentile(50));
+        assertEquals(99, histogram.getValueAtPercentile(99));
+        assertEquals(100, histogram.getValueAtPercentile(100));
+        assertEquals(50.5, histogram.getMean(), 0);
+    }
+
+    @Test
+    public void largeValues_AreWithinOnePercent() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 100000; i++) {
+            histogram.recordValue(i * 100);
+        }
+        assertWithinOnePercent(5000000, histogram.getValueAtPercentile(50));
+        assertWithinOnePercent(9900000, histogram.getValueAtPercentile(99));
+        assertWithinOnePercent(9990000, histogram.getValueAtPercentile(99.9));
+        assertEquals(10000000, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void valuesAboveMaximum_AreClamped() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordValue(Long.MAX_VALUE);
+        assertEquals(LatencyHistogram.MAX_TRACKABLE_VALUE, histogram.getMaxValue());
+        assertEquals(LatencyHistogram.MAX_TRACKABLE_VALUE, histogram.getValueAtPercentile(50));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeValue_IsRejected() {
+        new LatencyHistogram().recordValue(-1);
+    }
+
+    @Test
+    public void bucketIndexes_AreContiguousAndCoverTheirValues() {
+        int previous = -1;
+        for (long value = 0; value < 1 << 20; value++) {
+            int index = LatencyHistogram.indexOf(value);
+            assertTrue(index == previous || index == previous + 1);
+            assertTrue(LatencyHistogram.highestEquivalentValue(index) >= value);
+            previous = index;
+        }
+    }
+
+    @Test
+    public void add_MergesHistograms() {
+        LatencyHistogram first = new LatencyHistogram();
+        LatencyHistogram second = new LatencyHistogram();
+        first.recordValue(10);
+        first.recordValue(20);
+        second.recordValue(5);
+        second.recordValue(1000);
+
+        LatencyHistogram merged = first.copy();
+        merged.add(second);
+
+        assertEquals(4, merged.getTotalCount());
+        assertEquals(5, merged.getMinValue());
+        assertEquals(1000, merged.getMaxValue());
+        assertEquals(258.75, merged.getMean(), 0);
+        assertEquals(2, first.getTotalCount());
+    }
+
+    @Test
+    public void reset_ClearsValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordValue(42);
+        histogram.reset();
+        assertEquals(0, histogram.getTotalCount());
+        assertEquals(0, histogram.getMaxValue());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+    }
+
+    private static void assertWithinOnePercent(long expected, long actual) {
+        assertTrue("expected " + expected + " but was " + actual, Math.abs(actual - expected) <= expected / 100);
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.retry.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.amazonaws.AmazonClientException;
+
+/**
+ * Tests the behavior of the {@link AdaptiveRateLimiter}
+ */
+public class AdaptiveRateLimiterTest {
+
+    private static final String ENDPOINT = "dynamodb.us-east-1.amazonaws.com";
+
+    /**
+     * Tests that requests aren't limited until the endpoint throttles one.
+     */
+    @Test
+    public void notLimitedBeforeThrottling() {
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter();
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(0, limiter.acquire(ENDPOINT));
+            limiter.onResponse(ENDPOINT, false);
+        }
+        assertEquals(Double.POSITIVE_INFINITY, limiter.getRate(ENDPOINT), 0);
+    }
+
+    /**
+     * Tests that throttling cuts the rate below the rate requests were sent
+     * at, and that requests are then delayed.
+     */
+    @Test
+    public void throttlingLimitsRate() {
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter();
+        for (int i = 0; i < 100; i++) {
+            limiter.acquire(ENDPOINT);
+        }
+        limiter.onResponse(ENDPOINT, true);
+        double rate = limiter.getRate(ENDPOINT);
+        assertTrue(rate >= AdaptiveRateLimiter.MIN_RATE);
+        assertTrue(rate < Double.POSITIVE_INFINITY);
+
+        long delay = 0;
+        for (int i = 0; i < Math.ceil(rate) + 2; i++) {
+            delay = limiter.acquire(ENDPOINT);
+        }
+        assertTrue(delay > 0);
+    }
+
+    /**
+     * Tests that the throttling of the requests in flight when the rate was
+     * cut doesn't cut it again.
+     */
+    @Test
+    public void burstOfThrottlingCutsRateOnce() {
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter();
+        for (int i = 0; i < 100; i++) {
+            limiter.acquire(ENDPOINT);
+        }
+        limiter.onResponse(ENDPOINT, true);
+        double rate = limiter.getRate(ENDPOINT);
+        for (int i = 0; i < 10; i++) {
+            limiter.onResponse(ENDPOINT, true);
+        }
+        assertEquals(rate, limiter.getRate(ENDPOINT), 0);
+    }
+
+    /**
+     * Tests that the rate never goes below the minimum rate.
+     */
+    @Test
+    public void rateIsAtLeastMinRate() {
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter();
+        limiter.onResponse(ENDPOINT, true);
+        assertEquals(AdaptiveRateLimiter.MIN_RATE, limiter.getRate(ENDPOINT), 0);
+    }
+
+    /**
+     * Tests that requests are never delayed by more than the maximum delay,
+     * and that the requests that would have to wait longer fail instead of
+     * being sent.
+     */
+    @Test
+    public void delayIsAtMostMaxDelay() {
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter();
+        limiter.onResponse(ENDPOINT, true);
+        int permitted = 0;
+        int rejected = 0;
+        for (int i = 0; i < 1000; i++) {
+            try {
+                long delay = limiter.acquire(ENDPOINT);
+                assertTrue(delay <= AdaptiveRateLimiter.MAX_DELAY_MILLIS);
+                permitted++;
+            } catch (AmazonClientException expected) {
+                rejected++;
+            }
+        }
+        int maxPermitted = (int) Math.ceil(AdaptiveRateLimiter.MIN_RATE * AdaptiveRateLimiter.MAX_DELAY_MILLIS / 1000) + 1;
+        assertTrue(permitted <= maxPermitted);
+        assertEquals(1000 - permitted, rejected);
+    }
+
+    /**
+     * Tests that endpoints are limited independently of each other.
+     */
+    @Test
+    public void endpointsAreLimitedIndependently() {
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter();
+        limiter.onResponse(ENDPOINT, true);
+        assertTrue(limiter.getRate(ENDPOINT) < Double.POSITIVE_INFINITY);
+        assertEquals(Double.POSITIVE_INFINITY, limiter.getRate("sqs.us-east-1.amazonaws.com"), 0);
+        assertEquals(0, limiter.acquire("sqs.us-east-1.amazonaws.com"));
+    }
+}
@@ -23,6 +23,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import com.amazonaws.AmazonServiceException;
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -60,6 +61,14 @@ public class JsonErrorUnmarshallerTest {
         assertNull(ase.getCustomInt());
     }
 
+    @Test
+    public void unmarshall_JsonParser_UnmarshallsCorrectly() throws Exception {
+        CustomException ase = (CustomException) unmarshaller.unmarshall(new JsonFactory().createParser(JSON.toString()));
+        assertEquals("Some error message", ase.getErrorMessage());
+        assertEquals("This is a customField", ase.getCustomField());
+        assertEquals(Integer.valueOf(42), ase.getCustomInt());
+    }
+
     @Test
     public void match_DefaultUnmarshaller_MatchesEverything() {
         unmarshaller = JsonErrorUnmarshaller.DEFAULT_UNMARSHALLER;
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.transform;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+import org.w3c.dom.Document;
+
+import com.amazonaws.util.XpathUtils;
+
+public class XmlErrorResponseTest {
+
+    private static final String[] PATHS = {
+            XmlErrorResponse.STANDARD_CODE_PATH, XmlErrorResponse.STANDARD_TYPE_PATH,
+            XmlErrorResponse.STANDARD_MESSAGE_PATH, XmlErrorResponse.STANDARD_REQUEST_ID_PATH,
+            XmlErrorResponse.LEGACY_CODE_PATH, XmlErrorResponse.LEGACY_TYPE_PATH,
+            XmlErrorResponse.LEGACY_MESSAGE_PATH, XmlErrorResponse.LEGACY_REQUEST_ID_PATH };
+
+    @Test
+    public void standardError_MatchesXpath() throws Exception {
+        assertMatchesXpath("<ErrorResponse xmlns=\"http://sns.amazonaws.com/doc/2010-03-31/\">"
+                + "<Error><Type>Sender</Type><Code> Throttling </Code>"
+                + "<Message>Rate <![CDATA[exceeded]]> &amp; more</Message></Error>"
+                + "<RequestId>some-request-id</RequestId></ErrorResponse>");
+    }
+
+    @Test
+    public void legacyError_MatchesXpath() throws Exception {
+        assertMatchesXpath("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<Response><Errors><Error><Code>RequestLimitExceeded</Code><Message>Request limit exceeded."
+                + "</Message></Error><Error><Code>Second</Code></Error></Errors>"
+                + "<RequestID>some-request-id</RequestID></Response>");
+    }
+
+    @Test
+    public void nestedAndMissingElements_MatchXpath() throws Exception {
+        assertMatchesXpath("<ErrorResponse><Error><Code/><Message>Some <b>bold</b> text</Message></Error>"
+                + "<Other><RequestId>not-the-request-id</RequestId></Other></ErrorResponse>");
+    }
+
+    @Test
+    public void prefixedElements_MatchXpath() throws Exception {
+        assertMatchesXpath("<a:ErrorResponse xmlns:a=\"urn:a\"><a:Error><a:Code>Code</a:Code></a:Error>"
+                + "</a:ErrorResponse>");
+    }
+
+    @Test
+    public void malformedContent_IsNotParsed() {
+        assertNull(XmlErrorResponse.parse("<ErrorResponse><Error><Code>Throttling</Code>"));
+        assertNull(XmlErrorResponse.parse("Service Unavailable"));
+        assertNull(XmlErrorResponse.parse(""));
+        assertNull(XmlErrorResponse.parse(null));
+    }
+
+    @Test
+    public void attachedResponse_IsOnlyFoundOnItsDocument() throws Exception {
+        String xml = "<ErrorResponse><Error><Code>Throttling</Code></Error></ErrorResponse>";
+        Document document = XpathUtils.documentFrom(xml);
+        XmlErrorResponse errorResponse = XmlErrorResponse.parse(xml);
+
+        assertNull(XmlErrorResponse.attachedTo(document));
+        errorResponse.attachTo(document);
+        assertEquals(errorResponse, XmlErrorResponse.attachedTo(document));
+        assertNull(XmlErrorResponse.attachedTo(document.getDocumentElement()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unknownPath_IsRejected() {
+        XmlErrorResponse.parse("<ErrorResponse/>").getValue("ErrorResponse/Error/Detail");
+    }
+
+    private static void assertMatchesXpath(String xml) throws Exception {
+        Document document = XpathUtils.documentFrom(xml);
+        XmlErrorResponse errorResponse = XmlErrorResponse.parse(xml);
+        for (String path : PATHS) {
+            assertEquals(path, XpathUtils.asString(path, document), errorResponse.getValue(path));
+        }
+    }
+}
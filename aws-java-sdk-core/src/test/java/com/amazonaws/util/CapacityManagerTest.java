@@ -15,6 +15,9 @@
 
 package com.amazonaws.util;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -69,4 +72,69 @@ public class CapacityManagerTest {
         Assert.assertEquals(mgr.consumedCapacity(), 0);
     }
 
+    /**
+     * Tests that capacity is refilled over time, up to the maximum capacity,
+     * when created with a refill rate.
+     */
+    @Test
+    public void refill() throws InterruptedException {
+        CapacityManager mgr = new CapacityManager(10, 1000);
+        Assert.assertTrue(mgr.acquire(10));
+        Thread.sleep(100);
+        Assert.assertEquals(mgr.availableCapacity(), 10);
+        Assert.assertTrue(mgr.acquire(10));
+    }
+
+    /**
+     * Tests that, without a refill rate, capacity is only refilled when released.
+     */
+    @Test
+    public void noRefill() throws InterruptedException {
+        CapacityManager mgr = new CapacityManager(10);
+        Assert.assertTrue(mgr.acquire(10));
+        Thread.sleep(50);
+        Assert.assertEquals(mgr.availableCapacity(), 0);
+        Assert.assertFalse(mgr.acquire());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeRefill() {
+        new CapacityManager(10, -1);
+    }
+
+    /**
+     * Tests that concurrent acquires never consume more than the available capacity.
+     */
+    @Test
+    public void concurrentAcquire() throws InterruptedException {
+        final CapacityManager mgr = new CapacityManager(1000);
+        final AtomicInteger acquired = new AtomicInteger();
+        final CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int j = 0; j < 500; j++) {
+                        if (mgr.acquire()) {
+                            acquired.incrementAndGet();
+                        }
+                    }
+                }
+            };
+            threads[i].start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assert.assertEquals(acquired.get(), 1000);
+        Assert.assertEquals(mgr.availableCapacity(), 0);
+    }
+
 }
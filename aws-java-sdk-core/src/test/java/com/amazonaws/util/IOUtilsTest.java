@@ -23,6 +23,7 @@ import static org.junit.Assert.*;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.zip.CRC32;
 
 import org.junit.Test;
 
@@ -50,4 +51,17 @@ public class IOUtilsTest {
         String s = IOUtils.toString(new ByteArrayInputStream("Testing".getBytes(StringUtils.UTF8)));
         assertEquals("Testing", s);
     }
+
+    @Test
+    public void testDrainInputStreamReadsWrappedStream() throws Exception {
+        byte[] content = "Testing".getBytes(StringUtils.UTF8);
+        CRC32ChecksumCalculatingInputStream in = new CRC32ChecksumCalculatingInputStream(
+                new ByteArrayInputStream(content));
+        assertEquals(content.length, IOUtils.drainInputStream(in));
+        assertEquals(-1, in.read());
+
+        CRC32 crc32 = new CRC32();
+        crc32.update(content);
+        assertEquals(crc32.getValue(), in.getCRC32Checksum());
+    }
 }
@@ -15,6 +15,7 @@
 package com.amazonaws.services.dynamodbv2;
 
 import com.amazonaws.services.dynamodbv2.model.*;
+import com.amazonaws.services.dynamodbv2.model.transform.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -470,6 +471,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements
             final BatchGetItemRequest request,
             final com.amazonaws.handlers.AsyncHandler<BatchGetItemRequest, BatchGetItemResult> asyncHandler) {
 
+        if (clientConfiguration.isUseNonBlockingTransport()) {
+            return invokeNonBlocking(request, new BatchGetItemRequestMarshaller(
+                    protocolFactory), new BatchGetItemResultJsonUnmarshaller(),
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<BatchGetItemResult>() {
                     @Override
@@ -567,6 +574,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements
             final BatchWriteItemRequest request,
             final com.amazonaws.handlers.AsyncHandler<BatchWriteItemRequest, BatchWriteItemResult> asyncHandler) {
 
+        if (clientConfiguration.isUseNonBlockingTransport()) {
+            return invokeNonBlocking(request, new BatchWriteItemRequestMarshaller(
+                    protocolFactory), new BatchWriteItemResultJsonUnmarshaller(),
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<BatchWriteItemResult>() {
                     @Override
@@ -705,6 +718,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements
             final DeleteItemRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteItemRequest, DeleteItemResult> asyncHandler) {
 
+        if (clientConfiguration.isUseNonBlockingTransport()) {
+            return invokeNonBlocking(request, new DeleteItemRequestMarshaller(
+                    protocolFactory), new DeleteItemResultJsonUnmarshaller(),
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteItemResult>() {
                     @Override
@@ -962,6 +981,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements
             final GetItemRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetItemRequest, GetItemResult> asyncHandler) {
 
+        if (clientConfiguration.isUseNonBlockingTransport()) {
+            return invokeNonBlocking(request, new GetItemRequestMarshaller(
+                    protocolFactory), new GetItemResultJsonUnmarshaller(),
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetItemResult>() {
                     @Override
@@ -1202,6 +1227,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements
             final PutItemRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutItemRequest, PutItemResult> asyncHandler) {
 
+        if (clientConfiguration.isUseNonBlockingTransport()) {
+            return invokeNonBlocking(request, new PutItemRequestMarshaller(
+                    protocolFactory), new PutItemResultJsonUnmarshaller(),
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PutItemResult>() {
                     @Override
@@ -1295,6 +1326,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements
             final QueryRequest request,
             final com.amazonaws.handlers.AsyncHandler<QueryRequest, QueryResult> asyncHandler) {
 
+        if (clientConfiguration.isUseNonBlockingTransport()) {
+            return invokeNonBlocking(request, new QueryRequestMarshaller(
+                    protocolFactory), new QueryResultJsonUnmarshaller(),
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<QueryResult>() {
                     @Override
@@ -1329,6 +1366,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements
             final ScanRequest request,
             final com.amazonaws.handlers.AsyncHandler<ScanRequest, ScanResult> asyncHandler) {
 
+        if (clientConfiguration.isUseNonBlockingTransport()) {
+            return invokeNonBlocking(request, new ScanRequestMarshaller(
+                    protocolFactory), new ScanResultJsonUnmarshaller(),
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ScanResult>() {
                     @Override
@@ -1452,6 +1495,12 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements
             final UpdateItemRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateItemRequest, UpdateItemResult> asyncHandler) {
 
+        if (clientConfiguration.isUseNonBlockingTransport()) {
+            return invokeNonBlocking(request, new UpdateItemRequestMarshaller(
+                    protocolFactory), new UpdateItemResultJsonUnmarshaller(),
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateItemResult>() {
                     @Override
@@ -262,7 +262,11 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements
      */
     protected static final com.amazonaws.services.dynamodbv2.AmazonDynamoDBClientConfigurationFactory configFactory = new com.amazonaws.services.dynamodbv2.AmazonDynamoDBClientConfigurationFactory();
 
-    private final SdkJsonProtocolFactory protocolFactory = new SdkJsonProtocolFactory(
+    /**
+     * Package-private for the non-blocking operations of
+     * {@link AmazonDynamoDBAsyncClient}, which marshall their requests with it.
+     */
+    final SdkJsonProtocolFactory protocolFactory = new SdkJsonProtocolFactory(
             new JsonClientMetadata()
                     .withProtocolVersion("1.0")
                     .withSupportsCbor(false)
@@ -2044,6 +2048,63 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements
         return doInvoke(request, responseHandler, executionContext);
     }
 
+    /**
+     * Marshalls the request and sends it over the non-blocking transport of
+     * the http client; the response is unmarshalled and the async handler is
+     * invoked on the given executor. Used by {@link AmazonDynamoDBAsyncClient}
+     * when {@link ClientConfiguration#isUseNonBlockingTransport()} is set.
+     */
+    <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> invokeNonBlocking(
+            Y originalRequest,
+            Marshaller<Request<Y>, Y> marshaller,
+            Unmarshaller<X, JsonUnmarshallerContext> unmarshaller,
+            AsyncHandler<Y, X> asyncHandler,
+            java.util.concurrent.Executor responseExecutor) {
+        ExecutionContext executionContext = createExecutionContext(originalRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<Y> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = marshaller.marshall(super
+                        .beforeMarshalling(originalRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            if (asyncHandler != null) {
+                asyncHandler.onError(e);
+            }
+            org.apache.http.concurrent.BasicFuture<X> failed = new org.apache.http.concurrent.BasicFuture<X>(
+                    null);
+            failed.failed(e);
+            return failed;
+        }
+
+        HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler = protocolFactory
+                .createResponseHandler(new JsonOperationMetadata()
+                        .withPayloadJson(true)
+                        .withHasStreamingSuccessResponse(false), unmarshaller);
+        executionContext.setCredentialsProvider(CredentialUtils
+                .getCredentialsProvider(request.getOriginalRequest(),
+                        awsCredentialsProvider));
+        request.setEndpoint(endpoint);
+        request.setTimeOffset(timeOffset);
+
+        HttpResponseHandler<AmazonServiceException> errorResponseHandler = protocolFactory
+                .createErrorResponseHandler(new JsonErrorResponseMetadata());
+
+        return executeNonBlocking(originalRequest, request, responseHandler,
+                errorResponseHandler, executionContext, asyncHandler,
+                responseExecutor);
+    }
+
     /**
      * Invoke with no authentication. Credentials are not required and any
      * credentials set on the client or request will be ignored for this
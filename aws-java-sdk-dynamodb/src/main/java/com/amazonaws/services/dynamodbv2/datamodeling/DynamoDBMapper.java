@@ -1198,6 +1198,14 @@ public class DynamoDBMapper extends AbstractDynamoDBMapper {
                     new WriteRequest().withDeleteRequest(new DeleteRequest().withKey(key)));
         }
 
+        // Keep up to the configured number of service requests in flight
+        Integer maxConcurrentBatchWrites = config.getMaxConcurrentBatchWrites();
+        if ( maxConcurrentBatchWrites != null && maxConcurrentBatchWrites > 1 ) {
+            totalFailedBatches.addAll(new ParallelBatchWriteTask(
+                    db, config.getBatchWriteRetryStrategy(), maxConcurrentBatchWrites).write(requestItems));
+            requestItems.clear();
+        }
+
         // Break into chunks of 25 items and make service requests to DynamoDB
         while ( !requestItems.isEmpty() ) {
 
@@ -58,6 +58,7 @@ public class DynamoDBMapperConfig {
         private ConversionSchema conversionSchema;
         private BatchWriteRetryStrategy batchWriteRetryStrategy;
         private BatchLoadRetryStrategy batchLoadRetryStrategy;
+        private Integer maxConcurrentBatchWrites;
 
         /**
          * Creates a new builder initialized with the {@link #DEFAULT} values.
@@ -73,6 +74,7 @@ public class DynamoDBMapperConfig {
             conversionSchema = DEFAULT.getConversionSchema();
             batchWriteRetryStrategy = DEFAULT.getBatchWriteRetryStrategy();
             batchLoadRetryStrategy = DEFAULT.getBatchLoadRetryStrategy();
+            maxConcurrentBatchWrites = DEFAULT.getMaxConcurrentBatchWrites();
         }
 
         /**
@@ -319,6 +321,35 @@ public class DynamoDBMapperConfig {
             setBatchLoadRetryStrategy(value);
             return this;
         }
+
+        /**
+         * @return the maximum number of BatchWriteItem calls in flight
+         */
+        public Integer getMaxConcurrentBatchWrites() {
+            return maxConcurrentBatchWrites;
+        }
+
+        /**
+         * @param value the maximum number of BatchWriteItem calls in flight
+         * @see DynamoDBMapperConfig#getMaxConcurrentBatchWrites()
+         */
+        public void setMaxConcurrentBatchWrites(Integer value) {
+            if (value != null && value < 1) {
+                throw new IllegalArgumentException(
+                        "The maximum number of concurrent batch writes must be positive");
+            }
+            this.maxConcurrentBatchWrites = value;
+        }
+
+        /**
+         * @param value the maximum number of BatchWriteItem calls in flight
+         * @return this builder
+         * @see DynamoDBMapperConfig#getMaxConcurrentBatchWrites()
+         */
+        public Builder withMaxConcurrentBatchWrites(Integer value) {
+            setMaxConcurrentBatchWrites(value);
+            return this;
+        }
         
         /**
          * Builds a new {@code DynamoDBMapperConfig} object.
@@ -336,7 +367,8 @@ public class DynamoDBMapperConfig {
                     requestMetricCollector,
                     conversionSchema,
                     batchWriteRetryStrategy,
-                    batchLoadRetryStrategy);
+                    batchLoadRetryStrategy,
+                    maxConcurrentBatchWrites);
         }
     }
 
@@ -764,6 +796,7 @@ public class DynamoDBMapperConfig {
     private final ConversionSchema conversionSchema;
     private final BatchWriteRetryStrategy batchWriteRetryStrategy;
     private final BatchLoadRetryStrategy batchLoadRetryStrategy;
+    private final Integer maxConcurrentBatchWrites;
 
     /**
      * Legacy constructor, using default PaginationLoadingStrategy
@@ -835,7 +868,8 @@ public class DynamoDBMapperConfig {
                 requestMetricCollector,
                 ConversionSchemas.DEFAULT,
                 new DefaultBatchWriteRetryStrategy(),
-                new DefaultBatchLoadRetryStrategy());
+                new DefaultBatchLoadRetryStrategy(),
+                null);
     }
 
     private DynamoDBMapperConfig(
@@ -848,7 +882,8 @@ public class DynamoDBMapperConfig {
             RequestMetricCollector requestMetricCollector,
             ConversionSchema conversionSchema,
             BatchWriteRetryStrategy batchWriteRetryStrategy,
-            BatchLoadRetryStrategy batchLoadRetryStrategy) {
+            BatchLoadRetryStrategy batchLoadRetryStrategy,
+            Integer maxConcurrentBatchWrites) {
 
         this.saveBehavior = saveBehavior;
         this.consistentReads = consistentReads;
@@ -860,6 +895,7 @@ public class DynamoDBMapperConfig {
         this.conversionSchema = conversionSchema;
         this.batchWriteRetryStrategy = batchWriteRetryStrategy;
         this.batchLoadRetryStrategy = batchLoadRetryStrategy;
+        this.maxConcurrentBatchWrites = maxConcurrentBatchWrites;
     }
 
     /**
@@ -867,7 +903,7 @@ public class DynamoDBMapperConfig {
      */
     public DynamoDBMapperConfig(SaveBehavior saveBehavior) {
         this(saveBehavior, null, null, null, null, null, null,
-                ConversionSchemas.DEFAULT, new DefaultBatchWriteRetryStrategy(), new DefaultBatchLoadRetryStrategy());
+                ConversionSchemas.DEFAULT, new DefaultBatchWriteRetryStrategy(), new DefaultBatchLoadRetryStrategy(), null);
     }
 
     /**
@@ -876,7 +912,7 @@ public class DynamoDBMapperConfig {
      */
     public DynamoDBMapperConfig(ConsistentReads consistentReads) {
         this(null, consistentReads, null, null, null, null, null,
-                ConversionSchemas.DEFAULT, new DefaultBatchWriteRetryStrategy(), new DefaultBatchLoadRetryStrategy());
+                ConversionSchemas.DEFAULT, new DefaultBatchWriteRetryStrategy(), new DefaultBatchLoadRetryStrategy(), null);
     }
 
     /**
@@ -884,7 +920,7 @@ public class DynamoDBMapperConfig {
      */
     public DynamoDBMapperConfig(TableNameOverride tableNameOverride) {
         this(null, null, tableNameOverride, null, null, null, null,
-                ConversionSchemas.DEFAULT, new DefaultBatchWriteRetryStrategy(), new DefaultBatchLoadRetryStrategy());
+                ConversionSchemas.DEFAULT, new DefaultBatchWriteRetryStrategy(), new DefaultBatchLoadRetryStrategy(), null);
     }
 
     /**
@@ -892,7 +928,7 @@ public class DynamoDBMapperConfig {
      */
     public DynamoDBMapperConfig(TableNameResolver tableNameResolver) {
         this(null, null, null, tableNameResolver, null, null, null,
-                ConversionSchemas.DEFAULT, new DefaultBatchWriteRetryStrategy(), new DefaultBatchLoadRetryStrategy());
+                ConversionSchemas.DEFAULT, new DefaultBatchWriteRetryStrategy(), new DefaultBatchLoadRetryStrategy(), null);
     }
 
     /**
@@ -900,7 +936,7 @@ public class DynamoDBMapperConfig {
      */
     public DynamoDBMapperConfig(ObjectTableNameResolver objectTableNameResolver) {
         this(null, null, null, null, objectTableNameResolver, null, null,
-                ConversionSchemas.DEFAULT, new DefaultBatchWriteRetryStrategy(), new DefaultBatchLoadRetryStrategy());
+                ConversionSchemas.DEFAULT, new DefaultBatchWriteRetryStrategy(), new DefaultBatchLoadRetryStrategy(), null);
     }
 
     /**
@@ -908,7 +944,7 @@ public class DynamoDBMapperConfig {
      */
     public DynamoDBMapperConfig(TableNameResolver tableNameResolver, ObjectTableNameResolver objectTableNameResolver) {
         this(null, null, null, tableNameResolver, objectTableNameResolver, null, null,
-                ConversionSchemas.DEFAULT, new DefaultBatchWriteRetryStrategy(), new DefaultBatchLoadRetryStrategy());
+                ConversionSchemas.DEFAULT, new DefaultBatchWriteRetryStrategy(), new DefaultBatchLoadRetryStrategy(), null);
     }
 
     /**
@@ -919,14 +955,14 @@ public class DynamoDBMapperConfig {
             PaginationLoadingStrategy paginationLoadingStrategy) {
 
         this(null, null, null, null, null, paginationLoadingStrategy, null,
-                ConversionSchemas.DEFAULT, new DefaultBatchWriteRetryStrategy(), new DefaultBatchLoadRetryStrategy());
+                ConversionSchemas.DEFAULT, new DefaultBatchWriteRetryStrategy(), new DefaultBatchLoadRetryStrategy(), null);
     }
 
     /**
      * Constructs a new configuration object with the conversion schema given.
      */
     public DynamoDBMapperConfig(ConversionSchema conversionSchema) {
-        this(null, null, null, null, null, null, null, conversionSchema, new DefaultBatchWriteRetryStrategy(), new DefaultBatchLoadRetryStrategy());
+        this(null, null, null, null, null, null, null, conversionSchema, new DefaultBatchWriteRetryStrategy(), new DefaultBatchLoadRetryStrategy(), null);
     }
 
     /**
@@ -960,6 +996,7 @@ public class DynamoDBMapperConfig {
             this.conversionSchema = defaults.getConversionSchema();
             this.batchWriteRetryStrategy = defaults.getBatchWriteRetryStrategy();
             this.batchLoadRetryStrategy = defaults.getBatchLoadRetryStrategy();
+            this.maxConcurrentBatchWrites = defaults.getMaxConcurrentBatchWrites();
 
         } else {
 
@@ -1005,6 +1042,10 @@ public class DynamoDBMapperConfig {
                             ? defaults.getBatchLoadRetryStrategy()
                             : overrides.getBatchLoadRetryStrategy();
 
+            this.maxConcurrentBatchWrites = (overrides.getMaxConcurrentBatchWrites() == null)
+                    ? defaults.getMaxConcurrentBatchWrites()
+                    : overrides.getMaxConcurrentBatchWrites();
+
         }
     }
 
@@ -1103,6 +1144,20 @@ public class DynamoDBMapperConfig {
         return batchWriteRetryStrategy;
     }
 
+    /**
+     * Returns the maximum number of BatchWriteItem calls that
+     * {@link DynamoDBMapper#batchWrite(Iterable, Iterable, DynamoDBMapperConfig)}
+     * keeps in flight, or null if not specified. With more than one, the
+     * batches are sent from a pool of threads, UnprocessedItems are merged
+     * back into the batches still to be sent instead of holding back the
+     * other batches, and the write requests may be applied in any order; an
+     * item should therefore not be written more than once in the same call.
+     * The {@link BatchWriteRetryStrategy} applies to each write request.
+     */
+    public Integer getMaxConcurrentBatchWrites() {
+        return maxConcurrentBatchWrites;
+    }
+
     /**
      * Default configuration uses UPDATE behavior for saves and EVENTUALly
      * consistent reads, with no table name override and lazy-loading strategy.
@@ -1117,5 +1172,6 @@ public class DynamoDBMapperConfig {
             null,  // RequestMetricCollector
             ConversionSchemas.DEFAULT,
             new DefaultBatchWriteRetryStrategy(),
-            new DefaultBatchLoadRetryStrategy());
+            new DefaultBatchLoadRetryStrategy(),
+            1); // MaxConcurrentBatchWrites
 }
@@ -27,6 +27,7 @@ import com.amazonaws.services.dynamodbv2.model.LocalSecondaryIndex;
 import com.amazonaws.services.dynamodbv2.model.Projection;
 import com.amazonaws.services.dynamodbv2.model.ProjectionType;
 
+import java.lang.reflect.Constructor;
 import java.util.Arrays;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -47,6 +48,7 @@ public final class DynamoDBMapperTableModel<T> implements DynamoDBTypeConverter<
     private final Map<KeyType,DynamoDBMapperFieldModel<T,Object>> keys;
     private final Map<String,GlobalSecondaryIndex> gsis;
     private final Map<String,LocalSecondaryIndex> lsis;
+    private final Constructor<T> constructor;
 
     /**
      * Constructs a new table model for the specified class.
@@ -58,6 +60,7 @@ public final class DynamoDBMapperTableModel<T> implements DynamoDBTypeConverter<
         this.gsis = builder.globalSecondaryIndexes();
         this.lsis = builder.localSecondaryIndexes();
         this.properties = builder.copy();
+        this.constructor = StandardBeanProperties.declaredConstructorOf(targetType());
     }
 
     /**
@@ -237,12 +240,7 @@ public final class DynamoDBMapperTableModel<T> implements DynamoDBTypeConverter<
      */
     @Override
     public T unconvert(final Map<String,AttributeValue> object) {
-        final T result;
-        try {
-            result = targetType().newInstance();
-        } catch (final Exception e) {
-            throw new DynamoDBMappingException("could not instantiate " + targetType(), e);
-        }
+        final T result = newInstance();
         if (object != null && !object.isEmpty()) {
             for (final DynamoDBMapperFieldModel<T,Object> field : fields()) {
                 final AttributeValue value = object.get(field.name());
@@ -263,12 +261,7 @@ public final class DynamoDBMapperTableModel<T> implements DynamoDBTypeConverter<
      * @return The new instance.
      */
     public <H,R> T newKey(final H hashKey, final R rangeKey) {
-        final T key;
-        try {
-            key = targetType().newInstance();
-        } catch (final Exception e) {
-            throw new DynamoDBMappingException("could not instantiate " + targetType(), e);
-        }
+        final T key = newInstance();
         if (hashKey != null) {
             final DynamoDBMapperFieldModel<T,H> hk = hashKey();
             hk.set(key, hashKey);
@@ -344,6 +337,18 @@ public final class DynamoDBMapperTableModel<T> implements DynamoDBTypeConverter<
         return false;
     }
 
+    /**
+     * Creates a new object instance with the constructor resolved once for
+     * this model, or through the class if it has no no-argument constructor.
+     */
+    private T newInstance() {
+        try {
+            return constructor == null ? targetType().newInstance() : constructor.newInstance();
+        } catch (final Exception e) {
+            throw new DynamoDBMappingException("could not instantiate " + targetType(), e);
+        }
+    }
+
     /**
      * The table model properties.
      */
@@ -0,0 +1,406 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.dynamodbv2.datamodeling;
+
+import static com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.MAX_ITEMS_PER_BATCH;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.retry.RetryUtils;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.FailedBatch;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.BatchWriteRetryStrategy;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemResult;
+import com.amazonaws.services.dynamodbv2.model.WriteRequest;
+
+/**
+ * Sends the write requests of a {@link DynamoDBMapper#batchWrite} call with a
+ * bounded number of BatchWriteItem calls in flight.
+ * <p>
+ * The write requests are queued per table and sliced into batches of at most
+ * {@link DynamoDBMapper#MAX_ITEMS_PER_BATCH} items as calls complete.
+ * UnprocessedItems are put back at the head of the queue, once the delay of
+ * the {@link BatchWriteRetryStrategy} has elapsed, so that they are merged
+ * into the next batches rather than resent on their own; the calls in flight
+ * and the remaining items are not held back meanwhile. Throttling exceptions
+ * hold back new calls for the delay of the strategy, and batches that are too
+ * large are divided in two, as in the sequential case.
+ * <p>
+ * The state of the task is only accessed by the calling thread; the threads
+ * of the pool only make the service calls.
+ */
+class ParallelBatchWriteTask {
+
+    private final AmazonDynamoDB db;
+
+    private final BatchWriteRetryStrategy retryStrategy;
+
+    private final int maxConcurrency;
+
+    /**
+     * The write requests waiting to be sent, by table.
+     */
+    private final Map<String, LinkedList<PendingWrite>> pendingWrites =
+            new LinkedHashMap<String, LinkedList<PendingWrite>>();
+
+    /**
+     * The halves of batches that were too large, sent as they are.
+     */
+    private final LinkedList<List<PendingWrite>> dividedBatches = new LinkedList<List<PendingWrite>>();
+
+    /**
+     * UnprocessedItems waiting for the delay before they are retried.
+     */
+    private final List<DelayedWrites> delayedWrites = new LinkedList<DelayedWrites>();
+
+    private final List<FailedBatch> failedBatches = new LinkedList<FailedBatch>();
+
+    /**
+     * No new call is made before this time, after a throttling exception.
+     */
+    private long pausedUntil;
+
+    ParallelBatchWriteTask(AmazonDynamoDB db, BatchWriteRetryStrategy retryStrategy, int maxConcurrency) {
+        this.db = db;
+        this.retryStrategy = retryStrategy;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Writes the given items and returns the batches that could not be
+     * written.
+     */
+    List<FailedBatch> write(Map<String, List<WriteRequest>> requestItems) {
+        for (Entry<String, List<WriteRequest>> tableRequests : requestItems.entrySet()) {
+            LinkedList<PendingWrite> writes = new LinkedList<PendingWrite>();
+            for (WriteRequest writeRequest : tableRequests.getValue()) {
+                writes.add(new PendingWrite(tableRequests.getKey(), writeRequest, 0));
+            }
+            if (!writes.isEmpty()) {
+                pendingWrites.put(tableRequests.getKey(), writes);
+            }
+        }
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(maxConcurrency);
+        final CompletionService<BatchWriteResponse> completionService =
+                new ExecutorCompletionService<BatchWriteResponse>(executorService);
+        int inFlight = 0;
+        try {
+            while (true) {
+                long now = System.currentTimeMillis();
+                resumeDelayedWrites(now);
+
+                if (now >= pausedUntil) {
+                    while (inFlight < maxConcurrency) {
+                        List<PendingWrite> batch = nextBatch();
+                        if (batch == null) {
+                            break;
+                        }
+                        completionService.submit(new BatchWriteCall(batch));
+                        inFlight++;
+                    }
+                }
+
+                long wakeUpTime = nextWakeUpTime(now);
+                if (inFlight == 0) {
+                    if (wakeUpTime == Long.MAX_VALUE) {
+                        break;
+                    }
+                    Thread.sleep(Math.max(0, wakeUpTime - now));
+                    continue;
+                }
+
+                Future<BatchWriteResponse> completed = (wakeUpTime == Long.MAX_VALUE)
+                        ? completionService.take()
+                        : completionService.poll(Math.max(0, wakeUpTime - now), TimeUnit.MILLISECONDS);
+                if (completed != null) {
+                    inFlight--;
+                    handle(completed.get());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AmazonClientException(e.getMessage(), e);
+        } catch (ExecutionException e) {
+            throw new AmazonClientException("Unable to write batch", e.getCause());
+        } finally {
+            executorService.shutdownNow();
+        }
+        return failedBatches;
+    }
+
+    /**
+     * Returns the next batch to send, or null if there are no write requests
+     * waiting to be sent.
+     */
+    private List<PendingWrite> nextBatch() {
+        if (!dividedBatches.isEmpty()) {
+            return dividedBatches.removeFirst();
+        }
+        if (pendingWrites.isEmpty()) {
+            return null;
+        }
+        List<PendingWrite> batch = new ArrayList<PendingWrite>(MAX_ITEMS_PER_BATCH);
+        Iterator<LinkedList<PendingWrite>> tableIter = pendingWrites.values().iterator();
+        while (tableIter.hasNext() && batch.size() < MAX_ITEMS_PER_BATCH) {
+            LinkedList<PendingWrite> writes = tableIter.next();
+            while (!writes.isEmpty() && batch.size() < MAX_ITEMS_PER_BATCH) {
+                batch.add(writes.removeFirst());
+            }
+            if (writes.isEmpty()) {
+                tableIter.remove();
+            }
+        }
+        return batch;
+    }
+
+    /**
+     * Returns the time at which new calls may be made, or
+     * {@link Long#MAX_VALUE} if there is nothing left to wait for.
+     */
+    private long nextWakeUpTime(long now) {
+        long wakeUpTime = Long.MAX_VALUE;
+        if (pausedUntil > now && (!pendingWrites.isEmpty() || !dividedBatches.isEmpty())) {
+            wakeUpTime = pausedUntil;
+        }
+        for (DelayedWrites delayed : delayedWrites) {
+            wakeUpTime = Math.min(wakeUpTime, delayed.readyTime);
+        }
+        return wakeUpTime;
+    }
+
+    private void resumeDelayedWrites(long now) {
+        Iterator<DelayedWrites> iter = delayedWrites.iterator();
+        while (iter.hasNext()) {
+            DelayedWrites delayed = iter.next();
+            if (delayed.readyTime <= now) {
+                iter.remove();
+                requeue(delayed.writes);
+            }
+        }
+    }
+
+    /**
+     * Puts the given write requests back at the head of the queue of their
+     * table, so that they are sent with the next batch.
+     */
+    private void requeue(List<PendingWrite> writes) {
+        ListIterator<PendingWrite> iter = writes.listIterator(writes.size());
+        while (iter.hasPrevious()) {
+            PendingWrite write = iter.previous();
+            LinkedList<PendingWrite> tableWrites = pendingWrites.get(write.tableName);
+            if (tableWrites == null) {
+                tableWrites = new LinkedList<PendingWrite>();
+                pendingWrites.put(write.tableName, tableWrites);
+            }
+            tableWrites.addFirst(write);
+        }
+    }
+
+    private void handle(BatchWriteResponse response) {
+        if (response.exception != null) {
+            handleException(response);
+            return;
+        }
+        Map<String, List<WriteRequest>> unprocessedItems = response.result.getUnprocessedItems();
+        if (unprocessedItems == null || unprocessedItems.isEmpty()) {
+            return;
+        }
+
+        // The UnprocessedItems are copies of the write requests sent
+        Map<WriteRequest, PendingWrite> sentWrites = new HashMap<WriteRequest, PendingWrite>();
+        for (PendingWrite write : response.batch) {
+            sentWrites.put(write.writeRequest, write);
+        }
+        List<PendingWrite> retries = new ArrayList<PendingWrite>();
+        Map<String, List<WriteRequest>> exhausted = new HashMap<String, List<WriteRequest>>();
+        int retriesAttempted = 0;
+        for (Entry<String, List<WriteRequest>> tableRequests : unprocessedItems.entrySet()) {
+            for (WriteRequest writeRequest : tableRequests.getValue()) {
+                PendingWrite write = sentWrites.get(writeRequest);
+                int writeRetries = (write == null) ? response.maxRetriesAttempted() : write.retries;
+                if (response.maxRetries >= 0 && writeRetries >= response.maxRetries) {
+                    List<WriteRequest> tableExhausted = exhausted.get(tableRequests.getKey());
+                    if (tableExhausted == null) {
+                        tableExhausted = new LinkedList<WriteRequest>();
+                        exhausted.put(tableRequests.getKey(), tableExhausted);
+                    }
+                    tableExhausted.add(writeRequest);
+                } else {
+                    retries.add(new PendingWrite(tableRequests.getKey(), writeRequest, writeRetries + 1));
+                    retriesAttempted = Math.max(retriesAttempted, writeRetries);
+                }
+            }
+        }
+
+        if (!exhausted.isEmpty()) {
+            FailedBatch failedBatch = new FailedBatch();
+            failedBatch.setUnprocessedItems(exhausted);
+            failedBatch.setException(null);
+            failedBatches.add(failedBatch);
+        }
+        if (!retries.isEmpty()) {
+            long delay = retryStrategy.getDelayBeforeRetryUnprocessedItems(
+                    Collections.unmodifiableMap(toRequestItems(retries)), retriesAttempted);
+            if (delay > 0) {
+                delayedWrites.add(new DelayedWrites(System.currentTimeMillis() + delay, retries));
+            } else {
+                requeue(retries);
+            }
+        }
+    }
+
+    private void handleException(BatchWriteResponse response) {
+        Exception e = response.exception;
+        if (e instanceof AmazonServiceException
+                && RetryUtils.isRequestEntityTooLargeException((AmazonServiceException) e)
+                && response.batch.size() > 1) {
+            int half = response.batch.size() / 2;
+            dividedBatches.addFirst(new ArrayList<PendingWrite>(
+                    response.batch.subList(half, response.batch.size())));
+            dividedBatches.addFirst(new ArrayList<PendingWrite>(response.batch.subList(0, half)));
+            return;
+        }
+
+        FailedBatch failedBatch = new FailedBatch();
+        failedBatch.setUnprocessedItems(toRequestItems(response.batch));
+        failedBatch.setException(e);
+        failedBatches.add(failedBatch);
+
+        // If it is a throttling exception, we do a backoff
+        if (e instanceof AmazonServiceException
+                && RetryUtils.isThrottlingException((AmazonServiceException) e)) {
+            long delay = retryStrategy.getDelayBeforeRetryUnprocessedItems(
+                    Collections.unmodifiableMap(toRequestItems(allPendingWrites())), 0);
+            pausedUntil = Math.max(pausedUntil, System.currentTimeMillis() + delay);
+        }
+    }
+
+    private List<PendingWrite> allPendingWrites() {
+        List<PendingWrite> writes = new ArrayList<PendingWrite>();
+        for (List<PendingWrite> tableWrites : pendingWrites.values()) {
+            writes.addAll(tableWrites);
+        }
+        return writes;
+    }
+
+    private static Map<String, List<WriteRequest>> toRequestItems(List<PendingWrite> writes) {
+        Map<String, List<WriteRequest>> requestItems = new HashMap<String, List<WriteRequest>>();
+        for (PendingWrite write : writes) {
+            List<WriteRequest> tableRequests = requestItems.get(write.tableName);
+            if (tableRequests == null) {
+                tableRequests = new LinkedList<WriteRequest>();
+                requestItems.put(write.tableName, tableRequests);
+            }
+            tableRequests.add(write.writeRequest);
+        }
+        return requestItems;
+    }
+
+    /**
+     * A write request, with the number of times it has been resent.
+     */
+    private static final class PendingWrite {
+        private final String tableName;
+        private final WriteRequest writeRequest;
+        private final int retries;
+
+        private PendingWrite(String tableName, WriteRequest writeRequest, int retries) {
+            this.tableName = tableName;
+            this.writeRequest = writeRequest;
+            this.retries = retries;
+        }
+    }
+
+    private static final class DelayedWrites {
+        private final long readyTime;
+        private final List<PendingWrite> writes;
+
+        private DelayedWrites(long readyTime, List<PendingWrite> writes) {
+            this.readyTime = readyTime;
+            this.writes = writes;
+        }
+    }
+
+    private static final class BatchWriteResponse {
+        private final List<PendingWrite> batch;
+        private final int maxRetries;
+        private final BatchWriteItemResult result;
+        private final Exception exception;
+
+        private BatchWriteResponse(List<PendingWrite> batch, int maxRetries,
+                                   BatchWriteItemResult result, Exception exception) {
+            this.batch = batch;
+            this.maxRetries = maxRetries;
+            this.result = result;
+            this.exception = exception;
+        }
+
+        private int maxRetriesAttempted() {
+            int retries = 0;
+            for (PendingWrite write : batch) {
+                retries = Math.max(retries, write.retries);
+            }
+            return retries;
+        }
+    }
+
+    /**
+     * Makes one BatchWriteItem call, on one of the threads of the pool.
+     */
+    private final class BatchWriteCall implements Callable<BatchWriteResponse> {
+        private final List<PendingWrite> batch;
+        private final Map<String, List<WriteRequest>> requestItems;
+        private final int maxRetries;
+
+        private BatchWriteCall(List<PendingWrite> batch) {
+            this.batch = batch;
+            this.requestItems = toRequestItems(batch);
+            this.maxRetries = retryStrategy.getMaxRetryOnUnprocessedItems(
+                    Collections.unmodifiableMap(requestItems));
+        }
+
+        @Override
+        public BatchWriteResponse call() {
+            try {
+                BatchWriteItemResult result = db.batchWriteItem(DynamoDBMapper.applyBatchOperationUserAgent(
+                        new BatchWriteItemRequest().withRequestItems(requestItems)));
+                return new BatchWriteResponse(batch, maxRetries, result, null);
+            } catch (Exception e) {
+                return new BatchWriteResponse(batch, maxRetries, null, e);
+            }
+        }
+    }
+}
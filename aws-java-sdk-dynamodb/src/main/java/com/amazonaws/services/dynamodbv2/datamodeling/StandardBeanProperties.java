@@ -21,6 +21,8 @@ import com.amazonaws.services.dynamodbv2.datamodeling.StandardAnnotationMaps.Fie
 import com.amazonaws.services.dynamodbv2.datamodeling.StandardParameterTypes.ParamType;
 import com.amazonaws.util.StringUtils;
 
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.Collections;
@@ -134,10 +136,11 @@ final class StandardBeanProperties {
      * Get/set reflection operations.
      */
     private static class MethodReflect<T,V> implements Reflect<T,V> {
+        private static final Object[] NO_ARGS = new Object[0];
         private final Method getter, setter;
         private MethodReflect(final Method getter) {
-            this.setter = declaredSetterOf(getter);
-            this.getter = getter;
+            this.setter = accessible(declaredSetterOf(getter));
+            this.getter = accessible(getter);
         }
         final Class<V> targetType() {
             return (Class<V>)getter.getReturnType();
@@ -145,7 +148,7 @@ final class StandardBeanProperties {
         @Override
         public V get(final T object) {
             try {
-                return (V)getter.invoke(object);
+                return (V)getter.invoke(object, NO_ARGS);
             } catch (final Exception e) {
                 throw new DynamoDBMappingException("could not invoke " + getter + " on " + object.getClass(), e);
             }
@@ -165,9 +168,11 @@ final class StandardBeanProperties {
      */
     private static final class DeclaringMethodReflect<T,V> extends MethodReflect<T,V> {
         private final MethodReflect<T,T> declaring;
+        private final Constructor<T> constructor;
         private DeclaringMethodReflect(final Method getter, final MethodReflect<T,T> declaring) {
             super(getter);
             this.declaring = declaring;
+            this.constructor = declaredConstructorOf(declaring.targetType());
         }
         @Override
         public final V get(final T object) {
@@ -182,7 +187,7 @@ final class StandardBeanProperties {
             T declaringObject = declaring.get(object);
             if (declaringObject == null) {
                 try {
-                    declaringObject = declaring.targetType().newInstance();
+                    declaringObject = constructor == null ? declaring.targetType().newInstance() : constructor.newInstance();
                 } catch (final Exception e) {
                     throw new DynamoDBMappingException("could not instantiate " + declaring.targetType(), e);
                 }
@@ -301,6 +306,31 @@ final class StandardBeanProperties {
         return null;
     }
 
+    /**
+     * Gets the no-argument constructor of the class, or null if the class
+     * does not declare one.
+     */
+    static final <T> Constructor<T> declaredConstructorOf(final Class<T> clazz) {
+        try {
+            return accessible(clazz.getDeclaredConstructor());
+        } catch (final Exception no) {}
+        return null;
+    }
+
+    /**
+     * Suppresses the language access checks otherwise repeated on every
+     * reflective call; the member is still usable, only slower, if this is
+     * not permitted.
+     */
+    static final <M extends AccessibleObject> M accessible(final M member) {
+        if (member != null) {
+            try {
+                member.setAccessible(true);
+            } catch (final RuntimeException no) {}
+        }
+        return member;
+    }
+
     /**
      * Gets the declared setter from the getter method.
      */
@@ -0,0 +1,291 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.dynamodbv2.datamodeling;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.dynamodbv2.AbstractAmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.FailedBatch;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.BatchWriteRetryStrategy;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemResult;
+import com.amazonaws.services.dynamodbv2.model.WriteRequest;
+
+public class ParallelBatchWriteTest {
+
+    private static final String TABLE_NAME = "tableName";
+    private static final String HASH_ATTR = "hash";
+
+    @Test
+    public void batchesAreSentConcurrently() {
+        StubDynamoDB db = new StubDynamoDB() {
+            @Override
+            BatchWriteItemResult write(List<WriteRequest> requests) {
+                sleep(100);
+                return processed();
+            }
+        };
+
+        List<FailedBatch> failedBatches = newMapper(db, 4, 10).batchSave(newItems(100));
+
+        assertEquals(0, failedBatches.size());
+        assertEquals(4, db.calls.get());
+        assertEquals(4, db.maxInFlight.get());
+        assertEquals(100, db.written.size());
+    }
+
+    @Test
+    public void unprocessedItemsAreMergedIntoLaterBatches() {
+        final WriteRequest first = newItems(1).get(0).toWriteRequest();
+        StubDynamoDB db = new StubDynamoDB() {
+            private boolean returned;
+
+            @Override
+            BatchWriteItemResult write(List<WriteRequest> requests) {
+                if (!requests.contains(first)) {
+                    // Lets the batch with the unprocessed item complete first
+                    sleep(200);
+                    return processed();
+                }
+                synchronized (this) {
+                    if (!returned) {
+                        returned = true;
+                        return unprocessed(Collections.singletonList(first));
+                    }
+                }
+                batchSizeWithRetry.set(requests.size());
+                return processed();
+            }
+        };
+
+        List<FailedBatch> failedBatches = newMapper(db, 2, 10).batchSave(newItems(75));
+
+        assertEquals(0, failedBatches.size());
+        assertEquals(75, db.written.size());
+        assertEquals(25, db.batchSizeWithRetry.get());
+        assertEquals(4, db.calls.get());
+    }
+
+    @Test
+    public void unprocessedItemsExceedingMaxRetry_AreReturnedAsFailedBatch() {
+        final WriteRequest first = newItems(1).get(0).toWriteRequest();
+        StubDynamoDB db = new StubDynamoDB() {
+            @Override
+            BatchWriteItemResult write(List<WriteRequest> requests) {
+                if (requests.contains(first)) {
+                    return unprocessed(Collections.singletonList(first));
+                }
+                return processed();
+            }
+        };
+
+        List<FailedBatch> failedBatches = newMapper(db, 2, 2).batchSave(newItems(30));
+
+        assertEquals(1, failedBatches.size());
+        assertEquals(Collections.singletonMap(TABLE_NAME, Collections.singletonList(first)),
+                failedBatches.get(0).getUnprocessedItems());
+        assertNull(failedBatches.get(0).getException());
+        // The two batches, then the two retries of the unprocessed item
+        assertEquals(4, db.calls.get());
+        assertEquals(29, db.written.size());
+    }
+
+    @Test
+    public void exceptionThrown_BatchIsReturnedAsFailedBatch() {
+        final RuntimeException exception = new RuntimeException("BOOM");
+        final WriteRequest first = newItems(1).get(0).toWriteRequest();
+        StubDynamoDB db = new StubDynamoDB() {
+            @Override
+            BatchWriteItemResult write(List<WriteRequest> requests) {
+                if (requests.contains(first)) {
+                    throw exception;
+                }
+                return processed();
+            }
+        };
+
+        List<FailedBatch> failedBatches = newMapper(db, 2, 10).batchSave(newItems(30));
+
+        assertEquals(1, failedBatches.size());
+        assertSame(exception, failedBatches.get(0).getException());
+        assertEquals(25, failedBatches.get(0).getUnprocessedItems().get(TABLE_NAME).size());
+        assertEquals(5, db.written.size());
+    }
+
+    @Test
+    public void requestEntityTooLarge_BatchIsDivided() {
+        StubDynamoDB db = new StubDynamoDB() {
+            @Override
+            BatchWriteItemResult write(List<WriteRequest> requests) {
+                if (requests.size() > 10) {
+                    AmazonServiceException ase = new AmazonServiceException("Too large");
+                    ase.setStatusCode(413);
+                    throw ase;
+                }
+                return processed();
+            }
+        };
+
+        List<FailedBatch> failedBatches = newMapper(db, 2, 10).batchSave(newItems(25));
+
+        assertEquals(0, failedBatches.size());
+        assertEquals(25, db.written.size());
+        // 25 -> 12 + 13 -> 6 + 6 + 6 + 7
+        assertEquals(7, db.calls.get());
+    }
+
+    @Test
+    public void maxConcurrentBatchWrites_IsMerged() {
+        DynamoDBMapperConfig overrides = new DynamoDBMapperConfig.Builder()
+                .withMaxConcurrentBatchWrites(8)
+                .build();
+        assertEquals(Integer.valueOf(1), DynamoDBMapperConfig.DEFAULT.getMaxConcurrentBatchWrites());
+        assertEquals(Integer.valueOf(8),
+                new DynamoDBMapperConfig(DynamoDBMapperConfig.DEFAULT, overrides).getMaxConcurrentBatchWrites());
+        assertEquals(Integer.valueOf(8), new DynamoDBMapperConfig(overrides,
+                new DynamoDBMapperConfig(DynamoDBMapperConfig.SaveBehavior.CLOBBER)).getMaxConcurrentBatchWrites());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void maxConcurrentBatchWrites_MustBePositive() {
+        new DynamoDBMapperConfig.Builder().withMaxConcurrentBatchWrites(0);
+    }
+
+    private static DynamoDBMapper newMapper(AbstractAmazonDynamoDB db, int maxConcurrentBatchWrites, int maxRetry) {
+        return new DynamoDBMapper(db, new DynamoDBMapperConfig.Builder()
+                .withMaxConcurrentBatchWrites(maxConcurrentBatchWrites)
+                .withBatchWriteRetryStrategy(new BatchWriteRetryStrategyWithNoDelay(maxRetry))
+                .build());
+    }
+
+    private static List<Item> newItems(int count) {
+        List<Item> items = new ArrayList<Item>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(new Item("item" + i));
+        }
+        return items;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static abstract class StubDynamoDB extends AbstractAmazonDynamoDB {
+        final AtomicInteger calls = new AtomicInteger();
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        final AtomicInteger batchSizeWithRetry = new AtomicInteger();
+        final List<WriteRequest> written = Collections.synchronizedList(new ArrayList<WriteRequest>());
+
+        @Override
+        public BatchWriteItemResult batchWriteItem(BatchWriteItemRequest request) {
+            calls.incrementAndGet();
+            int current = inFlight.incrementAndGet();
+            synchronized (maxInFlight) {
+                maxInFlight.set(Math.max(maxInFlight.get(), current));
+            }
+            try {
+                List<WriteRequest> requests = request.getRequestItems().get(TABLE_NAME);
+                BatchWriteItemResult result = write(requests);
+                List<WriteRequest> unprocessed = result.getUnprocessedItems().get(TABLE_NAME);
+                for (WriteRequest writeRequest : requests) {
+                    if (unprocessed == null || !unprocessed.contains(writeRequest)) {
+                        written.add(writeRequest);
+                    }
+                }
+                return result;
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+
+        abstract BatchWriteItemResult write(List<WriteRequest> requests);
+
+        BatchWriteItemResult processed() {
+            return new BatchWriteItemResult()
+                    .withUnprocessedItems(Collections.<String, List<WriteRequest>>emptyMap());
+        }
+
+        BatchWriteItemResult unprocessed(List<WriteRequest> requests) {
+            Map<String, List<WriteRequest>> unprocessedItems = new HashMap<String, List<WriteRequest>>();
+            // The service returns copies of the write requests
+            List<WriteRequest> copies = new ArrayList<WriteRequest>();
+            for (WriteRequest writeRequest : requests) {
+                copies.add(writeRequest.clone());
+            }
+            unprocessedItems.put(TABLE_NAME, copies);
+            return new BatchWriteItemResult().withUnprocessedItems(unprocessedItems);
+        }
+    }
+
+    private static class BatchWriteRetryStrategyWithNoDelay implements BatchWriteRetryStrategy {
+
+        private final int maxRetry;
+
+        public BatchWriteRetryStrategyWithNoDelay(int maxRetry) {
+            this.maxRetry = maxRetry;
+        }
+
+        @Override
+        public int getMaxRetryOnUnprocessedItems(Map<String, List<WriteRequest>> batchWriteItemInput) {
+            return maxRetry;
+        }
+
+        @Override
+        public long getDelayBeforeRetryUnprocessedItems(Map<String, List<WriteRequest>> unprocessedItems,
+                                                        int retriesAttempted) {
+            return 0;
+        }
+    }
+
+    @DynamoDBTable(tableName = TABLE_NAME)
+    public static class Item {
+
+        private String hash;
+
+        public Item(String hash) {
+            this.hash = hash;
+        }
+
+        @DynamoDBHashKey(attributeName = HASH_ATTR)
+        public String getHash() {
+            return hash;
+        }
+
+        public void setHash(String hash) {
+            this.hash = hash;
+        }
+
+        public WriteRequest toWriteRequest() {
+            return new BatchWriteRetryStrategyTest.Item(hash).toPutSaveRequest();
+        }
+    }
+}
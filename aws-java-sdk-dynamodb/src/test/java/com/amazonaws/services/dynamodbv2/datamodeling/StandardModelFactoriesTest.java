@@ -20,6 +20,7 @@ import static org.junit.Assert.assertNotNull;
 import com.amazonaws.services.dynamodbv2.pojos.AutoKeyAndVal;
 import com.amazonaws.services.dynamodbv2.pojos.Currency;
 import com.amazonaws.services.dynamodbv2.pojos.DateRange;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
 import com.amazonaws.services.dynamodbv2.model.KeyType;
 import com.amazonaws.services.dynamodbv2.model.ScalarAttributeType;
 
@@ -30,6 +31,7 @@ import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.TimeZone;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
@@ -972,6 +974,35 @@ public class StandardModelFactoriesTest implements DynamoDBMapperModelFactory {
         public void setIgnoredAttr(String ignoredAttr) { this.ignoredAttr = ignoredAttr; }
     }
 
+    /**
+     * Test conversions.
+     */
+    @Test
+    public void testConvertAndUnconvertWithPrivateConstructor() {
+        final DynamoDBMapperTableModel<PrivateConstructorPojo> model = getTableModel(PrivateConstructorPojo.class);
+        final PrivateConstructorPojo object = new PrivateConstructorPojo();
+        object.setHashKey("hash");
+        object.setCount(42);
+        final Map<String,AttributeValue> attributes = model.convert(object);
+        assertEquals("hash", attributes.get("hashKey").getS());
+        assertEquals("42", attributes.get("count").getN());
+        final PrivateConstructorPojo unconverted = model.unconvert(attributes);
+        assertEquals("hash", unconverted.getHashKey());
+        assertEquals(42, unconverted.getCount());
+        assertEquals("hash", model.newKey("hash", null).getHashKey());
+    }
+    @DynamoDBTable(tableName="table")
+    private static class PrivateConstructorPojo {
+        private String hashKey;
+        private int count;
+        private PrivateConstructorPojo() {}
+        @DynamoDBHashKey
+        public String getHashKey() { return hashKey; }
+        public void setHashKey(String hashKey) { this.hashKey = hashKey; }
+        public int getCount() { return count; }
+        public void setCount(int count) { this.count = count; }
+    }
+
     /**
      * Test mappings.
      */
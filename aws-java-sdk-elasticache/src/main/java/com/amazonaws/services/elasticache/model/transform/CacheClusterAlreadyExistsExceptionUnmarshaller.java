@@ -26,7 +26,7 @@ public class CacheClusterAlreadyExistsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public CacheClusterAlreadyExistsExceptionUnmarshaller() {
-        super(CacheClusterAlreadyExistsException.class);
+        super(CacheClusterAlreadyExistsException.class, "CacheClusterAlreadyExists");
     }
 
     @Override
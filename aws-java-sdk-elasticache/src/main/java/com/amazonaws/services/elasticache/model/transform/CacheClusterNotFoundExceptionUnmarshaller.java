@@ -26,7 +26,7 @@ public class CacheClusterNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public CacheClusterNotFoundExceptionUnmarshaller() {
-        super(CacheClusterNotFoundException.class);
+        super(CacheClusterNotFoundException.class, "CacheClusterNotFound");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class CacheParameterGroupAlreadyExistsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public CacheParameterGroupAlreadyExistsExceptionUnmarshaller() {
-        super(CacheParameterGroupAlreadyExistsException.class);
+        super(CacheParameterGroupAlreadyExistsException.class, "CacheParameterGroupAlreadyExists");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class CacheParameterGroupNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public CacheParameterGroupNotFoundExceptionUnmarshaller() {
-        super(CacheParameterGroupNotFoundException.class);
+        super(CacheParameterGroupNotFoundException.class, "CacheParameterGroupNotFound");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class CacheParameterGroupQuotaExceededExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public CacheParameterGroupQuotaExceededExceptionUnmarshaller() {
-        super(CacheParameterGroupQuotaExceededException.class);
+        super(CacheParameterGroupQuotaExceededException.class, "CacheParameterGroupQuotaExceeded");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class CacheSecurityGroupAlreadyExistsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public CacheSecurityGroupAlreadyExistsExceptionUnmarshaller() {
-        super(CacheSecurityGroupAlreadyExistsException.class);
+        super(CacheSecurityGroupAlreadyExistsException.class, "CacheSecurityGroupAlreadyExists");
     }
 
     @Override
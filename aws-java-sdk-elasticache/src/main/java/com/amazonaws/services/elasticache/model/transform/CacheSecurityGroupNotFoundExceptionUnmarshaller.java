@@ -26,7 +26,7 @@ public class CacheSecurityGroupNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public CacheSecurityGroupNotFoundExceptionUnmarshaller() {
-        super(CacheSecurityGroupNotFoundException.class);
+        super(CacheSecurityGroupNotFoundException.class, "CacheSecurityGroupNotFound");
     }
 
     @Override
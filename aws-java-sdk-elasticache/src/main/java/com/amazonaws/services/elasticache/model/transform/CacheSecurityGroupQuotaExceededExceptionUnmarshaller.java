@@ -26,7 +26,7 @@ public class CacheSecurityGroupQuotaExceededExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public CacheSecurityGroupQuotaExceededExceptionUnmarshaller() {
-        super(CacheSecurityGroupQuotaExceededException.class);
+        super(CacheSecurityGroupQuotaExceededException.class, "QuotaExceeded.CacheSecurityGroup");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class CacheSubnetGroupAlreadyExistsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public CacheSubnetGroupAlreadyExistsExceptionUnmarshaller() {
-        super(CacheSubnetGroupAlreadyExistsException.class);
+        super(CacheSubnetGroupAlreadyExistsException.class, "CacheSubnetGroupAlreadyExists");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class CacheSubnetGroupInUseExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public CacheSubnetGroupInUseExceptionUnmarshaller() {
-        super(CacheSubnetGroupInUseException.class);
+        super(CacheSubnetGroupInUseException.class, "CacheSubnetGroupInUse");
     }
 
     @Override
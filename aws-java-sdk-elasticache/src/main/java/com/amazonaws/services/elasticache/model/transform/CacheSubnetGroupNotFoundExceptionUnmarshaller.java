@@ -26,7 +26,7 @@ public class CacheSubnetGroupNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public CacheSubnetGroupNotFoundExceptionUnmarshaller() {
-        super(CacheSubnetGroupNotFoundException.class);
+        super(CacheSubnetGroupNotFoundException.class, "CacheSubnetGroupNotFoundFault");
     }
 
     @Override
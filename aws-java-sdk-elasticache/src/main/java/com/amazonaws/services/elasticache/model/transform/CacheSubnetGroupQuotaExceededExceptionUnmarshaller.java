@@ -26,7 +26,7 @@ public class CacheSubnetGroupQuotaExceededExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public CacheSubnetGroupQuotaExceededExceptionUnmarshaller() {
-        super(CacheSubnetGroupQuotaExceededException.class);
+        super(CacheSubnetGroupQuotaExceededException.class, "CacheSubnetGroupQuotaExceeded");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class CacheSubnetQuotaExceededExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public CacheSubnetQuotaExceededExceptionUnmarshaller() {
-        super(CacheSubnetQuotaExceededException.class);
+        super(CacheSubnetQuotaExceededException.class, "CacheSubnetQuotaExceededFault");
     }
 
     @Override
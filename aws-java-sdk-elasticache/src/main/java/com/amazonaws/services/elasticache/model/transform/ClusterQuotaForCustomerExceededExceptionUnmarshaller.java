@@ -26,7 +26,7 @@ public class ClusterQuotaForCustomerExceededExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public ClusterQuotaForCustomerExceededExceptionUnmarshaller() {
-        super(ClusterQuotaForCustomerExceededException.class);
+        super(ClusterQuotaForCustomerExceededException.class, "ClusterQuotaForCustomerExceeded");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InsufficientCacheClusterCapacityExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InsufficientCacheClusterCapacityExceptionUnmarshaller() {
-        super(InsufficientCacheClusterCapacityException.class);
+        super(InsufficientCacheClusterCapacityException.class, "InsufficientCacheClusterCapacity");
     }
 
     @Override
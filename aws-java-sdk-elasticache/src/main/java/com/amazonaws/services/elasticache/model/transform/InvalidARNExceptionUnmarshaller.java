@@ -25,7 +25,7 @@ import com.amazonaws.services.elasticache.model.InvalidARNException;
 public class InvalidARNExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public InvalidARNExceptionUnmarshaller() {
-        super(InvalidARNException.class);
+        super(InvalidARNException.class, "InvalidARN");
     }
 
     @Override
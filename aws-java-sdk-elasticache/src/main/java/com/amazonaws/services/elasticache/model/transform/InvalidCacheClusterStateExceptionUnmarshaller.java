@@ -26,7 +26,7 @@ public class InvalidCacheClusterStateExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidCacheClusterStateExceptionUnmarshaller() {
-        super(InvalidCacheClusterStateException.class);
+        super(InvalidCacheClusterStateException.class, "InvalidCacheClusterState");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InvalidCacheParameterGroupStateExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidCacheParameterGroupStateExceptionUnmarshaller() {
-        super(InvalidCacheParameterGroupStateException.class);
+        super(InvalidCacheParameterGroupStateException.class, "InvalidCacheParameterGroupState");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InvalidCacheSecurityGroupStateExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidCacheSecurityGroupStateExceptionUnmarshaller() {
-        super(InvalidCacheSecurityGroupStateException.class);
+        super(InvalidCacheSecurityGroupStateException.class, "InvalidCacheSecurityGroupState");
     }
 
     @Override
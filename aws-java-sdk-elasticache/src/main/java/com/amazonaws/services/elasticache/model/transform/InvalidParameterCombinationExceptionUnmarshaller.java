@@ -26,7 +26,7 @@ public class InvalidParameterCombinationExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidParameterCombinationExceptionUnmarshaller() {
-        super(InvalidParameterCombinationException.class);
+        super(InvalidParameterCombinationException.class, "InvalidParameterCombination");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InvalidReplicationGroupStateExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidReplicationGroupStateExceptionUnmarshaller() {
-        super(InvalidReplicationGroupStateException.class);
+        super(InvalidReplicationGroupStateException.class, "InvalidReplicationGroupState");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InvalidSnapshotStateExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidSnapshotStateExceptionUnmarshaller() {
-        super(InvalidSnapshotStateException.class);
+        super(InvalidSnapshotStateException.class, "InvalidSnapshotState");
     }
 
     @Override
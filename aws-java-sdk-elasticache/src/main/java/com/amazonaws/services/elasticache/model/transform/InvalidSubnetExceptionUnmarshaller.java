@@ -26,7 +26,7 @@ public class InvalidSubnetExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidSubnetExceptionUnmarshaller() {
-        super(InvalidSubnetException.class);
+        super(InvalidSubnetException.class, "InvalidSubnet");
     }
 
     @Override
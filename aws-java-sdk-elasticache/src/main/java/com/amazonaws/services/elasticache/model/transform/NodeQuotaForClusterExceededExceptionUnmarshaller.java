@@ -26,7 +26,7 @@ public class NodeQuotaForClusterExceededExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public NodeQuotaForClusterExceededExceptionUnmarshaller() {
-        super(NodeQuotaForClusterExceededException.class);
+        super(NodeQuotaForClusterExceededException.class, "NodeQuotaForClusterExceeded");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class NodeQuotaForCustomerExceededExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public NodeQuotaForCustomerExceededExceptionUnmarshaller() {
-        super(NodeQuotaForCustomerExceededException.class);
+        super(NodeQuotaForCustomerExceededException.class, "NodeQuotaForCustomerExceeded");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class ReplicationGroupAlreadyExistsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public ReplicationGroupAlreadyExistsExceptionUnmarshaller() {
-        super(ReplicationGroupAlreadyExistsException.class);
+        super(ReplicationGroupAlreadyExistsException.class, "ReplicationGroupAlreadyExists");
     }
 
     @Override
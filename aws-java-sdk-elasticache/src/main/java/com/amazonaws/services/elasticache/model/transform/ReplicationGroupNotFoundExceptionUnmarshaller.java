@@ -26,7 +26,7 @@ public class ReplicationGroupNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public ReplicationGroupNotFoundExceptionUnmarshaller() {
-        super(ReplicationGroupNotFoundException.class);
+        super(ReplicationGroupNotFoundException.class, "ReplicationGroupNotFoundFault");
     }
 
     @Override
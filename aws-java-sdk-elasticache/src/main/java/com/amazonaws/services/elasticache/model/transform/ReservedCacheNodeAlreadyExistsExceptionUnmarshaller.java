@@ -26,7 +26,7 @@ public class ReservedCacheNodeAlreadyExistsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public ReservedCacheNodeAlreadyExistsExceptionUnmarshaller() {
-        super(ReservedCacheNodeAlreadyExistsException.class);
+        super(ReservedCacheNodeAlreadyExistsException.class, "ReservedCacheNodeAlreadyExists");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class ReservedCacheNodeNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public ReservedCacheNodeNotFoundExceptionUnmarshaller() {
-        super(ReservedCacheNodeNotFoundException.class);
+        super(ReservedCacheNodeNotFoundException.class, "ReservedCacheNodeNotFound");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class ReservedCacheNodeQuotaExceededExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public ReservedCacheNodeQuotaExceededExceptionUnmarshaller() {
-        super(ReservedCacheNodeQuotaExceededException.class);
+        super(ReservedCacheNodeQuotaExceededException.class, "ReservedCacheNodeQuotaExceeded");
     }
 
     @Override
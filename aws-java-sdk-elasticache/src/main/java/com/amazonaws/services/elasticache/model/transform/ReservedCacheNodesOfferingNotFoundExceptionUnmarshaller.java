@@ -26,7 +26,7 @@ public class ReservedCacheNodesOfferingNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public ReservedCacheNodesOfferingNotFoundExceptionUnmarshaller() {
-        super(ReservedCacheNodesOfferingNotFoundException.class);
+        super(ReservedCacheNodesOfferingNotFoundException.class, "ReservedCacheNodesOfferingNotFound");
     }
 
     @Override
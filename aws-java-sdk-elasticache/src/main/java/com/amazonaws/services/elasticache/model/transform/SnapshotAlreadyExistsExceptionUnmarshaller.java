@@ -26,7 +26,7 @@ public class SnapshotAlreadyExistsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public SnapshotAlreadyExistsExceptionUnmarshaller() {
-        super(SnapshotAlreadyExistsException.class);
+        super(SnapshotAlreadyExistsException.class, "SnapshotAlreadyExistsFault");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class SnapshotFeatureNotSupportedExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public SnapshotFeatureNotSupportedExceptionUnmarshaller() {
-        super(SnapshotFeatureNotSupportedException.class);
+        super(SnapshotFeatureNotSupportedException.class, "SnapshotFeatureNotSupportedFault");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class SnapshotNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public SnapshotNotFoundExceptionUnmarshaller() {
-        super(SnapshotNotFoundException.class);
+        super(SnapshotNotFoundException.class, "SnapshotNotFoundFault");
     }
 
     @Override
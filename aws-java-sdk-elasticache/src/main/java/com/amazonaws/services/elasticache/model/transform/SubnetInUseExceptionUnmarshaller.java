@@ -25,7 +25,7 @@ import com.amazonaws.services.elasticache.model.SubnetInUseException;
 public class SubnetInUseExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public SubnetInUseExceptionUnmarshaller() {
-        super(SubnetInUseException.class);
+        super(SubnetInUseException.class, "SubnetInUse");
     }
 
     @Override
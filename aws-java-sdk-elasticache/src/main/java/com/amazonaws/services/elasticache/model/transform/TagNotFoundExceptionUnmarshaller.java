@@ -25,7 +25,7 @@ import com.amazonaws.services.elasticache.model.TagNotFoundException;
 public class TagNotFoundExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public TagNotFoundExceptionUnmarshaller() {
-        super(TagNotFoundException.class);
+        super(TagNotFoundException.class, "TagNotFound");
     }
 
     @Override
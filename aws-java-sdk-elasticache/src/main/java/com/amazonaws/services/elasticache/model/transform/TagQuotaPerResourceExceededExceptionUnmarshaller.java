@@ -26,7 +26,7 @@ public class TagQuotaPerResourceExceededExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public TagQuotaPerResourceExceededExceptionUnmarshaller() {
-        super(TagQuotaPerResourceExceededException.class);
+        super(TagQuotaPerResourceExceededException.class, "TagQuotaPerResourceExceeded");
     }
 
     @Override
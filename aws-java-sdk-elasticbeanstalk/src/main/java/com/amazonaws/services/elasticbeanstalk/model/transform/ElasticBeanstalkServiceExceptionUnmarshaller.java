@@ -26,7 +26,7 @@ public class ElasticBeanstalkServiceExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public ElasticBeanstalkServiceExceptionUnmarshaller() {
-        super(ElasticBeanstalkServiceException.class);
+        super(ElasticBeanstalkServiceException.class, "ElasticBeanstalkServiceException");
     }
 
     @Override
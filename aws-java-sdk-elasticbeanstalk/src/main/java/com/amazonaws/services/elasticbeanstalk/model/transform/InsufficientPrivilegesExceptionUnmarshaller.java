@@ -26,7 +26,7 @@ public class InsufficientPrivilegesExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InsufficientPrivilegesExceptionUnmarshaller() {
-        super(InsufficientPrivilegesException.class);
+        super(InsufficientPrivilegesException.class, "InsufficientPrivilegesException");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InvalidRequestExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidRequestExceptionUnmarshaller() {
-        super(InvalidRequestException.class);
+        super(InvalidRequestException.class, "InvalidRequestException");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class ManagedActionInvalidStateExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public ManagedActionInvalidStateExceptionUnmarshaller() {
-        super(ManagedActionInvalidStateException.class);
+        super(ManagedActionInvalidStateException.class, "ManagedActionInvalidStateException");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class OperationInProgressExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public OperationInProgressExceptionUnmarshaller() {
-        super(OperationInProgressException.class);
+        super(OperationInProgressException.class, "OperationInProgressFailure");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class S3LocationNotInServiceRegionExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public S3LocationNotInServiceRegionExceptionUnmarshaller() {
-        super(S3LocationNotInServiceRegionException.class);
+        super(S3LocationNotInServiceRegionException.class, "S3LocationNotInServiceRegionException");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class S3SubscriptionRequiredExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public S3SubscriptionRequiredExceptionUnmarshaller() {
-        super(S3SubscriptionRequiredException.class);
+        super(S3SubscriptionRequiredException.class, "S3SubscriptionRequiredException");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class SourceBundleDeletionExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public SourceBundleDeletionExceptionUnmarshaller() {
-        super(SourceBundleDeletionException.class);
+        super(SourceBundleDeletionException.class, "SourceBundleDeletionFailure");
     }
 
     @Override
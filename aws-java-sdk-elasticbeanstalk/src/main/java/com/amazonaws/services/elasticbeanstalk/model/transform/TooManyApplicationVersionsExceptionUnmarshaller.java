@@ -26,7 +26,7 @@ public class TooManyApplicationVersionsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public TooManyApplicationVersionsExceptionUnmarshaller() {
-        super(TooManyApplicationVersionsException.class);
+        super(TooManyApplicationVersionsException.class, "TooManyApplicationVersionsException");
     }
 
     @Override
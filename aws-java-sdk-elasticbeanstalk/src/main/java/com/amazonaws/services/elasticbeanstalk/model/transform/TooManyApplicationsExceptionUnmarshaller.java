@@ -26,7 +26,7 @@ public class TooManyApplicationsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public TooManyApplicationsExceptionUnmarshaller() {
-        super(TooManyApplicationsException.class);
+        super(TooManyApplicationsException.class, "TooManyApplicationsException");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class TooManyBucketsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public TooManyBucketsExceptionUnmarshaller() {
-        super(TooManyBucketsException.class);
+        super(TooManyBucketsException.class, "TooManyBucketsException");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class TooManyConfigurationTemplatesExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public TooManyConfigurationTemplatesExceptionUnmarshaller() {
-        super(TooManyConfigurationTemplatesException.class);
+        super(TooManyConfigurationTemplatesException.class, "TooManyConfigurationTemplatesException");
     }
 
     @Override
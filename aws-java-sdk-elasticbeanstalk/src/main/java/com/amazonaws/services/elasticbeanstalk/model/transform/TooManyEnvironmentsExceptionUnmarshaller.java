@@ -26,7 +26,7 @@ public class TooManyEnvironmentsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public TooManyEnvironmentsExceptionUnmarshaller() {
-        super(TooManyEnvironmentsException.class);
+        super(TooManyEnvironmentsException.class, "TooManyEnvironmentsException");
     }
 
     @Override
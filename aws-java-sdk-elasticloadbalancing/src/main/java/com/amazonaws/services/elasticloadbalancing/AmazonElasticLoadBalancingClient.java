@@ -93,6 +93,12 @@ public class AmazonElasticLoadBalancingClient extends AmazonWebServiceClient
      */
     protected final List<Unmarshaller<AmazonServiceException, Node>> exceptionUnmarshallers = new ArrayList<Unmarshaller<AmazonServiceException, Node>>();
 
+    /**
+     * Handler of the error responses, built once all the exception
+     * unmarshallers are registered
+     */
+    private volatile DefaultErrorResponseHandler errorResponseHandler;
+
     /**
      * Constructs a new client to invoke service methods on Elastic Load
      * Balancing. A credentials provider chain will be used that searches for
@@ -302,6 +308,9 @@ public class AmazonElasticLoadBalancingClient extends AmazonWebServiceClient
                 .add(new StandardErrorUnmarshaller(
                         com.amazonaws.services.elasticloadbalancing.model.AmazonElasticLoadBalancingException.class));
 
+        errorResponseHandler = new DefaultErrorResponseHandler(
+                exceptionUnmarshallers);
+
         setServiceNameIntern(DEFAULT_SIGNING_NAME);
         setEndpointPrefix(ENDPOINT_PREFIX);
         // calling this.setEndPoint(...) will also modify the signer accordingly
@@ -2057,9 +2066,6 @@ public class AmazonElasticLoadBalancingClient extends AmazonWebServiceClient
         request.setEndpoint(endpoint);
         request.setTimeOffset(timeOffset);
 
-        DefaultErrorResponseHandler errorResponseHandler = new DefaultErrorResponseHandler(
-                exceptionUnmarshallers);
-
         return client.execute(request, responseHandler, errorResponseHandler,
                 executionContext);
     }
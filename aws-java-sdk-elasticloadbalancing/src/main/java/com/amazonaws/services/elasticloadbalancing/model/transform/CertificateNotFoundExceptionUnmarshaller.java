@@ -26,7 +26,7 @@ public class CertificateNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public CertificateNotFoundExceptionUnmarshaller() {
-        super(CertificateNotFoundException.class);
+        super(CertificateNotFoundException.class, "CertificateNotFound");
     }
 
     @Override
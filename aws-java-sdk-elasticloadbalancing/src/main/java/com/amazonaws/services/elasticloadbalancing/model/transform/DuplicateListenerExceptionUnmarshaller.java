@@ -26,7 +26,7 @@ public class DuplicateListenerExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public DuplicateListenerExceptionUnmarshaller() {
-        super(DuplicateListenerException.class);
+        super(DuplicateListenerException.class, "DuplicateListener");
     }
 
     @Override
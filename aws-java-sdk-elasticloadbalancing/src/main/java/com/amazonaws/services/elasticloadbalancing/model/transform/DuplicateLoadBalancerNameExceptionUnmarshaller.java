@@ -26,7 +26,7 @@ public class DuplicateLoadBalancerNameExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public DuplicateLoadBalancerNameExceptionUnmarshaller() {
-        super(DuplicateLoadBalancerNameException.class);
+        super(DuplicateLoadBalancerNameException.class, "DuplicateLoadBalancerName");
     }
 
     @Override
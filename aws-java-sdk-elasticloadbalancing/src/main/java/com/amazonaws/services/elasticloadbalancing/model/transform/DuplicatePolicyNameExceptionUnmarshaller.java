@@ -26,7 +26,7 @@ public class DuplicatePolicyNameExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public DuplicatePolicyNameExceptionUnmarshaller() {
-        super(DuplicatePolicyNameException.class);
+        super(DuplicatePolicyNameException.class, "DuplicatePolicyName");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class DuplicateTagKeysExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public DuplicateTagKeysExceptionUnmarshaller() {
-        super(DuplicateTagKeysException.class);
+        super(DuplicateTagKeysException.class, "DuplicateTagKeys");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InvalidConfigurationRequestExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidConfigurationRequestExceptionUnmarshaller() {
-        super(InvalidConfigurationRequestException.class);
+        super(InvalidConfigurationRequestException.class, "InvalidConfigurationRequest");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InvalidInstanceExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidInstanceExceptionUnmarshaller() {
-        super(InvalidInstanceException.class);
+        super(InvalidInstanceException.class, "InvalidInstance");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InvalidSchemeExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidSchemeExceptionUnmarshaller() {
-        super(InvalidSchemeException.class);
+        super(InvalidSchemeException.class, "InvalidScheme");
     }
 
     @Override
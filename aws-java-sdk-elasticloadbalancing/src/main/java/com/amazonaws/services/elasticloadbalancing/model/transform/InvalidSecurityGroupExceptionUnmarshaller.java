@@ -26,7 +26,7 @@ public class InvalidSecurityGroupExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidSecurityGroupExceptionUnmarshaller() {
-        super(InvalidSecurityGroupException.class);
+        super(InvalidSecurityGroupException.class, "InvalidSecurityGroup");
     }
 
     @Override
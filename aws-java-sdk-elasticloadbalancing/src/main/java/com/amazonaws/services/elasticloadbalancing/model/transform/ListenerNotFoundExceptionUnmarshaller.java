@@ -26,7 +26,7 @@ public class ListenerNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public ListenerNotFoundExceptionUnmarshaller() {
-        super(ListenerNotFoundException.class);
+        super(ListenerNotFoundException.class, "ListenerNotFound");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class LoadBalancerAttributeNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public LoadBalancerAttributeNotFoundExceptionUnmarshaller() {
-        super(LoadBalancerAttributeNotFoundException.class);
+        super(LoadBalancerAttributeNotFoundException.class, "LoadBalancerAttributeNotFound");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class LoadBalancerNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public LoadBalancerNotFoundExceptionUnmarshaller() {
-        super(LoadBalancerNotFoundException.class);
+        super(LoadBalancerNotFoundException.class, "LoadBalancerNotFound");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class PolicyNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public PolicyNotFoundExceptionUnmarshaller() {
-        super(PolicyNotFoundException.class);
+        super(PolicyNotFoundException.class, "PolicyNotFound");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class PolicyTypeNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public PolicyTypeNotFoundExceptionUnmarshaller() {
-        super(PolicyTypeNotFoundException.class);
+        super(PolicyTypeNotFoundException.class, "PolicyTypeNotFound");
     }
 
     @Override
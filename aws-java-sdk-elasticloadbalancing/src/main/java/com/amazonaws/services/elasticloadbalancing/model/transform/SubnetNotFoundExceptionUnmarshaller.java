@@ -26,7 +26,7 @@ public class SubnetNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public SubnetNotFoundExceptionUnmarshaller() {
-        super(SubnetNotFoundException.class);
+        super(SubnetNotFoundException.class, "SubnetNotFound");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class TooManyLoadBalancersExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public TooManyLoadBalancersExceptionUnmarshaller() {
-        super(TooManyLoadBalancersException.class);
+        super(TooManyLoadBalancersException.class, "TooManyLoadBalancers");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class TooManyPoliciesExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public TooManyPoliciesExceptionUnmarshaller() {
-        super(TooManyPoliciesException.class);
+        super(TooManyPoliciesException.class, "TooManyPolicies");
     }
 
     @Override
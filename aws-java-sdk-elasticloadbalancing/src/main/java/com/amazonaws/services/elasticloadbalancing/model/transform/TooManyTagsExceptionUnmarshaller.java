@@ -25,7 +25,7 @@ import com.amazonaws.services.elasticloadbalancing.model.TooManyTagsException;
 public class TooManyTagsExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public TooManyTagsExceptionUnmarshaller() {
-        super(TooManyTagsException.class);
+        super(TooManyTagsException.class, "TooManyTags");
     }
 
     @Override
@@ -19,13 +19,24 @@ import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.amazonaws.AmazonClientException;
-import com.amazonaws.internal.ResettableInputStream;
+import com.amazonaws.util.Throwables;
 import com.amazonaws.services.glacier.internal.TreeHashInputStream;
 import com.amazonaws.util.BinaryUtils;
 
@@ -37,9 +48,19 @@ import com.amazonaws.util.BinaryUtils;
  */
 public class TreeHashGenerator {
 
+    /** Size, in bytes, of the parts of data whose checksums are the leaves of the tree. */
+    private static final int MB = 1024 * 1024;
+
+    /**
+     * Number of megabyte-sized parts read and hashed by each task when
+     * hashing a file.
+     */
+    private static final int PARTS_PER_TASK = 64;
+
 	/**
 	 * Calculates a hex encoded binary hash using a tree hashing algorithm for
-	 * the data in the specified file.
+	 * the data in the specified file. The megabyte-sized parts of the file are
+	 * read and hashed in parallel on the available processors.
 	 * 
 	 * @param file
 	 *            The file containing the data to hash.
@@ -53,19 +74,112 @@ public class TreeHashGenerator {
 	 */
     public static String calculateTreeHash(File file)
             throws AmazonClientException {
-        ResettableInputStream is = null;
+        return calculateTreeHash(file, 0, file.length());
+    }
+
+	/**
+	 * Calculates a hex encoded binary hash using a tree hashing algorithm for
+	 * the specified range of data in the specified file, such as a part of a
+	 * multipart upload. The megabyte-sized parts of the range are read and
+	 * hashed in parallel on the available processors.
+	 * 
+	 * @param file
+	 *            The file containing the data to hash.
+	 * @param position
+	 *            The position in the file of the first byte to hash.
+	 * @param length
+	 *            The number of bytes to hash.
+	 * 
+	 * @return The hex encoded binary tree hash for the specified range of
+	 *         data in the specified file.
+	 * 
+	 * @throws AmazonClientException
+	 *             If any problems were encountered reading the data or
+	 *             computing the hash.
+	 */
+    public static String calculateTreeHash(File file, long position, long length)
+            throws AmazonClientException {
+        if (length == 0) {
+            // Same as hashing an empty stream
+            return calculateTreeHash(new ByteArrayInputStream(new byte[0]));
+        }
+        RandomAccessFile input = null;
         try {
-            is = new ResettableInputStream(file);
-            return calculateTreeHash(is);
-        } catch (IOException e) {
+            input = new RandomAccessFile(file, "r");
+            return calculateTreeHash(hashParts(input.getChannel(), position, length));
+        } catch (Exception e) {
             throw new AmazonClientException("Unable to compute hash for file: "
                     + file.getAbsolutePath(), e);
         } finally {
-            if (is != null)
-                is.release();
+            if (input != null) {
+                try { input.close(); } catch ( Exception e ) {}
+            }
         }
     }
 
+    /**
+     * Returns the checksums of the megabyte-sized parts of the given range of
+     * the given file channel. Each task reads up to {@link #PARTS_PER_TASK}
+     * parts with positional reads, which the tasks can do concurrently on the
+     * same channel, into a single buffer of up to a megabyte, and hashes them;
+     * ranges needing more than one task are hashed in parallel.
+     */
+    private static List<byte[]> hashParts(final FileChannel channel, final long position, final long length)
+            throws Exception {
+        final byte[][] checksums = new byte[(int) ((length + MB - 1) / MB)][];
+        final long taskSize = (long) PARTS_PER_TASK * MB;
+        List<Callable<Void>> tasks = new ArrayList<Callable<Void>>();
+        for (long offset = 0; offset < length; offset += taskSize) {
+            final long taskOffset = offset;
+            final long taskLength = Math.min(taskSize, length - offset);
+            tasks.add(new Callable<Void>() {
+                @Override
+                public Void call() throws Exception {
+                    ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(MB, taskLength));
+                    MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+                    int part = (int) (taskOffset / MB);
+                    for (long partOffset = 0; partOffset < taskLength; partOffset += MB) {
+                        buffer.clear();
+                        buffer.limit((int) Math.min(MB, taskLength - partOffset));
+                        long partPosition = position + taskOffset + partOffset;
+                        while (buffer.hasRemaining()) {
+                            int bytesRead = channel.read(buffer, partPosition + buffer.position());
+                            if (bytesRead < 0) {
+                                throw new IOException("Unexpected end of file at position "
+                                        + (partPosition + buffer.position()));
+                            }
+                        }
+                        messageDigest.update(buffer.array(), 0, buffer.limit());
+                        checksums[part++] = messageDigest.digest();
+                    }
+                    return null;
+                }
+            });
+        }
+        if (tasks.size() == 1) {
+            tasks.get(0).call();
+        } else {
+            List<Future<Void>> futures = new ArrayList<Future<Void>>(tasks.size());
+            try {
+                for (Callable<Void> task : tasks) {
+                    futures.add(LazyHolder.HASHERS.submit(task));
+                }
+                for (Future<Void> future : futures) {
+                    try {
+                        future.get();
+                    } catch (ExecutionException e) {
+                        throw Throwables.failure(e.getCause());
+                    }
+                }
+            } finally {
+                for (Future<Void> future : futures) {
+                    future.cancel(true);
+                }
+            }
+        }
+        return Arrays.asList(checksums);
+    }
+
 	/**
 	 * Calculates a hex encoded binary hash using a tree hashing algorithm for
 	 * the data in the specified input stream. The method will consume all the
@@ -158,4 +272,23 @@ public class TreeHashGenerator {
             try { bis.close(); } catch ( Exception e ) {}
         }
     }
+
+    /**
+     * Threads shared by all the tree hash computations of files, created only
+     * once a file needs more than one of them.
+     */
+    private static final class LazyHolder {
+        private static final ExecutorService HASHERS = Executors.newFixedThreadPool(
+                Runtime.getRuntime().availableProcessors(), new ThreadFactory() {
+                    private final AtomicInteger threadCount = new AtomicInteger();
+
+                    @Override
+                    public Thread newThread(Runnable runnable) {
+                        Thread thread = new Thread(runnable);
+                        thread.setName("java-sdk-glacier-tree-hash-thread-" + threadCount.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+    }
 }
@@ -14,9 +14,11 @@
  */
 package com.amazonaws.services.glacier.internal;
 
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.List;
 
+import com.amazonaws.AmazonClientException;
 import com.amazonaws.Request;
 import com.amazonaws.handlers.AbstractRequestHandler;
 import com.amazonaws.services.glacier.model.DescribeJobRequest;
@@ -73,6 +75,25 @@ public class GlacierRequestHandler extends AbstractRequestHandler {
                 request.setResourcePath(newResourcePath);
             }
         }
+
+        if ((request.getOriginalRequest() instanceof UploadArchiveRequest
+                || request.getOriginalRequest() instanceof UploadMultipartPartRequest)
+                && request.getContent() != null
+                && !request.getHeaders().containsKey(TreeHashTapInputStream.TREE_HASH_HEADER)) {
+            // No checksum given; compute it while the body is read for signing
+            TreeHashTapInputStream tap;
+            if (request.getContent() instanceof TreeHashTapInputStream) {
+                tap = (TreeHashTapInputStream) request.getContent();
+            } else {
+                try {
+                    tap = new TreeHashTapInputStream(request.getContent());
+                } catch (NoSuchAlgorithmException e) {
+                    throw new AmazonClientException("Unable to compute hash for data integrity", e);
+                }
+                request.setContent(tap);
+            }
+            tap.setRequest(request);
+        }
     }
 
 	private boolean startsWithUserId(Request<?> request) {
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.glacier.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.amazonaws.Request;
+import com.amazonaws.internal.SdkFilterInputStream;
+import com.amazonaws.services.glacier.TreeHashGenerator;
+
+/**
+ * Filter input stream computing the tree hash of the body of an upload
+ * request while it is streamed, and adding it as the tree hash header of the
+ * request once the whole body has been read.
+ * <p>
+ * Signature Version 4 reads the whole body of Glacier requests to hash it
+ * before signing their headers, so the tree hash is computed by that read
+ * instead of an extra read of the body beforehand. Bytes read again after a
+ * reset, for signing, retries or sending, are not hashed again.
+ * <p>
+ * Callers that need the tree hash themselves, such as for the checksum of a
+ * multipart upload, can give the request a body wrapped in this stream and
+ * read {@link #getTreeHash()} once the request is complete; the request is
+ * then bound to the stream by the Glacier request handler.
+ */
+public class TreeHashTapInputStream extends SdkFilterInputStream {
+
+    /** Header of the tree hash of the body of an upload request. */
+    public static final String TREE_HASH_HEADER = "x-amz-sha256-tree-hash";
+
+    private static final int MB = 1024 * 1024;
+
+    /** The request to add the tree hash header to, once bound. */
+    private Request<?> request;
+
+    private final MessageDigest messageDigest;
+
+    /**
+     * The checksums of the megabyte-sized parts hashed so far.
+     */
+    private final List<byte[]> checksums = new ArrayList<byte[]>();
+
+    /** Position in the body of the next byte read. */
+    private long position;
+
+    private long markedPosition;
+
+    /** Number of bytes hashed so far, from the start of the body. */
+    private long hashedBytes;
+
+    /** The tree hash of the body, once it has all been hashed. */
+    private String treeHash;
+
+    public TreeHashTapInputStream(InputStream in) throws NoSuchAlgorithmException {
+        super(in);
+        this.messageDigest = MessageDigest.getInstance("SHA-256");
+    }
+
+    /**
+     * Binds the request to add the tree hash header to, before its body is
+     * read.
+     */
+    void setRequest(Request<?> request) {
+        this.request = request;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int read = super.read();
+        if (read < 0) {
+            endOfStream();
+        } else {
+            hash(new byte[] { (byte) read }, 0, 1);
+            position++;
+        }
+        return read;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int bytesRead = super.read(b, off, len);
+        if (bytesRead < 0) {
+            endOfStream();
+        } else {
+            hash(b, off, bytesRead);
+            position += bytesRead;
+        }
+        return bytesRead;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = super.skip(n);
+        position += skipped;
+        return skipped;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+        super.mark(readlimit);
+        markedPosition = position;
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        super.reset();
+        position = markedPosition;
+    }
+
+    /**
+     * Returns the tree hash of the body, or null if it hasn't all been read
+     * yet.
+     */
+    public String getTreeHash() {
+        return treeHash;
+    }
+
+    /**
+     * Hashes the bytes just read that follow the ones already hashed.
+     */
+    private void hash(byte[] b, int off, int len) {
+        long alreadyHashed = hashedBytes - position;
+        if (treeHash != null || alreadyHashed < 0 || alreadyHashed >= len) {
+            return;
+        }
+        off += alreadyHashed;
+        len -= alreadyHashed;
+        while (len > 0) {
+            int bytesToHash = (int) Math.min(len, MB - hashedBytes % MB);
+            messageDigest.update(b, off, bytesToHash);
+            off += bytesToHash;
+            len -= bytesToHash;
+            hashedBytes += bytesToHash;
+            if (hashedBytes % MB == 0) {
+                checksums.add(messageDigest.digest());
+            }
+        }
+    }
+
+    /**
+     * Completes the tree hash if the whole body has been hashed, and adds it
+     * to the request unless it already has it.
+     */
+    private void endOfStream() {
+        if (treeHash == null && hashedBytes == position) {
+            if (hashedBytes % MB != 0 || checksums.isEmpty()) {
+                checksums.add(messageDigest.digest());
+            }
+            treeHash = TreeHashGenerator.calculateTreeHash(checksums);
+        }
+        if (treeHash != null && request != null && !request.getHeaders().containsKey(TREE_HASH_HEADER)) {
+            request.addHeader(TREE_HASH_HEADER, treeHash);
+        }
+    }
+}
@@ -27,9 +27,15 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.security.NoSuchAlgorithmException;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -47,6 +53,7 @@ import com.amazonaws.services.glacier.AmazonGlacier;
 import com.amazonaws.services.glacier.AmazonGlacierClient;
 import com.amazonaws.services.glacier.TreeHashGenerator;
 import com.amazonaws.services.glacier.internal.TreeHashInputStream;
+import com.amazonaws.services.glacier.internal.TreeHashTapInputStream;
 import com.amazonaws.services.glacier.model.AbortMultipartUploadRequest;
 import com.amazonaws.services.glacier.model.CompleteMultipartUploadRequest;
 import com.amazonaws.services.glacier.model.CompleteMultipartUploadResult;
@@ -98,6 +105,12 @@ public class ArchiveTransferManager {
 
     private final AmazonSNSClient sns;
 
+    /**
+     * Executor transferring the parts of multipart uploads and the chunks of
+     * downloads concurrently, or null to transfer them one at a time.
+     */
+    private final ExecutorService executorService;
+
     private static final Log log = LogFactory.getLog(ArchiveTransferManager.class);
 
     /**
@@ -163,11 +176,41 @@ public class ArchiveTransferManager {
      *            timeouts.
      */
     public ArchiveTransferManager(AmazonGlacierClient glacier, AWSCredentialsProvider credentialsProvider, ClientConfiguration clientConfiguration) {
+        this(glacier, credentialsProvider, clientConfiguration, null);
+    }
+
+    /**
+     * Constructs a new ArchiveTransferManager, using the specified Amazon
+     * Glacier client, AWS credentials provider and client configuration, and
+     * transferring the parts of multipart uploads and the chunks of downloads
+     * concurrently with the specified executor.
+     * <p>
+     * The executor bounds the number of parts or chunks transferred at a time,
+     * so it should have a bounded number of threads, such as one created by
+     * {@link java.util.concurrent.Executors#newFixedThreadPool(int)}, and no
+     * more threads than the maximum number of connections of the Glacier
+     * client. Progress listeners are notified from the threads of the
+     * executor. The executor is not shut down by this ArchiveTransferManager.
+     *
+     * @param glacier
+     *            The client for working with Amazon Glacier.
+     * @param credentialsProvider
+     *            The AWS credentials provider used to authenticate requests.
+     * @param clientConfiguration
+     *            Client specific options, such as proxy settings, retries, and
+     *            timeouts.
+     * @param executorService
+     *            The executor used to transfer parts and chunks concurrently,
+     *            or null to transfer them one at a time.
+     */
+    public ArchiveTransferManager(AmazonGlacierClient glacier, AWSCredentialsProvider credentialsProvider,
+            ClientConfiguration clientConfiguration, ExecutorService executorService) {
         this.credentialsProvider = credentialsProvider;
         this.clientConfiguration = clientConfiguration;
         this.glacier = glacier;
         this.sns = null;
         this.sqs = null;
+        this.executorService = executorService;
     }
 
     /**
@@ -190,11 +233,43 @@ public class ArchiveTransferManager {
      *            retrieval job status.
      */
     public ArchiveTransferManager(AmazonGlacierClient glacier, AmazonSQSClient sqs, AmazonSNSClient sns) {
+        this(glacier, sqs, sns, null);
+    }
+
+    /**
+     * Constructs a new ArchiveTransferManager, using the specified Amazon
+     * Glacier client, and the specified Amazon SQS and Amazon SNS clients for
+     * polling download job status, and transferring the parts of multipart
+     * uploads and the chunks of downloads concurrently with the specified
+     * executor.
+     * <p>
+     * The executor bounds the number of parts or chunks transferred at a time,
+     * so it should have a bounded number of threads, such as one created by
+     * {@link java.util.concurrent.Executors#newFixedThreadPool(int)}, and no
+     * more threads than the maximum number of connections of the Glacier
+     * client. Progress listeners are notified from the threads of the
+     * executor. The executor is not shut down by this ArchiveTransferManager.
+     *
+     * @param glacier
+     *            The client for working with Amazon Glacier.
+     * @param sqs
+     *            The client for working with Amazon SQS when polling archive
+     *            retrieval job status.
+     * @param sns
+     *            The client for working with Amazon SNS when polling archive
+     *            retrieval job status.
+     * @param executorService
+     *            The executor used to transfer parts and chunks concurrently,
+     *            or null to transfer them one at a time.
+     */
+    public ArchiveTransferManager(AmazonGlacierClient glacier, AmazonSQSClient sqs, AmazonSNSClient sns,
+            ExecutorService executorService) {
         this.credentialsProvider = null;
         this.clientConfiguration = null;
         this.glacier = glacier;
         this.sqs = sqs;
         this.sns = sns;
+        this.executorService = executorService;
     }
 
     /**
@@ -460,7 +535,8 @@ public class ArchiveTransferManager {
      * Downloads the job output for the specified job (which must be ready to
      * download already, and must be a complete archive retrieval, not a partial
      * range retrieval), into the specified file. This method will request
-     * individual chunks of the data, one at a time, in order to handle any
+     * individual chunks of the data, one at a time or concurrently with the
+     * executor of this ArchiveTransferManager, in order to handle any
      * transient errors along the way.
      *
      * @param accountId
@@ -482,7 +558,8 @@ public class ArchiveTransferManager {
      * Downloads the job output for the specified job (which must be ready to
      * download already, and must be a complete archive retrieval, not a partial
      * range retrieval), into the specified file. This method will request
-     * individual chunks of the data, one at a time, in order to handle any
+     * individual chunks of the data, one at a time or concurrently with the
+     * executor of this ArchiveTransferManager, in order to handle any
      * transient errors along the way. You can also add an optional progress
      * listener for receiving updates about the download status.
      *
@@ -500,12 +577,10 @@ public class ArchiveTransferManager {
      *            The optional progress listener for receiving updates about the
      *            download status.
      */
-    public void downloadJobOutput(String accountId, String vaultName,
-            String jobId, File file, ProgressListener progressListener) {
+    public void downloadJobOutput(final String accountId, final String vaultName,
+            final String jobId, File file, final ProgressListener progressListener) {
         long archiveSize = 0;
         long chunkSize = DEFAULT_DOWNLOAD_CHUNK_SIZE;
-        long currentPosition = 0;
-        long endPosition = 0;
 
         RandomAccessFile output = null;
         String customizedChunkSize = null;
@@ -531,24 +606,27 @@ public class ArchiveTransferManager {
             throw new AmazonClientException("Unable to open the output file " + file.getPath(), e);
         }
 
+        final FileChannel channel = output.getChannel();
         try {
             publishProgress(progressListener, ProgressEventType.TRANSFER_STARTED_EVENT);
-            while (currentPosition < archiveSize) {
-                if (currentPosition + chunkSize > archiveSize) {
-                    endPosition = archiveSize - 1;
-                } else {
-                    endPosition = currentPosition + chunkSize - 1;
-                }
-    
-                // Download the chunk
-                try {
-                    downloadOneChunk(accountId, vaultName, jobId, output,
-                            currentPosition, endPosition, progressListener);
-                } catch (Throwable t) {
-                    publishProgress(progressListener, ProgressEventType.TRANSFER_FAILED_EVENT);
-                    throw failure(t);
-                }
-                currentPosition += chunkSize;
+            List<Callable<Void>> chunks = new ArrayList<Callable<Void>>();
+            for (long position = 0; position < archiveSize; position += chunkSize) {
+                final long currentPosition = position;
+                final long endPosition = Math.min(position + chunkSize, archiveSize) - 1;
+                chunks.add(new Callable<Void>() {
+                    @Override
+                    public Void call() {
+                        downloadOneChunk(accountId, vaultName, jobId, channel,
+                                currentPosition, endPosition, progressListener);
+                        return null;
+                    }
+                });
+            }
+            try {
+                transferAll(chunks);
+            } catch (Throwable t) {
+                publishProgress(progressListener, ProgressEventType.TRANSFER_FAILED_EVENT);
+                throw failure(t);
             }
             publishProgress(progressListener, ProgressEventType.TRANSFER_COMPLETED_EVENT);
         } finally {
@@ -567,12 +645,47 @@ public class ArchiveTransferManager {
         }
     }
 
+    /**
+     * Runs the given transfers of parts or chunks, one at a time or
+     * concurrently with the executor, and returns their results in order. If
+     * any of them fails, the others are cancelled and its failure is thrown.
+     */
+    private <T> List<T> transferAll(List<Callable<T>> transfers) throws Throwable {
+        List<T> results = new ArrayList<T>(transfers.size());
+        if (executorService == null) {
+            for (Callable<T> transfer : transfers) {
+                results.add(transfer.call());
+            }
+            return results;
+        }
+        List<Future<T>> futures = new ArrayList<Future<T>>(transfers.size());
+        try {
+            for (Callable<T> transfer : transfers) {
+                futures.add(executorService.submit(transfer));
+            }
+            for (Future<T> future : futures) {
+                try {
+                    results.add(future.get());
+                } catch (ExecutionException e) {
+                    throw e.getCause();
+                }
+            }
+            return results;
+        } finally {
+            if (results.size() < transfers.size()) {
+                for (Future<T> future : futures) {
+                    future.cancel(true);
+                }
+            }
+        }
+    }
+
     /**
      * Download one chunk from Amazon Glacier. It will do the retry if any
      * errors are encountered while streaming the data from Amazon Glacier.
      */
     private void downloadOneChunk(String accountId, String vaultName,
-            String jobId, RandomAccessFile output, long currentPosition,
+            String jobId, FileChannel output, long currentPosition,
             long endPosition, ProgressListener progressListener) {
         final long chunkSize = endPosition - currentPosition + 1;
         TreeHashInputStream input = null;
@@ -589,7 +702,7 @@ public class ArchiveTransferManager {
                 GetJobOutputResult jobOutputResult = glacier.getJobOutput(req);
                 try {
                     input = new TreeHashInputStream(new BufferedInputStream(jobOutputResult.getBody()));
-                    appendToFile(output, input);
+                    writeToFile(output, input, currentPosition);
                 } catch (NoSuchAlgorithmException e) {
                     throw failure(e, "Unable to compute hash for data integrity");
                 } finally {
@@ -624,11 +737,6 @@ public class ArchiveTransferManager {
                                 + currentPosition + " endPosition="
                                 + endPosition);
                     }
-                    try {
-                        output.seek(currentPosition);
-                    } catch (IOException e) {
-                        throw new AmazonClientException("Unable to download the archive: " + ioe.getMessage(), e);
-                    }
                 } else {
                     throw new AmazonClientException("Unable to download the archive: " + ioe.getMessage(), ioe);
                 }
@@ -637,19 +745,22 @@ public class ArchiveTransferManager {
     }
 
     /**
-     * Writes the data from the given input stream to the given output stream.
+     * Writes the data from the given input stream to the given file channel,
+     * starting at the given position. Positional writes leave the position of
+     * the channel alone, so that chunks can be written concurrently.
      */
-    private void appendToFile(RandomAccessFile output, InputStream input)
+    private void writeToFile(FileChannel output, InputStream input, long position)
             throws IOException {
         byte[] buffer = new byte[1024 * 1024];
+        ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
         int bytesRead = 0;
-        do {
-            bytesRead = input.read(buffer);
-            if (bytesRead < 0)
-                break;
-            output.write(buffer, 0, bytesRead);
-        } while (bytesRead > 0);
-        return;
+        while ((bytesRead = input.read(buffer)) >= 0) {
+            byteBuffer.clear();
+            byteBuffer.limit(bytesRead);
+            while (byteBuffer.hasRemaining()) {
+                position += output.write(byteBuffer, position);
+            }
+        }
     }
 
     /**
@@ -676,74 +787,38 @@ public class ArchiveTransferManager {
 
     private UploadResult uploadInMultipleParts(final String accountId,
             final String vaultName, final String archiveDescription,
-            final File file, ProgressListener progressListener) {
+            final File file, final ProgressListener progressListener) {
         final long partSize = calculatePartSize(file.length());
         String partSizeString = Long.toString(partSize);
 
         publishProgress(progressListener, ProgressEventType.TRANSFER_PREPARING_EVENT);
-        String uploadId = null;
+        InitiateMultipartUploadResult initiateResult = null;
         try {
-            InitiateMultipartUploadResult initiateResult = glacier.initiateMultipartUpload(new InitiateMultipartUploadRequest()
+            initiateResult = glacier.initiateMultipartUpload(new InitiateMultipartUploadRequest()
                 .withAccountId(accountId)
                 .withArchiveDescription(archiveDescription)
                 .withVaultName(vaultName)
                 .withPartSize(partSizeString));
-            uploadId = initiateResult.getUploadId();
         } catch (Throwable t) {
             publishProgress(progressListener, ProgressEventType.TRANSFER_FAILED_EVENT);
             throw failure(t);
         }
+        final String uploadId = initiateResult.getUploadId();
         publishProgress(progressListener, ProgressEventType.TRANSFER_STARTED_EVENT);
-        final String fileNotFoundMsg = "Unable to find file '"
-                + file.getAbsolutePath() + "'";
         try {
-            List<byte[]> binaryChecksums = new LinkedList<byte[]>();
-
-            long currentPosition = 0;
-            while (currentPosition < file.length()) {
-                long length = partSize;
-                if (currentPosition + partSize > file.length()) {
-                    length = file.length() - currentPosition;
-                }
-
-                Exception failedException = null;
-                boolean completed = false;
-                int tries = 0;
-                    while (!completed && tries < 5){
-                        tries++;
-                        InputSubstream inputSubStream = null;
-                        try {
-                            inputSubStream = new InputSubstream(
-                                    newResettableInputStream(file, fileNotFoundMsg)
-                                        .disableClose(), // requires explicit release
-                                    currentPosition, length, true);
-                            String checksum = TreeHashGenerator.calculateTreeHash(inputSubStream);
-                            byte[] binaryChecksum = BinaryUtils.fromHex(checksum);
-                            inputSubStream.reset();
-                            UploadMultipartPartRequest req = new UploadMultipartPartRequest()
-                                .withAccountId(accountId)
-                                .withChecksum(checksum)
-                                .withBody(inputSubStream)
-                                .withRange("bytes " + currentPosition + "-" + (currentPosition + length - 1) + "/*")
-                                .withUploadId(uploadId)
-                                .withVaultName(vaultName)
-                                .withGeneralProgressListener(progressListener)
-                                ;
-                            
-                            glacier.uploadMultipartPart(req);
-                            completed = true;
-                            binaryChecksums.add(binaryChecksum);
-                        } catch (Exception e){
-                            failedException = e;
-                        } finally {
-                            // We opened the file underneath; so need to release it
-                            release(inputSubStream, log);
-                        }
-                    } // end inner while
-                if (!completed && failedException!=null)
-                    throw failedException;
-                currentPosition += partSize;
-            } // end outer while
+            List<Callable<byte[]>> parts = new ArrayList<Callable<byte[]>>();
+            for (long position = 0; position < file.length(); position += partSize) {
+                final long currentPosition = position;
+                final long length = Math.min(partSize, file.length() - position);
+                parts.add(new Callable<byte[]>() {
+                    @Override
+                    public byte[] call() throws Exception {
+                        return uploadOnePart(accountId, vaultName, uploadId, file,
+                                currentPosition, length, progressListener);
+                    }
+                });
+            }
+            List<byte[]> binaryChecksums = transferAll(parts);
 
             String checksum = TreeHashGenerator.calculateTreeHash(binaryChecksums);
 
@@ -766,10 +841,58 @@ public class ArchiveTransferManager {
         }
     }
 
+    /**
+     * Uploads one part of a multipart upload, and returns its binary tree
+     * hash. It will do the retry if any errors are encountered while streaming
+     * the data to Amazon Glacier. The tree hash of the part is computed while
+     * the part is read for signing the request.
+     */
+    private byte[] uploadOnePart(String accountId, String vaultName,
+            String uploadId, File file, long currentPosition, long length,
+            ProgressListener progressListener) throws Exception {
+        final String fileNotFoundMsg = "Unable to find file '"
+                + file.getAbsolutePath() + "'";
+        Exception failedException = null;
+        int tries = 0;
+        while (tries < 5) {
+            tries++;
+            InputSubstream inputSubStream = null;
+            try {
+                inputSubStream = new InputSubstream(
+                        newResettableInputStream(file, fileNotFoundMsg)
+                            .disableClose(), // requires explicit release
+                        currentPosition, length, true);
+                TreeHashTapInputStream treeHashStream = new TreeHashTapInputStream(inputSubStream);
+                UploadMultipartPartRequest req = new UploadMultipartPartRequest()
+                    .withAccountId(accountId)
+                    .withBody(treeHashStream)
+                    .withRange("bytes " + currentPosition + "-" + (currentPosition + length - 1) + "/*")
+                    .withUploadId(uploadId)
+                    .withVaultName(vaultName)
+                    .withGeneralProgressListener(progressListener)
+                    ;
+
+                glacier.uploadMultipartPart(req);
+                String checksum = treeHashStream.getTreeHash();
+                if (checksum == null) {
+                    throw new AmazonClientException("Unable to compute the tree hash of the part at position "
+                            + currentPosition);
+                }
+                return BinaryUtils.fromHex(checksum);
+            } catch (Exception e) {
+                failedException = e;
+            } finally {
+                // We opened the file underneath; so need to release it
+                release(inputSubStream, log);
+            }
+        }
+        throw failedException;
+    }
+
     private UploadResult uploadInSinglePart(final String accountId,
             final String vaultName, final String archiveDescription,
             final File file, ProgressListener progressListener) {
-        String checksum = TreeHashGenerator.calculateTreeHash(file);
+        // The tree hash is computed while the file is read for signing the request
         ResettableInputStream is = newResettableInputStream(file);
         try {
             publishProgress(progressListener, ProgressEventType.TRANSFER_STARTED_EVENT);
@@ -777,7 +900,6 @@ public class ArchiveTransferManager {
                 .withAccountId(accountId)
                 .withArchiveDescription(archiveDescription)
                 .withVaultName(vaultName)
-                .withChecksum(checksum)
                 .withBody(is)
                 .withContentLength(file.length())
                 // capture the bytes transferred
@@ -152,6 +152,12 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
      */
     protected final List<Unmarshaller<AmazonServiceException, Node>> exceptionUnmarshallers = new ArrayList<Unmarshaller<AmazonServiceException, Node>>();
 
+    /**
+     * Handler of the error responses, built once all the exception
+     * unmarshallers are registered
+     */
+    private volatile DefaultErrorResponseHandler errorResponseHandler;
+
     /**
      * Constructs a new client to invoke service methods on IAM. A credentials
      * provider chain will be used that searches for credentials in this order:
@@ -360,6 +366,9 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
                 .add(new StandardErrorUnmarshaller(
                         com.amazonaws.services.identitymanagement.model.AmazonIdentityManagementException.class));
 
+        errorResponseHandler = new DefaultErrorResponseHandler(
+                exceptionUnmarshallers);
+
         setServiceNameIntern(DEFAULT_SIGNING_NAME);
         setEndpointPrefix(ENDPOINT_PREFIX);
         // calling this.setEndPoint(...) will also modify the signer accordingly
@@ -7849,9 +7858,6 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         request.setEndpoint(endpoint);
         request.setTimeOffset(timeOffset);
 
-        DefaultErrorResponseHandler errorResponseHandler = new DefaultErrorResponseHandler(
-                exceptionUnmarshallers);
-
         return client.execute(request, responseHandler, errorResponseHandler,
                 executionContext);
     }
@@ -26,7 +26,7 @@ public class CredentialReportExpiredExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public CredentialReportExpiredExceptionUnmarshaller() {
-        super(CredentialReportExpiredException.class);
+        super(CredentialReportExpiredException.class, "ReportExpired");
     }
 
     @Override
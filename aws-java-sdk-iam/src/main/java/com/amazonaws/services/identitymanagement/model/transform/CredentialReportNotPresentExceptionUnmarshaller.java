@@ -26,7 +26,7 @@ public class CredentialReportNotPresentExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public CredentialReportNotPresentExceptionUnmarshaller() {
-        super(CredentialReportNotPresentException.class);
+        super(CredentialReportNotPresentException.class, "ReportNotPresent");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class CredentialReportNotReadyExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public CredentialReportNotReadyExceptionUnmarshaller() {
-        super(CredentialReportNotReadyException.class);
+        super(CredentialReportNotReadyException.class, "ReportInProgress");
     }
 
     @Override
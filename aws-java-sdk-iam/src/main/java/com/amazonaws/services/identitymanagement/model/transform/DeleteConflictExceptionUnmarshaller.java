@@ -26,7 +26,7 @@ public class DeleteConflictExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public DeleteConflictExceptionUnmarshaller() {
-        super(DeleteConflictException.class);
+        super(DeleteConflictException.class, "DeleteConflict");
     }
 
     @Override
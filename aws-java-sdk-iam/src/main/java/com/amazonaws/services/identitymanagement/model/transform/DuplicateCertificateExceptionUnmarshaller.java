@@ -26,7 +26,7 @@ public class DuplicateCertificateExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public DuplicateCertificateExceptionUnmarshaller() {
-        super(DuplicateCertificateException.class);
+        super(DuplicateCertificateException.class, "DuplicateCertificate");
     }
 
     @Override
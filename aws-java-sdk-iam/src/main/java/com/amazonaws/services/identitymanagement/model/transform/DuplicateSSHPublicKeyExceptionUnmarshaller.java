@@ -26,7 +26,7 @@ public class DuplicateSSHPublicKeyExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public DuplicateSSHPublicKeyExceptionUnmarshaller() {
-        super(DuplicateSSHPublicKeyException.class);
+        super(DuplicateSSHPublicKeyException.class, "DuplicateSSHPublicKey");
     }
 
     @Override
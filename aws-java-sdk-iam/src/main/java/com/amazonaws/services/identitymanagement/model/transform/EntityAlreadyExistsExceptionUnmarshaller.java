@@ -26,7 +26,7 @@ public class EntityAlreadyExistsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public EntityAlreadyExistsExceptionUnmarshaller() {
-        super(EntityAlreadyExistsException.class);
+        super(EntityAlreadyExistsException.class, "EntityAlreadyExists");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class EntityTemporarilyUnmodifiableExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public EntityTemporarilyUnmodifiableExceptionUnmarshaller() {
-        super(EntityTemporarilyUnmodifiableException.class);
+        super(EntityTemporarilyUnmodifiableException.class, "EntityTemporarilyUnmodifiable");
     }
 
     @Override
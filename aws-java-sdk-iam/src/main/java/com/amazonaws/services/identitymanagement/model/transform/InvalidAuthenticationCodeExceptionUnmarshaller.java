@@ -26,7 +26,7 @@ public class InvalidAuthenticationCodeExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidAuthenticationCodeExceptionUnmarshaller() {
-        super(InvalidAuthenticationCodeException.class);
+        super(InvalidAuthenticationCodeException.class, "InvalidAuthenticationCode");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InvalidCertificateExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidCertificateExceptionUnmarshaller() {
-        super(InvalidCertificateException.class);
+        super(InvalidCertificateException.class, "InvalidCertificate");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InvalidPublicKeyExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidPublicKeyExceptionUnmarshaller() {
-        super(InvalidPublicKeyException.class);
+        super(InvalidPublicKeyException.class, "InvalidPublicKey");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InvalidUserTypeExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidUserTypeExceptionUnmarshaller() {
-        super(InvalidUserTypeException.class);
+        super(InvalidUserTypeException.class, "InvalidUserType");
     }
 
     @Override
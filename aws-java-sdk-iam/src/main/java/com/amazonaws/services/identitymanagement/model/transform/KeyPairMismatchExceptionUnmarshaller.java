@@ -26,7 +26,7 @@ public class KeyPairMismatchExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public KeyPairMismatchExceptionUnmarshaller() {
-        super(KeyPairMismatchException.class);
+        super(KeyPairMismatchException.class, "KeyPairMismatch");
     }
 
     @Override
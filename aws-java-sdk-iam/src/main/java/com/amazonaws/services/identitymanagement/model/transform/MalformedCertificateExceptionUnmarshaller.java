@@ -26,7 +26,7 @@ public class MalformedCertificateExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public MalformedCertificateExceptionUnmarshaller() {
-        super(MalformedCertificateException.class);
+        super(MalformedCertificateException.class, "MalformedCertificate");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class MalformedPolicyDocumentExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public MalformedPolicyDocumentExceptionUnmarshaller() {
-        super(MalformedPolicyDocumentException.class);
+        super(MalformedPolicyDocumentException.class, "MalformedPolicyDocument");
     }
 
     @Override
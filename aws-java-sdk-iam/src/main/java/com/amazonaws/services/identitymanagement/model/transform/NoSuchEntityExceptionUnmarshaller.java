@@ -26,7 +26,7 @@ public class NoSuchEntityExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public NoSuchEntityExceptionUnmarshaller() {
-        super(NoSuchEntityException.class);
+        super(NoSuchEntityException.class, "NoSuchEntity");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class PasswordPolicyViolationExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public PasswordPolicyViolationExceptionUnmarshaller() {
-        super(PasswordPolicyViolationException.class);
+        super(PasswordPolicyViolationException.class, "PasswordPolicyViolation");
     }
 
     @Override
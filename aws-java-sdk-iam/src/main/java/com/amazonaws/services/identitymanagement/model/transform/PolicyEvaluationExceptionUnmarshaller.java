@@ -26,7 +26,7 @@ public class PolicyEvaluationExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public PolicyEvaluationExceptionUnmarshaller() {
-        super(PolicyEvaluationException.class);
+        super(PolicyEvaluationException.class, "PolicyEvaluation");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class ServiceFailureExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public ServiceFailureExceptionUnmarshaller() {
-        super(ServiceFailureException.class);
+        super(ServiceFailureException.class, "ServiceFailure");
     }
 
     @Override
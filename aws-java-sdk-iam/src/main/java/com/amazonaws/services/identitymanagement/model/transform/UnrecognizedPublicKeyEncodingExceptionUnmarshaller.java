@@ -26,7 +26,7 @@ public class UnrecognizedPublicKeyEncodingExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public UnrecognizedPublicKeyEncodingExceptionUnmarshaller() {
-        super(UnrecognizedPublicKeyEncodingException.class);
+        super(UnrecognizedPublicKeyEncodingException.class, "UnrecognizedPublicKeyEncoding");
     }
 
     @Override
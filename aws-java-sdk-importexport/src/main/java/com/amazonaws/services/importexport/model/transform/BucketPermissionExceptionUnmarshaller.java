@@ -26,7 +26,7 @@ public class BucketPermissionExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public BucketPermissionExceptionUnmarshaller() {
-        super(BucketPermissionException.class);
+        super(BucketPermissionException.class, "BucketPermissionException");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class CanceledJobIdExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public CanceledJobIdExceptionUnmarshaller() {
-        super(CanceledJobIdException.class);
+        super(CanceledJobIdException.class, "CanceledJobIdException");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class CreateJobQuotaExceededExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public CreateJobQuotaExceededExceptionUnmarshaller() {
-        super(CreateJobQuotaExceededException.class);
+        super(CreateJobQuotaExceededException.class, "CreateJobQuotaExceededException");
     }
 
     @Override
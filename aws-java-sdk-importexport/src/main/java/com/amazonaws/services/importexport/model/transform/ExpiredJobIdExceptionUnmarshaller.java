@@ -26,7 +26,7 @@ public class ExpiredJobIdExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public ExpiredJobIdExceptionUnmarshaller() {
-        super(ExpiredJobIdException.class);
+        super(ExpiredJobIdException.class, "ExpiredJobIdException");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InvalidAccessKeyIdExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidAccessKeyIdExceptionUnmarshaller() {
-        super(InvalidAccessKeyIdException.class);
+        super(InvalidAccessKeyIdException.class, "InvalidAccessKeyIdException");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InvalidAddressExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidAddressExceptionUnmarshaller() {
-        super(InvalidAddressException.class);
+        super(InvalidAddressException.class, "InvalidAddressException");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InvalidCustomsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidCustomsExceptionUnmarshaller() {
-        super(InvalidCustomsException.class);
+        super(InvalidCustomsException.class, "InvalidCustomsException");
     }
 
     @Override
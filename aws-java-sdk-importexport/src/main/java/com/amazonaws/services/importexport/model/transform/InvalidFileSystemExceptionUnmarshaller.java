@@ -26,7 +26,7 @@ public class InvalidFileSystemExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidFileSystemExceptionUnmarshaller() {
-        super(InvalidFileSystemException.class);
+        super(InvalidFileSystemException.class, "InvalidFileSystemException");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InvalidJobIdExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidJobIdExceptionUnmarshaller() {
-        super(InvalidJobIdException.class);
+        super(InvalidJobIdException.class, "InvalidJobIdException");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InvalidManifestFieldExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidManifestFieldExceptionUnmarshaller() {
-        super(InvalidManifestFieldException.class);
+        super(InvalidManifestFieldException.class, "InvalidManifestFieldException");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InvalidParameterExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidParameterExceptionUnmarshaller() {
-        super(InvalidParameterException.class);
+        super(InvalidParameterException.class, "InvalidParameterException");
     }
 
     @Override
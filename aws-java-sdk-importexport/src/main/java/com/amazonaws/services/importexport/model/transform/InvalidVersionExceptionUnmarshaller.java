@@ -26,7 +26,7 @@ public class InvalidVersionExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidVersionExceptionUnmarshaller() {
-        super(InvalidVersionException.class);
+        super(InvalidVersionException.class, "InvalidVersionException");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class MalformedManifestExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public MalformedManifestExceptionUnmarshaller() {
-        super(MalformedManifestException.class);
+        super(MalformedManifestException.class, "MalformedManifestException");
     }
 
     @Override
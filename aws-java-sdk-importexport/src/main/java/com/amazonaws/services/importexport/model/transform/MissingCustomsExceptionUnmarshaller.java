@@ -26,7 +26,7 @@ public class MissingCustomsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public MissingCustomsExceptionUnmarshaller() {
-        super(MissingCustomsException.class);
+        super(MissingCustomsException.class, "MissingCustomsException");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class MissingManifestFieldExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public MissingManifestFieldExceptionUnmarshaller() {
-        super(MissingManifestFieldException.class);
+        super(MissingManifestFieldException.class, "MissingManifestFieldException");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class MissingParameterExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public MissingParameterExceptionUnmarshaller() {
-        super(MissingParameterException.class);
+        super(MissingParameterException.class, "MissingParameterException");
     }
 
     @Override
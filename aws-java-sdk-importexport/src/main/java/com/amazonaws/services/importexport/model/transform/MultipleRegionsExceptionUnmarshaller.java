@@ -26,7 +26,7 @@ public class MultipleRegionsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public MultipleRegionsExceptionUnmarshaller() {
-        super(MultipleRegionsException.class);
+        super(MultipleRegionsException.class, "MultipleRegionsException");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class NoSuchBucketExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public NoSuchBucketExceptionUnmarshaller() {
-        super(NoSuchBucketException.class);
+        super(NoSuchBucketException.class, "NoSuchBucketException");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class UnableToCancelJobIdExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public UnableToCancelJobIdExceptionUnmarshaller() {
-        super(UnableToCancelJobIdException.class);
+        super(UnableToCancelJobIdException.class, "UnableToCancelJobIdException");
     }
 
     @Override
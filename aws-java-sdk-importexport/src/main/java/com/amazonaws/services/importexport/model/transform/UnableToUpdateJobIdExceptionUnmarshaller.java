@@ -26,7 +26,7 @@ public class UnableToUpdateJobIdExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public UnableToUpdateJobIdExceptionUnmarshaller() {
-        super(UnableToUpdateJobIdException.class);
+        super(UnableToUpdateJobIdException.class, "UnableToUpdateJobIdException");
     }
 
     @Override
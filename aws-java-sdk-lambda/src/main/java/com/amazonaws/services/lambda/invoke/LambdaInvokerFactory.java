@@ -18,15 +18,24 @@ import java.io.IOException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Proxy;
 import java.lang.reflect.Type;
 import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import com.amazonaws.services.lambda.AWSLambda;
+import com.amazonaws.services.lambda.AWSLambdaAsync;
 import com.amazonaws.services.lambda.model.InvocationType;
 import com.amazonaws.services.lambda.model.InvokeRequest;
 import com.amazonaws.services.lambda.model.InvokeResult;
@@ -37,6 +46,8 @@ import com.amazonaws.util.StringUtils;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
 /**
  * A factory for objects that implement a user-supplied interface by invoking a remote Lambda
@@ -59,11 +70,27 @@ import com.fasterxml.jackson.databind.ObjectMapper;
  *                 LambdaInvokerFactory.build( LambdaFunctions.class, new AWSLambdaClient());
  *                 Request request = new Request(...); Result result =
  *                 functions.doSomeStuff(request); </code>
+ * <p>
+ * Methods returning a {@link Future} invoke their function asynchronously, and require the
+ * wrapped client to be an {@code AWSLambdaAsync}. The future completes with the result of the
+ * function, or fails with the exception the method would otherwise throw. Invoking such methods
+ * one after another runs the functions concurrently, on the threads of the client.
+ * <p>
+ * <code>
+ * public interface LambdaFunctions {
+ * 
+ * @LambdaFunction Future&lt;Result&gt; doSomeStuff(Request request); } LambdaFunctions functions =
+ *                 LambdaInvokerFactory.build( LambdaFunctions.class, new AWSLambdaAsyncClient());
+ *                 Future&lt;Result&gt; result = functions.doSomeStuff(new Request(...)); </code>
  */
 public final class LambdaInvokerFactory {
 
     private static final ObjectMapper MAPPER = new ObjectMapper();
 
+    private static final ObjectWriter WRITER = MAPPER.writer();
+
+    private static final ObjectReader ERROR_READER = MAPPER.reader(LambdaFunctionError.class);
+
     /**
      * Creates a new Lambda invoker implementing the given interface and wrapping the given
      * {@code AWSLambda} client.
@@ -104,11 +131,25 @@ public final class LambdaInvokerFactory {
         private final Log log;
         private final LambdaInvokerFactoryConfig config;
 
+        /**
+         * Readers of the results of the annotated methods of the interface, built once rather
+         * than for each invocation. Methods with no result have no reader.
+         */
+        private final Map<Method, ObjectReader> resultReaders;
+
         public LambdaInvocationHandler(Class<?> interfaceClass, AWSLambda awsLambda, LambdaInvokerFactoryConfig config) {
 
             this.awsLambda = awsLambda;
             this.log = LogFactory.getLog(interfaceClass);
             this.config = config;
+
+            Map<Method, ObjectReader> readers = new HashMap<Method, ObjectReader>();
+            for (Method method : interfaceClass.getMethods()) {
+                if (method.getAnnotation(LambdaFunction.class) != null) {
+                    readers.put(method, createResultReader(method));
+                }
+            }
+            this.resultReaders = Collections.unmodifiableMap(readers);
         }
 
         @Override
@@ -118,11 +159,29 @@ public final class LambdaInvokerFactory {
 
             InvokeRequest invokeRequest = buildInvokeRequest(method, annotation, args == null ? null : args[0]);
 
+            if (Future.class.equals(method.getReturnType())) {
+                return invokeAsync(method, invokeRequest);
+            }
+
             InvokeResult invokeResult = awsLambda.invoke(invokeRequest);
 
             return processInvokeResult(method, invokeResult);
         }
 
+        /**
+         * Invokes the function of the given method asynchronously, and returns the future of the
+         * result of the method.
+         */
+        private Future<Object> invokeAsync(Method method, InvokeRequest invokeRequest) {
+
+            if (!(awsLambda instanceof AWSLambdaAsync)) {
+                throw new LambdaSerializationException("Method " + method.getName()
+                        + " returns a Future, which requires an AWSLambdaAsync client");
+            }
+
+            return new ResultFuture(method, ((AWSLambdaAsync) awsLambda).invokeAsync(invokeRequest));
+        }
+
         /**
          * Verifies that the given method is annotated appropriately.
          */
@@ -162,7 +221,7 @@ public final class LambdaInvokerFactory {
             if (input != null) {
                 try {
 
-                    String payload = MAPPER.writer().writeValueAsString(input);
+                    String payload = WRITER.writeValueAsString(input);
                     if (log.isDebugEnabled()) {
                         log.debug("Serialized request object to '" + payload + "'");
                     }
@@ -218,7 +277,9 @@ public final class LambdaInvokerFactory {
 
             try {
 
-                return getObjectFromPayload(method.getGenericReturnType(), invokeResult.getPayload());
+                ObjectReader reader = resultReaders.containsKey(method) ? resultReaders.get(method)
+                        : createResultReader(method);
+                return getObjectFromPayload(reader, invokeResult.getPayload());
 
             } catch (IOException ex) {
                 throw new LambdaSerializationException("Failed to parse Lambda function result", ex);
@@ -235,7 +296,8 @@ public final class LambdaInvokerFactory {
 
             try {
 
-                LambdaFunctionError error = getObjectFromPayload(LambdaFunctionError.class, invokeResult.getPayload());
+                LambdaFunctionError error = (LambdaFunctionError) getObjectFromPayload(ERROR_READER,
+                        invokeResult.getPayload());
 
                 if (error != null) {
                     message = error.getErrorMessage();
@@ -315,20 +377,98 @@ public final class LambdaInvokerFactory {
             throwable.setStackTrace(elements);
         }
 
-        private <T> T getObjectFromPayload(Class<T> type, ByteBuffer payload) throws IOException {
+        private Object getObjectFromPayload(ObjectReader reader, ByteBuffer payload) throws IOException {
+
+            if (reader == null || payload.remaining() == 0) {
+                return null;
+            }
 
-            return type.cast(getObjectFromPayload((Type) type, payload));
+            return reader.readValue(BinaryUtils.copyAllBytesFrom(payload));
         }
 
-        private Object getObjectFromPayload(Type type, ByteBuffer payload) throws IOException {
+        /**
+         * Returns a reader of the result of the given method, or null if it has none. The result of
+         * a method returning a {@code Future} is the value of the future.
+         */
+        private static ObjectReader createResultReader(Method method) {
+
+            Type type = method.getGenericReturnType();
 
-            if (type == void.class || payload.remaining() == 0) {
+            if (Future.class.equals(method.getReturnType())) {
+                type = type instanceof ParameterizedType ? ((ParameterizedType) type).getActualTypeArguments()[0]
+                        : Object.class;
+            }
+
+            if (type == void.class || type == Void.class) {
                 return null;
             }
 
             JavaType javaType = MAPPER.getTypeFactory().constructType(type);
 
-            return MAPPER.reader(javaType).readValue(BinaryUtils.copyAllBytesFrom(payload));
+            return MAPPER.reader(javaType);
+        }
+
+        /**
+         * Future of the result of a method, processing the result of the asynchronous invocation of
+         * its function the first time it is requested.
+         */
+        private final class ResultFuture implements Future<Object> {
+
+            private final Method method;
+            private final Future<InvokeResult> invokeResultFuture;
+
+            private boolean processed;
+            private Object result;
+            private Throwable failure;
+
+            public ResultFuture(Method method, Future<InvokeResult> invokeResultFuture) {
+
+                this.method = method;
+                this.invokeResultFuture = invokeResultFuture;
+            }
+
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                return invokeResultFuture.cancel(mayInterruptIfRunning);
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return invokeResultFuture.isCancelled();
+            }
+
+            @Override
+            public boolean isDone() {
+                return invokeResultFuture.isDone();
+            }
+
+            @Override
+            public Object get() throws InterruptedException, ExecutionException {
+                return process(invokeResultFuture.get());
+            }
+
+            @Override
+            public Object get(long timeout, TimeUnit unit)
+                    throws InterruptedException, ExecutionException, TimeoutException {
+                return process(invokeResultFuture.get(timeout, unit));
+            }
+
+            private synchronized Object process(InvokeResult invokeResult) throws ExecutionException {
+
+                if (!processed) {
+                    try {
+                        result = processInvokeResult(method, invokeResult);
+                    } catch (Throwable t) {
+                        failure = t;
+                    }
+                    processed = true;
+                }
+
+                if (failure != null) {
+                    throw new ExecutionException(failure);
+                }
+                return result;
+            }
         }
     }
 }
\ No newline at end of file
@@ -26,7 +26,7 @@ public class AuthorizationAlreadyExistsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public AuthorizationAlreadyExistsExceptionUnmarshaller() {
-        super(AuthorizationAlreadyExistsException.class);
+        super(AuthorizationAlreadyExistsException.class, "AuthorizationAlreadyExists");
     }
 
     @Override
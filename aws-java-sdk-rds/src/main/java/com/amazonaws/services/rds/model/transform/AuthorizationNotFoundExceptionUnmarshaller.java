@@ -26,7 +26,7 @@ public class AuthorizationNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public AuthorizationNotFoundExceptionUnmarshaller() {
-        super(AuthorizationNotFoundException.class);
+        super(AuthorizationNotFoundException.class, "AuthorizationNotFound");
     }
 
     @Override
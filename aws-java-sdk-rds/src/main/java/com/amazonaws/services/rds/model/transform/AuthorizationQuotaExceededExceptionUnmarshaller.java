@@ -26,7 +26,7 @@ public class AuthorizationQuotaExceededExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public AuthorizationQuotaExceededExceptionUnmarshaller() {
-        super(AuthorizationQuotaExceededException.class);
+        super(AuthorizationQuotaExceededException.class, "AuthorizationQuotaExceeded");
     }
 
     @Override
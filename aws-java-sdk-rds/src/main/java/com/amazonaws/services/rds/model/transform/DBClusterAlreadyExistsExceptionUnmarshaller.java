@@ -26,7 +26,7 @@ public class DBClusterAlreadyExistsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public DBClusterAlreadyExistsExceptionUnmarshaller() {
-        super(DBClusterAlreadyExistsException.class);
+        super(DBClusterAlreadyExistsException.class, "DBClusterAlreadyExistsFault");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class DBClusterNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public DBClusterNotFoundExceptionUnmarshaller() {
-        super(DBClusterNotFoundException.class);
+        super(DBClusterNotFoundException.class, "DBClusterNotFoundFault");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class DBClusterParameterGroupNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public DBClusterParameterGroupNotFoundExceptionUnmarshaller() {
-        super(DBClusterParameterGroupNotFoundException.class);
+        super(DBClusterParameterGroupNotFoundException.class, "DBClusterParameterGroupNotFound");
     }
 
     @Override
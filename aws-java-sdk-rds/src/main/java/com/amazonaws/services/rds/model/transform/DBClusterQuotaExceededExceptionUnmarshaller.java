@@ -26,7 +26,7 @@ public class DBClusterQuotaExceededExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public DBClusterQuotaExceededExceptionUnmarshaller() {
-        super(DBClusterQuotaExceededException.class);
+        super(DBClusterQuotaExceededException.class, "DBClusterQuotaExceededFault");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class DBClusterSnapshotAlreadyExistsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public DBClusterSnapshotAlreadyExistsExceptionUnmarshaller() {
-        super(DBClusterSnapshotAlreadyExistsException.class);
+        super(DBClusterSnapshotAlreadyExistsException.class, "DBClusterSnapshotAlreadyExistsFault");
     }
 
     @Override
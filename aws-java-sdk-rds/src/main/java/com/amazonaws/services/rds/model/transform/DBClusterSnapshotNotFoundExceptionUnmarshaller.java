@@ -26,7 +26,7 @@ public class DBClusterSnapshotNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public DBClusterSnapshotNotFoundExceptionUnmarshaller() {
-        super(DBClusterSnapshotNotFoundException.class);
+        super(DBClusterSnapshotNotFoundException.class, "DBClusterSnapshotNotFoundFault");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class DBInstanceAlreadyExistsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public DBInstanceAlreadyExistsExceptionUnmarshaller() {
-        super(DBInstanceAlreadyExistsException.class);
+        super(DBInstanceAlreadyExistsException.class, "DBInstanceAlreadyExists");
     }
 
     @Override
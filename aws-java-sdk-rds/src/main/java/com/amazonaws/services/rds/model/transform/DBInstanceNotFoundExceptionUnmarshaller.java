@@ -26,7 +26,7 @@ public class DBInstanceNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public DBInstanceNotFoundExceptionUnmarshaller() {
-        super(DBInstanceNotFoundException.class);
+        super(DBInstanceNotFoundException.class, "DBInstanceNotFound");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class DBLogFileNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public DBLogFileNotFoundExceptionUnmarshaller() {
-        super(DBLogFileNotFoundException.class);
+        super(DBLogFileNotFoundException.class, "DBLogFileNotFoundFault");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class DBParameterGroupAlreadyExistsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public DBParameterGroupAlreadyExistsExceptionUnmarshaller() {
-        super(DBParameterGroupAlreadyExistsException.class);
+        super(DBParameterGroupAlreadyExistsException.class, "DBParameterGroupAlreadyExists");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class DBParameterGroupNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public DBParameterGroupNotFoundExceptionUnmarshaller() {
-        super(DBParameterGroupNotFoundException.class);
+        super(DBParameterGroupNotFoundException.class, "DBParameterGroupNotFound");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class DBParameterGroupQuotaExceededExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public DBParameterGroupQuotaExceededExceptionUnmarshaller() {
-        super(DBParameterGroupQuotaExceededException.class);
+        super(DBParameterGroupQuotaExceededException.class, "DBParameterGroupQuotaExceeded");
     }
 
     @Override
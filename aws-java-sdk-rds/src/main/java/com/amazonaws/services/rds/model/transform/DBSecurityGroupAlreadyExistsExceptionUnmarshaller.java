@@ -26,7 +26,7 @@ public class DBSecurityGroupAlreadyExistsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public DBSecurityGroupAlreadyExistsExceptionUnmarshaller() {
-        super(DBSecurityGroupAlreadyExistsException.class);
+        super(DBSecurityGroupAlreadyExistsException.class, "DBSecurityGroupAlreadyExists");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class DBSecurityGroupNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public DBSecurityGroupNotFoundExceptionUnmarshaller() {
-        super(DBSecurityGroupNotFoundException.class);
+        super(DBSecurityGroupNotFoundException.class, "DBSecurityGroupNotFound");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class DBSecurityGroupNotSupportedExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public DBSecurityGroupNotSupportedExceptionUnmarshaller() {
-        super(DBSecurityGroupNotSupportedException.class);
+        super(DBSecurityGroupNotSupportedException.class, "DBSecurityGroupNotSupported");
     }
 
     @Override
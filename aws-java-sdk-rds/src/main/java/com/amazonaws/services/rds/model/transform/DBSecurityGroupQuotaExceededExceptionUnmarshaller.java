@@ -26,7 +26,7 @@ public class DBSecurityGroupQuotaExceededExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public DBSecurityGroupQuotaExceededExceptionUnmarshaller() {
-        super(DBSecurityGroupQuotaExceededException.class);
+        super(DBSecurityGroupQuotaExceededException.class, "QuotaExceeded.DBSecurityGroup");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class DBSnapshotAlreadyExistsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public DBSnapshotAlreadyExistsExceptionUnmarshaller() {
-        super(DBSnapshotAlreadyExistsException.class);
+        super(DBSnapshotAlreadyExistsException.class, "DBSnapshotAlreadyExists");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class DBSnapshotNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public DBSnapshotNotFoundExceptionUnmarshaller() {
-        super(DBSnapshotNotFoundException.class);
+        super(DBSnapshotNotFoundException.class, "DBSnapshotNotFound");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class DBSubnetGroupAlreadyExistsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public DBSubnetGroupAlreadyExistsExceptionUnmarshaller() {
-        super(DBSubnetGroupAlreadyExistsException.class);
+        super(DBSubnetGroupAlreadyExistsException.class, "DBSubnetGroupAlreadyExists");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class DBSubnetGroupDoesNotCoverEnoughAZsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public DBSubnetGroupDoesNotCoverEnoughAZsExceptionUnmarshaller() {
-        super(DBSubnetGroupDoesNotCoverEnoughAZsException.class);
+        super(DBSubnetGroupDoesNotCoverEnoughAZsException.class, "DBSubnetGroupDoesNotCoverEnoughAZs");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class DBSubnetGroupNotAllowedExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public DBSubnetGroupNotAllowedExceptionUnmarshaller() {
-        super(DBSubnetGroupNotAllowedException.class);
+        super(DBSubnetGroupNotAllowedException.class, "DBSubnetGroupNotAllowedFault");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class DBSubnetGroupNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public DBSubnetGroupNotFoundExceptionUnmarshaller() {
-        super(DBSubnetGroupNotFoundException.class);
+        super(DBSubnetGroupNotFoundException.class, "DBSubnetGroupNotFoundFault");
     }
 
     @Override
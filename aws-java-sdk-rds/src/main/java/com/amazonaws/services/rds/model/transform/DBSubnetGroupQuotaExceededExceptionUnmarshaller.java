@@ -26,7 +26,7 @@ public class DBSubnetGroupQuotaExceededExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public DBSubnetGroupQuotaExceededExceptionUnmarshaller() {
-        super(DBSubnetGroupQuotaExceededException.class);
+        super(DBSubnetGroupQuotaExceededException.class, "DBSubnetGroupQuotaExceeded");
     }
 
     @Override
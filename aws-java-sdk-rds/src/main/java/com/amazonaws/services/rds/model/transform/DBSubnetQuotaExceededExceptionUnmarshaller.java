@@ -26,7 +26,7 @@ public class DBSubnetQuotaExceededExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public DBSubnetQuotaExceededExceptionUnmarshaller() {
-        super(DBSubnetQuotaExceededException.class);
+        super(DBSubnetQuotaExceededException.class, "DBSubnetQuotaExceededFault");
     }
 
     @Override
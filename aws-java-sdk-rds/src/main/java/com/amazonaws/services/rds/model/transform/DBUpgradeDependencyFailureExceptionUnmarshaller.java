@@ -26,7 +26,7 @@ public class DBUpgradeDependencyFailureExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public DBUpgradeDependencyFailureExceptionUnmarshaller() {
-        super(DBUpgradeDependencyFailureException.class);
+        super(DBUpgradeDependencyFailureException.class, "DBUpgradeDependencyFailure");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class DomainNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public DomainNotFoundExceptionUnmarshaller() {
-        super(DomainNotFoundException.class);
+        super(DomainNotFoundException.class, "DomainNotFoundFault");
     }
 
     @Override
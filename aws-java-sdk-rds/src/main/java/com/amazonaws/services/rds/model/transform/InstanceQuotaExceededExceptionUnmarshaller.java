@@ -26,7 +26,7 @@ public class InstanceQuotaExceededExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InstanceQuotaExceededExceptionUnmarshaller() {
-        super(InstanceQuotaExceededException.class);
+        super(InstanceQuotaExceededException.class, "InstanceQuotaExceeded");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InsufficientDBClusterCapacityExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InsufficientDBClusterCapacityExceptionUnmarshaller() {
-        super(InsufficientDBClusterCapacityException.class);
+        super(InsufficientDBClusterCapacityException.class, "InsufficientDBClusterCapacityFault");
     }
 
     @Override
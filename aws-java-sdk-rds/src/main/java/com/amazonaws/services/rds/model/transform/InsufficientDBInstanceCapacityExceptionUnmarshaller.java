@@ -26,7 +26,7 @@ public class InsufficientDBInstanceCapacityExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InsufficientDBInstanceCapacityExceptionUnmarshaller() {
-        super(InsufficientDBInstanceCapacityException.class);
+        super(InsufficientDBInstanceCapacityException.class, "InsufficientDBInstanceCapacity");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InsufficientStorageClusterCapacityExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InsufficientStorageClusterCapacityExceptionUnmarshaller() {
-        super(InsufficientStorageClusterCapacityException.class);
+        super(InsufficientStorageClusterCapacityException.class, "InsufficientStorageClusterCapacity");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InvalidDBClusterSnapshotStateExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidDBClusterSnapshotStateExceptionUnmarshaller() {
-        super(InvalidDBClusterSnapshotStateException.class);
+        super(InvalidDBClusterSnapshotStateException.class, "InvalidDBClusterSnapshotStateFault");
     }
 
     @Override
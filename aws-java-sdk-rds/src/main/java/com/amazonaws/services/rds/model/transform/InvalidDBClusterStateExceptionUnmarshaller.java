@@ -26,7 +26,7 @@ public class InvalidDBClusterStateExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidDBClusterStateExceptionUnmarshaller() {
-        super(InvalidDBClusterStateException.class);
+        super(InvalidDBClusterStateException.class, "InvalidDBClusterStateFault");
     }
 
     @Override
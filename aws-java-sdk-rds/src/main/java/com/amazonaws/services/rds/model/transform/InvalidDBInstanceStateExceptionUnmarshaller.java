@@ -26,7 +26,7 @@ public class InvalidDBInstanceStateExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidDBInstanceStateExceptionUnmarshaller() {
-        super(InvalidDBInstanceStateException.class);
+        super(InvalidDBInstanceStateException.class, "InvalidDBInstanceState");
     }
 
     @Override
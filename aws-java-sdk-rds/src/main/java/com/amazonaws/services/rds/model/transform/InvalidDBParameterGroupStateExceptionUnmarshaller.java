@@ -26,7 +26,7 @@ public class InvalidDBParameterGroupStateExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidDBParameterGroupStateExceptionUnmarshaller() {
-        super(InvalidDBParameterGroupStateException.class);
+        super(InvalidDBParameterGroupStateException.class, "InvalidDBParameterGroupState");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InvalidDBSecurityGroupStateExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidDBSecurityGroupStateExceptionUnmarshaller() {
-        super(InvalidDBSecurityGroupStateException.class);
+        super(InvalidDBSecurityGroupStateException.class, "InvalidDBSecurityGroupState");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InvalidDBSnapshotStateExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidDBSnapshotStateExceptionUnmarshaller() {
-        super(InvalidDBSnapshotStateException.class);
+        super(InvalidDBSnapshotStateException.class, "InvalidDBSnapshotState");
     }
 
     @Override
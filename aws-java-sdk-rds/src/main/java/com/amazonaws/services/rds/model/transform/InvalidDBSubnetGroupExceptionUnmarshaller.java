@@ -26,7 +26,7 @@ public class InvalidDBSubnetGroupExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidDBSubnetGroupExceptionUnmarshaller() {
-        super(InvalidDBSubnetGroupException.class);
+        super(InvalidDBSubnetGroupException.class, "InvalidDBSubnetGroupFault");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InvalidDBSubnetGroupStateExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidDBSubnetGroupStateExceptionUnmarshaller() {
-        super(InvalidDBSubnetGroupStateException.class);
+        super(InvalidDBSubnetGroupStateException.class, "InvalidDBSubnetGroupStateFault");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InvalidDBSubnetStateExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidDBSubnetStateExceptionUnmarshaller() {
-        super(InvalidDBSubnetStateException.class);
+        super(InvalidDBSubnetStateException.class, "InvalidDBSubnetStateFault");
     }
 
     @Override
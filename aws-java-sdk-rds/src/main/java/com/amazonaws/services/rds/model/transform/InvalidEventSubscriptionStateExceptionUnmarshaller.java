@@ -26,7 +26,7 @@ public class InvalidEventSubscriptionStateExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidEventSubscriptionStateExceptionUnmarshaller() {
-        super(InvalidEventSubscriptionStateException.class);
+        super(InvalidEventSubscriptionStateException.class, "InvalidEventSubscriptionState");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InvalidOptionGroupStateExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidOptionGroupStateExceptionUnmarshaller() {
-        super(InvalidOptionGroupStateException.class);
+        super(InvalidOptionGroupStateException.class, "InvalidOptionGroupStateFault");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class KMSKeyNotAccessibleExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public KMSKeyNotAccessibleExceptionUnmarshaller() {
-        super(KMSKeyNotAccessibleException.class);
+        super(KMSKeyNotAccessibleException.class, "KMSKeyNotAccessibleFault");
     }
 
     @Override
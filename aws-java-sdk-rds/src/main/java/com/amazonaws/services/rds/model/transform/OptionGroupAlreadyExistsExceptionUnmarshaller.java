@@ -26,7 +26,7 @@ public class OptionGroupAlreadyExistsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public OptionGroupAlreadyExistsExceptionUnmarshaller() {
-        super(OptionGroupAlreadyExistsException.class);
+        super(OptionGroupAlreadyExistsException.class, "OptionGroupAlreadyExistsFault");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class OptionGroupNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public OptionGroupNotFoundExceptionUnmarshaller() {
-        super(OptionGroupNotFoundException.class);
+        super(OptionGroupNotFoundException.class, "OptionGroupNotFoundFault");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class OptionGroupQuotaExceededExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public OptionGroupQuotaExceededExceptionUnmarshaller() {
-        super(OptionGroupQuotaExceededException.class);
+        super(OptionGroupQuotaExceededException.class, "OptionGroupQuotaExceededFault");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class PointInTimeRestoreNotEnabledExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public PointInTimeRestoreNotEnabledExceptionUnmarshaller() {
-        super(PointInTimeRestoreNotEnabledException.class);
+        super(PointInTimeRestoreNotEnabledException.class, "PointInTimeRestoreNotEnabled");
     }
 
     @Override
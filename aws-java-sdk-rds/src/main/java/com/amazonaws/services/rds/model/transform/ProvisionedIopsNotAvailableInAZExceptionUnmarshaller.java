@@ -26,7 +26,7 @@ public class ProvisionedIopsNotAvailableInAZExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public ProvisionedIopsNotAvailableInAZExceptionUnmarshaller() {
-        super(ProvisionedIopsNotAvailableInAZException.class);
+        super(ProvisionedIopsNotAvailableInAZException.class, "ProvisionedIopsNotAvailableInAZFault");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class ReservedDBInstanceAlreadyExistsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public ReservedDBInstanceAlreadyExistsExceptionUnmarshaller() {
-        super(ReservedDBInstanceAlreadyExistsException.class);
+        super(ReservedDBInstanceAlreadyExistsException.class, "ReservedDBInstanceAlreadyExists");
     }
 
     @Override
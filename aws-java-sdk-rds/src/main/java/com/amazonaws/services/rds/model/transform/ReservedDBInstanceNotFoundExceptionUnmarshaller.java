@@ -26,7 +26,7 @@ public class ReservedDBInstanceNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public ReservedDBInstanceNotFoundExceptionUnmarshaller() {
-        super(ReservedDBInstanceNotFoundException.class);
+        super(ReservedDBInstanceNotFoundException.class, "ReservedDBInstanceNotFound");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class ReservedDBInstanceQuotaExceededExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public ReservedDBInstanceQuotaExceededExceptionUnmarshaller() {
-        super(ReservedDBInstanceQuotaExceededException.class);
+        super(ReservedDBInstanceQuotaExceededException.class, "ReservedDBInstanceQuotaExceeded");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class ReservedDBInstancesOfferingNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public ReservedDBInstancesOfferingNotFoundExceptionUnmarshaller() {
-        super(ReservedDBInstancesOfferingNotFoundException.class);
+        super(ReservedDBInstancesOfferingNotFoundException.class, "ReservedDBInstancesOfferingNotFound");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class ResourceNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public ResourceNotFoundExceptionUnmarshaller() {
-        super(ResourceNotFoundException.class);
+        super(ResourceNotFoundException.class, "ResourceNotFoundFault");
     }
 
     @Override
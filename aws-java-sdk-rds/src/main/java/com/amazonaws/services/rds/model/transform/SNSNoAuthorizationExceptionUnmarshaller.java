@@ -26,7 +26,7 @@ public class SNSNoAuthorizationExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public SNSNoAuthorizationExceptionUnmarshaller() {
-        super(SNSNoAuthorizationException.class);
+        super(SNSNoAuthorizationException.class, "SNSNoAuthorization");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class SharedSnapshotQuotaExceededExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public SharedSnapshotQuotaExceededExceptionUnmarshaller() {
-        super(SharedSnapshotQuotaExceededException.class);
+        super(SharedSnapshotQuotaExceededException.class, "SharedSnapshotQuotaExceeded");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class SnapshotQuotaExceededExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public SnapshotQuotaExceededExceptionUnmarshaller() {
-        super(SnapshotQuotaExceededException.class);
+        super(SnapshotQuotaExceededException.class, "SnapshotQuotaExceeded");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class StorageQuotaExceededExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public StorageQuotaExceededExceptionUnmarshaller() {
-        super(StorageQuotaExceededException.class);
+        super(StorageQuotaExceededException.class, "StorageQuotaExceeded");
     }
 
     @Override
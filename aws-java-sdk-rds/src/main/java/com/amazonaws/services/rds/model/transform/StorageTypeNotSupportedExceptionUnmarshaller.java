@@ -26,7 +26,7 @@ public class StorageTypeNotSupportedExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public StorageTypeNotSupportedExceptionUnmarshaller() {
-        super(StorageTypeNotSupportedException.class);
+        super(StorageTypeNotSupportedException.class, "StorageTypeNotSupported");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class SubscriptionNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public SubscriptionNotFoundExceptionUnmarshaller() {
-        super(SubscriptionNotFoundException.class);
+        super(SubscriptionNotFoundException.class, "SubscriptionNotFound");
     }
 
     @Override
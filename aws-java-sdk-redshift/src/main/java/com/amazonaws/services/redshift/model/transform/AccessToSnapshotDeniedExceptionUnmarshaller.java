@@ -26,7 +26,7 @@ public class AccessToSnapshotDeniedExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public AccessToSnapshotDeniedExceptionUnmarshaller() {
-        super(AccessToSnapshotDeniedException.class);
+        super(AccessToSnapshotDeniedException.class, "AccessToSnapshotDenied");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class BucketNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public BucketNotFoundExceptionUnmarshaller() {
-        super(BucketNotFoundException.class);
+        super(BucketNotFoundException.class, "BucketNotFoundFault");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class ClusterAlreadyExistsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public ClusterAlreadyExistsExceptionUnmarshaller() {
-        super(ClusterAlreadyExistsException.class);
+        super(ClusterAlreadyExistsException.class, "ClusterAlreadyExists");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class ClusterNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public ClusterNotFoundExceptionUnmarshaller() {
-        super(ClusterNotFoundException.class);
+        super(ClusterNotFoundException.class, "ClusterNotFound");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class ClusterParameterGroupAlreadyExistsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public ClusterParameterGroupAlreadyExistsExceptionUnmarshaller() {
-        super(ClusterParameterGroupAlreadyExistsException.class);
+        super(ClusterParameterGroupAlreadyExistsException.class, "ClusterParameterGroupAlreadyExists");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class ClusterParameterGroupNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public ClusterParameterGroupNotFoundExceptionUnmarshaller() {
-        super(ClusterParameterGroupNotFoundException.class);
+        super(ClusterParameterGroupNotFoundException.class, "ClusterParameterGroupNotFound");
     }
 
     @Override
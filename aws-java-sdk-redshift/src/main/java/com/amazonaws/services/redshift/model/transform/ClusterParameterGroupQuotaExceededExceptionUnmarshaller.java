@@ -26,7 +26,7 @@ public class ClusterParameterGroupQuotaExceededExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public ClusterParameterGroupQuotaExceededExceptionUnmarshaller() {
-        super(ClusterParameterGroupQuotaExceededException.class);
+        super(ClusterParameterGroupQuotaExceededException.class, "ClusterParameterGroupQuotaExceeded");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class ClusterQuotaExceededExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public ClusterQuotaExceededExceptionUnmarshaller() {
-        super(ClusterQuotaExceededException.class);
+        super(ClusterQuotaExceededException.class, "ClusterQuotaExceeded");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class ClusterSecurityGroupAlreadyExistsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public ClusterSecurityGroupAlreadyExistsExceptionUnmarshaller() {
-        super(ClusterSecurityGroupAlreadyExistsException.class);
+        super(ClusterSecurityGroupAlreadyExistsException.class, "ClusterSecurityGroupAlreadyExists");
     }
 
     @Override
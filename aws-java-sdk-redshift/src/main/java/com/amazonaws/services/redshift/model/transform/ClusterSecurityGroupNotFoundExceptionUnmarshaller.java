@@ -26,7 +26,7 @@ public class ClusterSecurityGroupNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public ClusterSecurityGroupNotFoundExceptionUnmarshaller() {
-        super(ClusterSecurityGroupNotFoundException.class);
+        super(ClusterSecurityGroupNotFoundException.class, "ClusterSecurityGroupNotFound");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class ClusterSecurityGroupQuotaExceededExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public ClusterSecurityGroupQuotaExceededExceptionUnmarshaller() {
-        super(ClusterSecurityGroupQuotaExceededException.class);
+        super(ClusterSecurityGroupQuotaExceededException.class, "QuotaExceeded.ClusterSecurityGroup");
     }
 
     @Override
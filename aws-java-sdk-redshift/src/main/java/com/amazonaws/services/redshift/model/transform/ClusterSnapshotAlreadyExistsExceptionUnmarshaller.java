@@ -26,7 +26,7 @@ public class ClusterSnapshotAlreadyExistsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public ClusterSnapshotAlreadyExistsExceptionUnmarshaller() {
-        super(ClusterSnapshotAlreadyExistsException.class);
+        super(ClusterSnapshotAlreadyExistsException.class, "ClusterSnapshotAlreadyExists");
     }
 
     @Override
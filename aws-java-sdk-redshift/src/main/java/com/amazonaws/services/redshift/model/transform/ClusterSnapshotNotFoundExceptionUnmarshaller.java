@@ -26,7 +26,7 @@ public class ClusterSnapshotNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public ClusterSnapshotNotFoundExceptionUnmarshaller() {
-        super(ClusterSnapshotNotFoundException.class);
+        super(ClusterSnapshotNotFoundException.class, "ClusterSnapshotNotFound");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class ClusterSnapshotQuotaExceededExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public ClusterSnapshotQuotaExceededExceptionUnmarshaller() {
-        super(ClusterSnapshotQuotaExceededException.class);
+        super(ClusterSnapshotQuotaExceededException.class, "ClusterSnapshotQuotaExceeded");
     }
 
     @Override
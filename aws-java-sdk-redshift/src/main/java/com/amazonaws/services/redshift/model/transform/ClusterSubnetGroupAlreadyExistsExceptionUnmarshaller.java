@@ -26,7 +26,7 @@ public class ClusterSubnetGroupAlreadyExistsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public ClusterSubnetGroupAlreadyExistsExceptionUnmarshaller() {
-        super(ClusterSubnetGroupAlreadyExistsException.class);
+        super(ClusterSubnetGroupAlreadyExistsException.class, "ClusterSubnetGroupAlreadyExists");
     }
 
     @Override
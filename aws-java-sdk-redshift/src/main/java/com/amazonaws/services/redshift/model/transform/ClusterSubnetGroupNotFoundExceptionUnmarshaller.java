@@ -26,7 +26,7 @@ public class ClusterSubnetGroupNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public ClusterSubnetGroupNotFoundExceptionUnmarshaller() {
-        super(ClusterSubnetGroupNotFoundException.class);
+        super(ClusterSubnetGroupNotFoundException.class, "ClusterSubnetGroupNotFoundFault");
     }
 
     @Override
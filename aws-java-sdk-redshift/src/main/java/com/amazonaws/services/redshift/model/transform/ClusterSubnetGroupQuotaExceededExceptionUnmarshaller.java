@@ -26,7 +26,7 @@ public class ClusterSubnetGroupQuotaExceededExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public ClusterSubnetGroupQuotaExceededExceptionUnmarshaller() {
-        super(ClusterSubnetGroupQuotaExceededException.class);
+        super(ClusterSubnetGroupQuotaExceededException.class, "ClusterSubnetGroupQuotaExceeded");
     }
 
     @Override
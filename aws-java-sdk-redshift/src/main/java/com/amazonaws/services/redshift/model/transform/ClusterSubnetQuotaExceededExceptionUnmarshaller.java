@@ -26,7 +26,7 @@ public class ClusterSubnetQuotaExceededExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public ClusterSubnetQuotaExceededExceptionUnmarshaller() {
-        super(ClusterSubnetQuotaExceededException.class);
+        super(ClusterSubnetQuotaExceededException.class, "ClusterSubnetQuotaExceededFault");
     }
 
     @Override
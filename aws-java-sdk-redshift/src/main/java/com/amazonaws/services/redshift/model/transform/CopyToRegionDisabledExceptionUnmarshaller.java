@@ -26,7 +26,7 @@ public class CopyToRegionDisabledExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public CopyToRegionDisabledExceptionUnmarshaller() {
-        super(CopyToRegionDisabledException.class);
+        super(CopyToRegionDisabledException.class, "CopyToRegionDisabledFault");
     }
 
     @Override
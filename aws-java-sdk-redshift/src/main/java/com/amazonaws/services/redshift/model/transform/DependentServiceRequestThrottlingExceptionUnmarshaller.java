@@ -26,7 +26,7 @@ public class DependentServiceRequestThrottlingExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public DependentServiceRequestThrottlingExceptionUnmarshaller() {
-        super(DependentServiceRequestThrottlingException.class);
+        super(DependentServiceRequestThrottlingException.class, "DependentServiceRequestThrottlingFault");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class EventSubscriptionQuotaExceededExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public EventSubscriptionQuotaExceededExceptionUnmarshaller() {
-        super(EventSubscriptionQuotaExceededException.class);
+        super(EventSubscriptionQuotaExceededException.class, "EventSubscriptionQuotaExceeded");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class HsmClientCertificateAlreadyExistsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public HsmClientCertificateAlreadyExistsExceptionUnmarshaller() {
-        super(HsmClientCertificateAlreadyExistsException.class);
+        super(HsmClientCertificateAlreadyExistsException.class, "HsmClientCertificateAlreadyExistsFault");
     }
 
     @Override
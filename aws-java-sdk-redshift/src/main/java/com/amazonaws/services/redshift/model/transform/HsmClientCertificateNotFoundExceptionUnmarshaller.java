@@ -26,7 +26,7 @@ public class HsmClientCertificateNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public HsmClientCertificateNotFoundExceptionUnmarshaller() {
-        super(HsmClientCertificateNotFoundException.class);
+        super(HsmClientCertificateNotFoundException.class, "HsmClientCertificateNotFoundFault");
     }
 
     @Override
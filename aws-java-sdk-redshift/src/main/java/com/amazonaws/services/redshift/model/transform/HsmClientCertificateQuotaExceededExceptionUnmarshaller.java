@@ -26,7 +26,7 @@ public class HsmClientCertificateQuotaExceededExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public HsmClientCertificateQuotaExceededExceptionUnmarshaller() {
-        super(HsmClientCertificateQuotaExceededException.class);
+        super(HsmClientCertificateQuotaExceededException.class, "HsmClientCertificateQuotaExceededFault");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class HsmConfigurationAlreadyExistsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public HsmConfigurationAlreadyExistsExceptionUnmarshaller() {
-        super(HsmConfigurationAlreadyExistsException.class);
+        super(HsmConfigurationAlreadyExistsException.class, "HsmConfigurationAlreadyExistsFault");
     }
 
     @Override
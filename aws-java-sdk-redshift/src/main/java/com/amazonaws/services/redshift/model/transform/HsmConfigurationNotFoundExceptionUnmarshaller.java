@@ -26,7 +26,7 @@ public class HsmConfigurationNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public HsmConfigurationNotFoundExceptionUnmarshaller() {
-        super(HsmConfigurationNotFoundException.class);
+        super(HsmConfigurationNotFoundException.class, "HsmConfigurationNotFoundFault");
     }
 
     @Override
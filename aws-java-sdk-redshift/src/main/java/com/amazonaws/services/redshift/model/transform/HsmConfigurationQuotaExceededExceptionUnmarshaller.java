@@ -26,7 +26,7 @@ public class HsmConfigurationQuotaExceededExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public HsmConfigurationQuotaExceededExceptionUnmarshaller() {
-        super(HsmConfigurationQuotaExceededException.class);
+        super(HsmConfigurationQuotaExceededException.class, "HsmConfigurationQuotaExceededFault");
     }
 
     @Override
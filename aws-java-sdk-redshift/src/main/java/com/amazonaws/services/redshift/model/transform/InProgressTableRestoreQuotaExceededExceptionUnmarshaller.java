@@ -26,7 +26,7 @@ public class InProgressTableRestoreQuotaExceededExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InProgressTableRestoreQuotaExceededExceptionUnmarshaller() {
-        super(InProgressTableRestoreQuotaExceededException.class);
+        super(InProgressTableRestoreQuotaExceededException.class, "InProgressTableRestoreQuotaExceededFault");
     }
 
     @Override
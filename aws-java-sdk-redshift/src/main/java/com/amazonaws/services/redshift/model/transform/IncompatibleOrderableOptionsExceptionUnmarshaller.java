@@ -26,7 +26,7 @@ public class IncompatibleOrderableOptionsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public IncompatibleOrderableOptionsExceptionUnmarshaller() {
-        super(IncompatibleOrderableOptionsException.class);
+        super(IncompatibleOrderableOptionsException.class, "IncompatibleOrderableOptions");
     }
 
     @Override
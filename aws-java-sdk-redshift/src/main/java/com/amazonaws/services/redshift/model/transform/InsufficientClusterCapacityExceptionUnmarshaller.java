@@ -26,7 +26,7 @@ public class InsufficientClusterCapacityExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InsufficientClusterCapacityExceptionUnmarshaller() {
-        super(InsufficientClusterCapacityException.class);
+        super(InsufficientClusterCapacityException.class, "InsufficientClusterCapacity");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InsufficientS3BucketPolicyExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InsufficientS3BucketPolicyExceptionUnmarshaller() {
-        super(InsufficientS3BucketPolicyException.class);
+        super(InsufficientS3BucketPolicyException.class, "InsufficientS3BucketPolicyFault");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InvalidClusterParameterGroupStateExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidClusterParameterGroupStateExceptionUnmarshaller() {
-        super(InvalidClusterParameterGroupStateException.class);
+        super(InvalidClusterParameterGroupStateException.class, "InvalidClusterParameterGroupState");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InvalidClusterSecurityGroupStateExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidClusterSecurityGroupStateExceptionUnmarshaller() {
-        super(InvalidClusterSecurityGroupStateException.class);
+        super(InvalidClusterSecurityGroupStateException.class, "InvalidClusterSecurityGroupState");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InvalidClusterSnapshotStateExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidClusterSnapshotStateExceptionUnmarshaller() {
-        super(InvalidClusterSnapshotStateException.class);
+        super(InvalidClusterSnapshotStateException.class, "InvalidClusterSnapshotState");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InvalidClusterStateExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidClusterStateExceptionUnmarshaller() {
-        super(InvalidClusterStateException.class);
+        super(InvalidClusterStateException.class, "InvalidClusterState");
     }
 
     @Override
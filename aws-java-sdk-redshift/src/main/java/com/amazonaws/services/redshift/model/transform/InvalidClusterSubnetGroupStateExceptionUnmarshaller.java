@@ -26,7 +26,7 @@ public class InvalidClusterSubnetGroupStateExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidClusterSubnetGroupStateExceptionUnmarshaller() {
-        super(InvalidClusterSubnetGroupStateException.class);
+        super(InvalidClusterSubnetGroupStateException.class, "InvalidClusterSubnetGroupStateFault");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InvalidClusterSubnetStateExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidClusterSubnetStateExceptionUnmarshaller() {
-        super(InvalidClusterSubnetStateException.class);
+        super(InvalidClusterSubnetStateException.class, "InvalidClusterSubnetStateFault");
     }
 
     @Override
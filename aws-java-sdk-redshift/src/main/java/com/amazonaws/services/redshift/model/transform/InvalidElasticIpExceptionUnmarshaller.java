@@ -26,7 +26,7 @@ public class InvalidElasticIpExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidElasticIpExceptionUnmarshaller() {
-        super(InvalidElasticIpException.class);
+        super(InvalidElasticIpException.class, "InvalidElasticIpFault");
     }
 
     @Override
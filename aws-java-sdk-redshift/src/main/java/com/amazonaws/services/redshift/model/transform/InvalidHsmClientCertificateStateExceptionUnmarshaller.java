@@ -26,7 +26,7 @@ public class InvalidHsmClientCertificateStateExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidHsmClientCertificateStateExceptionUnmarshaller() {
-        super(InvalidHsmClientCertificateStateException.class);
+        super(InvalidHsmClientCertificateStateException.class, "InvalidHsmClientCertificateStateFault");
     }
 
     @Override
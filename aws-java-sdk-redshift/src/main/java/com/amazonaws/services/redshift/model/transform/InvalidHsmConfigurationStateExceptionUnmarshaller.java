@@ -26,7 +26,7 @@ public class InvalidHsmConfigurationStateExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidHsmConfigurationStateExceptionUnmarshaller() {
-        super(InvalidHsmConfigurationStateException.class);
+        super(InvalidHsmConfigurationStateException.class, "InvalidHsmConfigurationStateFault");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InvalidRestoreExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidRestoreExceptionUnmarshaller() {
-        super(InvalidRestoreException.class);
+        super(InvalidRestoreException.class, "InvalidRestore");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InvalidS3BucketNameExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidS3BucketNameExceptionUnmarshaller() {
-        super(InvalidS3BucketNameException.class);
+        super(InvalidS3BucketNameException.class, "InvalidS3BucketNameFault");
     }
 
     @Override
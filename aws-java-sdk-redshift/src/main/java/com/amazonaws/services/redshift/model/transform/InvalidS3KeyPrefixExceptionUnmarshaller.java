@@ -26,7 +26,7 @@ public class InvalidS3KeyPrefixExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidS3KeyPrefixExceptionUnmarshaller() {
-        super(InvalidS3KeyPrefixException.class);
+        super(InvalidS3KeyPrefixException.class, "InvalidS3KeyPrefixFault");
     }
 
     @Override
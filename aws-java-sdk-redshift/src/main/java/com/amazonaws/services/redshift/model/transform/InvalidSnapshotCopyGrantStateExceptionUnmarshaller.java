@@ -26,7 +26,7 @@ public class InvalidSnapshotCopyGrantStateExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidSnapshotCopyGrantStateExceptionUnmarshaller() {
-        super(InvalidSnapshotCopyGrantStateException.class);
+        super(InvalidSnapshotCopyGrantStateException.class, "InvalidSnapshotCopyGrantStateFault");
     }
 
     @Override
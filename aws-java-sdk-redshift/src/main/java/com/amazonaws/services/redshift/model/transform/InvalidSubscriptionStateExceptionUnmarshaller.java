@@ -26,7 +26,7 @@ public class InvalidSubscriptionStateExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidSubscriptionStateExceptionUnmarshaller() {
-        super(InvalidSubscriptionStateException.class);
+        super(InvalidSubscriptionStateException.class, "InvalidSubscriptionStateFault");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InvalidTableRestoreArgumentExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidTableRestoreArgumentExceptionUnmarshaller() {
-        super(InvalidTableRestoreArgumentException.class);
+        super(InvalidTableRestoreArgumentException.class, "InvalidTableRestoreArgument");
     }
 
     @Override
@@ -25,7 +25,7 @@ import com.amazonaws.services.redshift.model.InvalidTagException;
 public class InvalidTagExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public InvalidTagExceptionUnmarshaller() {
-        super(InvalidTagException.class);
+        super(InvalidTagException.class, "InvalidTagFault");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InvalidVPCNetworkStateExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidVPCNetworkStateExceptionUnmarshaller() {
-        super(InvalidVPCNetworkStateException.class);
+        super(InvalidVPCNetworkStateException.class, "InvalidVPCNetworkStateFault");
     }
 
     @Override
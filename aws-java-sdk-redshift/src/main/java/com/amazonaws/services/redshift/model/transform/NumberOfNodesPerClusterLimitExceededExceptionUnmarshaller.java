@@ -26,7 +26,7 @@ public class NumberOfNodesPerClusterLimitExceededExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public NumberOfNodesPerClusterLimitExceededExceptionUnmarshaller() {
-        super(NumberOfNodesPerClusterLimitExceededException.class);
+        super(NumberOfNodesPerClusterLimitExceededException.class, "NumberOfNodesPerClusterLimitExceeded");
     }
 
     @Override
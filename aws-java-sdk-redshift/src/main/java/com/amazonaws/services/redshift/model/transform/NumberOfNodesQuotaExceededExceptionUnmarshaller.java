@@ -26,7 +26,7 @@ public class NumberOfNodesQuotaExceededExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public NumberOfNodesQuotaExceededExceptionUnmarshaller() {
-        super(NumberOfNodesQuotaExceededException.class);
+        super(NumberOfNodesQuotaExceededException.class, "NumberOfNodesQuotaExceeded");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class ReservedNodeAlreadyExistsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public ReservedNodeAlreadyExistsExceptionUnmarshaller() {
-        super(ReservedNodeAlreadyExistsException.class);
+        super(ReservedNodeAlreadyExistsException.class, "ReservedNodeAlreadyExists");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class ReservedNodeNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public ReservedNodeNotFoundExceptionUnmarshaller() {
-        super(ReservedNodeNotFoundException.class);
+        super(ReservedNodeNotFoundException.class, "ReservedNodeNotFound");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class ReservedNodeOfferingNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public ReservedNodeOfferingNotFoundExceptionUnmarshaller() {
-        super(ReservedNodeOfferingNotFoundException.class);
+        super(ReservedNodeOfferingNotFoundException.class, "ReservedNodeOfferingNotFound");
     }
 
     @Override
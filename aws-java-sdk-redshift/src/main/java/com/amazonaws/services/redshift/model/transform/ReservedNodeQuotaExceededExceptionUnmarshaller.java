@@ -26,7 +26,7 @@ public class ReservedNodeQuotaExceededExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public ReservedNodeQuotaExceededExceptionUnmarshaller() {
-        super(ReservedNodeQuotaExceededException.class);
+        super(ReservedNodeQuotaExceededException.class, "ReservedNodeQuotaExceeded");
     }
 
     @Override
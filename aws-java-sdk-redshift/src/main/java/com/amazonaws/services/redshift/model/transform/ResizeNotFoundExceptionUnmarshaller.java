@@ -26,7 +26,7 @@ public class ResizeNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public ResizeNotFoundExceptionUnmarshaller() {
-        super(ResizeNotFoundException.class);
+        super(ResizeNotFoundException.class, "ResizeNotFound");
     }
 
     @Override
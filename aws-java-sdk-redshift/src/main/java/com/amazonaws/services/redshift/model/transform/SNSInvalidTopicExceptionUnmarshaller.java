@@ -26,7 +26,7 @@ public class SNSInvalidTopicExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public SNSInvalidTopicExceptionUnmarshaller() {
-        super(SNSInvalidTopicException.class);
+        super(SNSInvalidTopicException.class, "SNSInvalidTopic");
     }
 
     @Override
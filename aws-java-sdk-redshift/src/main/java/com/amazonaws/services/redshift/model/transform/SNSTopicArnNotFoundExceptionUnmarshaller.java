@@ -26,7 +26,7 @@ public class SNSTopicArnNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public SNSTopicArnNotFoundExceptionUnmarshaller() {
-        super(SNSTopicArnNotFoundException.class);
+        super(SNSTopicArnNotFoundException.class, "SNSTopicArnNotFound");
     }
 
     @Override
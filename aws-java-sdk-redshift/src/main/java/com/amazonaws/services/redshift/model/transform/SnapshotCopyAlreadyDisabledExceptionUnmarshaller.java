@@ -26,7 +26,7 @@ public class SnapshotCopyAlreadyDisabledExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public SnapshotCopyAlreadyDisabledExceptionUnmarshaller() {
-        super(SnapshotCopyAlreadyDisabledException.class);
+        super(SnapshotCopyAlreadyDisabledException.class, "SnapshotCopyAlreadyDisabledFault");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class SnapshotCopyAlreadyEnabledExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public SnapshotCopyAlreadyEnabledExceptionUnmarshaller() {
-        super(SnapshotCopyAlreadyEnabledException.class);
+        super(SnapshotCopyAlreadyEnabledException.class, "SnapshotCopyAlreadyEnabledFault");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class SnapshotCopyDisabledExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public SnapshotCopyDisabledExceptionUnmarshaller() {
-        super(SnapshotCopyDisabledException.class);
+        super(SnapshotCopyDisabledException.class, "SnapshotCopyDisabledFault");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class SnapshotCopyGrantAlreadyExistsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public SnapshotCopyGrantAlreadyExistsExceptionUnmarshaller() {
-        super(SnapshotCopyGrantAlreadyExistsException.class);
+        super(SnapshotCopyGrantAlreadyExistsException.class, "SnapshotCopyGrantAlreadyExistsFault");
     }
 
     @Override
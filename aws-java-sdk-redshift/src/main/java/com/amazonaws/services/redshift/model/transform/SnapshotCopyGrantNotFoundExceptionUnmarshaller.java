@@ -26,7 +26,7 @@ public class SnapshotCopyGrantNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public SnapshotCopyGrantNotFoundExceptionUnmarshaller() {
-        super(SnapshotCopyGrantNotFoundException.class);
+        super(SnapshotCopyGrantNotFoundException.class, "SnapshotCopyGrantNotFoundFault");
     }
 
     @Override
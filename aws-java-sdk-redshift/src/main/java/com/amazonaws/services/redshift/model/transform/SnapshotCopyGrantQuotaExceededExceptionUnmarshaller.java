@@ -26,7 +26,7 @@ public class SnapshotCopyGrantQuotaExceededExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public SnapshotCopyGrantQuotaExceededExceptionUnmarshaller() {
-        super(SnapshotCopyGrantQuotaExceededException.class);
+        super(SnapshotCopyGrantQuotaExceededException.class, "SnapshotCopyGrantQuotaExceededFault");
     }
 
     @Override
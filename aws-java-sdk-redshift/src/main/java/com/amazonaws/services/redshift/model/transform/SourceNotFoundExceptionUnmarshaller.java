@@ -26,7 +26,7 @@ public class SourceNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public SourceNotFoundExceptionUnmarshaller() {
-        super(SourceNotFoundException.class);
+        super(SourceNotFoundException.class, "SourceNotFound");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class SubnetAlreadyInUseExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public SubnetAlreadyInUseExceptionUnmarshaller() {
-        super(SubnetAlreadyInUseException.class);
+        super(SubnetAlreadyInUseException.class, "SubnetAlreadyInUse");
     }
 
     @Override
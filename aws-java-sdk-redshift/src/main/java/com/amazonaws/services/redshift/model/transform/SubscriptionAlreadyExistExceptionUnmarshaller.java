@@ -26,7 +26,7 @@ public class SubscriptionAlreadyExistExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public SubscriptionAlreadyExistExceptionUnmarshaller() {
-        super(SubscriptionAlreadyExistException.class);
+        super(SubscriptionAlreadyExistException.class, "SubscriptionAlreadyExist");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class SubscriptionCategoryNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public SubscriptionCategoryNotFoundExceptionUnmarshaller() {
-        super(SubscriptionCategoryNotFoundException.class);
+        super(SubscriptionCategoryNotFoundException.class, "SubscriptionCategoryNotFound");
     }
 
     @Override
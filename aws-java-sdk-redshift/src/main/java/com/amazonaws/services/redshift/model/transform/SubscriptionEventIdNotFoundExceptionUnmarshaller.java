@@ -26,7 +26,7 @@ public class SubscriptionEventIdNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public SubscriptionEventIdNotFoundExceptionUnmarshaller() {
-        super(SubscriptionEventIdNotFoundException.class);
+        super(SubscriptionEventIdNotFoundException.class, "SubscriptionEventIdNotFound");
     }
 
     @Override
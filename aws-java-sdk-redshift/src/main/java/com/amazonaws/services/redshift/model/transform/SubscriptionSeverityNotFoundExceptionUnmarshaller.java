@@ -26,7 +26,7 @@ public class SubscriptionSeverityNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public SubscriptionSeverityNotFoundExceptionUnmarshaller() {
-        super(SubscriptionSeverityNotFoundException.class);
+        super(SubscriptionSeverityNotFoundException.class, "SubscriptionSeverityNotFound");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class TableRestoreNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public TableRestoreNotFoundExceptionUnmarshaller() {
-        super(TableRestoreNotFoundException.class);
+        super(TableRestoreNotFoundException.class, "TableRestoreNotFoundFault");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class TagLimitExceededExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public TagLimitExceededExceptionUnmarshaller() {
-        super(TagLimitExceededException.class);
+        super(TagLimitExceededException.class, "TagLimitExceededFault");
     }
 
     @Override
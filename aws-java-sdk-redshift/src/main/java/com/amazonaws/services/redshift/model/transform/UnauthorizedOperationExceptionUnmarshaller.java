@@ -26,7 +26,7 @@ public class UnauthorizedOperationExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public UnauthorizedOperationExceptionUnmarshaller() {
-        super(UnauthorizedOperationException.class);
+        super(UnauthorizedOperationException.class, "UnauthorizedOperation");
     }
 
     @Override
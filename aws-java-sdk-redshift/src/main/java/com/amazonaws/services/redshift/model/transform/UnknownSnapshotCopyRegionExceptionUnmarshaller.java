@@ -26,7 +26,7 @@ public class UnknownSnapshotCopyRegionExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public UnknownSnapshotCopyRegionExceptionUnmarshaller() {
-        super(UnknownSnapshotCopyRegionException.class);
+        super(UnknownSnapshotCopyRegionException.class, "UnknownSnapshotCopyRegionFault");
     }
 
     @Override
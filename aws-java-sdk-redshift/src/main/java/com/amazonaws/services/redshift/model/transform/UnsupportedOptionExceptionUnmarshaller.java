@@ -26,7 +26,7 @@ public class UnsupportedOptionExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public UnsupportedOptionExceptionUnmarshaller() {
-        super(UnsupportedOptionException.class);
+        super(UnsupportedOptionException.class, "UnsupportedOptionFault");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class ConcurrentModificationExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public ConcurrentModificationExceptionUnmarshaller() {
-        super(ConcurrentModificationException.class);
+        super(ConcurrentModificationException.class, "ConcurrentModification");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class ConflictingDomainExistsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public ConflictingDomainExistsExceptionUnmarshaller() {
-        super(ConflictingDomainExistsException.class);
+        super(ConflictingDomainExistsException.class, "ConflictingDomainExists");
     }
 
     @Override
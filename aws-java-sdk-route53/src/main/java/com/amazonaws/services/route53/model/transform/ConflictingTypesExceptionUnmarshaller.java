@@ -26,7 +26,7 @@ public class ConflictingTypesExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public ConflictingTypesExceptionUnmarshaller() {
-        super(ConflictingTypesException.class);
+        super(ConflictingTypesException.class, "ConflictingTypes");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class DelegationSetAlreadyCreatedExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public DelegationSetAlreadyCreatedExceptionUnmarshaller() {
-        super(DelegationSetAlreadyCreatedException.class);
+        super(DelegationSetAlreadyCreatedException.class, "DelegationSetAlreadyCreated");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class DelegationSetAlreadyReusableExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public DelegationSetAlreadyReusableExceptionUnmarshaller() {
-        super(DelegationSetAlreadyReusableException.class);
+        super(DelegationSetAlreadyReusableException.class, "DelegationSetAlreadyReusable");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class DelegationSetInUseExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public DelegationSetInUseExceptionUnmarshaller() {
-        super(DelegationSetInUseException.class);
+        super(DelegationSetInUseException.class, "DelegationSetInUse");
     }
 
     @Override
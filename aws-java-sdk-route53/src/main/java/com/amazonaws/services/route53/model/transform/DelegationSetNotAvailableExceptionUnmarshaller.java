@@ -26,7 +26,7 @@ public class DelegationSetNotAvailableExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public DelegationSetNotAvailableExceptionUnmarshaller() {
-        super(DelegationSetNotAvailableException.class);
+        super(DelegationSetNotAvailableException.class, "DelegationSetNotAvailable");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class DelegationSetNotReusableExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public DelegationSetNotReusableExceptionUnmarshaller() {
-        super(DelegationSetNotReusableException.class);
+        super(DelegationSetNotReusableException.class, "DelegationSetNotReusable");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class HealthCheckAlreadyExistsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public HealthCheckAlreadyExistsExceptionUnmarshaller() {
-        super(HealthCheckAlreadyExistsException.class);
+        super(HealthCheckAlreadyExistsException.class, "HealthCheckAlreadyExists");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class HealthCheckInUseExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public HealthCheckInUseExceptionUnmarshaller() {
-        super(HealthCheckInUseException.class);
+        super(HealthCheckInUseException.class, "HealthCheckInUse");
     }
 
     @Override
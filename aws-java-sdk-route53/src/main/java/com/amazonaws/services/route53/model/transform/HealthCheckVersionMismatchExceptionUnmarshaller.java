@@ -26,7 +26,7 @@ public class HealthCheckVersionMismatchExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public HealthCheckVersionMismatchExceptionUnmarshaller() {
-        super(HealthCheckVersionMismatchException.class);
+        super(HealthCheckVersionMismatchException.class, "HealthCheckVersionMismatch");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class HostedZoneAlreadyExistsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public HostedZoneAlreadyExistsExceptionUnmarshaller() {
-        super(HostedZoneAlreadyExistsException.class);
+        super(HostedZoneAlreadyExistsException.class, "HostedZoneAlreadyExists");
     }
 
     @Override
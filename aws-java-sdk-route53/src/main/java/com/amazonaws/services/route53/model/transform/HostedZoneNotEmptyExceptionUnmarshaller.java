@@ -26,7 +26,7 @@ public class HostedZoneNotEmptyExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public HostedZoneNotEmptyExceptionUnmarshaller() {
-        super(HostedZoneNotEmptyException.class);
+        super(HostedZoneNotEmptyException.class, "HostedZoneNotEmpty");
     }
 
     @Override
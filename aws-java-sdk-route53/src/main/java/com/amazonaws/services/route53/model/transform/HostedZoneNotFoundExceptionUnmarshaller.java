@@ -26,7 +26,7 @@ public class HostedZoneNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public HostedZoneNotFoundExceptionUnmarshaller() {
-        super(HostedZoneNotFoundException.class);
+        super(HostedZoneNotFoundException.class, "HostedZoneNotFound");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class IncompatibleVersionExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public IncompatibleVersionExceptionUnmarshaller() {
-        super(IncompatibleVersionException.class);
+        super(IncompatibleVersionException.class, "IncompatibleVersion");
     }
 
     @Override
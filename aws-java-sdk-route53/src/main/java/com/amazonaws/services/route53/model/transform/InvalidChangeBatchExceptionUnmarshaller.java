@@ -26,7 +26,7 @@ public class InvalidChangeBatchExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidChangeBatchExceptionUnmarshaller() {
-        super(InvalidChangeBatchException.class);
+        super(InvalidChangeBatchException.class, "InvalidChangeBatch");
     }
 
     @Override
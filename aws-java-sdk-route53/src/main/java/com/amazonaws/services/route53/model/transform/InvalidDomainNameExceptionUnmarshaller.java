@@ -26,7 +26,7 @@ public class InvalidDomainNameExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidDomainNameExceptionUnmarshaller() {
-        super(InvalidDomainNameException.class);
+        super(InvalidDomainNameException.class, "InvalidDomainName");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InvalidInputExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidInputExceptionUnmarshaller() {
-        super(InvalidInputException.class);
+        super(InvalidInputException.class, "InvalidInput");
     }
 
     @Override
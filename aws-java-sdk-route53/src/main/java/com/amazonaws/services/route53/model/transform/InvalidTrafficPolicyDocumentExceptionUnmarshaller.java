@@ -26,7 +26,7 @@ public class InvalidTrafficPolicyDocumentExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidTrafficPolicyDocumentExceptionUnmarshaller() {
-        super(InvalidTrafficPolicyDocumentException.class);
+        super(InvalidTrafficPolicyDocumentException.class, "InvalidTrafficPolicyDocument");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InvalidVPCIdExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidVPCIdExceptionUnmarshaller() {
-        super(InvalidVPCIdException.class);
+        super(InvalidVPCIdException.class, "InvalidVPCId");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class LastVPCAssociationExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public LastVPCAssociationExceptionUnmarshaller() {
-        super(LastVPCAssociationException.class);
+        super(LastVPCAssociationException.class, "LastVPCAssociation");
     }
 
     @Override
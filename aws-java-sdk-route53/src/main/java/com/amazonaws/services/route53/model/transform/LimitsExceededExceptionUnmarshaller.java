@@ -26,7 +26,7 @@ public class LimitsExceededExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public LimitsExceededExceptionUnmarshaller() {
-        super(LimitsExceededException.class);
+        super(LimitsExceededException.class, "LimitsExceeded");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class NoSuchChangeExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public NoSuchChangeExceptionUnmarshaller() {
-        super(NoSuchChangeException.class);
+        super(NoSuchChangeException.class, "NoSuchChange");
     }
 
     @Override
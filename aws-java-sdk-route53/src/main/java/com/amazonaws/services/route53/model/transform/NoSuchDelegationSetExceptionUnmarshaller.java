@@ -26,7 +26,7 @@ public class NoSuchDelegationSetExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public NoSuchDelegationSetExceptionUnmarshaller() {
-        super(NoSuchDelegationSetException.class);
+        super(NoSuchDelegationSetException.class, "NoSuchDelegationSet");
     }
 
     @Override
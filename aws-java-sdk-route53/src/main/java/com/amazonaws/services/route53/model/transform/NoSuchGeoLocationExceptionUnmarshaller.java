@@ -26,7 +26,7 @@ public class NoSuchGeoLocationExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public NoSuchGeoLocationExceptionUnmarshaller() {
-        super(NoSuchGeoLocationException.class);
+        super(NoSuchGeoLocationException.class, "NoSuchGeoLocation");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class NoSuchHealthCheckExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public NoSuchHealthCheckExceptionUnmarshaller() {
-        super(NoSuchHealthCheckException.class);
+        super(NoSuchHealthCheckException.class, "NoSuchHealthCheck");
     }
 
     @Override
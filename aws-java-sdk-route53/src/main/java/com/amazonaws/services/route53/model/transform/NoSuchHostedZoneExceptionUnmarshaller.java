@@ -26,7 +26,7 @@ public class NoSuchHostedZoneExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public NoSuchHostedZoneExceptionUnmarshaller() {
-        super(NoSuchHostedZoneException.class);
+        super(NoSuchHostedZoneException.class, "NoSuchHostedZone");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class NoSuchTrafficPolicyExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public NoSuchTrafficPolicyExceptionUnmarshaller() {
-        super(NoSuchTrafficPolicyException.class);
+        super(NoSuchTrafficPolicyException.class, "NoSuchTrafficPolicy");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class NoSuchTrafficPolicyInstanceExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public NoSuchTrafficPolicyInstanceExceptionUnmarshaller() {
-        super(NoSuchTrafficPolicyInstanceException.class);
+        super(NoSuchTrafficPolicyInstanceException.class, "NoSuchTrafficPolicyInstance");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class PriorRequestNotCompleteExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public PriorRequestNotCompleteExceptionUnmarshaller() {
-        super(PriorRequestNotCompleteException.class);
+        super(PriorRequestNotCompleteException.class, "PriorRequestNotComplete");
     }
 
     @Override
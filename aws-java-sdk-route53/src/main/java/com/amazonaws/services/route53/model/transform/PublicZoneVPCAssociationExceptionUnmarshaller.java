@@ -26,7 +26,7 @@ public class PublicZoneVPCAssociationExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public PublicZoneVPCAssociationExceptionUnmarshaller() {
-        super(PublicZoneVPCAssociationException.class);
+        super(PublicZoneVPCAssociationException.class, "PublicZoneVPCAssociation");
     }
 
     @Override
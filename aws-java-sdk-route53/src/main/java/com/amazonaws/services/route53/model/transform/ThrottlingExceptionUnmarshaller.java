@@ -25,7 +25,7 @@ import com.amazonaws.services.route53.model.ThrottlingException;
 public class ThrottlingExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public ThrottlingExceptionUnmarshaller() {
-        super(ThrottlingException.class);
+        super(ThrottlingException.class, "ThrottlingException");
     }
 
     @Override
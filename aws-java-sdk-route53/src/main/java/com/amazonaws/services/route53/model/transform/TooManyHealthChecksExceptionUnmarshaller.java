@@ -26,7 +26,7 @@ public class TooManyHealthChecksExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public TooManyHealthChecksExceptionUnmarshaller() {
-        super(TooManyHealthChecksException.class);
+        super(TooManyHealthChecksException.class, "TooManyHealthChecks");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class TooManyHostedZonesExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public TooManyHostedZonesExceptionUnmarshaller() {
-        super(TooManyHostedZonesException.class);
+        super(TooManyHostedZonesException.class, "TooManyHostedZones");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class TooManyTrafficPoliciesExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public TooManyTrafficPoliciesExceptionUnmarshaller() {
-        super(TooManyTrafficPoliciesException.class);
+        super(TooManyTrafficPoliciesException.class, "TooManyTrafficPolicies");
     }
 
     @Override
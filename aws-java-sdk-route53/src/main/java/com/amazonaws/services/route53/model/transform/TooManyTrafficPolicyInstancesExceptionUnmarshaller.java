@@ -26,7 +26,7 @@ public class TooManyTrafficPolicyInstancesExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public TooManyTrafficPolicyInstancesExceptionUnmarshaller() {
-        super(TooManyTrafficPolicyInstancesException.class);
+        super(TooManyTrafficPolicyInstancesException.class, "TooManyTrafficPolicyInstances");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class TrafficPolicyAlreadyExistsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public TrafficPolicyAlreadyExistsExceptionUnmarshaller() {
-        super(TrafficPolicyAlreadyExistsException.class);
+        super(TrafficPolicyAlreadyExistsException.class, "TrafficPolicyAlreadyExists");
     }
 
     @Override
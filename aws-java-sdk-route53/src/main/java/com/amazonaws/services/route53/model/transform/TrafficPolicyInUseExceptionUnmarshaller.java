@@ -26,7 +26,7 @@ public class TrafficPolicyInUseExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public TrafficPolicyInUseExceptionUnmarshaller() {
-        super(TrafficPolicyInUseException.class);
+        super(TrafficPolicyInUseException.class, "TrafficPolicyInUse");
     }
 
     @Override
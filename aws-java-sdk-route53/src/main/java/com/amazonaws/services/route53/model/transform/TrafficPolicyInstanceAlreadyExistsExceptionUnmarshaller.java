@@ -26,7 +26,7 @@ public class TrafficPolicyInstanceAlreadyExistsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public TrafficPolicyInstanceAlreadyExistsExceptionUnmarshaller() {
-        super(TrafficPolicyInstanceAlreadyExistsException.class);
+        super(TrafficPolicyInstanceAlreadyExistsException.class, "TrafficPolicyInstanceAlreadyExists");
     }
 
     @Override
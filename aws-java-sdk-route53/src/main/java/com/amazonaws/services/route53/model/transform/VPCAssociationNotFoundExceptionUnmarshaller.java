@@ -26,7 +26,7 @@ public class VPCAssociationNotFoundExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public VPCAssociationNotFoundExceptionUnmarshaller() {
-        super(VPCAssociationNotFoundException.class);
+        super(VPCAssociationNotFoundException.class, "VPCAssociationNotFound");
     }
 
     @Override
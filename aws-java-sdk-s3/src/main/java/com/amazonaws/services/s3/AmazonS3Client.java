@@ -62,6 +62,7 @@ import com.amazonaws.retry.PredefinedRetryPolicies;
 import com.amazonaws.retry.RetryPolicy;
 import com.amazonaws.services.s3.internal.AWSS3V4Signer;
 import com.amazonaws.services.s3.internal.BucketNameUtils;
+import com.amazonaws.services.s3.internal.BucketRegionCache;
 import com.amazonaws.services.s3.internal.CompleteMultipartUploadRetryCondition;
 import com.amazonaws.services.s3.internal.Constants;
 import com.amazonaws.services.s3.internal.DeleteObjectsResponse;
@@ -245,14 +246,13 @@ import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -337,19 +337,9 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
      */
     private volatile String clientRegion;
 
-    private static final int BUCKET_REGION_CACHE_SIZE = 300;
+    private static final BucketRegionCache bucketRegionCache = BucketRegionCache.getDefault();
 
-    private static final Map<String, String> bucketRegionCache =
-                 Collections.synchronizedMap(new LinkedHashMap<String, String>(BUCKET_REGION_CACHE_SIZE, 1.1f, true) {
-                     private static final long serialVersionUID = 23453L;
-
-                     @Override
-                     protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
-                         return size() > BUCKET_REGION_CACHE_SIZE;
-                     }
-                 });
-
-    static Map<String, String> getBucketRegionCache() {
+    static BucketRegionCache getBucketRegionCache() {
         return bucketRegionCache;
     }
 
@@ -4012,7 +4002,11 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
             if (ase.getStatusCode() == 301) {
                 if (ase.getAdditionalDetails() != null) {
                     String region = ase.getAdditionalDetails().get(Headers.S3_BUCKET_REGION);
-                    bucketRegionCache.put(bucket, region);
+                    if (region != null) {
+                        bucketRegionCache.put(bucket, region);
+                    } else {
+                        bucketRegionCache.remove(bucket);
+                    }
                     ase.setErrorMessage("The bucket is in this region: " + region +
                                         ".Please use this region to retry the request");
                 }
@@ -4397,20 +4391,19 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
     /**
      * Fetches the region of the bucket from the cache maintained. If the cache
      * doesn't have an entry, fetches the region from Amazon S3 and updates the
-     * cache.
+     * cache; failures to fetch it are cached for a short while too.
      */
-    private String fetchRegionFromCache(String bucketName) {
-        String bucketRegion = bucketRegionCache.get(bucketName);
-        if (bucketRegion == null) {
-            if (log.isDebugEnabled()) {
-                log.debug("Bucket region cache doesn't have an entry for " + bucketName
-                        + ". Trying to get bucket region from Amazon S3.");
-            }
-            bucketRegion = getBucketRegionViaHeadRequest(bucketName);
-            if (bucketRegion != null) {
-                bucketRegionCache.put(bucketName, bucketRegion);
+    private String fetchRegionFromCache(final String bucketName) {
+        String bucketRegion = bucketRegionCache.get(bucketName, new Callable<String>() {
+            @Override
+            public String call() {
+                if (log.isDebugEnabled()) {
+                    log.debug("Bucket region cache doesn't have an entry for " + bucketName
+                            + ". Trying to get bucket region from Amazon S3.");
+                }
+                return getBucketRegionViaHeadRequest(bucketName);
             }
-        }
+        });
         if (log.isDebugEnabled()) {
             log.debug("Region for " + bucketName + " is " + bucketRegion);
         }
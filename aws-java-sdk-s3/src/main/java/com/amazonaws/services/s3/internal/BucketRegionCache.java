@@ -0,0 +1,383 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.internal;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.annotation.ThreadSafe;
+import com.amazonaws.util.StringUtils;
+
+/**
+ * Cache of the regions of Amazon S3 buckets, shared by the clients that discover the region of a
+ * bucket before signing requests to it.
+ * <p>
+ * Lookups don't take any lock. When the cache is full, entries are evicted in approximately least
+ * recently used order with the CLOCK algorithm: each entry has a reference bit set when it is
+ * read, and the eviction hand gives referenced entries a second chance. Entries expire after a
+ * time to live, and failed region lookups are cached for a shorter time so that they aren't
+ * retried on every request.
+ * <p>
+ * The default cache is configured with system properties, and can be persisted to a file on
+ * shutdown to be warmed up on the next startup.
+ */
+@ThreadSafe
+public class BucketRegionCache {
+
+    /**
+     * System property for the maximum number of buckets in the default cache. Defaults to
+     * {@value #DEFAULT_MAX_SIZE}.
+     */
+    public static final String MAX_SIZE_PROPERTY = "com.amazonaws.services.s3.bucketRegionCacheSize";
+
+    /**
+     * System property for the time to live in seconds of the regions in the default cache. Zero,
+     * the default, means that regions never expire.
+     */
+    public static final String TTL_SECONDS_PROPERTY = "com.amazonaws.services.s3.bucketRegionCacheTtlSeconds";
+
+    /**
+     * System property for the time to live in seconds of the failed region lookups in the default
+     * cache. Defaults to {@value #DEFAULT_NEGATIVE_TTL_SECONDS}; zero disables negative caching.
+     */
+    public static final String NEGATIVE_TTL_SECONDS_PROPERTY = "com.amazonaws.services.s3.bucketRegionCacheNegativeTtlSeconds";
+
+    /**
+     * System property for the file the default cache is loaded from on startup and saved to on
+     * shutdown. The cache isn't persisted by default.
+     */
+    public static final String FILE_PROPERTY = "com.amazonaws.services.s3.bucketRegionCacheFile";
+
+    public static final int DEFAULT_MAX_SIZE = 300;
+
+    public static final long DEFAULT_NEGATIVE_TTL_SECONDS = 60;
+
+    private static final Log log = LogFactory.getLog(BucketRegionCache.class);
+
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<String, Entry>();
+
+    /** Buckets in insertion order, which the eviction hand goes round. */
+    private final Queue<String> clock = new ConcurrentLinkedQueue<String>();
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong negativeHitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    /**
+     * @param maxSize
+     *            the maximum number of buckets cached
+     * @param ttl
+     *            the time to live of the regions; zero or less for no expiration
+     * @param negativeTtl
+     *            the time to live of the failed region lookups; zero or less to not cache them
+     * @param unit
+     *            the unit of both times to live
+     */
+    public BucketRegionCache(int maxSize, long ttl, long negativeTtl, TimeUnit unit) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be at least 1: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = unit.toNanos(ttl);
+        this.negativeTtlNanos = unit.toNanos(negativeTtl);
+    }
+
+    /**
+     * Returns the cache shared by all the Amazon S3 clients, configured with the system
+     * properties of this class.
+     */
+    public static BucketRegionCache getDefault() {
+        return LazyHolder.DEFAULT;
+    }
+
+    /**
+     * Returns the cached region of the given bucket; or null if there is none, including if the
+     * last lookup of its region failed.
+     */
+    public String get(String bucketName) {
+        Entry entry = lookup(bucketName);
+        return entry == null ? null : entry.region;
+    }
+
+    /**
+     * Returns the cached region of the given bucket, or else the region returned by the given
+     * lookup, which is then cached. A null region returned by the lookup is cached for the
+     * negative time to live, during which this method returns null without calling it again.
+     */
+    public String get(String bucketName, Callable<String> regionLookup) {
+        Entry entry = lookup(bucketName);
+        if (entry != null) {
+            return entry.region;
+        }
+        String region;
+        try {
+            region = regionLookup.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new AmazonClientException(e);
+        }
+        put(bucketName, region);
+        return region;
+    }
+
+    /**
+     * Caches the region of the given bucket; a null region is cached as a failed lookup.
+     */
+    public void put(String bucketName, String region) {
+        long ttl = region == null ? negativeTtlNanos : ttlNanos;
+        if (region == null && ttl <= 0) {
+            remove(bucketName);
+            return;
+        }
+        long expiresAt = ttl > 0 ? System.nanoTime() + ttl : Long.MAX_VALUE;
+        if (entries.put(bucketName, new Entry(region, expiresAt)) == null) {
+            clock.offer(bucketName);
+            while (entries.size() > maxSize && evictOne()) {
+            }
+        }
+    }
+
+    /**
+     * Removes the given bucket from the cache.
+     */
+    public void remove(String bucketName) {
+        if (entries.remove(bucketName) != null) {
+            // Linear in the size of the cache, but removals are rare; this keeps a later put of
+            // the bucket from leaving it in the clock twice
+            clock.remove(bucketName);
+        }
+    }
+
+    /**
+     * Returns the number of buckets cached, including failed lookups and expired entries that
+     * haven't been evicted yet.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /** Returns the number of lookups that found the region of the bucket. */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /** Returns the number of lookups that found a cached failed lookup. */
+    public long getNegativeHitCount() {
+        return negativeHitCount.get();
+    }
+
+    /** Returns the number of lookups that found nothing, or an expired entry. */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /** Returns the number of entries evicted to keep the cache within its maximum size. */
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    /**
+     * Loads the bucket regions saved with {@link #save(File)} in the given file, if it exists.
+     * Loaded regions get a full time to live.
+     *
+     * @return the number of bucket regions loaded
+     */
+    public int load(File file) throws IOException {
+        if (!file.isFile()) {
+            return 0;
+        }
+        int count = 0;
+        BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new FileInputStream(file), StringUtils.UTF8));
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int separator = line.indexOf('\t');
+                if (separator > 0 && separator < line.length() - 1) {
+                    put(line.substring(0, separator), line.substring(separator + 1));
+                    count++;
+                }
+            }
+        } finally {
+            reader.close();
+        }
+        return count;
+    }
+
+    /**
+     * Saves the cached bucket regions that haven't expired to the given file, replacing it
+     * atomically where the file system allows it. Failed lookups aren't saved.
+     */
+    public void save(File file) throws IOException {
+        File tempFile = new File(file.getPath() + ".tmp");
+        Writer writer = new OutputStreamWriter(new FileOutputStream(tempFile), StringUtils.UTF8);
+        try {
+            long now = System.nanoTime();
+            for (Map.Entry<String, Entry> mapEntry : entries.entrySet()) {
+                Entry entry = mapEntry.getValue();
+                if (entry.region != null && !entry.isExpired(now)) {
+                    writer.write(mapEntry.getKey() + '\t' + entry.region + '\n');
+                }
+            }
+        } finally {
+            writer.close();
+        }
+        if (!tempFile.renameTo(file)) {
+            file.delete();
+            if (!tempFile.renameTo(file)) {
+                throw new IOException("Unable to rename " + tempFile + " to " + file);
+            }
+        }
+    }
+
+    /**
+     * Returns the live entry of the given bucket, marking it as referenced; or null if there is
+     * none.
+     */
+    private Entry lookup(String bucketName) {
+        Entry entry = entries.get(bucketName);
+        if (entry == null || entry.isExpired(System.nanoTime())) {
+            missCount.incrementAndGet();
+            return null;
+        }
+        if (!entry.referenced) {
+            entry.referenced = true;
+        }
+        if (entry.region == null) {
+            negativeHitCount.incrementAndGet();
+        } else {
+            hitCount.incrementAndGet();
+        }
+        return entry;
+    }
+
+    /**
+     * Advances the eviction hand until it evicts an entry that is expired or hasn't been
+     * referenced since the hand last went past it.
+     *
+     * @return false if there was nothing left to evict
+     */
+    private boolean evictOne() {
+        String bucketName;
+        while ((bucketName = clock.poll()) != null) {
+            Entry entry = entries.get(bucketName);
+            if (entry == null) {
+                continue;   // removed concurrently
+            }
+            if (entry.referenced && !entry.isExpired(System.nanoTime())) {
+                entry.referenced = false;
+                clock.offer(bucketName);
+            } else if (entries.remove(bucketName, entry)) {
+                evictionCount.incrementAndGet();
+                return true;
+            } else if (entries.containsKey(bucketName)) {
+                clock.offer(bucketName);    // replaced concurrently
+            }
+        }
+        return false;
+    }
+
+    private static BucketRegionCache fromSystemProperties() {
+        BucketRegionCache cache = new BucketRegionCache(
+                getIntProperty(MAX_SIZE_PROPERTY, DEFAULT_MAX_SIZE),
+                getIntProperty(TTL_SECONDS_PROPERTY, 0),
+                getIntProperty(NEGATIVE_TTL_SECONDS_PROPERTY, (int) DEFAULT_NEGATIVE_TTL_SECONDS),
+                TimeUnit.SECONDS);
+        String path = System.getProperty(FILE_PROPERTY);
+        if (path != null) {
+            final File file = new File(path);
+            try {
+                cache.load(file);
+            } catch (IOException e) {
+                log.warn("Unable to load the bucket region cache from " + file, e);
+            }
+            final BucketRegionCache savedCache = cache;
+            Runtime.getRuntime().addShutdownHook(new Thread("java-sdk-bucket-region-cache-saver") {
+                @Override
+                public void run() {
+                    try {
+                        savedCache.save(file);
+                    } catch (IOException e) {
+                        log.warn("Unable to save the bucket region cache to " + file, e);
+                    }
+                }
+            });
+        }
+        return cache;
+    }
+
+    private static int getIntProperty(String name, int defaultValue) {
+        String value = System.getProperty(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring invalid value of system property " + name + ": " + value);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * A cached region, or failed lookup if the region is null.
+     */
+    private static final class Entry {
+        private final String region;
+        private final long expiresAtNanos;
+        /** Set when read, cleared by the eviction hand; races only cost precision. */
+        private volatile boolean referenced;
+
+        Entry(String region, long expiresAtNanos) {
+            this.region = region;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        boolean isExpired(long nowNanos) {
+            return expiresAtNanos != Long.MAX_VALUE && nowNanos - expiresAtNanos > 0;
+        }
+    }
+
+    /**
+     * Used to avoid reading the system properties until absolutely necessary.
+     */
+    private static final class LazyHolder {
+        private static final BucketRegionCache DEFAULT = fromSystemProperties();
+    }
+}
@@ -15,14 +15,17 @@
 package com.amazonaws.services.s3.transfer;
 
 import java.io.File;
-import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.net.SocketException;
+import java.nio.channels.FileChannel;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.ExecutorService;
@@ -64,8 +67,12 @@ final class DownloadCallable implements Callable<File> {
     private final ScheduledExecutorService timedExecutor;
     /** The thread pool in which parts are downloaded downloaded. */
     private final ExecutorService executor;
-    private final List<Future<File>> futureFiles;
+    private final List<Future<Long>> futures;
+    /** The parts of a parallel download, in the same order as the futures. */
+    private final List<DownloadPartCallable> parts;
     private final boolean isDownloadParallel;
+    /** The size of each byte range for ranged parallel downloads; null otherwise. */
+    private final Long rangedDownloadPartSize;
     private Integer lastFullyMergedPartNumber;
 
     private long expectedFileLength;
@@ -76,7 +83,8 @@ final class DownloadCallable implements Callable<File> {
             long expectedFileLength, long timeout,
             ScheduledExecutorService timedExecutor,
             ExecutorService executor,
-            Integer lastFullyDownloadedPartNumber, boolean isDownloadParallel)
+            Integer lastFullyDownloadedPartNumber, boolean isDownloadParallel,
+            Long rangedDownloadPartSize)
     {
         if (s3 == null || latch == null || req == null || dstfile == null || download == null)
             throw new IllegalArgumentException();
@@ -91,9 +99,11 @@ final class DownloadCallable implements Callable<File> {
         this.timeout = timeout;
         this.timedExecutor = timedExecutor;
         this.executor = executor;
-        this.futureFiles = new ArrayList<Future<File>>();
+        this.futures = new ArrayList<Future<Long>>();
+        this.parts = new ArrayList<DownloadPartCallable>();
         this.lastFullyMergedPartNumber = lastFullyDownloadedPartNumber;
         this.isDownloadParallel = isDownloadParallel;
+        this.rangedDownloadPartSize = rangedDownloadPartSize;
     }
 
     /**
@@ -126,7 +136,9 @@ final class DownloadCallable implements Callable<File> {
             download.setState(TransferState.InProgress);
 
             if (isDownloadParallel) {
-                downloadInParallel(ServiceUtils.getPartCount(req, s3));
+                downloadInParallel(isRangedDownload()
+                        ? getRangedPartCount()
+                        : ServiceUtils.getPartCount(req, s3));
                 download.setState(TransferState.Completed);
             } else {
                 S3Object s3Object = retryableDownloadS3ObjectToFile(dstfile,
@@ -136,10 +148,6 @@ final class DownloadCallable implements Callable<File> {
             }
             return dstfile;
         } catch (Throwable t) {
-            // Cancel all the futures
-            for (Future<File> f : futureFiles) {
-                f.cancel(true);
-            }
             // Downloads aren't allowed to move from canceled to failed
             if (download.getState() != TransferState.Canceled) {
                 download.setState(TransferState.Failed);
@@ -166,75 +174,164 @@ final class DownloadCallable implements Callable<File> {
     }
 
     /**
-     * Downloads each part of the object into a seperate file synchronously and
-     * combines all the files into a single file.
+     * Downloads each part of the object concurrently, writing the part data
+     * directly into its final position in the destination file.
      */
     private void downloadInParallel(int partCount) throws Exception {
         if (lastFullyMergedPartNumber == null) {
             lastFullyMergedPartNumber = 0;
         }
 
-        for (int i = lastFullyMergedPartNumber + 1; i <= partCount; i++) {
-            GetObjectRequest getPartRequest = new GetObjectRequest(req.getBucketName(), req.getKey(),
-                    req.getVersionId()).withUnmodifiedSinceConstraint(req.getUnmodifiedSinceConstraint())
-                            .withModifiedSinceConstraint(req.getModifiedSinceConstraint())
-                            .withResponseHeaders(req.getResponseHeaders()).withSSECustomerKey(req.getSSECustomerKey())
-                            .withGeneralProgressListener(req.getGeneralProgressListener());
+        if (!FileLocks.lock(dstfile)) {
+            throw new FileLockException("Fail to lock " + dstfile);
+        }
+        RandomAccessFile raf = null;
+        boolean partsCompleted = false;
+        try {
+            raf = new RandomAccessFile(dstfile, "rw");
+            prepareDestinationFile(raf);
+            FileChannel channel = raf.getChannel();
+            List<String> matchingETags = getMatchingETagConstraints();
+
+            for (int i = lastFullyMergedPartNumber + 1; i <= partCount; i++) {
+                GetObjectRequest getPartRequest = new GetObjectRequest(req.getBucketName(), req.getKey(),
+                        req.getVersionId()).withUnmodifiedSinceConstraint(req.getUnmodifiedSinceConstraint())
+                                .withModifiedSinceConstraint(req.getModifiedSinceConstraint())
+                                .withResponseHeaders(req.getResponseHeaders()).withSSECustomerKey(req.getSSECustomerKey())
+                                .withGeneralProgressListener(req.getGeneralProgressListener());
 
-            getPartRequest.setMatchingETagConstraints(req.getMatchingETagConstraints());
-            getPartRequest.setNonmatchingETagConstraints(req.getNonmatchingETagConstraints());
-            getPartRequest.setRequesterPays(req.isRequesterPays());
+                getPartRequest.setMatchingETagConstraints(matchingETags);
+                getPartRequest.setNonmatchingETagConstraints(req.getNonmatchingETagConstraints());
+                getPartRequest.setRequesterPays(req.isRequesterPays());
+                if (isRangedDownload()) {
+                    getPartRequest.setRange((i - 1) * rangedDownloadPartSize, getLastByteInRangedPart(i));
+                } else {
+                    getPartRequest.setPartNumber(i);
+                }
 
-            futureFiles.add(
-                    executor.submit(new DownloadPartCallable(s3, getPartRequest.withPartNumber(i), dstfile.getName())));
-        }
+                DownloadPartCallable part = new DownloadPartCallable(s3, getPartRequest, channel);
+                parts.add(part);
+                futures.add(executor.submit(part));
+            }
 
-        combineFiles();
+            waitForParts();
+            partsCompleted = true;
+        } finally {
+            if (!partsCompleted) {
+                cancelParts();
+            }
+            IOUtils.closeQuietly(raf, LOG);
+            FileLocks.unlock(dstfile);
+        }
     }
 
     /**
-     * Merges all the individual part Files into dstFile
+     * Waits for the parts in order, so that the persistable transfer always
+     * records the last part up to which the destination file is complete.
      */
-    private void combineFiles() throws Exception {
-        truncateDestinationFileIfNecessary();
-        for (Future<File> f : futureFiles) {
-            ServiceUtils.appendFile(f.get(), dstfile);
+    private void waitForParts() throws Exception {
+        for (Future<Long> f : futures) {
+            f.get();
             download.updatePersistableTransfer(++lastFullyMergedPartNumber);
         }
     }
 
     /**
-     * If only partial part object is merged into the dstFile(due to pause
-     * operation), adjust the file length so that the part starts writing from
-     * the correct position.
+     * Cancels the parts of a failed download and waits for the running ones
+     * to stop, so that none of them writes to the destination file once it is
+     * closed and unlocked. The futures of the parts aren't cancelled, as that
+     * wouldn't stop the running parts nor allow waiting for them, and
+     * interrupting them would close the channel shared by all the parts.
      */
-    private void truncateDestinationFileIfNecessary() throws IOException {
-        RandomAccessFile raf = null;
-        if (!FileLocks.lock(dstfile)) {
-            throw new FileLockException("Fail to lock " + dstfile);
+    private void cancelParts() {
+        for (DownloadPartCallable part : parts) {
+            part.cancel();
+        }
+        boolean interrupted = false;
+        for (Future<Long> f : futures) {
+            try {
+                f.get();
+            } catch (InterruptedException e) {
+                interrupted = true;
+                break;
+            } catch (ExecutionException ignored) {
+                // The part failed or was cancelled
+            } catch (CancellationException ignored) {
+                // The part never ran
+            }
         }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the ETag constraints of the part requests, which pin every part
+     * to the version of the object whose metadata started the download, so
+     * that a download overwritten midway fails instead of mixing the data of
+     * both versions.
+     */
+    private List<String> getMatchingETagConstraints() {
+        List<String> matchingETags = req.getMatchingETagConstraints();
+        String eTag = download.getObjectMetadata().getETag();
+        if (eTag != null && (matchingETags == null || matchingETags.isEmpty() || matchingETags.contains(eTag))) {
+            return Collections.singletonList(eTag);
+        }
+        return matchingETags;
+    }
 
+    /**
+     * Truncates the destination file to the parts already written before the
+     * pause of a resumed download, checking that they are still in the file
+     * and accounting for them in the progress, or to nothing for a new
+     * download. Parts are then written into place in any order, extending the
+     * file as needed, so the file only reaches the end of a part once the part
+     * has been written.
+     */
+    private void prepareDestinationFile(RandomAccessFile raf) {
         try {
-            raf = new RandomAccessFile(dstfile, "rw");
             if (lastFullyMergedPartNumber == 0) {
                 raf.setLength(0);
             } else {
-                long lastByte = ServiceUtils.getLastByteInPart(s3, req, lastFullyMergedPartNumber);
-                if (dstfile.length() < lastByte) {
+                long lastByte = isRangedDownload()
+                        ? getLastByteInRangedPart(lastFullyMergedPartNumber)
+                        : ServiceUtils.getLastByteInPart(s3, req, lastFullyMergedPartNumber);
+                if (raf.length() < lastByte + 1) {
                     throw new AmazonClientException(
                             "File " + dstfile.getAbsolutePath() + " has been modified since last pause.");
                 }
                 raf.setLength(lastByte + 1);
                 download.getProgress().updateProgress(lastByte + 1);
             }
+        } catch (AmazonClientException e) {
+            throw e;
         } catch (Exception e) {
-            throw new AmazonClientException("Unable to append part file to dstfile " + e.getMessage(), e);
-        } finally {
-            IOUtils.closeQuietly(raf, LOG);
-            FileLocks.unlock(dstfile);
+            throw new AmazonClientException("Unable to prepare destination file " + e.getMessage(), e);
         }
     }
 
+    private boolean isRangedDownload() {
+        return rangedDownloadPartSize != null;
+    }
+
+    /**
+     * Returns the number of byte ranges the object is split into for a
+     * ranged parallel download.
+     */
+    private int getRangedPartCount() {
+        long contentLength = download.getObjectMetadata().getContentLength();
+        return (int) ((contentLength + rangedDownloadPartSize - 1) / rangedDownloadPartSize);
+    }
+
+    /**
+     * Returns the last byte of the given byte range of a ranged parallel
+     * download.
+     */
+    private long getLastByteInRangedPart(int partNumber) {
+        long contentLength = download.getObjectMetadata().getContentLength();
+        return Math.min(partNumber * rangedDownloadPartSize, contentLength) - 1;
+    }
+
     /**
      * This method is called only if it is a resumed download.
      *
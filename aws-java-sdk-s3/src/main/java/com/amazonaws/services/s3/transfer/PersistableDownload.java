@@ -75,9 +75,22 @@ public final class PersistableDownload extends PersistableTransfer {
     @JsonProperty
     private final long lastModifiedTime;
 
+    /**
+     * The size of each byte range, if the object is downloaded using
+     * parallel byte range requests; null otherwise.
+     */
+    @JsonProperty
+    private final Long rangedDownloadPartSize;
 
     public PersistableDownload() {
-        this(null, null, null, null, null, false, null, null, 0L);
+        this(null, null, null, null, null, false, null, null, 0L, null);
+    }
+
+    public PersistableDownload(String bucketName, String key, String versionId, long[] range,
+            ResponseHeaderOverrides responseHeaders, boolean isRequesterPays, String file,
+            Integer lastFullyDownloadedPartNumber, long lastModifiedTime) {
+        this(bucketName, key, versionId, range, responseHeaders, isRequesterPays, file,
+                lastFullyDownloadedPartNumber, lastModifiedTime, null);
     }
 
     public PersistableDownload(
@@ -89,7 +102,8 @@ public final class PersistableDownload extends PersistableTransfer {
             @JsonProperty(value = "isRequesterPays") boolean isRequesterPays,
             @JsonProperty(value = "file") String file,
             @JsonProperty(value = "lastFullyDownloadedPartNumber") Integer lastFullyDownloadedPartNumber,
-            @JsonProperty(value = "lastModifiedTime") long lastModifiedTime) {
+            @JsonProperty(value = "lastModifiedTime") long lastModifiedTime,
+            @JsonProperty(value = "rangedDownloadPartSize") Long rangedDownloadPartSize) {
         this.bucketName = bucketName;
         this.key = key;
         this.versionId = versionId;
@@ -99,6 +113,7 @@ public final class PersistableDownload extends PersistableTransfer {
         this.file = file;
         this.lastFullyDownloadedPartNumber = lastFullyDownloadedPartNumber;
         this.lastModifiedTime = lastModifiedTime;
+        this.rangedDownloadPartSize = rangedDownloadPartSize;
     }
 
     /**
@@ -169,4 +184,12 @@ public final class PersistableDownload extends PersistableTransfer {
     Long getlastModifiedTime() {
         return lastModifiedTime;
     }
+
+    /**
+     * Returns the size of each byte range if the object is downloaded using
+     * parallel byte range requests; null otherwise.
+     */
+    Long getRangedDownloadPartSize() {
+        return rangedDownloadPartSize;
+    }
 }
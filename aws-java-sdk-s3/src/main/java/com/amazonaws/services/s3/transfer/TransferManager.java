@@ -811,7 +811,7 @@ public class TransferManager {
     public Download download(final GetObjectRequest getObjectRequest,
                              final File file, long timeoutMillis) {
         return doDownload(getObjectRequest, file, null, null, OVERWRITE_MODE,
-                timeoutMillis, null, 0L);
+                timeoutMillis, null, 0L, null);
     }
 
     /**
@@ -853,7 +853,7 @@ public class TransferManager {
     public Download download(final GetObjectRequest getObjectRequest,
             final File file, final S3ProgressListener progressListener) {
         return doDownload(getObjectRequest, file, null, progressListener,
-                OVERWRITE_MODE, 0, null, 0L);
+                OVERWRITE_MODE, 0, null, 0L, null);
     }
 
     /**
@@ -902,7 +902,7 @@ public class TransferManager {
                              final File file, final S3ProgressListener progressListener,
                              final long timeoutMillis) {
         return doDownload(getObjectRequest, file, null, progressListener,
-                OVERWRITE_MODE, timeoutMillis, null, 0L);
+                OVERWRITE_MODE, timeoutMillis, null, 0L, null);
     }
 
     /**
@@ -917,7 +917,8 @@ public class TransferManager {
             final boolean resumeExistingDownload,
             final long timeoutMillis,
             final Integer lastFullyDownloadedPart,
-            final long lastModifiedTimeRecordedDuringPause)
+            final long lastModifiedTimeRecordedDuringPause,
+            final Long rangedDownloadPartSizeRecordedDuringPause)
     {
         assertParameterNotNull(getObjectRequest,
                 "A valid GetObjectRequest must be provided to initiate download");
@@ -962,11 +963,23 @@ public class TransferManager {
         }
 
         final long origStartingByte = startingByte;
-        final boolean isDownloadParallel = TransferManagerUtils.isDownloadParallelizable(s3, getObjectRequest,
-                ServiceUtils.getPartCount(getObjectRequest, s3));
+        final Integer partCount = ServiceUtils.getPartCount(getObjectRequest, s3);
+        Long rangedDownloadPartSize = null;
+        boolean isDownloadParallel = TransferManagerUtils.isDownloadParallelizable(s3, getObjectRequest, partCount);
+        if (!isDownloadParallel) {
+            if (rangedDownloadPartSizeRecordedDuringPause != null) {
+                // Keep the ranges of the paused download, whatever the current configuration
+                rangedDownloadPartSize = rangedDownloadPartSizeRecordedDuringPause;
+                isDownloadParallel = true;
+            } else if (TransferManagerUtils.isRangedDownloadParallelizable(s3, getObjectRequest, partCount,
+                    objectMetadata.getContentLength(), configuration)) {
+                rangedDownloadPartSize = configuration.getRangedDownloadPartSize();
+                isDownloadParallel = true;
+            }
+        }
         // We still pass the unfiltered listener chain into DownloadImpl
         final DownloadImpl download = new DownloadImpl(description, transferProgress, listenerChain, null,
-                stateListener, getObjectRequest, file, objectMetadata, isDownloadParallel);
+                stateListener, getObjectRequest, file, objectMetadata, isDownloadParallel, rangedDownloadPartSize);
 
         long totalBytesToDownload = lastByte - startingByte + 1;
         transferProgress.setTotalBytesToTransfer(totalBytesToDownload);
@@ -1013,7 +1026,7 @@ public class TransferManager {
             new DownloadCallable(s3, latch,
                 getObjectRequest, resumeExistingDownload, download, file,
                 origStartingByte, fileLength, timeoutMillis, timedThreadPool,
-                executorService, lastFullyDownloadedPart, isDownloadParallel));
+                executorService, lastFullyDownloadedPart, isDownloadParallel, rangedDownloadPartSize));
         download.setMonitor(new DownloadMonitor(download, future));
         latch.countDown();
         return download;
@@ -1129,7 +1142,7 @@ public class TransferManager {
                                             listener),
                             f,
                             transferListener, null, false, 0,
-                            null, 0L));
+                            null, 0L, null));
         }
 
         if ( downloads.isEmpty() ) {
@@ -1777,7 +1790,8 @@ public class TransferManager {
         return doDownload(request, new File(persistableDownload.getFile()), null, null,
                 APPEND_MODE, 0,
                 persistableDownload.getLastFullyDownloadedPartNumber(),
-                persistableDownload.getlastModifiedTime());
+                persistableDownload.getlastModifiedTime(),
+                persistableDownload.getRangedDownloadPartSize());
     }
 
     /**
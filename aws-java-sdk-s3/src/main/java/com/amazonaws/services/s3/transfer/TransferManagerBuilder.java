@@ -54,6 +54,12 @@ public final class TransferManagerBuilder {
 
     private Long multipartCopyPartSize;
 
+    private Long rangedDownloadThreshold;
+
+    private Long rangedDownloadPartSize;
+
+    private Integer streamingUploadBufferCount;
+
     /**
      * @return Create new instance of builder with all defaults set.
      */
@@ -322,6 +328,100 @@ public final class TransferManagerBuilder {
         return this;
     }
 
+    /**
+     * @return The ranged download threshold currently configured in the builder.
+     */
+    public final Long getRangedDownloadThreshold() {
+        return rangedDownloadThreshold;
+    }
+
+    /**
+     * Sets the size threshold, in bytes, for when to download objects that were not uploaded in
+     * parts using concurrent byte range requests. Ranged downloads are disabled by default.
+     *
+     * @param rangedDownloadThreshold Threshold in which ranged parallel downloads will be
+     *                                performed.
+     * @see TransferManagerConfiguration#setRangedDownloadThreshold(long)
+     */
+    public final void setRangedDownloadThreshold(Long rangedDownloadThreshold) {
+        this.rangedDownloadThreshold = rangedDownloadThreshold;
+    }
+
+    /**
+     * Sets the size threshold, in bytes, for when to download objects that were not uploaded in
+     * parts using concurrent byte range requests. Ranged downloads are disabled by default.
+     *
+     * @param rangedDownloadThreshold Threshold in which ranged parallel downloads will be
+     *                                performed.
+     * @return This object for method chaining.
+     * @see TransferManagerConfiguration#setRangedDownloadThreshold(long)
+     */
+    public final TransferManagerBuilder withRangedDownloadThreshold(Long rangedDownloadThreshold) {
+        setRangedDownloadThreshold(rangedDownloadThreshold);
+        return this;
+    }
+
+    /**
+     * @return The ranged download part size currently configured in the builder.
+     */
+    public final Long getRangedDownloadPartSize() {
+        return rangedDownloadPartSize;
+    }
+
+    /**
+     * Sets the size in bytes of each byte range requested in a ranged parallel download.
+     *
+     * @param rangedDownloadPartSize New size of each range in a ranged parallel download.
+     */
+    public final void setRangedDownloadPartSize(Long rangedDownloadPartSize) {
+        this.rangedDownloadPartSize = rangedDownloadPartSize;
+    }
+
+    /**
+     * Sets the size in bytes of each byte range requested in a ranged parallel download.
+     *
+     * @param rangedDownloadPartSize New size of each range in a ranged parallel download.
+     * @return This object for method chaining.
+     */
+    public final TransferManagerBuilder withRangedDownloadPartSize(Long rangedDownloadPartSize) {
+        setRangedDownloadPartSize(rangedDownloadPartSize);
+        return this;
+    }
+
+    /**
+     * @return The streaming upload buffer count currently configured in the builder.
+     */
+    public final Integer getStreamingUploadBufferCount() {
+        return streamingUploadBufferCount;
+    }
+
+    /**
+     * Sets the maximum number of part buffers held in memory at once when uploading an input
+     * stream of unknown length. Streams of unknown length are buffered entirely in memory unless
+     * this is set.
+     *
+     * @param streamingUploadBufferCount Maximum number of part buffers for streaming uploads.
+     * @see TransferManagerConfiguration#setStreamingUploadBufferCount(int)
+     */
+    public final void setStreamingUploadBufferCount(Integer streamingUploadBufferCount) {
+        this.streamingUploadBufferCount = streamingUploadBufferCount;
+    }
+
+    /**
+     * Sets the maximum number of part buffers held in memory at once when uploading an input
+     * stream of unknown length. Streams of unknown length are buffered entirely in memory unless
+     * this is set.
+     *
+     * @param streamingUploadBufferCount Maximum number of part buffers for streaming uploads.
+     * @return This object for method chaining.
+     * @see TransferManagerConfiguration#setStreamingUploadBufferCount(int)
+     */
+    public final TransferManagerBuilder withStreamingUploadBufferCount(
+            Integer streamingUploadBufferCount) {
+        setStreamingUploadBufferCount(streamingUploadBufferCount);
+        return this;
+    }
+
     private TransferManagerConfiguration resolveConfiguration() {
         TransferManagerConfiguration configuration = new TransferManagerConfiguration();
         if (this.minimumUploadPartSize != null) {
@@ -336,6 +436,15 @@ public final class TransferManagerBuilder {
         if (this.multipartUploadThreshold != null) {
             configuration.setMultipartUploadThreshold(multipartUploadThreshold);
         }
+        if (this.rangedDownloadThreshold != null) {
+            configuration.setRangedDownloadThreshold(rangedDownloadThreshold);
+        }
+        if (this.rangedDownloadPartSize != null) {
+            configuration.setRangedDownloadPartSize(rangedDownloadPartSize);
+        }
+        if (this.streamingUploadBufferCount != null) {
+            configuration.setStreamingUploadBufferCount(streamingUploadBufferCount);
+        }
         return configuration;
     }
 
@@ -45,6 +45,17 @@ public class TransferManagerConfiguration {
     @SdkTestInternalApi
     static final long DEFAULT_MINIMUM_COPY_PART_SIZE = 100 * MB;
 
+    /**
+     * Default size threshold for when to use ranged parallel downloads;
+     * disabled unless explicitly configured.
+     */
+    @SdkTestInternalApi
+    static final long DEFAULT_RANGED_DOWNLOAD_THRESHOLD = Long.MAX_VALUE;
+
+    /** Default size of each byte range in a ranged parallel download. */
+    @SdkTestInternalApi
+    static final long DEFAULT_RANGED_DOWNLOAD_PART_SIZE = 8 * MB;
+
     /**
      * The minimum part size for upload parts. Decreasing the minimum part size
      * will cause multipart uploads to be split into a larger number of smaller
@@ -83,6 +94,34 @@ public class TransferManagerConfiguration {
      */
     private long multipartCopyPartSize = DEFAULT_MINIMUM_COPY_PART_SIZE;
 
+    /**
+     * The size threshold, in bytes, for when to download objects that were
+     * not uploaded in parts using concurrent byte range requests. Downloads
+     * of such objects over this size are split into ranges of
+     * {@link #rangedDownloadPartSize} bytes which are fetched in parallel,
+     * while smaller objects are downloaded over a single connection.
+     * <p>
+     * The MD5 of the whole object can't be validated when it is downloaded
+     * in ranges, so ranged downloads are disabled by default.
+     */
+    private long rangedDownloadThreshold = DEFAULT_RANGED_DOWNLOAD_THRESHOLD;
+
+    /**
+     * The size in bytes of each byte range requested when an object is
+     * downloaded using concurrent byte range requests.
+     */
+    private long rangedDownloadPartSize = DEFAULT_RANGED_DOWNLOAD_PART_SIZE;
+
+    /**
+     * The maximum number of part buffers held in memory at once when
+     * uploading an input stream of unknown length. When greater than zero,
+     * such streams are uploaded as multipart uploads with parts of
+     * {@link #minimumUploadPartSize} bytes, which are uploaded concurrently
+     * as soon as they are read from the stream. Otherwise the whole stream is
+     * buffered in memory by the Amazon S3 client to determine its length.
+     */
+    private int streamingUploadBufferCount = 0;
+
     /**
      * Returns the minimum part size for upload parts.
      * Decreasing the minimum part size causes
@@ -199,6 +238,95 @@ public class TransferManagerConfiguration {
         this.multipartCopyThreshold = multipartCopyThreshold;
     }
 
+    /**
+     * Returns the size threshold in bytes for when to download objects that
+     * were not uploaded in parts using concurrent byte range requests.
+     * Ranged downloads are disabled by default.
+     *
+     * @return The size threshold in bytes for when to use ranged parallel
+     *         downloads.
+     */
+    public long getRangedDownloadThreshold() {
+        return rangedDownloadThreshold;
+    }
+
+    /**
+     * Sets the size threshold in bytes for when to download objects that
+     * were not uploaded in parts using concurrent byte range requests.
+     * Downloads of such objects over this size are split into ranges that
+     * are fetched in parallel and written directly into the destination file.
+     * <p>
+     * The MD5 of the whole object can't be validated client side when it is
+     * downloaded in ranges; the length of each range is still checked.
+     * Objects uploaded in parts, downloads with a range, and downloads through
+     * the Amazon S3 encryption client are not affected by this setting.
+     *
+     * @param rangedDownloadThreshold
+     *            The size threshold in bytes for when to use ranged parallel
+     *            downloads.
+     */
+    public void setRangedDownloadThreshold(long rangedDownloadThreshold) {
+        this.rangedDownloadThreshold = rangedDownloadThreshold;
+    }
+
+    /**
+     * Returns the size in bytes of each byte range requested in a ranged
+     * parallel download.
+     *
+     * @return The size in bytes of each range in a ranged parallel download.
+     */
+    public long getRangedDownloadPartSize() {
+        return rangedDownloadPartSize;
+    }
+
+    /**
+     * Sets the size in bytes of each byte range requested in a ranged
+     * parallel download. Decreasing this size will result in an increase in
+     * the number of requests to the server.
+     *
+     * @param rangedDownloadPartSize
+     *            The size in bytes of each range in a ranged parallel
+     *            download.
+     */
+    public void setRangedDownloadPartSize(long rangedDownloadPartSize) {
+        this.rangedDownloadPartSize = rangedDownloadPartSize;
+    }
+
+    /**
+     * Returns the maximum number of part buffers held in memory at once when
+     * uploading an input stream of unknown length. Zero, the default, means
+     * such streams are buffered entirely in memory by the Amazon S3 client.
+     *
+     * @return The maximum number of part buffers for streaming uploads.
+     */
+    public int getStreamingUploadBufferCount() {
+        return streamingUploadBufferCount;
+    }
+
+    /**
+     * Sets the maximum number of part buffers held in memory at once when
+     * uploading an input stream of unknown length.
+     * <p>
+     * When greater than zero, a stream of unknown length is read into parts
+     * of the minimum upload part size, which are uploaded concurrently as soon
+     * as they are filled, and the buffers are reused once their part has been
+     * uploaded. The memory used by each upload is then bounded by the buffer
+     * count times the minimum upload part size. Streams that end before the
+     * first part is filled are uploaded in a single request. As a multipart
+     * upload is limited to 10,000 parts, the minimum upload part size also
+     * limits the size of the streams that can be uploaded this way.
+     * <p>
+     * Streaming uploads are not supported with the Amazon S3 encryption
+     * client, and can't be paused and resumed.
+     *
+     * @param streamingUploadBufferCount
+     *            The maximum number of part buffers for streaming uploads, or
+     *            zero to disable streaming uploads.
+     */
+    public void setStreamingUploadBufferCount(int streamingUploadBufferCount) {
+        this.streamingUploadBufferCount = streamingUploadBufferCount;
+    }
+
     /**
      * Sets the size threshold in bytes for when to use multipart uploads.
      * Uploads over this size will automatically use a multipart upload
@@ -41,6 +41,11 @@ public class DownloadImpl extends AbstractTransfer implements Download {
      */
     private Integer lastFullyDownloadedPartNumber;
 
+    /**
+     * The size of each byte range for ranged parallel downloads; null otherwise.
+     */
+    private final Long rangedDownloadPartSize;
+
     private final GetObjectRequest getObjectRequest;
     private final File file;
     private final ObjectMetadata objectMetadata;
@@ -58,8 +63,17 @@ public class DownloadImpl extends AbstractTransfer implements Download {
             ProgressListenerChain progressListenerChain, S3Object s3Object, TransferStateChangeListener listener,
             GetObjectRequest getObjectRequest, File file,
             ObjectMetadata objectMetadata, boolean isDownloadParallel) {
+        this(description, transferProgress, progressListenerChain, s3Object, listener,
+                getObjectRequest, file, objectMetadata, isDownloadParallel, null);
+    }
+
+    public DownloadImpl(String description, TransferProgress transferProgress,
+            ProgressListenerChain progressListenerChain, S3Object s3Object, TransferStateChangeListener listener,
+            GetObjectRequest getObjectRequest, File file,
+            ObjectMetadata objectMetadata, boolean isDownloadParallel, Long rangedDownloadPartSize) {
         super(description, transferProgress, progressListenerChain, listener);
         this.s3Object = s3Object;
+        this.rangedDownloadPartSize = rangedDownloadPartSize;
         this.objectMetadata = objectMetadata;
         this.getObjectRequest = getObjectRequest;
         this.file = file;
@@ -180,7 +194,7 @@ public class DownloadImpl extends AbstractTransfer implements Download {
                     getObjectRequest.getVersionId(), getObjectRequest.getRange(),
                     getObjectRequest.getResponseHeaders(), getObjectRequest.isRequesterPays(),
                     file.getAbsolutePath(), getLastFullyDownloadedPartNumber(),
-                    getObjectMetadata().getLastModified().getTime());
+                    getObjectMetadata().getLastModified().getTime(), rangedDownloadPartSize);
         }
         return null;
     }
@@ -14,39 +14,137 @@
  */
 package com.amazonaws.services.s3.transfer.internal;
 
-import java.io.File;
+import java.io.IOException;
+import java.net.SocketException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+
+import javax.net.ssl.SSLProtocolException;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectInputStream;
+import com.amazonaws.util.IOUtils;
 
 /**
- * Helper class to get a part from s3,
- * write the part data to a temporary file and
- * return the temporary file.
+ * Helper class to get a part from s3 and write the part data directly into
+ * its final position in the destination file.
+ * <p>
+ * The position of the part is taken from the Content-Range returned by
+ * Amazon S3, so parts can complete in any order. The destination channel is
+ * shared by all the parts of a download and only positional writes are used,
+ * so no temporary files need to be merged afterwards. A part can be
+ * cancelled while it is running, so that the download can wait for it to stop
+ * before closing the channel.
  */
-public class DownloadPartCallable implements Callable<File> {
+public class DownloadPartCallable implements Callable<Long> {
+    private static final Log LOG = LogFactory.getLog(DownloadPartCallable.class);
+    private static final int BUFFER_SIZE = 16 * 1024;
+
     private final AmazonS3 s3;
     private final GetObjectRequest getPartRequest;
-    private final String destinationFileName;
-    private File tempFile;
-    private static final String TEMP_FILE_MIDDLE_NAME = ".part.";
+    private final FileChannel destinationChannel;
+    private volatile boolean cancelled;
 
-    public DownloadPartCallable(AmazonS3 s3, GetObjectRequest getPartRequest, String destinationFileName) {
+    public DownloadPartCallable(AmazonS3 s3, GetObjectRequest getPartRequest, FileChannel destinationChannel) {
         this.s3 = s3;
         this.getPartRequest = getPartRequest;
-        this.destinationFileName = destinationFileName;
+        this.destinationChannel = destinationChannel;
+    }
+
+    /**
+     * Downloads the part and returns the number of bytes written into the
+     * destination file.
+     */
+    public Long call() throws Exception {
+        boolean hasRetried = false;
+        for (;;) {
+            checkCancelled();
+            S3Object s3Object = s3.getObject(getPartRequest);
+            if (s3Object == null) {
+                throw new AmazonClientException(
+                        "There is no object in S3 satisfying this request. The getObject method returned null;"
+                        + " the object may have been modified during the download");
+            }
+
+            final S3ObjectInputStream content = s3Object.getObjectContent();
+            try {
+                Long[] range = s3Object.getObjectMetadata().getContentRange();
+                if (range == null) {
+                    content.abort();
+                    throw new AmazonClientException("Unable to determine the position of part "
+                            + describePart() + " as no Content-Range was returned");
+                }
+                return writePart(content, range[0]);
+            } catch (AmazonClientException ace) {
+                // As for other downloads to files, retry once unless the
+                // connection failed (e.g. when the user aborts the download) or
+                // the destination file was closed
+                if (!ace.isRetryable() || hasRetried || cancelled || ace.getCause() instanceof SocketException
+                        || ace.getCause() instanceof SSLProtocolException
+                        || ace.getCause() instanceof ClosedChannelException) {
+                    throw ace;
+                }
+                LOG.info("Retry the download of part " + describePart() + " of object "
+                        + s3Object.getKey() + " (bucket " + s3Object.getBucketName() + ")", ace);
+                hasRetried = true;
+            } finally {
+                IOUtils.closeQuietly(content, LOG);
+            }
+        }
+    }
+
+    /**
+     * Stops the part as soon as possible, without writing any more of it into
+     * the destination file. The part then fails with a
+     * {@link CancellationException}.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    private void checkCancelled() {
+        if (cancelled) {
+            throw new CancellationException("The download of part " + describePart() + " was cancelled");
+        }
+    }
+
+    private long writePart(S3ObjectInputStream content, long startingPosition) {
+        long position = startingPosition;
+        try {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int bytesRead;
+            while ((bytesRead = content.read(buffer)) > -1) {
+                if (cancelled) {
+                    content.abort();
+                    checkCancelled();
+                }
+                ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, bytesRead);
+                while (byteBuffer.hasRemaining()) {
+                    position += destinationChannel.write(byteBuffer, position);
+                }
+            }
+        } catch (IOException e) {
+            content.abort();
+            throw new AmazonClientException("Unable to store part " + describePart()
+                    + " contents to disk: " + e.getMessage(), e);
+        }
+        return position - startingPosition;
     }
 
-    public File call() throws Exception {
-        tempFile = File.createTempFile(destinationFileName,
-                TEMP_FILE_MIDDLE_NAME + getPartRequest.getPartNumber().toString());
-        tempFile.deleteOnExit();
-        if (s3.getObject(getPartRequest, tempFile) == null) {
-            throw new AmazonClientException(
-                    "There is no object in S3 satisfying this request. The getObject method returned null");
+    private String describePart() {
+        if (getPartRequest.getPartNumber() != null) {
+            return getPartRequest.getPartNumber().toString();
         }
-        return tempFile;
+        return Arrays.toString(getPartRequest.getRange());
     }
 }
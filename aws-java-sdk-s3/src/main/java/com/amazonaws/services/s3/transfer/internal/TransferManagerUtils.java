@@ -136,6 +136,31 @@ public class TransferManagerUtils {
         return (contentLength > configuration.getMultipartUploadThreshold());
     }
 
+    /**
+     * Returns true if the specified request is for an input stream of unknown
+     * length which should be uploaded in parts as it is read, instead of being
+     * buffered in memory to determine its length.
+     *
+     * @param putObjectRequest
+     *            The request containing all the details of the upload.
+     * @param configuration
+     *            Configuration settings controlling how transfer manager
+     *            processes requests.
+     * @param isUsingEncryption
+     *            True if the upload is an encrypted upload, otherwise false.
+     *
+     * @return True if the specified request should be processed as a
+     *         streaming upload.
+     */
+    public static boolean shouldUseStreamingUpload(PutObjectRequest putObjectRequest,
+            TransferManagerConfiguration configuration, boolean isUsingEncryption) {
+        if (isUsingEncryption || configuration.getStreamingUploadBufferCount() <= 0) {
+            return false;
+        }
+        return putObjectRequest.getInputStream() != null
+                && getContentLength(putObjectRequest) < 0;
+    }
+
     /**
      * Convenience method for getting the file specified in a request.
      */
@@ -210,4 +235,36 @@ public class TransferManagerUtils {
         }
         return true;
     }
+
+    /**
+     * Returns true if the specified download request for an object that was
+     * not uploaded in parts can use parallel byte range downloads for
+     * increased performance.
+     *
+     * @param s3
+     *            The Amazon s3 client.
+     * @param getObjectRequest
+     *            The request to check.
+     * @param partCount
+     *            The number of parts in the object, or null if the object
+     *            was not uploaded in parts.
+     * @param contentLength
+     *            The length of the object.
+     * @param configuration
+     *            The configuration of the transfer manager.
+     *
+     * @return True if this request can use parallel byte range downloads.
+     */
+    public static boolean isRangedDownloadParallelizable(final AmazonS3 s3, final GetObjectRequest getObjectRequest,
+            Integer partCount, long contentLength, TransferManagerConfiguration configuration) {
+        ValidationUtils.assertNotNull(s3, "S3 client");
+        ValidationUtils.assertNotNull(getObjectRequest, "GetObjectRequest");
+
+        if (s3 instanceof AmazonS3Encryption || getObjectRequest.getRange() != null
+                || getObjectRequest.getPartNumber() != null || partCount != null) {
+            return false;
+        }
+        return configuration.getRangedDownloadPartSize() > 0
+                && contentLength > configuration.getRangedDownloadThreshold();
+    }
 }
@@ -16,6 +16,8 @@ package com.amazonaws.services.s3.transfer.internal;
 
 import static com.amazonaws.event.SDKProgressPublisher.publishProgress;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -25,6 +27,7 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -74,6 +77,12 @@ public class UploadCallable implements Callable<UploadResult> {
 
     private PersistableUpload persistableUpload;
 
+    /**
+     * True once a stream of unknown length turned out to be large enough to
+     * be uploaded in parts.
+     */
+    private volatile boolean isStreamingMultipartUpload;
+
     public UploadCallable(TransferManager transferManager,
             ExecutorService threadPool, UploadImpl upload,
             PutObjectRequest origReq,
@@ -111,7 +120,8 @@ public class UploadCallable implements Callable<UploadResult> {
      * @return True if this UploadCallable is processing a multipart upload.
      */
     public boolean isMultipartUpload() {
-        return TransferManagerUtils.shouldUseMultipartUpload(origReq, configuration);
+        return isStreamingMultipartUpload
+                || TransferManagerUtils.shouldUseMultipartUpload(origReq, configuration);
     }
 
     public UploadResult call() throws Exception {
@@ -119,6 +129,9 @@ public class UploadCallable implements Callable<UploadResult> {
         if ( isMultipartUpload() ) {
             publishProgress(listener, ProgressEventType.TRANSFER_STARTED_EVENT);
             return uploadInParts();
+        } else if (TransferManagerUtils.shouldUseStreamingUpload(origReq, configuration,
+                s3 instanceof AmazonS3Encryption)) {
+            return uploadStreamInParts();
         } else {
             return uploadInOneChunk();
         }
@@ -138,6 +151,162 @@ public class UploadCallable implements Callable<UploadResult> {
         return uploadResult;
     }
 
+    /**
+     * Uploads an input stream of unknown length. The stream is read into part
+     * buffers taken from a bounded pool, and each part is submitted to the
+     * thread pool as soon as its buffer is full. While all the buffers are in
+     * flight, this thread completes the oldest pending part, uploading it
+     * itself if no pool thread has started it yet, so the memory used is
+     * bounded by the buffer count times the part size without holding a pool
+     * thread that waits for parts queued behind it. A stream that ends within
+     * the first part is uploaded in a single chunk.
+     */
+    private UploadResult uploadStreamInParts() throws Exception {
+        final InputStream input = origReq.getInputStream();
+        final UploadPartBufferPool bufferPool = new UploadPartBufferPool(
+                getStreamingPartSize(), configuration.getStreamingUploadBufferCount());
+        try {
+            byte[] buffer = bufferPool.poll();
+            int length = readFully(input, buffer);
+            if (length < buffer.length) {
+                return uploadBufferInOneChunk(buffer, length);
+            }
+
+            isStreamingMultipartUpload = true;
+            publishProgress(listener, ProgressEventType.TRANSFER_STARTED_EVENT);
+            try {
+                multipartUploadId = initiateMultipartUpload(origReq, false);
+
+                List<FutureTask<PartETag>> parts = new ArrayList<FutureTask<PartETag>>();
+                int partNumber = 1;
+                int oldestPendingPart = 0;
+                while (length > 0) {
+                    if (threadPool.isShutdown()) throw new CancellationException("TransferManager has been shutdown");
+                    FutureTask<PartETag> part = new FutureTask<PartETag>(new StreamingUploadPartCallable(
+                            newStreamingPartRequest(partNumber++, buffer, length), buffer, bufferPool));
+                    parts.add(part);
+                    futures.add(part);
+                    threadPool.execute(part);
+                    // Fail fast rather than reading the rest of the stream
+                    while (oldestPendingPart < parts.size() && parts.get(oldestPendingPart).isDone()) {
+                        parts.get(oldestPendingPart++).get();
+                    }
+                    while ((buffer = bufferPool.poll()) == null) {
+                        // Runs the part here unless a pool thread already has
+                        FutureTask<PartETag> oldestPart = parts.get(oldestPendingPart++);
+                        oldestPart.run();
+                        oldestPart.get();
+                    }
+                    length = readFully(input, buffer);
+                }
+                bufferPool.release(buffer);
+                return null;
+            } catch (Exception e) {
+                for (Future<PartETag> future : futures) {
+                    future.cancel(true);
+                }
+                publishProgress(listener, ProgressEventType.TRANSFER_FAILED_EVENT);
+                performAbortMultipartUpload();
+                throw e;
+            }
+        } finally {
+            try {input.close(); } catch (Exception e) {
+                log.warn("Unable to cleanly close input stream: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Uploads the content of a stream of unknown length that fit in a single
+     * part buffer, now that its length is known.
+     */
+    private UploadResult uploadBufferInOneChunk(byte[] buffer, int length) {
+        PutObjectRequest req = origReq.clone()
+                .withInputStream(new ByteArrayInputStream(buffer, 0, length));
+        req.getMetadata().setContentLength(length);
+        PutObjectResult putObjectResult = s3.putObject(req);
+
+        UploadResult uploadResult = new UploadResult();
+        uploadResult.setBucketName(origReq.getBucketName());
+        uploadResult.setKey(origReq.getKey());
+        uploadResult.setETag(putObjectResult.getETag());
+        uploadResult.setVersionId(putObjectResult.getVersionId());
+        return uploadResult;
+    }
+
+    private UploadPartRequest newStreamingPartRequest(int partNumber, byte[] buffer, int length) {
+        UploadPartRequest req = new UploadPartRequest()
+            .withBucketName(origReq.getBucketName())
+            .withKey(origReq.getKey())
+            .withUploadId(multipartUploadId)
+            .withInputStream(new ByteArrayInputStream(buffer, 0, length))
+            .withPartNumber(partNumber)
+            .withPartSize(length);
+        TransferManager.appendMultipartUserAgent(req);
+
+        if (origReq.getSSECustomerKey() != null) req.setSSECustomerKey(origReq.getSSECustomerKey());
+
+        req.withGeneralProgressListener(origReq.getGeneralProgressListener())
+           .withRequestMetricCollector(origReq.getRequestMetricCollector())
+           ;
+        req.getRequestClientOptions().setReadLimit(origReq.getReadLimit());
+        return req;
+    }
+
+    /**
+     * Returns the part size for a stream of unknown length, which is the
+     * configured minimum upload part size.
+     */
+    private int getStreamingPartSize() {
+        long partSize = configuration.getMinimumUploadPartSize();
+        if (partSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                    "The minimum upload part size is too large to upload a stream of unknown length: " + partSize);
+        }
+        return (int) partSize;
+    }
+
+    /**
+     * Reads from the stream until the buffer is full or the end of the stream
+     * is reached, and returns the number of bytes read.
+     */
+    private static int readFully(InputStream input, byte[] buffer) throws IOException {
+        int length = 0;
+        while (length < buffer.length) {
+            int bytesRead = input.read(buffer, length, buffer.length - length);
+            if (bytesRead == -1) {
+                break;
+            }
+            length += bytesRead;
+        }
+        return length;
+    }
+
+    /**
+     * Uploads a part of a stream of unknown length, and releases its buffer
+     * back to the pool once the part has been uploaded.
+     */
+    private final class StreamingUploadPartCallable implements Callable<PartETag> {
+        private final UploadPartRequest request;
+        private final byte[] buffer;
+        private final UploadPartBufferPool bufferPool;
+
+        private StreamingUploadPartCallable(UploadPartRequest request, byte[] buffer,
+                UploadPartBufferPool bufferPool) {
+            this.request = request;
+            this.buffer = buffer;
+            this.bufferPool = bufferPool;
+        }
+
+        public PartETag call() throws Exception {
+            try {
+                return s3.uploadPart(request).getPartETag();
+            } finally {
+                bufferPool.release(buffer);
+            }
+        }
+    }
+
     /**
      * Captures the state of the upload.
      */
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer.internal;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.annotation.ThreadSafe;
+
+/**
+ * A bounded pool of reusable part buffers for uploading a stream of unknown
+ * length. Buffers are only allocated when no released buffer is available,
+ * and {@link #poll()} returns null once the maximum number of buffers are in
+ * use, which bounds the memory used by an upload to the buffer count times the
+ * part size. The pool never blocks, so that no thread of the transfer manager
+ * is held waiting for a buffer that only another of its threads can release.
+ */
+@SdkInternalApi
+@ThreadSafe
+class UploadPartBufferPool {
+    private final Queue<byte[]> releasedBuffers = new ConcurrentLinkedQueue<byte[]>();
+    private final int bufferSize;
+    private final int maxBuffers;
+    private int allocatedBuffers;
+
+    UploadPartBufferPool(int bufferSize, int maxBuffers) {
+        if (bufferSize <= 0 || maxBuffers <= 0) {
+            throw new IllegalArgumentException("bufferSize and maxBuffers must be positive");
+        }
+        this.bufferSize = bufferSize;
+        this.maxBuffers = maxBuffers;
+    }
+
+    /**
+     * Returns a buffer from the pool, or null if all of them are in use.
+     */
+    byte[] poll() {
+        byte[] buffer = releasedBuffers.poll();
+        if (buffer != null) {
+            return buffer;
+        }
+        synchronized (this) {
+            if (allocatedBuffers < maxBuffers) {
+                allocatedBuffers++;
+                return new byte[bufferSize];
+            }
+        }
+        return releasedBuffers.poll();
+    }
+
+    /**
+     * Returns a buffer previously taken from this pool.
+     */
+    void release(byte[] buffer) {
+        releasedBuffers.offer(buffer);
+    }
+
+    int getBufferSize() {
+        return bufferSize;
+    }
+}
@@ -83,6 +83,12 @@ public class AmazonSimpleEmailServiceClient extends AmazonWebServiceClient
      */
     protected final List<Unmarshaller<AmazonServiceException, Node>> exceptionUnmarshallers = new ArrayList<Unmarshaller<AmazonServiceException, Node>>();
 
+    /**
+     * Handler of the error responses, built once all the exception
+     * unmarshallers are registered
+     */
+    private volatile DefaultErrorResponseHandler errorResponseHandler;
+
     /**
      * Constructs a new client to invoke service methods on Amazon SES. A
      * credentials provider chain will be used that searches for credentials in
@@ -273,6 +279,9 @@ public class AmazonSimpleEmailServiceClient extends AmazonWebServiceClient
                 .add(new StandardErrorUnmarshaller(
                         com.amazonaws.services.simpleemail.model.AmazonSimpleEmailServiceException.class));
 
+        errorResponseHandler = new DefaultErrorResponseHandler(
+                exceptionUnmarshallers);
+
         setServiceNameIntern(DEFAULT_SIGNING_NAME);
         setEndpointPrefix(ENDPOINT_PREFIX);
         // calling this.setEndPoint(...) will also modify the signer accordingly
@@ -3151,9 +3160,6 @@ public class AmazonSimpleEmailServiceClient extends AmazonWebServiceClient
         request.setEndpoint(endpoint);
         request.setTimeOffset(timeOffset);
 
-        DefaultErrorResponseHandler errorResponseHandler = new DefaultErrorResponseHandler(
-                exceptionUnmarshallers);
-
         return client.execute(request, responseHandler, errorResponseHandler,
                 executionContext);
     }
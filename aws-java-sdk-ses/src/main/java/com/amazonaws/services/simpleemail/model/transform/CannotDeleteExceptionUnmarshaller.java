@@ -26,7 +26,7 @@ public class CannotDeleteExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public CannotDeleteExceptionUnmarshaller() {
-        super(CannotDeleteException.class);
+        super(CannotDeleteException.class, "CannotDelete");
     }
 
     @Override
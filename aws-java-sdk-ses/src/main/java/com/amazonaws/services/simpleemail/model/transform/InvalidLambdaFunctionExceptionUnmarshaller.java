@@ -26,7 +26,7 @@ public class InvalidLambdaFunctionExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidLambdaFunctionExceptionUnmarshaller() {
-        super(InvalidLambdaFunctionException.class);
+        super(InvalidLambdaFunctionException.class, "InvalidLambdaFunction");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InvalidPolicyExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidPolicyExceptionUnmarshaller() {
-        super(InvalidPolicyException.class);
+        super(InvalidPolicyException.class, "InvalidPolicy");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InvalidS3ConfigurationExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidS3ConfigurationExceptionUnmarshaller() {
-        super(InvalidS3ConfigurationException.class);
+        super(InvalidS3ConfigurationException.class, "InvalidS3Configuration");
     }
 
     @Override
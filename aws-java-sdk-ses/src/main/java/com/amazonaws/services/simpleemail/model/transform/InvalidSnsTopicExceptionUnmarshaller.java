@@ -26,7 +26,7 @@ public class InvalidSnsTopicExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidSnsTopicExceptionUnmarshaller() {
-        super(InvalidSnsTopicException.class);
+        super(InvalidSnsTopicException.class, "InvalidSnsTopic");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class MailFromDomainNotVerifiedExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public MailFromDomainNotVerifiedExceptionUnmarshaller() {
-        super(MailFromDomainNotVerifiedException.class);
+        super(MailFromDomainNotVerifiedException.class, "MailFromDomainNotVerifiedException");
     }
 
     @Override
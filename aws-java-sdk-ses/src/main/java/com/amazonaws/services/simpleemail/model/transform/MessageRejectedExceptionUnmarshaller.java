@@ -26,7 +26,7 @@ public class MessageRejectedExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public MessageRejectedExceptionUnmarshaller() {
-        super(MessageRejectedException.class);
+        super(MessageRejectedException.class, "MessageRejected");
     }
 
     @Override
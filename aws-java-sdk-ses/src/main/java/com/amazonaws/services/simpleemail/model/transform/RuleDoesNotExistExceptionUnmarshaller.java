@@ -26,7 +26,7 @@ public class RuleDoesNotExistExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public RuleDoesNotExistExceptionUnmarshaller() {
-        super(RuleDoesNotExistException.class);
+        super(RuleDoesNotExistException.class, "RuleDoesNotExist");
     }
 
     @Override
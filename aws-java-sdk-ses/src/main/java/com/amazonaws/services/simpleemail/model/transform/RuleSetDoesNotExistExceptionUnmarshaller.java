@@ -26,7 +26,7 @@ public class RuleSetDoesNotExistExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public RuleSetDoesNotExistExceptionUnmarshaller() {
-        super(RuleSetDoesNotExistException.class);
+        super(RuleSetDoesNotExistException.class, "RuleSetDoesNotExist");
     }
 
     @Override
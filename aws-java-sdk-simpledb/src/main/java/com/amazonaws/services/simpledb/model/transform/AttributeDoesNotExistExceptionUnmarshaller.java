@@ -26,7 +26,7 @@ public class AttributeDoesNotExistExceptionUnmarshaller extends
         LegacyErrorUnmarshaller {
 
     public AttributeDoesNotExistExceptionUnmarshaller() {
-        super(AttributeDoesNotExistException.class);
+        super(AttributeDoesNotExistException.class, "AttributeDoesNotExist");
     }
 
     @Override
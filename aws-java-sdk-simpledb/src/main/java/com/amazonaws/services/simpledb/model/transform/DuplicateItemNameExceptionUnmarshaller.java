@@ -26,7 +26,7 @@ public class DuplicateItemNameExceptionUnmarshaller extends
         LegacyErrorUnmarshaller {
 
     public DuplicateItemNameExceptionUnmarshaller() {
-        super(DuplicateItemNameException.class);
+        super(DuplicateItemNameException.class, "DuplicateItemName");
     }
 
     @Override
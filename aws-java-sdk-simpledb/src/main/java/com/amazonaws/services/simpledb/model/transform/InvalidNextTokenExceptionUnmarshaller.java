@@ -26,7 +26,7 @@ public class InvalidNextTokenExceptionUnmarshaller extends
         LegacyErrorUnmarshaller {
 
     public InvalidNextTokenExceptionUnmarshaller() {
-        super(InvalidNextTokenException.class);
+        super(InvalidNextTokenException.class, "InvalidNextToken");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InvalidNumberPredicatesExceptionUnmarshaller extends
         LegacyErrorUnmarshaller {
 
     public InvalidNumberPredicatesExceptionUnmarshaller() {
-        super(InvalidNumberPredicatesException.class);
+        super(InvalidNumberPredicatesException.class, "InvalidNumberPredicates");
     }
 
     @Override
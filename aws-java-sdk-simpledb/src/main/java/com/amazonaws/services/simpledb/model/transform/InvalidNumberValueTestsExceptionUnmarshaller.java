@@ -26,7 +26,7 @@ public class InvalidNumberValueTestsExceptionUnmarshaller extends
         LegacyErrorUnmarshaller {
 
     public InvalidNumberValueTestsExceptionUnmarshaller() {
-        super(InvalidNumberValueTestsException.class);
+        super(InvalidNumberValueTestsException.class, "InvalidNumberValueTests");
     }
 
     @Override
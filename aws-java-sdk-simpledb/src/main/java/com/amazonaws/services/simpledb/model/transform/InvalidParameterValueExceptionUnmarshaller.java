@@ -26,7 +26,7 @@ public class InvalidParameterValueExceptionUnmarshaller extends
         LegacyErrorUnmarshaller {
 
     public InvalidParameterValueExceptionUnmarshaller() {
-        super(InvalidParameterValueException.class);
+        super(InvalidParameterValueException.class, "InvalidParameterValue");
     }
 
     @Override
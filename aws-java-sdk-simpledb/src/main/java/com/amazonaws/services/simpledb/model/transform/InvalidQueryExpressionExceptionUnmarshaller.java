@@ -26,7 +26,7 @@ public class InvalidQueryExpressionExceptionUnmarshaller extends
         LegacyErrorUnmarshaller {
 
     public InvalidQueryExpressionExceptionUnmarshaller() {
-        super(InvalidQueryExpressionException.class);
+        super(InvalidQueryExpressionException.class, "InvalidQueryExpression");
     }
 
     @Override
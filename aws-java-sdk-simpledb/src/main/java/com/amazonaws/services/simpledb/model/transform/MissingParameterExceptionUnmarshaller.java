@@ -26,7 +26,7 @@ public class MissingParameterExceptionUnmarshaller extends
         LegacyErrorUnmarshaller {
 
     public MissingParameterExceptionUnmarshaller() {
-        super(MissingParameterException.class);
+        super(MissingParameterException.class, "MissingParameter");
     }
 
     @Override
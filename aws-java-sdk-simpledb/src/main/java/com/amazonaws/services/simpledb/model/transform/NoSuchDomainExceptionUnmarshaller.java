@@ -25,7 +25,7 @@ import com.amazonaws.services.simpledb.model.NoSuchDomainException;
 public class NoSuchDomainExceptionUnmarshaller extends LegacyErrorUnmarshaller {
 
     public NoSuchDomainExceptionUnmarshaller() {
-        super(NoSuchDomainException.class);
+        super(NoSuchDomainException.class, "NoSuchDomain");
     }
 
     @Override
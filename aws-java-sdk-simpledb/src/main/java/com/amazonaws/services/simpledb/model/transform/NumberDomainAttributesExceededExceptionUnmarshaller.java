@@ -26,7 +26,7 @@ public class NumberDomainAttributesExceededExceptionUnmarshaller extends
         LegacyErrorUnmarshaller {
 
     public NumberDomainAttributesExceededExceptionUnmarshaller() {
-        super(NumberDomainAttributesExceededException.class);
+        super(NumberDomainAttributesExceededException.class, "NumberDomainAttributesExceeded");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class NumberDomainBytesExceededExceptionUnmarshaller extends
         LegacyErrorUnmarshaller {
 
     public NumberDomainBytesExceededExceptionUnmarshaller() {
-        super(NumberDomainBytesExceededException.class);
+        super(NumberDomainBytesExceededException.class, "NumberDomainBytesExceeded");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class NumberDomainsExceededExceptionUnmarshaller extends
         LegacyErrorUnmarshaller {
 
     public NumberDomainsExceededExceptionUnmarshaller() {
-        super(NumberDomainsExceededException.class);
+        super(NumberDomainsExceededException.class, "NumberDomainsExceeded");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class NumberItemAttributesExceededExceptionUnmarshaller extends
         LegacyErrorUnmarshaller {
 
     public NumberItemAttributesExceededExceptionUnmarshaller() {
-        super(NumberItemAttributesExceededException.class);
+        super(NumberItemAttributesExceededException.class, "NumberItemAttributesExceeded");
     }
 
     @Override
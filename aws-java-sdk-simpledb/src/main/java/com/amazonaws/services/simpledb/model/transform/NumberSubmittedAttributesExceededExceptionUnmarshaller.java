@@ -26,7 +26,7 @@ public class NumberSubmittedAttributesExceededExceptionUnmarshaller extends
         LegacyErrorUnmarshaller {
 
     public NumberSubmittedAttributesExceededExceptionUnmarshaller() {
-        super(NumberSubmittedAttributesExceededException.class);
+        super(NumberSubmittedAttributesExceededException.class, "NumberSubmittedAttributesExceeded");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class NumberSubmittedItemsExceededExceptionUnmarshaller extends
         LegacyErrorUnmarshaller {
 
     public NumberSubmittedItemsExceededExceptionUnmarshaller() {
-        super(NumberSubmittedItemsExceededException.class);
+        super(NumberSubmittedItemsExceededException.class, "NumberSubmittedItemsExceeded");
     }
 
     @Override
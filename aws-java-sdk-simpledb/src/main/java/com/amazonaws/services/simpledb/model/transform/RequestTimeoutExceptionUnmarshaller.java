@@ -26,7 +26,7 @@ public class RequestTimeoutExceptionUnmarshaller extends
         LegacyErrorUnmarshaller {
 
     public RequestTimeoutExceptionUnmarshaller() {
-        super(RequestTimeoutException.class);
+        super(RequestTimeoutException.class, "RequestTimeout");
     }
 
     @Override
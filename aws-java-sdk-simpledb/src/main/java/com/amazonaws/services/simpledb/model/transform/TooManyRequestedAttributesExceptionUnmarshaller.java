@@ -26,7 +26,7 @@ public class TooManyRequestedAttributesExceptionUnmarshaller extends
         LegacyErrorUnmarshaller {
 
     public TooManyRequestedAttributesExceptionUnmarshaller() {
-        super(TooManyRequestedAttributesException.class);
+        super(TooManyRequestedAttributesException.class, "TooManyRequestedAttributes");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class AuthorizationErrorExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public AuthorizationErrorExceptionUnmarshaller() {
-        super(AuthorizationErrorException.class);
+        super(AuthorizationErrorException.class, "AuthorizationError");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class EndpointDisabledExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public EndpointDisabledExceptionUnmarshaller() {
-        super(EndpointDisabledException.class);
+        super(EndpointDisabledException.class, "EndpointDisabled");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InternalErrorExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InternalErrorExceptionUnmarshaller() {
-        super(InternalErrorException.class);
+        super(InternalErrorException.class, "InternalError");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InvalidParameterValueExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidParameterValueExceptionUnmarshaller() {
-        super(InvalidParameterValueException.class);
+        super(InvalidParameterValueException.class, "ParameterValueInvalid");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class PlatformApplicationDisabledExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public PlatformApplicationDisabledExceptionUnmarshaller() {
-        super(PlatformApplicationDisabledException.class);
+        super(PlatformApplicationDisabledException.class, "PlatformApplicationDisabled");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class SubscriptionLimitExceededExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public SubscriptionLimitExceededExceptionUnmarshaller() {
-        super(SubscriptionLimitExceededException.class);
+        super(SubscriptionLimitExceededException.class, "SubscriptionLimitExceeded");
     }
 
     @Override
@@ -25,7 +25,7 @@ import com.amazonaws.services.sns.model.ThrottledException;
 public class ThrottledExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public ThrottledExceptionUnmarshaller() {
-        super(ThrottledException.class);
+        super(ThrottledException.class, "Throttled");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class TopicLimitExceededExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public TopicLimitExceededExceptionUnmarshaller() {
-        super(TopicLimitExceededException.class);
+        super(TopicLimitExceededException.class, "TopicLimitExceeded");
     }
 
     @Override
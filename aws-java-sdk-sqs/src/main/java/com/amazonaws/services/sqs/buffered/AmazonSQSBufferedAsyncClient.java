@@ -15,9 +15,11 @@
 
 package com.amazonaws.services.sqs.buffered;
 
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
@@ -84,6 +86,12 @@ import com.amazonaws.util.VersionInfoUtils;
  * store in a temporary buffer. Future receiveMessage calls will be satisfied from the buffer, and
  * only if the buffer is empty will the calling thread have to wait for the messages to be fetched.
  * The size of the buffer and the maximum number of threads used for prefetching are configurable. <br>
+ * The batching and pre-fetching tasks, and the async handler callbacks, run on an executor. Unless
+ * one is provided when constructing the client, an unbounded executor shared by all the buffered
+ * clients in the JVM is used. A bounded executor given to a client should allow for every queue
+ * that client uses to have {@link QueueBufferConfig#getMaxInflightReceiveBatches()} receive tasks
+ * and three times {@link QueueBufferConfig#getMaxInflightOutboundBatches()} outbound tasks running
+ * at once; tasks the executor rejects fail the requests they carry. <br>
  * AmazonSQSBufferedAsyncClient is thread-safe.<br>
  */
 public class AmazonSQSBufferedAsyncClient implements AmazonSQSAsync {
@@ -91,20 +99,44 @@ public class AmazonSQSBufferedAsyncClient implements AmazonSQSAsync {
     public static final String USER_AGENT = AmazonSQSBufferedAsyncClient.class.getSimpleName() + "/"
             + VersionInfoUtils.getVersion();
 
-    private final CachingMap buffers = new CachingMap(16, (float) 0.75, true);
+    /** the maximum number of queue buffers kept by a client */
+    private static final int MAX_BUFFERS = 100;
+
+    private final ConcurrentMap<String, QueueBuffer> buffers = new ConcurrentHashMap<String, QueueBuffer>();
     private final AmazonSQSAsync realSQS;
     private final QueueBufferConfig bufferConfigExemplar;
+    private final Executor executor;
 
     public AmazonSQSBufferedAsyncClient(AmazonSQSAsync paramRealSQS) {
         this(paramRealSQS, new QueueBufferConfig());
     }
 
+    public AmazonSQSBufferedAsyncClient(AmazonSQSAsync paramRealSQS, QueueBufferConfig config) {
+        this(paramRealSQS, config, QueueBuffer.executor);
+    }
+
+    /**
+     * Constructs a buffered client that runs the batching and pre-fetching tasks of its queue
+     * buffers, and the async handler callbacks, on the given executor. The executor is not shut
+     * down when the client is.
+     *
+     * @param paramRealSQS
+     *            the client used to make the calls to SQS
+     * @param config
+     *            the configuration of the queue buffers
+     * @param paramExecutor
+     *            the executor for the tasks of this client
+     */
     // route all future constructors to the most general one, because validation
     // happens here
-    public AmazonSQSBufferedAsyncClient(AmazonSQSAsync paramRealSQS, QueueBufferConfig config) {
+    public AmazonSQSBufferedAsyncClient(AmazonSQSAsync paramRealSQS, QueueBufferConfig config, Executor paramExecutor) {
         config.validate();
+        if (paramExecutor == null) {
+            throw new IllegalArgumentException("The executor cannot be null");
+        }
         realSQS = paramRealSQS;
         bufferConfigExemplar = config;
+        executor = paramExecutor;
     }
 
     /*
@@ -359,28 +391,38 @@ public class AmazonSQSBufferedAsyncClient implements AmazonSQSAsync {
      *
      * @return a queue buffer associated with the provided queue URL. Never null
      */
-    private synchronized QueueBuffer getQBuffer(String qUrl) {
+    private QueueBuffer getQBuffer(String qUrl) {
         QueueBuffer toReturn = buffers.get(qUrl);
         if (null == toReturn) {
             QueueBufferConfig config = new QueueBufferConfig(bufferConfigExemplar);
-            toReturn = new QueueBuffer(config, qUrl, realSQS);
-            buffers.put(qUrl, toReturn);
+            QueueBuffer newBuffer = new QueueBuffer(config, qUrl, realSQS, executor);
+            toReturn = buffers.putIfAbsent(qUrl, newBuffer);
+            if (null == toReturn) {
+                toReturn = newBuffer;
+                evictLeastRecentlyUsedBuffers();
+            }
         }
+        toReturn.markUsed();
         return toReturn;
     }
 
-    class CachingMap extends LinkedHashMap<String, QueueBuffer> {
-        private static final long serialVersionUID = 1;
-        private static final int MAX_ENTRIES = 100;
-
-        public CachingMap(int initial, float loadFactor, boolean accessOrder) {
-            super(initial, loadFactor, accessOrder);
-        }
-
-        protected boolean removeEldestEntry(java.util.Map.Entry<String, QueueBuffer> eldest) {
-            return size() > MAX_ENTRIES;
+    /**
+     * Removes the least recently used queue buffers until no more than {@code MAX_BUFFERS} are
+     * left. Only called when a new buffer is added, so the scan is rare.
+     */
+    private void evictLeastRecentlyUsedBuffers() {
+        while (buffers.size() > MAX_BUFFERS) {
+            Map.Entry<String, QueueBuffer> eldest = null;
+            for (Map.Entry<String, QueueBuffer> entry : buffers.entrySet()) {
+                if (eldest == null || entry.getValue().getLastUsedNanos() - eldest.getValue().getLastUsedNanos() < 0) {
+                    eldest = entry;
+                }
+            }
+            if (eldest == null) {
+                return;
+            }
+            buffers.remove(eldest.getKey(), eldest.getValue());
         }
-
     }
 
     public Future<ChangeMessageVisibilityResult> changeMessageVisibilityAsync(ChangeMessageVisibilityRequest changeMessageVisibilityRequest,
@@ -15,10 +15,12 @@
 package com.amazonaws.services.sqs.buffered;
 
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import com.amazonaws.AmazonClientException;
@@ -57,18 +59,50 @@ class QueueBuffer {
     QueueBufferConfig config;
 
     /**
-     * This executor that will be shared among all queue buffers. Since a single JVM can access
-     * hundreds of queues, it won't do to have hundreds of executors spinning up hundreds of threads
-     * for each queue. The DaemonThreadFactory creates daemon threads, which means they won't block
-     * the JVM from exiting if only they are still around.
+     * When this buffer was last handed out by the client, used to pick the least recently used
+     * buffer to evict. Only updated once per millisecond to keep the cache line quiet.
+     */
+    private volatile long lastUsedNanos = System.nanoTime();
+
+    private static final long LAST_USED_RESOLUTION_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /**
+     * This executor that will be shared among all queue buffers of clients that were not given an
+     * executor of their own. Since a single JVM can access hundreds of queues, it won't do to have
+     * hundreds of executors spinning up hundreds of threads for each queue. The DaemonThreadFactory
+     * creates daemon threads, which means they won't block the JVM from exiting if only they are
+     * still around.
      */
     static ExecutorService executor = Executors.newCachedThreadPool(new DaemonThreadFactory());;
 
     QueueBuffer(QueueBufferConfig paramConfig, String url, AmazonSQSAsync sqs) {
+        this(paramConfig, url, sqs, executor);
+    }
+
+    /**
+     * @param paramExecutor
+     *            the executor running the batching and pre-fetching tasks and the async handler
+     *            callbacks of this buffer
+     */
+    QueueBuffer(QueueBufferConfig paramConfig, String url, AmazonSQSAsync sqs, Executor paramExecutor) {
         realSqs = sqs;
         config = paramConfig;
-        sendBuffer = new SendQueueBuffer(sqs, executor, paramConfig, url);
-        receiveBuffer = new ReceiveQueueBuffer(sqs, executor, paramConfig, url);
+        sendBuffer = new SendQueueBuffer(sqs, paramExecutor, paramConfig, url);
+        receiveBuffer = new ReceiveQueueBuffer(sqs, paramExecutor, paramConfig, url);
+    }
+
+    /**
+     * Records that this buffer is being used.
+     */
+    void markUsed() {
+        long now = System.nanoTime();
+        if (now - lastUsedNanos > LAST_USED_RESOLUTION_NANOS) {
+            lastUsedNanos = now;
+        }
+    }
+
+    long getLastUsedNanos() {
+        return lastUsedNanos;
     }
 
     /**
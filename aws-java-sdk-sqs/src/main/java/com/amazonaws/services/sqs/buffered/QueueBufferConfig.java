@@ -109,6 +109,36 @@ public class QueueBufferConfig {
 
     public static final int LONGPOLL_WAIT_TIMEOUT_SECONDS_DEFAULT = 20;
 
+    /**
+     * Should the buffer tune the batch open time and the number of pre-fetched receive batches
+     * from the observed load? When enabled, an outbound batch is held open for no more time than it
+     * is expected to take to fill up, between minBatchOpenMs and maxBatchOpenMs, and the buffer
+     * pre-fetches just enough receive batches, between minDoneReceiveBatches and
+     * maxDoneReceiveBatches, to keep up with how fast messages are consumed without letting them
+     * sit in the buffer for more than half of their visibility timeout.
+     */
+    private boolean adaptive;
+
+    /** false */
+    public static final boolean ADAPTIVE_DEFAULT = false;
+
+    /**
+     * The minimum time (milliseconds) a send batch is held open for additional outbound requests
+     * when the buffer is adaptive.
+     */
+    private long minBatchOpenMs;
+
+    /** 0 milliseconds */
+    public static final long MIN_BATCH_OPEN_MS_DEFAULT = 0;
+
+    /**
+     * The minimum number of completed receive batches the buffer pre-fetches when it is adaptive.
+     */
+    private int minDoneReceiveBatches;
+
+    /** 1 batch */
+    public static final int MIN_DONE_RECEIVE_BATCHES_DEFAULT = 1;
+
     public QueueBufferConfig(long maxBatchOpenMs, int maxInflightOutboundBatches, int maxInflightReceiveBatches,
             int maxDoneReceiveBatches, boolean paramLongPoll, long maxBatchSizeBytes, int visibilityTimeout,
             int longPollTimeout, int maxBatch) {
@@ -122,6 +152,9 @@ public class QueueBufferConfig {
         this.visibilityTimeoutSeconds = visibilityTimeout;
         this.longPollWaitTimeoutSeconds = longPollTimeout;
         this.maxBatchSize = maxBatch;
+        this.adaptive = ADAPTIVE_DEFAULT;
+        this.minBatchOpenMs = MIN_BATCH_OPEN_MS_DEFAULT;
+        this.minDoneReceiveBatches = MIN_DONE_RECEIVE_BATCHES_DEFAULT;
     }
 
     public QueueBufferConfig() {
@@ -141,6 +174,9 @@ public class QueueBufferConfig {
         maxInflightOutboundBatches = other.maxInflightOutboundBatches;
         maxInflightReceiveBatches = other.maxInflightReceiveBatches;
         visibilityTimeoutSeconds = other.visibilityTimeoutSeconds;
+        adaptive = other.adaptive;
+        minBatchOpenMs = other.minBatchOpenMs;
+        minDoneReceiveBatches = other.minDoneReceiveBatches;
     }
 
     @Override
@@ -149,7 +185,9 @@ public class QueueBufferConfig {
                 + longPoll + ", maxInflightOutboundBatches=" + maxInflightOutboundBatches
                 + ", maxInflightReceiveBatches=" + maxInflightReceiveBatches + ", maxDoneReceiveBatches="
                 + maxDoneReceiveBatches + ", maxBatchSizeBytes=" + maxBatchSizeBytes + ", visibilityTimeoutSeconds="
-                + visibilityTimeoutSeconds + ", longPollWaitTimeoutSeconds=" + longPollWaitTimeoutSeconds + "]";
+                + visibilityTimeoutSeconds + ", longPollWaitTimeoutSeconds=" + longPollWaitTimeoutSeconds
+                + ", adaptive=" + adaptive + ", minBatchOpenMs=" + minBatchOpenMs + ", minDoneReceiveBatches="
+                + minDoneReceiveBatches + "]";
     }
 
     /**
@@ -429,6 +467,90 @@ public class QueueBufferConfig {
         return this;
     }
 
+    /**
+     * Should the buffer tune the batch open time and the number of pre-fetched receive batches
+     * from the observed load? When enabled, an outbound batch is held open for no more time than it
+     * is expected to take to fill up, between minBatchOpenMs and maxBatchOpenMs, and the buffer
+     * pre-fetches just enough receive batches, between minDoneReceiveBatches and
+     * maxDoneReceiveBatches, to keep up with how fast messages are consumed without letting them
+     * sit in the buffer for more than half of their visibility timeout. The chosen values are
+     * reported as {@link QueueBufferMetric}s.
+     */
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
+    /**
+     * Specify "true" for the buffer to tune the batch open time and the number of pre-fetched
+     * receive batches from the observed load.
+     *
+     * @see #isAdaptive()
+     */
+    public void setAdaptive(boolean adaptive) {
+        this.adaptive = adaptive;
+    }
+
+    /**
+     * Specify "true" for the buffer to tune the batch open time and the number of pre-fetched
+     * receive batches from the observed load.
+     *
+     * @see #isAdaptive()
+     */
+    public QueueBufferConfig withAdaptive(boolean adaptive) {
+        setAdaptive(adaptive);
+        return this;
+    }
+
+    /**
+     * The minimum time (milliseconds) a send batch is held open for additional outbound requests
+     * when the buffer is adaptive. Has no effect otherwise.
+     */
+    public long getMinBatchOpenMs() {
+        return minBatchOpenMs;
+    }
+
+    /**
+     * The minimum time (milliseconds) a send batch is held open for additional outbound requests
+     * when the buffer is adaptive. Has no effect otherwise.
+     */
+    public void setMinBatchOpenMs(long minBatchOpenMs) {
+        this.minBatchOpenMs = minBatchOpenMs;
+    }
+
+    /**
+     * The minimum time (milliseconds) a send batch is held open for additional outbound requests
+     * when the buffer is adaptive. Has no effect otherwise.
+     */
+    public QueueBufferConfig withMinBatchOpenMs(long minBatchOpenMs) {
+        setMinBatchOpenMs(minBatchOpenMs);
+        return this;
+    }
+
+    /**
+     * The minimum number of completed receive batches the buffer pre-fetches when it is adaptive.
+     * Has no effect otherwise.
+     */
+    public int getMinDoneReceiveBatches() {
+        return minDoneReceiveBatches;
+    }
+
+    /**
+     * The minimum number of completed receive batches the buffer pre-fetches when it is adaptive.
+     * Has no effect otherwise.
+     */
+    public void setMinDoneReceiveBatches(int minDoneReceiveBatches) {
+        this.minDoneReceiveBatches = minDoneReceiveBatches;
+    }
+
+    /**
+     * The minimum number of completed receive batches the buffer pre-fetches when it is adaptive.
+     * Has no effect otherwise.
+     */
+    public QueueBufferConfig withMinDoneReceiveBatches(int minDoneReceiveBatches) {
+        setMinDoneReceiveBatches(minDoneReceiveBatches);
+        return this;
+    }
+
     /**
      * this method checks the config for validity. If the config is deemed to be invalid, an
      * informative exception is thrown.
@@ -440,6 +562,14 @@ public class QueueBufferConfig {
         if (visibilityTimeoutSeconds == 0) {
             throw new AmazonClientException("Visibility timeout value may not be equal to zero ");
         }
+        if (adaptive) {
+            if (minBatchOpenMs < 0 || minBatchOpenMs > maxBatchOpenMs) {
+                throw new AmazonClientException("minBatchOpenMs must be between zero and maxBatchOpenMs");
+            }
+            if (minDoneReceiveBatches < 1 || minDoneReceiveBatches > Math.max(1, maxDoneReceiveBatches)) {
+                throw new AmazonClientException("minDoneReceiveBatches must be between one and maxDoneReceiveBatches");
+            }
+        }
     }
 
 }
@@ -15,22 +15,34 @@
 
 package com.amazonaws.services.sqs.buffered;
 
-import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.amazonaws.AmazonWebServiceRequest;
 
 /**
  * QueueBufferFuture class is used to deliver asynchronous results of various QueueBuffer
  * operations. QueueBufferFutures are not cancellable
+ * <p>
+ * The future does not take any locks. It is completed exactly once, by whichever of
+ * {@code setSuccess} or {@code setFailure} wins the race to complete it, and waiting threads are
+ * parked on a latch that is released after the outcome has been published.
  */
 class QueueBufferFuture<Req extends AmazonWebServiceRequest, Res> implements Future<Res> {
-    private Res result = null;
-    private Exception e = null;
-    private boolean done = false;
+    private volatile Res result = null;
+    private volatile Exception e = null;
+
+    /** set by the first (and only) thread allowed to complete this future */
+    private final AtomicBoolean completed = new AtomicBoolean(false);
+
+    /** released once the result or the exception has been published */
+    private final CountDownLatch done = new CountDownLatch(1);
 
     /**
      * callback we should call after the future is done. may be null
@@ -38,70 +50,87 @@ class QueueBufferFuture<Req extends AmazonWebServiceRequest, Res> implements Fut
 
     private final QueueBufferCallback<Req, Res> callback;
 
+    /**
+     * executor the callback is run on, so that the thread completing the future does not run user
+     * code
+     */
+    private final Executor callbackExecutor;
+
     /**
      * every future should hold a reference to the buffer that issued it. that way, even if all
      * other references to the buffer are lost, it will not be garbage collected while at least one
      * future it issued is still outstanding.
      */
-    private QueueBuffer issuingBuffer = null;
+    private volatile QueueBuffer issuingBuffer = null;
 
     public QueueBufferFuture() {
         this(null);
     }
 
     public QueueBufferFuture(QueueBufferCallback<Req, Res> cb) {
+        this(cb, QueueBuffer.executor);
+    }
+
+    public QueueBufferFuture(QueueBufferCallback<Req, Res> cb, Executor paramCallbackExecutor) {
         callback = cb;
+        callbackExecutor = paramCallbackExecutor;
     }
 
     /**
      * Report that the task this future represents has succeeded.
      */
-    public synchronized void setSuccess(Res paramResult) {
-        if (done)
+    public void setSuccess(Res paramResult) {
+        if (!completed.compareAndSet(false, true))
             return; // can't mark done twice
         result = paramResult;
-        done = true;
-        notifyAll();
+        done.countDown();
 
         // if we have a callback to call, schedule
         // it on a different thread. Who knows what this
         // thread is doing.
-        if (callback != null && issuingBuffer != null) {
-            QueueBuffer.executor.submit(new Callable<Void>() {
-                public Void call() throws Exception {
+        if (callback != null) {
+            runCallback(new Runnable() {
+                public void run() {
                     callback.onSuccess(result);
-                    return null;
                 }
             });
-
         }
     }
 
     /**
      * Report that the task this future represents has failed.
      */
-    public synchronized void setFailure(Exception paramE) {
-        if (done)
+    public void setFailure(Exception paramE) {
+        if (!completed.compareAndSet(false, true))
             return; // can't mark done twice
         e = paramE;
-        done = true;
-        notifyAll();
+        done.countDown();
 
         // if we have a callback to call, schedule
         // it on a different thread. Who knows what this
         // thread is doing.
-        if (callback != null && issuingBuffer != null) {
-            QueueBuffer.executor.submit(new Callable<Void>() {
-                public Void call() throws Exception {
+        if (callback != null) {
+            runCallback(new Runnable() {
+                public void run() {
                     callback.onError(e);
-                    return null;
                 }
             });
-
         }
 
     }
 
+    /**
+     * Hands the callback to the callback executor. If a bounded executor refuses the callback, it
+     * is run on the completing thread rather than being lost.
+     */
+    private void runCallback(Runnable toRun) {
+        try {
+            callbackExecutor.execute(toRun);
+        } catch (RejectedExecutionException ree) {
+            toRun.run();
+        }
+    }
+
     @Override
     public boolean cancel(boolean arg0) {
         // not cancellable
@@ -114,42 +143,24 @@ class QueueBufferFuture<Req extends AmazonWebServiceRequest, Res> implements Fut
 
     @Override
     public Res get() throws InterruptedException, ExecutionException {
-        while (true) {
-            try {
-                return get(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
-            } catch (TimeoutException te) {
-                // shouldn't really happen, since we're specifying a very-very
-                // long wait. but if it does, just loop
-                // and wait more.
-            }
-        }
+        done.await();
+        return getResult();
     }
 
     @Override
-    public synchronized Res get(long timeout, TimeUnit tu) throws InterruptedException, ExecutionException,
+    public Res get(long timeout, TimeUnit tu) throws InterruptedException, ExecutionException,
             TimeoutException {
-
-        long waitStartMs = TimeUnit.MILLISECONDS.convert(System.nanoTime(), TimeUnit.NANOSECONDS);
-        long timeoutMs = TimeUnit.MILLISECONDS.convert(timeout, tu);
-        long timeToWaitMs = timeoutMs;
-
-        while (!done) {
-            // if timeToWaitMs is zero, we don't call wait() at all, because wait(0) means
-            // "wait forever", which is the opposite of what we want.
-            if (timeToWaitMs <= 0) {
-                throw new TimeoutException("Timed out waiting for results after " + timeout + " " + tu);
-            }
-
-            wait(timeToWaitMs);
-
-            // compute how long to wait in the next loop
-            long nowMs = TimeUnit.MILLISECONDS.convert(System.nanoTime(), TimeUnit.NANOSECONDS);
-            timeToWaitMs = timeoutMs - (nowMs - waitStartMs);
-
+        if (!done.await(timeout, tu)) {
+            throw new TimeoutException("Timed out waiting for results after " + timeout + " " + tu);
         }
+        return getResult();
+    }
 
-        // if we got here, we are done. Throw if there's anything to throw,
-        // otherwise return the result
+    /**
+     * Returns the outcome of a completed future. Throws if there's anything to throw, otherwise
+     * returns the result.
+     */
+    private Res getResult() throws ExecutionException {
         if (e != null) {
             throw new ExecutionException(e);
         }
@@ -165,7 +176,7 @@ class QueueBufferFuture<Req extends AmazonWebServiceRequest, Res> implements Fut
     }
 
     @Override
-    public synchronized boolean isDone() {
-        return done;
+    public boolean isDone() {
+        return done.getCount() == 0;
     }
 }
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.services.sqs.buffered;
+
+import com.amazonaws.metrics.AwsSdkMetrics;
+import com.amazonaws.metrics.ServiceMetricCollector;
+import com.amazonaws.metrics.ServiceMetricType;
+
+/**
+ * Settings chosen at runtime by queue buffers configured with
+ * {@link QueueBufferConfig#isAdaptive()}. They are reported to the service metric collector of
+ * {@link AwsSdkMetrics} whenever they change; add them to the predefined metrics with
+ * {@link AwsSdkMetrics#add(com.amazonaws.metrics.MetricType)} to have the default metric
+ * collection upload them.
+ */
+public enum QueueBufferMetric implements ServiceMetricType {
+    /**
+     * Time, in milliseconds, an outbound batch is held open for additional requests.
+     */
+    AdaptiveBatchOpenMs,
+    /**
+     * Number of receive batches pre-fetched ahead of the consumers.
+     */
+    AdaptivePrefetchBatches,
+    ;
+
+    @Override
+    public String getServiceName() {
+        return "AmazonSQS";
+    }
+
+    /**
+     * Reports the value to the service metric collector, if metrics are enabled.
+     */
+    void report(double value) {
+        ServiceMetricCollector collector = AwsSdkMetrics.getServiceMetricCollector();
+        if (collector.isEnabled()) {
+            collector.collectValue(this, value);
+        }
+    }
+}
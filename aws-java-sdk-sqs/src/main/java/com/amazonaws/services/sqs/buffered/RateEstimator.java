@@ -0,0 +1,65 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.services.sqs.buffered;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Smoothed estimate of how many events (requests arriving, messages drained) happen per second.
+ * Events are counted as they are recorded; the rate is recomputed at most once per update
+ * interval, by whichever thread first asks for it after the interval elapsed, and smoothed with an
+ * exponentially weighted moving average so that a single quiet or busy interval only moves it
+ * half way.
+ * <p>
+ * Instances of this class are thread-safe.
+ */
+class RateEstimator {
+
+    private static final long UPDATE_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    /** weight of the latest interval in the moving average */
+    private static final double SMOOTHING = 0.5;
+
+    private final AtomicLong events = new AtomicLong();
+
+    private final AtomicLong lastUpdateNanos = new AtomicLong(System.nanoTime());
+
+    /** only written by the thread that won the update of {@code lastUpdateNanos} */
+    private volatile long eventsAtLastUpdate;
+
+    private volatile double ratePerSecond;
+
+    void record(long count) {
+        events.addAndGet(count);
+    }
+
+    /**
+     * @return the smoothed number of events per second
+     */
+    double getRatePerSecond() {
+        long now = System.nanoTime();
+        long last = lastUpdateNanos.get();
+        long elapsed = now - last;
+        if (elapsed >= UPDATE_INTERVAL_NANOS && lastUpdateNanos.compareAndSet(last, now)) {
+            long count = events.get();
+            double intervalRate = (count - eventsAtLastUpdate) * (double) TimeUnit.SECONDS.toNanos(1) / elapsed;
+            eventsAtLastUpdate = count;
+            ratePerSecond += SMOOTHING * (intervalRate - ratePerSecond);
+        }
+        return ratePerSecond;
+    }
+}
@@ -19,8 +19,14 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -40,11 +46,14 @@ import com.amazonaws.services.sqs.model.ReceiveMessageResult;
  * which it uses to satisfy incoming requests. The number of requests pre-fetched and kept in the
  * buffer, as well as the maximum number of threads used to retrieve the messages are configurable.
  * <p>
- * Synchronization strategy: - Threads must hold the TaskSpawnSyncPoint object monitor to spawn a
- * new task or modify the number of inflight tasks - Threads must hold the monitor of the "futures"
- * list to modify the list - Threads must hold the monitor of the "finishedTasks" list to modify the
- * list - If you need to lock both futures and finishedTasks, lock futures first and finishedTasks
- * second
+ * Synchronization strategy: - The issued futures and the finished tasks are kept in lock-free
+ * queues, and the number of inflight and finished tasks in atomic counters - A thread that adds a
+ * future or a finished task always tries to pair futures with finished tasks afterwards, so either
+ * that thread or a concurrent one will see both - Futures are filled in the order they were
+ * issued: only the thread that claims the future at the head of the queue fills it, and removes it
+ * once filled - New tasks are only spawned after winning a
+ * compare-and-set on the inflight task counter - The only lock is taken once, to fetch the queue
+ * visibility timeout
  */
 public class ReceiveQueueBuffer {
 
@@ -72,34 +81,62 @@ public class ReceiveQueueBuffer {
 
     private final AmazonSQS sqsClient;
 
-    private long bufferCounter = 0;
+    private final AtomicLong bufferCounter = new AtomicLong();
 
     /**
      * This buffer's queue visibility timeout. Used to detect expired message that should not be
-     * returned by the {@code receiveMessage} call. Synchronized by {@code receiveMessageLock}. -1
-     * indicates that the time is uninitialized.
+     * returned by the {@code receiveMessage} call. Initialized while holding
+     * {@code visibilityTimeoutLock}. -1 indicates that the time is uninitialized.
      */
     private volatile long visibilityTimeoutNanos = -1;
 
     /**
-     * Used as permits controlling the number of in flight receive batches. Synchronized by
-     * {@code taskSpawnSyncPoint}.
+     * synchronize on this object to fetch the visibility timeout of the queue
      */
-    private volatile int inflightReceiveMessageBatches;
+    private final Object visibilityTimeoutLock = new Object();
 
     /**
-     * synchronize on this object to create new receive batches or modify inflight message count
+     * Used as permits controlling the number of in flight receive batches.
      */
-    private final Object taskSpawnSyncPoint = new Object();
+    private final AtomicInteger inflightReceiveMessageBatches = new AtomicInteger();
 
     /** shutdown buffer does not retrieve any more messages from sqs */
     volatile boolean shutDown = false;
 
     /** message delivery futures we gave out */
-    private final LinkedList<ReceiveMessageFuture> futures = new LinkedList<ReceiveMessageFuture>();
+    private final Queue<ReceiveMessageFuture> futures = new ConcurrentLinkedQueue<ReceiveMessageFuture>();
 
-    /** finished batches are stored in this list. */
-    private LinkedList<ReceiveMessageBatchTask> finishedTasks = new LinkedList<ReceiveMessageBatchTask>();
+    /** finished batches are stored in this queue. */
+    private final Queue<ReceiveMessageBatchTask> finishedTasks = new ConcurrentLinkedQueue<ReceiveMessageBatchTask>();
+
+    /**
+     * Number of batches in {@code finishedTasks}, since the size of a concurrent queue is expensive
+     * to compute.
+     */
+    private final AtomicInteger finishedTaskCount = new AtomicInteger();
+
+    /** weight of the latest receive in the moving averages below */
+    private static final double RECEIVE_SMOOTHING = 0.2;
+
+    /**
+     * How fast consumers take messages out of the buffer. Only tracked when the buffer is adaptive.
+     */
+    private final RateEstimator drainedMessages = new RateEstimator();
+
+    /**
+     * Moving average of how long a receive batch takes to complete. Updated by the batches
+     * without synchronization; an update lost to a race only delays the average a little.
+     */
+    private volatile double averageReceiveNanos;
+
+    /**
+     * Moving average of the number of messages in a receive batch. Updated like
+     * {@code averageReceiveNanos}.
+     */
+    private volatile double averageMessagesPerBatch;
+
+    /** the last pre-fetch depth chosen, to only report changes */
+    private final AtomicInteger lastPrefetchBatches = new AtomicInteger(-1);
 
     ReceiveQueueBuffer(AmazonSQS paramSQS, Executor paramExecutor, QueueBufferConfig paramConfig, String url) {
         config = paramConfig;
@@ -116,7 +153,7 @@ public class ReceiveQueueBuffer {
     public void shutdown() {
         shutDown = true;
         try {
-            while (inflightReceiveMessageBatches > 0)
+            while (inflightReceiveMessageBatches.get() > 0)
                 Thread.sleep(100);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -153,18 +190,15 @@ public class ReceiveQueueBuffer {
     }
 
     /**
-     * Creates and returns a new future object. Sleeps if the list of already-issued but as yet
-     * unsatisfied futures is over a throttle limit.
+     * Creates and returns a new future object.
      * 
      * @return never null
      */
     private ReceiveMessageFuture issueFuture(int size,
                                              QueueBufferCallback<ReceiveMessageRequest, ReceiveMessageResult> callback) {
-        synchronized (futures) {
-            ReceiveMessageFuture theFuture = new ReceiveMessageFuture(callback, size);
-            futures.addLast(theFuture);
-            return theFuture;
-        }
+        ReceiveMessageFuture theFuture = new ReceiveMessageFuture(callback, size);
+        futures.add(theFuture);
+        return theFuture;
     }
 
     /**
@@ -172,71 +206,87 @@ public class ReceiveQueueBuffer {
      * buffer is empty or there are no futures, this method won't do anything.
      */
     private void satisfyFuturesFromBuffer() {
-        synchronized (futures) {
-            synchronized (finishedTasks) {
-                // attempt to satisfy futures until we run out of either futures or
-                // finished tasks
-                while ((!futures.isEmpty()) && (!finishedTasks.isEmpty())) {
-                    // Remove any expired tasks before attempting to fufill the future
-                    pruneExpiredTasks();
-                    // Fufill the future from a non expired task if there is one. There is still a
-                    // slight chance that the first task could have expired between the time we
-                    // pruned and the time we fufill the future
-                    if (!finishedTasks.isEmpty()) {
-                        fufillFuture(futures.poll());
-                    }
-                }
+        // attempt to satisfy futures until we run out of either futures or
+        // finished tasks
+        while (true) {
+            // Remove any expired tasks before attempting to fufill the future
+            pruneExpiredTasks();
+            if (finishedTasks.peek() == null) {
+                return;
+            }
+            ReceiveMessageFuture future = futures.peek();
+            if (future == null) {
+                return;
+            }
+            // Only fill the oldest future, so that futures are filled in order. If another
+            // thread claimed it, that thread looks for finished tasks again once it's done with
+            // it, and fills the next futures.
+            if (!future.claim()) {
+                return;
+            }
+            // Fufill the future from a non expired task if there is one. There is still a
+            // slight chance that the first task could have expired, or been taken by another
+            // thread, since we looked. If there is no task left, leave the future at the head
+            // of the queue and look again, as a task may have been added while it was claimed.
+            if (fufillFuture(future)) {
+                futures.remove(future);
+            } else {
+                future.unclaim();
             }
         }
     }
 
     /**
      * Fills the future with whatever results were received by the full batch currently at the head
-     * of the completed batch queue. Those results may be retrieved messages, or an exception. This
-     * method assumes that you are holding the finished tasks lock locks when invoking it. violate
-     * this assumption at your own peril
+     * of the completed batch queue. Those results may be retrieved messages, or an exception. A
+     * batch that was drained by other threads, or whose messages expired, since it was looked at
+     * is skipped in favor of the next one.
+     * 
+     * @return false if there was no completed batch left and the future has not been filled
      */
-    private void fufillFuture(ReceiveMessageFuture future) {
-        ReceiveMessageBatchTask task = finishedTasks.getFirst();
-        ReceiveMessageResult result = new ReceiveMessageResult();
-        LinkedList<Message> messages = new LinkedList<Message>();
-        result.setMessages(messages);
-        Exception exception = task.getException();
-        int numRetrieved = 0;
-        boolean batchDone = false;
-        while (numRetrieved < future.getRequestedSize()) {
-            Message msg = task.removeMessage();
-            // a non-empty batch can still give back a null
-            // message if the message expired.
-            if (msg != null) {
-                messages.add(msg);
-                ++numRetrieved;
-            } else {
-                batchDone = true;
-                break;
+    private boolean fufillFuture(ReceiveMessageFuture future) {
+        ReceiveMessageBatchTask task;
+        while ((task = finishedTasks.peek()) != null) {
+            Exception exception = task.getException();
+            List<Message> messages = task.removeMessages(future.getRequestedSize());
+
+            // we may have just drained the batch.
+            if (task.isEmpty() || (exception != null)) {
+                removeFinishedTask(task);
+            }
+
+            // if after the above runs the exception is not null,
+            // the finished batch has encountered an error, and we will
+            // report that in the Future. Otherwise, we will fill
+            // the future with the receive result
+            if (exception != null) {
+                future.setFailure(exception);
+                return true;
+            }
+            if (!messages.isEmpty() || task.isReceivedEmpty()) {
+                if (config.isAdaptive()) {
+                    drainedMessages.record(messages.size());
+                }
+                ReceiveMessageResult result = new ReceiveMessageResult();
+                result.setMessages(messages);
+                future.setSuccess(result);
+                return true;
             }
         }
-        // we may have just drained the batch.
-        batchDone = batchDone || task.isEmpty() || (exception != null);
-        if (batchDone) {
-            finishedTasks.removeFirst();
-        }
-        result.setMessages(messages);
+        return false;
+    }
 
-        // if after the above runs the exception is not null,
-        // the finished batch has encountered an error, and we will
-        // report that in the Future. Otherwise, we will fill
-        // the future with the receive result
-        if (exception != null) {
-            future.setFailure(exception);
-        } else {
-            future.setSuccess(result);
+    /**
+     * Removes the task from the finished tasks, unless another thread already did.
+     */
+    private void removeFinishedTask(ReceiveMessageBatchTask task) {
+        if (finishedTasks.remove(task)) {
+            finishedTaskCount.decrementAndGet();
         }
     }
 
     /**
-     * Prune any expired tasks that do not have an exception associated with them. This method
-     * assumes that you are holding the finishedTasks lock when invoking it
+     * Prune any expired tasks that do not have an exception associated with them.
      */
     private void pruneExpiredTasks() {
         int numberExpiredTasksPruned = pruneHeadTasks(new Predicate<ReceiveQueueBuffer.ReceiveMessageBatchTask>() {
@@ -258,9 +308,8 @@ public class ReceiveQueueBuffer {
     }
 
     /**
-     * Prune all tasks at the beginning of the finishedTasks list that meet the given condition.
-     * Once a task is found that does not meet the given condition the pruning stops. This method
-     * assumes that you are holding the finishedTasks lock when invoking it.
+     * Prune all tasks at the beginning of the finishedTasks queue that meet the given condition.
+     * Once a task is found that does not meet the given condition the pruning stops.
      * 
      * @param pruneCondition
      *            Condition on whether a task is eligible to be pruned
@@ -268,9 +317,10 @@ public class ReceiveQueueBuffer {
      */
     private int pruneHeadTasks(Predicate<ReceiveMessageBatchTask> pruneCondition) {
         int numberPruned = 0;
-        while (!finishedTasks.isEmpty()) {
-            if (pruneCondition.test(finishedTasks.getFirst())) {
-                finishedTasks.removeFirst();
+        ReceiveMessageBatchTask task;
+        while ((task = finishedTasks.peek()) != null) {
+            if (pruneCondition.test(task)) {
+                removeFinishedTask(task);
                 numberPruned++;
             } else {
                 break;
@@ -288,63 +338,145 @@ public class ReceiveQueueBuffer {
             return;
         }
 
-        int desiredBatches = config.getMaxDoneReceiveBatches();
-        desiredBatches = desiredBatches < 1 ? 1 : desiredBatches;
+        int desiredBatches = getPrefetchBatches();
 
-        synchronized (finishedTasks) {
-            if (finishedTasks.size() >= desiredBatches)
-                return;
+        int finished = finishedTaskCount.get();
+        if (finished >= desiredBatches)
+            return;
 
-            // if we have some finished batches already, and
-            // existing inflight batches will bring us to the limit,
-            // don't spawn more. if our finished tasks cache is empty, we will
-            // always spawn a thread.
-            if (finishedTasks.size() > 0 && (finishedTasks.size() + inflightReceiveMessageBatches) >= desiredBatches) {
-                return;
+        // if we have some finished batches already, and
+        // existing inflight batches will bring us to the limit,
+        // don't spawn more. if our finished tasks cache is empty, we will
+        // always spawn a thread.
+        if (finished > 0 && (finished + inflightReceiveMessageBatches.get()) >= desiredBatches) {
+            return;
+        }
+
+        if (visibilityTimeoutNanos == -1) {
+            synchronized (visibilityTimeoutLock) {
+                if (visibilityTimeoutNanos == -1) {
+                    GetQueueAttributesRequest request = new GetQueueAttributesRequest().withQueueUrl(qUrl)
+                            .withAttributeNames("VisibilityTimeout");
+                    ResultConverter.appendUserAgent(request, AmazonSQSBufferedAsyncClient.USER_AGENT);
+                    long visibilityTimeoutSeconds = Long.parseLong(sqsClient.getQueueAttributes(request)
+                            .getAttributes().get("VisibilityTimeout"));
+                    visibilityTimeoutNanos = TimeUnit.NANOSECONDS.convert(visibilityTimeoutSeconds, TimeUnit.SECONDS);
+                }
             }
         }
 
-        synchronized (taskSpawnSyncPoint) {
-            if (visibilityTimeoutNanos == -1) {
-                GetQueueAttributesRequest request = new GetQueueAttributesRequest().withQueueUrl(qUrl)
-                        .withAttributeNames("VisibilityTimeout");
-                ResultConverter.appendUserAgent(request, AmazonSQSBufferedAsyncClient.USER_AGENT);
-                long visibilityTimeoutSeconds = Long.parseLong(sqsClient.getQueueAttributes(request).getAttributes()
-                        .get("VisibilityTimeout"));
-                visibilityTimeoutNanos = TimeUnit.NANOSECONDS.convert(visibilityTimeoutSeconds, TimeUnit.SECONDS);
+        int max = config.getMaxInflightReceiveBatches();
+        // must allow at least one inflight receive task, or receive won't
+        // work at all.
+        max = max > 0 ? max : 1;
+        if (config.isAdaptive()) {
+            // don't fetch more than we want to keep
+            max = Math.min(max, desiredBatches);
+        }
+        int inflight;
+        do {
+            inflight = inflightReceiveMessageBatches.get();
+            if (inflight >= max) {
+                return;
             }
+        } while (!inflightReceiveMessageBatches.compareAndSet(inflight, inflight + 1));
 
-            int max = config.getMaxInflightReceiveBatches();
-            // must allow at least one inflight receive task, or receive won't
-            // work at all.
-            max = max > 0 ? max : 1;
-            int toSpawn = max - inflightReceiveMessageBatches;
-            if (toSpawn > 0) {
-                ReceiveMessageBatchTask task = new ReceiveMessageBatchTask(this);
-                ++inflightReceiveMessageBatches;
-                ++bufferCounter;
-                if (log.isTraceEnabled()) {
-                    log.trace("Spawned receive batch #" + bufferCounter + " (" + inflightReceiveMessageBatches + " of "
-                            + max + " inflight) for queue " + qUrl);
+        ReceiveMessageBatchTask task = new ReceiveMessageBatchTask(this);
+        long batchNumber = bufferCounter.incrementAndGet();
+        if (log.isTraceEnabled()) {
+            log.trace("Spawned receive batch #" + batchNumber + " (" + (inflight + 1) + " of " + max
+                    + " inflight) for queue " + qUrl);
+        }
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException ree) {
+            if (finishedTaskCount.get() == 0 && inflightReceiveMessageBatches.get() == 1 && futures.peek() != null) {
+                // nothing else is going to satisfy the waiting futures, so report the rejection to
+                // them as a failed batch, without spawning a replacement for it
+                task.reject(new AmazonClientException("Unable to receive messages from queue " + qUrl
+                        + ": the executor rejected the receive task", ree));
+                addFinishedTask(task);
+                satisfyFuturesFromBuffer();
+            } else {
+                // just a pre-fetch, try again with the next receive
+                inflightReceiveMessageBatches.decrementAndGet();
+                if (log.isDebugEnabled()) {
+                    log.debug("Executor rejected a receive batch for queue " + qUrl);
                 }
-                executor.execute(task);
             }
         }
     }
 
     /**
-     * This method is called by the batches after they have finished retrieving the messages.
+     * Returns the number of completed receive batches to pre-fetch. This is
+     * {@code maxDoneReceiveBatches}, unless the buffer is adaptive. An adaptive buffer pre-fetches
+     * enough batches for the consumers to not run dry while the next batch is received, at the
+     * rate they have been taking messages, but no more than they can consume within half of the
+     * visibility timeout of the messages. The result is kept within {@code minDoneReceiveBatches}
+     * and {@code maxDoneReceiveBatches}.
      */
-    void reportBatchFinished(ReceiveMessageBatchTask batch) {
-        synchronized (finishedTasks) {
-            finishedTasks.addLast(batch);
+    private int getPrefetchBatches() {
+        int maxBatches = Math.max(1, config.getMaxDoneReceiveBatches());
+        if (!config.isAdaptive()) {
+            return maxBatches;
+        }
+        int minBatches = Math.min(maxBatches, Math.max(1, config.getMinDoneReceiveBatches()));
+
+        double messagesPerSecond = drainedMessages.getRatePerSecond();
+        double messagesPerBatch = Math.max(1, averageMessagesPerBatch);
+        double batchesPerSecond = messagesPerSecond / messagesPerBatch;
+
+        // enough batches to cover the time it takes to receive one, plus the one being consumed
+        double receiveSeconds = averageReceiveNanos / TimeUnit.SECONDS.toNanos(1);
+        double batches = Math.ceil(batchesPerSecond * receiveSeconds) + 1;
+
+        long visibilityNanos = config.getVisibilityTimeoutSeconds() > 0
+                ? TimeUnit.SECONDS.toNanos(config.getVisibilityTimeoutSeconds())
+                : visibilityTimeoutNanos;
+        if (visibilityNanos > 0) {
+            double halfVisibilitySeconds = visibilityNanos / 2.0 / TimeUnit.SECONDS.toNanos(1);
+            batches = Math.min(batches, Math.floor(batchesPerSecond * halfVisibilitySeconds));
+        }
+
+        int prefetchBatches = (int) Math.max(minBatches, Math.min(maxBatches, batches));
+        if (lastPrefetchBatches.getAndSet(prefetchBatches) != prefetchBatches) {
+            QueueBufferMetric.AdaptivePrefetchBatches.report(prefetchBatches);
             if (log.isTraceEnabled()) {
-                log.info("Queue " + qUrl + " now has " + finishedTasks.size() + " receive results cached ");
+                log.trace("Queue " + qUrl + " pre-fetches " + prefetchBatches + " batches at "
+                        + messagesPerSecond + " messages per second");
             }
         }
-        synchronized (taskSpawnSyncPoint) {
-            --inflightReceiveMessageBatches;
+        return prefetchBatches;
+    }
+
+    /**
+     * Called by the batches after a successful receive, to track how long receives take and how
+     * many messages they return.
+     */
+    void reportReceive(long durationNanos, int messageCount) {
+        if (config.isAdaptive()) {
+            averageReceiveNanos += RECEIVE_SMOOTHING * (durationNanos - averageReceiveNanos);
+            averageMessagesPerBatch += RECEIVE_SMOOTHING * (messageCount - averageMessagesPerBatch);
+        }
+    }
+
+    /**
+     * Adds a finished batch to the buffer and gives back its inflight permit.
+     */
+    private void addFinishedTask(ReceiveMessageBatchTask batch) {
+        finishedTasks.add(batch);
+        int finished = finishedTaskCount.incrementAndGet();
+        if (log.isTraceEnabled()) {
+            log.trace("Queue " + qUrl + " now has " + finished + " receive results cached ");
         }
+        inflightReceiveMessageBatches.decrementAndGet();
+    }
+
+    /**
+     * This method is called by the batches after they have finished retrieving the messages.
+     */
+    void reportBatchFinished(ReceiveMessageBatchTask batch) {
+        addFinishedTask(batch);
         satisfyFuturesFromBuffer();
         spawnMoreReceiveTasks();
     }
@@ -353,19 +485,11 @@ public class ReceiveQueueBuffer {
      * Clears and nacks any pre-fetched messages in this buffer.
      */
     public void clear() {
-        boolean done = false;
-        while (!done) {
-            ReceiveMessageBatchTask currentBatch = null;
-            synchronized (finishedTasks) {
-                currentBatch = finishedTasks.poll();
-            }
-
-            if (currentBatch != null) {
-                currentBatch.clear();
-            } else {
-                // ran out of batches to clear
-                done = true;
-            }
+        ReceiveMessageBatchTask currentBatch;
+        // stop when we run out of batches to clear
+        while ((currentBatch = finishedTasks.poll()) != null) {
+            finishedTaskCount.decrementAndGet();
+            currentBatch.clear();
         }
     }
 
@@ -373,8 +497,11 @@ public class ReceiveQueueBuffer {
         /* how many messages did the request ask for */
         private int requestedSize;
 
+        /* whether a thread is filling the future */
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
         ReceiveMessageFuture(QueueBufferCallback<ReceiveMessageRequest, ReceiveMessageResult> cb, int paramSize) {
-            super(cb);
+            super(cb, executor);
             requestedSize = paramSize;
         }
 
@@ -382,6 +509,18 @@ public class ReceiveQueueBuffer {
             return requestedSize;
         }
 
+        /**
+         * @return true if the calling thread may fill the future, false if another thread is
+         *         filling it
+         */
+        boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+
+        void unclaim() {
+            claimed.set(false);
+        }
+
     }
 
     /**
@@ -395,6 +534,7 @@ public class ReceiveQueueBuffer {
         private List<Message> messages;
         private long visibilityDeadlineNano;
         private boolean open = false;
+        private boolean receivedEmpty = false;
         private ReceiveQueueBuffer parentBuffer;
 
         /**
@@ -428,27 +568,44 @@ public class ReceiveQueueBuffer {
         }
 
         /**
-         * Returns a message if one is available.
+         * Removes up to {@code maxMessages} messages from the batch.
          * <p>
          * The call adjusts the message count.
          * 
-         * @return a message or {@code null} if none is available
+         * @return the removed messages, empty if none are available
          */
-        synchronized Message removeMessage() {
+        synchronized List<Message> removeMessages(int maxMessages) {
             if (!open) {
                 throw new IllegalStateException("batch is not open");
             }
 
+            LinkedList<Message> removed = new LinkedList<Message>();
+
             // our messages expired.
             if (isExpired()) {
                 messages.clear();
-                return null;
+                return removed;
+            }
+
+            while (removed.size() < maxMessages && !messages.isEmpty()) {
+                removed.add(messages.remove(messages.size() - 1));
             }
+            return removed;
+        }
 
-            if (messages.isEmpty())
-                return null;
-            else
-                return messages.remove(messages.size() - 1);
+        /**
+         * @return true if SQS returned no messages for this batch
+         */
+        synchronized boolean isReceivedEmpty() {
+            return receivedEmpty;
+        }
+
+        /**
+         * Opens the batch with the given exception instead of running it.
+         */
+        synchronized void reject(Exception paramException) {
+            exception = paramException;
+            open = true;
         }
 
         boolean isExpired() {
@@ -512,7 +669,10 @@ public class ReceiveQueueBuffer {
                     request.withWaitTimeSeconds(config.getLongPollWaitTimeoutSeconds());
                 }
 
+                long receiveStartNanos = System.nanoTime();
                 messages = sqsClient.receiveMessage(request).getMessages();
+                receivedEmpty = messages.isEmpty();
+                parentBuffer.reportReceive(System.nanoTime() - receiveStartNanos, messages.size());
             } catch (AmazonClientException e) {
                 exception = e;
             } finally {
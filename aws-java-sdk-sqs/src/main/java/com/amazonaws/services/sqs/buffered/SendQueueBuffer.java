@@ -17,8 +17,11 @@ package com.amazonaws.services.sqs.buffered;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -55,7 +58,12 @@ import com.amazonaws.services.sqs.model.SendMessageResult;
  * the current batch. <br>
  * Internally, the batch objects maintain a list of futures corresponding to the requests added to
  * them. When a batch completes, it loads the results into the futures and marks the futures as
- * complete.
+ * complete. <br>
+ * The open batch of each type is published through an atomic reference and replaced with a
+ * compare-and-set once it fills up, so there is no lock on the buffer itself. Appending a request
+ * to a batch still synchronizes on that batch, for only as long as the append takes, and the batch
+ * task waits on the same monitor to be closed. Callers otherwise only wait when all the permitted
+ * batches of a type are already in flight.
  */
 public class SendQueueBuffer {
     private static Log log = LogFactory.getLog(SendQueueBuffer.class);
@@ -82,52 +90,49 @@ public class SendQueueBuffer {
     private final Executor executor;
 
     /**
-     * Object used to serialize sendMessage calls.
+     * Current batching task for sendMessage. Only replaced through compare-and-set.
      */
-    private final Object sendMessageLock = new Object();
+    private final AtomicReference<SendMessageBatchTask> openSendMessageBatchTask = new AtomicReference<SendMessageBatchTask>();
 
     /**
-     * Object used to serialize deleteMessage calls.
+     * Current batching task for deleteMessage. Only replaced through compare-and-set.
      */
-    private final Object deleteMessageLock = new Object();
+    private final AtomicReference<DeleteMessageBatchTask> openDeleteMessageBatchTask = new AtomicReference<DeleteMessageBatchTask>();
 
     /**
-     * Object used to serialize changeMessageVisibility calls.
+     * Current batching task for changeMessageVisibility. Only replaced through compare-and-set.
      */
-    private final Object changeMessageVisibilityLock = new Object();
+    private final AtomicReference<ChangeMessageVisibilityBatchTask> openChangeMessageVisibilityBatchTask = new AtomicReference<ChangeMessageVisibilityBatchTask>();
 
     /**
-     * Current batching task for sendMessage. Using a size 1 array to allow "passing by reference".
-     * Synchronized by {@code sendMessageLock}.
+     * Permits controlling the number of in flight SendMessage batches.
      */
-    private final SendMessageBatchTask[] openSendMessageBatchTask = new SendMessageBatchTask[1];
+    private final Semaphore inflightSendMessageBatches;
 
     /**
-     * Current batching task for deleteMessage. Using a size 1 array to allow
-     * "passing by reference". Synchronized by {@code deleteMessageLock}.
+     * Permits controlling the number of in flight DeleteMessage batches.
      */
-    private final DeleteMessageBatchTask[] openDeleteMessageBatchTask = new DeleteMessageBatchTask[1];
+    private final Semaphore inflightDeleteMessageBatches;
 
     /**
-     * Current batching task for changeMessageVisibility. Using a size 1 array to allow
-     * "passing by reference". Synchronized by {@code changeMessageVisibilityLock}.
+     * Permits controlling the number of in flight ChangeMessageVisibility batches.
      */
-    private final ChangeMessageVisibilityBatchTask[] openChangeMessageVisibilityBatchTask = new ChangeMessageVisibilityBatchTask[1];
+    private final Semaphore inflightChangeMessageVisibilityBatches;
 
     /**
-     * Permits controlling the number of in flight SendMessage batches.
+     * How long new sendMessage batches are held open.
      */
-    private final Semaphore inflightSendMessageBatches;
+    private final BatchOpenWindow sendMessageBatchOpenWindow = new BatchOpenWindow();
 
     /**
-     * Permits controlling the number of in flight DeleteMessage batches.
+     * How long new deleteMessage batches are held open.
      */
-    private final Semaphore inflightDeleteMessageBatches;
+    private final BatchOpenWindow deleteMessageBatchOpenWindow = new BatchOpenWindow();
 
     /**
-     * Permits controlling the number of in flight ChangeMessageVisibility batches.
+     * How long new changeMessageVisibility batches are held open.
      */
-    private final Semaphore inflightChangeMessageVisibilityBatches;
+    private final BatchOpenWindow changeMessageVisibilityBatchOpenWindow = new BatchOpenWindow();
 
     SendQueueBuffer(AmazonSQS sqsClient, Executor executor, QueueBufferConfig paramConfig, String url) {
         this.sqsClient = sqsClient;
@@ -152,8 +157,8 @@ public class SendQueueBuffer {
      */
     public QueueBufferFuture<SendMessageRequest, SendMessageResult> sendMessage(SendMessageRequest request,
                                                                                 QueueBufferCallback<SendMessageRequest, SendMessageResult> callback) {
-        QueueBufferFuture<SendMessageRequest, SendMessageResult> result = submitOutboundRequest(sendMessageLock,
-                openSendMessageBatchTask, request, inflightSendMessageBatches, callback);
+        QueueBufferFuture<SendMessageRequest, SendMessageResult> result = submitOutboundRequest(openSendMessageBatchTask,
+                sendMessageBatchOpenWindow, request, inflightSendMessageBatches, callback);
         return result;
     }
 
@@ -162,7 +167,7 @@ public class SendQueueBuffer {
      */
     public QueueBufferFuture<DeleteMessageRequest, DeleteMessageResult> deleteMessage(DeleteMessageRequest request,
                                                                        QueueBufferCallback<DeleteMessageRequest, DeleteMessageResult> callback) {
-        return submitOutboundRequest(deleteMessageLock, openDeleteMessageBatchTask, request,
+        return submitOutboundRequest(openDeleteMessageBatchTask, deleteMessageBatchOpenWindow, request,
                 inflightDeleteMessageBatches, callback);
     }
 
@@ -171,7 +176,7 @@ public class SendQueueBuffer {
      */
     public QueueBufferFuture<ChangeMessageVisibilityRequest, ChangeMessageVisibilityResult> changeMessageVisibility(ChangeMessageVisibilityRequest request,
                                                                                            QueueBufferCallback<ChangeMessageVisibilityRequest, ChangeMessageVisibilityResult> callback) {
-        return submitOutboundRequest(changeMessageVisibilityLock, openChangeMessageVisibilityBatchTask, request,
+        return submitOutboundRequest(openChangeMessageVisibilityBatchTask, changeMessageVisibilityBatchOpenWindow, request,
                 inflightChangeMessageVisibilityBatches, callback);
     }
 
@@ -202,18 +207,12 @@ public class SendQueueBuffer {
     public void flush() {
 
         try {
-            synchronized (sendMessageLock) {
-                inflightSendMessageBatches.acquire(config.getMaxInflightOutboundBatches());
-                inflightSendMessageBatches.release(config.getMaxInflightOutboundBatches());
-            }
-            synchronized (deleteMessageLock) {
-                inflightDeleteMessageBatches.acquire(config.getMaxInflightOutboundBatches());
-                inflightDeleteMessageBatches.release(config.getMaxInflightOutboundBatches());
-            }
-            synchronized (changeMessageVisibilityLock) {
-                inflightChangeMessageVisibilityBatches.acquire(config.getMaxInflightOutboundBatches());
-                inflightChangeMessageVisibilityBatches.release(config.getMaxInflightOutboundBatches());
-            }
+            inflightSendMessageBatches.acquire(config.getMaxInflightOutboundBatches());
+            inflightSendMessageBatches.release(config.getMaxInflightOutboundBatches());
+            inflightDeleteMessageBatches.acquire(config.getMaxInflightOutboundBatches());
+            inflightDeleteMessageBatches.release(config.getMaxInflightOutboundBatches());
+            inflightChangeMessageVisibilityBatches.acquire(config.getMaxInflightOutboundBatches());
+            inflightChangeMessageVisibilityBatches.release(config.getMaxInflightOutboundBatches());
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
@@ -223,11 +222,11 @@ public class SendQueueBuffer {
      * Submits an outbound request for delivery to the queue associated with this buffer.
      * <p>
      *
-     * @param operationLock
-     *            the lock synchronizing calls for the call type ( {@code sendMessage},
-     *            {@code deleteMessage}, {@code changeMessageVisibility} )
      * @param openOutboundBatchTask
-     *            the open batch task for this call type
+     *            the open batch task for this call type ( {@code sendMessage},
+     *            {@code deleteMessage}, {@code changeMessageVisibility} )
+     * @param batchOpenWindow
+     *            how long new batches for this call type are held open
      * @param request
      *            the request to submit
      * @param inflightOperationBatches
@@ -237,59 +236,127 @@ public class SendQueueBuffer {
      *             (see the various outbound calls for details)
      */
     @SuppressWarnings("unchecked")
-    <OBT extends OutboundBatchTask<R, Result>, R extends AmazonWebServiceRequest, Result> QueueBufferFuture<R, Result> submitOutboundRequest(Object operationLock,
-                                                                                                                                             OBT[] openOutboundBatchTask,
+    <OBT extends OutboundBatchTask<R, Result>, R extends AmazonWebServiceRequest, Result> QueueBufferFuture<R, Result> submitOutboundRequest(AtomicReference<OBT> openOutboundBatchTask,
+                                                                                                                                             BatchOpenWindow batchOpenWindow,
                                                                                                                                              R request,
                                                                                                                                              final Semaphore inflightOperationBatches,
                                                                                                                                              QueueBufferCallback<R, Result> callback) {
         /*
          * Callers add requests to a single batch task (openOutboundBatchTask) until it is full or
          * maxBatchOpenMs elapses. The total number of batch task in flight is controlled by the
-         * inflightOperationBatch semaphore capped at maxInflightOutboundBatches.
+         * inflightOperationBatch semaphore capped at maxInflightOutboundBatches. When several
+         * callers find the open batch full at the same time, only the one that manages to swap in
+         * a new batch keeps its permit; the others give their permit back and join the new batch.
          */
-        QueueBufferFuture<R, Result> theFuture = null;
-        try {
-            synchronized (operationLock) {
-                if (openOutboundBatchTask[0] == null
-                        || ((theFuture = openOutboundBatchTask[0].addRequest(request, callback))) == null) {
-
-                    OBT obt = (OBT) newOutboundBatchTask(request);
-                    inflightOperationBatches.acquire();
-                    openOutboundBatchTask[0] = obt;
-
-                    // Register a listener for the event signaling that the
-                    // batch task has completed (successfully or not).
-                    openOutboundBatchTask[0].setOnCompleted(new Listener<OutboundBatchTask<R, Result>>() {
-                        @Override
-                        public void invoke(OutboundBatchTask<R, Result> task) {
-                            inflightOperationBatches.release();
-                        }
-                    });
-
-                    if (log.isTraceEnabled()) {
-                        log.trace("Queue " + qUrl + " created new batch for " + request.getClass().toString() + " "
-                                + inflightOperationBatches.availablePermits() + " free slots remain");
-                    }
+        batchOpenWindow.recordRequest();
+        while (true) {
+            OBT openTask = openOutboundBatchTask.get();
+            if (openTask != null) {
+                QueueBufferFuture<R, Result> theFuture = openTask.addRequest(request, callback);
+                if (theFuture != null) {
+                    return theFuture;
+                }
+            }
 
-                    theFuture = openOutboundBatchTask[0].addRequest(request, callback);
-                    executor.execute(openOutboundBatchTask[0]);
-                    if (null == theFuture) {
-                        // this can happen only if the request itself is flawed,
-                        // so that it can't be added to any batch, even a brand
-                        // new one
-                        throw new AmazonClientException("Failed to schedule request " + request + " for execution");
-                    }
+            OBT obt = (OBT) newOutboundBatchTask(request);
+            if (!obt.isOkToAdd(request)) {
+                // the request itself is flawed, so that it can't be added to
+                // any batch, even a brand new one
+                throw new AmazonClientException("Failed to schedule request " + request + " for execution");
+            }
+
+            try {
+                inflightOperationBatches.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                AmazonClientException toThrow = new AmazonClientException("Interrupted while waiting for lock.");
+                toThrow.initCause(e);
+                throw toThrow;
+            }
+
+            if (!openOutboundBatchTask.compareAndSet(openTask, obt)) {
+                // somebody else opened a new batch in the meantime, try to join it
+                inflightOperationBatches.release();
+                continue;
+            }
+
+            obt.setBatchOpenMs(batchOpenWindow.getBatchOpenMs());
+
+            // Register a listener for the event signaling that the
+            // batch task has completed (successfully or not).
+            obt.setOnCompleted(new Listener<OutboundBatchTask<R, Result>>() {
+                @Override
+                public void invoke(OutboundBatchTask<R, Result> task) {
+                    inflightOperationBatches.release();
                 }
+            });
+
+            if (log.isTraceEnabled()) {
+                log.trace("Queue " + qUrl + " created new batch for " + request.getClass().toString() + " "
+                        + inflightOperationBatches.availablePermits() + " free slots remain");
             }
 
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            AmazonClientException toThrow = new AmazonClientException("Interrupted while waiting for lock.");
-            toThrow.initCause(e);
-            throw toThrow;
+            // the new batch is already visible to other callers, so it may fill up before this
+            // request gets in. In that case, just go around again.
+            QueueBufferFuture<R, Result> theFuture = obt.addRequest(request, callback);
+            try {
+                executor.execute(obt);
+            } catch (RejectedExecutionException ree) {
+                obt.reject(ree);
+            }
+            if (theFuture != null) {
+                return theFuture;
+            }
+        }
+    }
+
+    /**
+     * Chooses how long new batches of one type of outbound request are held open. This is
+     * {@code maxBatchOpenMs}, unless the buffer is adaptive. An adaptive buffer holds a batch open
+     * for as long as it is expected to take to fill up at the rate requests have been arriving,
+     * within {@code minBatchOpenMs} and {@code maxBatchOpenMs}. When requests arrive so slowly that
+     * not even one more is expected while the batch is open, waiting would only add latency, so
+     * the batch is held open for {@code minBatchOpenMs}.
+     */
+    private class BatchOpenWindow {
+
+        private final RateEstimator arrivals = new RateEstimator();
+
+        /** the last batch open time chosen, to only report changes */
+        private final AtomicLong lastBatchOpenMs = new AtomicLong(-1);
+
+        void recordRequest() {
+            if (config.isAdaptive()) {
+                arrivals.record(1);
+            }
         }
 
-        return theFuture;
+        long getBatchOpenMs() {
+            if (!config.isAdaptive()) {
+                return config.getMaxBatchOpenMs();
+            }
+
+            long minMs = config.getMinBatchOpenMs();
+            long maxMs = config.getMaxBatchOpenMs();
+            double requestsPerSecond = arrivals.getRatePerSecond();
+            long batchOpenMs = minMs;
+            if (requestsPerSecond > 0) {
+                double msBetweenRequests = TimeUnit.SECONDS.toMillis(1) / requestsPerSecond;
+                if (msBetweenRequests <= maxMs) {
+                    double msToFill = msBetweenRequests * (config.getMaxBatchSize() - 1);
+                    batchOpenMs = Math.max(minMs, Math.min(maxMs, (long) Math.ceil(msToFill)));
+                }
+            }
+
+            if (lastBatchOpenMs.getAndSet(batchOpenMs) != batchOpenMs) {
+                QueueBufferMetric.AdaptiveBatchOpenMs.report(batchOpenMs);
+                if (log.isTraceEnabled()) {
+                    log.trace("Queue " + qUrl + " holds batches open for " + batchOpenMs + " ms at "
+                            + requestsPerSecond + " requests per second");
+                }
+            }
+            return batchOpenMs;
+        }
     }
 
     /**
@@ -316,6 +383,8 @@ public class SendQueueBuffer {
 
         private volatile Listener<OutboundBatchTask<R, Result>> onCompleted;
 
+        private volatile long batchOpenMs = config.getMaxBatchOpenMs();
+
         public OutboundBatchTask() {
             this.requests = new ArrayList<R>(config.getMaxBatchSize());
             this.futures = new ArrayList<QueueBufferFuture<R, Result>>(config.getMaxBatchSize());
@@ -325,6 +394,14 @@ public class SendQueueBuffer {
             onCompleted = value;
         }
 
+        /**
+         * Sets how long the batch is held open for additional requests. Must be called before the
+         * task runs.
+         */
+        public void setBatchOpenMs(long value) {
+            batchOpenMs = value;
+        }
+
         /**
          * Adds a request to the batch if it is still open and has capacity.
          *
@@ -363,7 +440,7 @@ public class SendQueueBuffer {
 
                 requests.add(request);
 
-                QueueBufferFuture<R, Result> theFuture = new QueueBufferFuture<R, Result>(callback);
+                QueueBufferFuture<R, Result> theFuture = new QueueBufferFuture<R, Result>(callback, executor);
 
                 futures.add(theFuture);
                 onRequestAdded(request);
@@ -376,7 +453,8 @@ public class SendQueueBuffer {
 
         /**
          * Checks whether it's okay to add the request to this buffer. Called by
-         * {@code addIfAllowed} with a lock on {@code this} held.
+         * {@code addIfAllowed} with a lock on {@code this} held, or on a new batch that is not yet
+         * visible to other threads.
          *
          * @param request
          *            the request to add
@@ -419,7 +497,7 @@ public class SendQueueBuffer {
             try {
 
                 long deadlineMs = TimeUnit.MILLISECONDS.convert(System.nanoTime(), TimeUnit.NANOSECONDS)
-                        + config.getMaxBatchOpenMs() + 1;
+                        + batchOpenMs + 1;
                 long t = TimeUnit.MILLISECONDS.convert(System.nanoTime(), TimeUnit.NANOSECONDS);
 
                 List<R> requests;
@@ -453,12 +531,32 @@ public class SendQueueBuffer {
                 failAll(new AmazonClientException("Error encountered", e));
                 throw e;
             } finally {
-                // make a copy of the listener since it (theoretically) can be
-                // modified from the outside.
-                Listener<OutboundBatchTask<R, Result>> listener = onCompleted;
-                if (listener != null) {
-                    listener.invoke(this);
-                }
+                notifyCompleted();
+            }
+        }
+
+        /**
+         * Called instead of {@code run} when the executor refuses to run this task. Closes the
+         * batch and fails the requests it already accepted.
+         */
+        void reject(RejectedExecutionException ree) {
+            synchronized (this) {
+                closed = true;
+            }
+            try {
+                failAll(new AmazonClientException("Unable to execute batch for queue " + qUrl
+                        + ": the executor rejected the batch task", ree));
+            } finally {
+                notifyCompleted();
+            }
+        }
+
+        private void notifyCompleted() {
+            // make a copy of the listener since it (theoretically) can be
+            // modified from the outside.
+            Listener<OutboundBatchTask<R, Result>> listener = onCompleted;
+            if (listener != null) {
+                listener.invoke(this);
             }
         }
 
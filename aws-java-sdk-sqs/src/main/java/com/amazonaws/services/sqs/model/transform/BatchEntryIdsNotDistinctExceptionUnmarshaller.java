@@ -26,7 +26,7 @@ public class BatchEntryIdsNotDistinctExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public BatchEntryIdsNotDistinctExceptionUnmarshaller() {
-        super(BatchEntryIdsNotDistinctException.class);
+        super(BatchEntryIdsNotDistinctException.class, "AWS.SimpleQueueService.BatchEntryIdsNotDistinct");
     }
 
     @Override
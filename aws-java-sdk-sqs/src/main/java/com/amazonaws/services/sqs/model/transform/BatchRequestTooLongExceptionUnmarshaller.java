@@ -26,7 +26,7 @@ public class BatchRequestTooLongExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public BatchRequestTooLongExceptionUnmarshaller() {
-        super(BatchRequestTooLongException.class);
+        super(BatchRequestTooLongException.class, "AWS.SimpleQueueService.BatchRequestTooLong");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class EmptyBatchRequestExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public EmptyBatchRequestExceptionUnmarshaller() {
-        super(EmptyBatchRequestException.class);
+        super(EmptyBatchRequestException.class, "AWS.SimpleQueueService.EmptyBatchRequest");
     }
 
     @Override
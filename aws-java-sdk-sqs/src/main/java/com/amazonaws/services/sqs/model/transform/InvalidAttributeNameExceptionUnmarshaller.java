@@ -26,7 +26,7 @@ public class InvalidAttributeNameExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidAttributeNameExceptionUnmarshaller() {
-        super(InvalidAttributeNameException.class);
+        super(InvalidAttributeNameException.class, "InvalidAttributeName");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InvalidBatchEntryIdExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidBatchEntryIdExceptionUnmarshaller() {
-        super(InvalidBatchEntryIdException.class);
+        super(InvalidBatchEntryIdException.class, "AWS.SimpleQueueService.InvalidBatchEntryId");
     }
 
     @Override
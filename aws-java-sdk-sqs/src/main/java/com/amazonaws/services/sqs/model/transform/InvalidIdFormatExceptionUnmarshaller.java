@@ -26,7 +26,7 @@ public class InvalidIdFormatExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidIdFormatExceptionUnmarshaller() {
-        super(InvalidIdFormatException.class);
+        super(InvalidIdFormatException.class, "InvalidIdFormat");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class InvalidMessageContentsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidMessageContentsExceptionUnmarshaller() {
-        super(InvalidMessageContentsException.class);
+        super(InvalidMessageContentsException.class, "InvalidMessageContents");
     }
 
     @Override
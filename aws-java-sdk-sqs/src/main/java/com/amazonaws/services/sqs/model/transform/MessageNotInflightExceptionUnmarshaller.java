@@ -26,7 +26,7 @@ public class MessageNotInflightExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public MessageNotInflightExceptionUnmarshaller() {
-        super(MessageNotInflightException.class);
+        super(MessageNotInflightException.class, "AWS.SimpleQueueService.MessageNotInflight");
     }
 
     @Override
@@ -25,7 +25,7 @@ import com.amazonaws.services.sqs.model.OverLimitException;
 public class OverLimitExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public OverLimitExceptionUnmarshaller() {
-        super(OverLimitException.class);
+        super(OverLimitException.class, "OverLimit");
     }
 
     @Override
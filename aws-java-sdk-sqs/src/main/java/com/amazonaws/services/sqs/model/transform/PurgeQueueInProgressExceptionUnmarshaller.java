@@ -26,7 +26,7 @@ public class PurgeQueueInProgressExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public PurgeQueueInProgressExceptionUnmarshaller() {
-        super(PurgeQueueInProgressException.class);
+        super(PurgeQueueInProgressException.class, "AWS.SimpleQueueService.PurgeQueueInProgress");
     }
 
     @Override
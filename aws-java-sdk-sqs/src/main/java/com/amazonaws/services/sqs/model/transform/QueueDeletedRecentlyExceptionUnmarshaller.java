@@ -26,7 +26,7 @@ public class QueueDeletedRecentlyExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public QueueDeletedRecentlyExceptionUnmarshaller() {
-        super(QueueDeletedRecentlyException.class);
+        super(QueueDeletedRecentlyException.class, "AWS.SimpleQueueService.QueueDeletedRecently");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class QueueDoesNotExistExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public QueueDoesNotExistExceptionUnmarshaller() {
-        super(QueueDoesNotExistException.class);
+        super(QueueDoesNotExistException.class, "AWS.SimpleQueueService.NonExistentQueue");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class QueueNameExistsExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public QueueNameExistsExceptionUnmarshaller() {
-        super(QueueNameExistsException.class);
+        super(QueueNameExistsException.class, "QueueAlreadyExists");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class ReceiptHandleIsInvalidExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public ReceiptHandleIsInvalidExceptionUnmarshaller() {
-        super(ReceiptHandleIsInvalidException.class);
+        super(ReceiptHandleIsInvalidException.class, "ReceiptHandleIsInvalid");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class TooManyEntriesInBatchRequestExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public TooManyEntriesInBatchRequestExceptionUnmarshaller() {
-        super(TooManyEntriesInBatchRequestException.class);
+        super(TooManyEntriesInBatchRequestException.class, "AWS.SimpleQueueService.TooManyEntriesInBatchRequest");
     }
 
     @Override
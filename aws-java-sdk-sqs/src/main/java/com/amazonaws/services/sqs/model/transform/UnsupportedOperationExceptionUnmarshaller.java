@@ -26,7 +26,7 @@ public class UnsupportedOperationExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public UnsupportedOperationExceptionUnmarshaller() {
-        super(UnsupportedOperationException.class);
+        super(UnsupportedOperationException.class, "AWS.SimpleQueueService.UnsupportedOperation");
     }
 
     @Override
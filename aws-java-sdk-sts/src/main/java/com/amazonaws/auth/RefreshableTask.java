@@ -15,88 +15,91 @@
 package com.amazonaws.auth;
 
 import com.amazonaws.AmazonClientException;
-import com.amazonaws.AmazonServiceException;
 import com.amazonaws.annotation.NotThreadSafe;
 import com.amazonaws.annotation.SdkInternalApi;
 import com.amazonaws.annotation.ThreadSafe;
+import com.amazonaws.internal.SdkFunction;
 import com.amazonaws.internal.SdkPredicate;
 import com.amazonaws.util.ValidationUtils;
 
+import java.util.Date;
 import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Handles refreshing a value with a simple synchronization policy. Does a blocking, synchronous
  * refresh if needed, otherwise queues an asynchronous refresh and returns the current value.
+ * <p>
+ * Concurrent refreshes are coalesced: at most one refresh is in progress at any given time, and
+ * callers needing a refresh while one is in progress wait for its outcome rather than starting
+ * another. Asynchronous and proactive refreshes run on a {@link SessionCredentialsRefreshScheduler}
+ * shared with other tasks.
  */
 @ThreadSafe
 @SdkInternalApi
 class RefreshableTask<T> {
 
     /**
-     * Maximum time to wait for a blocking refresh lock before calling refresh again. This is to
-     * rate limit how many times we call refresh. In the ideal case, refresh always occurs in a
-     * timely fashion and only one thread actually does the refresh.
+     * Atomic holder for refreshable value.
      */
-    private static final long BLOCKING_REFRESH_MAX_WAIT_IN_SECONDS = 5;
+    private final AtomicReference<T> refreshableValueHolder = new AtomicReference<T>();
 
     /**
-     * Used to synchronize a blocking refresh. Used when a caller can't return without getting the
-     * refreshed value.
+     * The refresh in progress, if any. Used to ensure only one thread at any given time refreshes
+     * the value.
      */
-    private final Lock blockingRefreshLock = new ReentrantLock();
+    private final AtomicReference<RefreshFuture> refreshInProgress = new AtomicReference<RefreshFuture>();
 
     /**
-     * Atomic holder for refreshable value.
+     * Callback to get a new refreshed value.
      */
-    private final AtomicReference<T> refreshableValueHolder = new AtomicReference<T>();
+    private final Callable<T> refreshCallable;
+
+    /**
+     * Predicate to determine whether a blocking refresh should be performed
+     */
+    private final SdkPredicate<T> shouldDoBlockingRefresh;
 
     /**
-     * Single threaded executor to asynchronous refresh the value.
+     * Predicate to determine whether a async refresh can be done rather than a blocking refresh.
      */
-    private final ExecutorService executor = Executors.newSingleThreadExecutor(new ThreadFactory() {
-	@Override
-	public Thread newThread(Runnable runnable) {
-	    Thread thread = Executors.defaultThreadFactory().newThread(runnable);
-	    thread.setDaemon(true);
-	    return thread;
-	}
-    });
+    private final SdkPredicate<T> shouldDoAsyncRefresh;
 
     /**
-     * Used to ensure only one thread at any given time refreshes the value.
+     * Function returning when to proactively refresh a value, or null if it shouldn't be.
      */
-    private final AtomicBoolean asyncRefreshing = new AtomicBoolean(false);
+    private final SdkFunction<T, Date> proactiveRefreshTime;
 
     /**
-     * Callback to get a new refreshed value.
+     * Scheduler running the asynchronous and proactive refreshes.
      */
-    private final Callable<T> refreshCallable;
+    private final SessionCredentialsRefreshScheduler scheduler;
 
     /**
-     * Predicate to determine whether a blocking refresh should be performed
+     * The next proactive refresh, if any.
      */
-    private final SdkPredicate<T> shouldDoBlockingRefresh;
+    private volatile ScheduledFuture<?> scheduledRefresh;
 
     /**
-     * Predicate to determine whether a async refresh can be done rather than a blocking refresh.
+     * Set once the task is replaced, to stop scheduling proactive refreshes.
      */
-    private final SdkPredicate<T> shouldDoAsyncRefresh;
+    private volatile boolean cancelled;
 
     private RefreshableTask(Callable<T> refreshCallable, SdkPredicate<T> shouldDoBlockingRefresh,
-                            SdkPredicate<T> shouldDoAsyncRefresh) {
+                            SdkPredicate<T> shouldDoAsyncRefresh,
+                            SdkFunction<T, Date> proactiveRefreshTime,
+                            SessionCredentialsRefreshScheduler scheduler) {
         this.refreshCallable = ValidationUtils.assertNotNull(refreshCallable, "refreshCallable");
         this.shouldDoBlockingRefresh = ValidationUtils
                 .assertNotNull(shouldDoBlockingRefresh, "shouldDoBlockingRefresh");
         this.shouldDoAsyncRefresh = ValidationUtils
                 .assertNotNull(shouldDoAsyncRefresh, "shouldDoAsyncRefresh");
+        this.proactiveRefreshTime = proactiveRefreshTime;
+        this.scheduler = scheduler == null ? SessionCredentialsRefreshScheduler.getDefault()
+                                           : scheduler;
     }
 
     @NotThreadSafe
@@ -104,6 +107,8 @@ class RefreshableTask<T> {
         private Callable<T> refreshCallable;
         private SdkPredicate<T> shouldDoBlockingRefresh;
         private SdkPredicate<T> shouldDoAsyncRefresh;
+        private SdkFunction<T, Date> proactiveRefreshTime;
+        private SessionCredentialsRefreshScheduler scheduler;
 
         /**
          * Set the callable that will provide the value when a refresh occurs.
@@ -136,12 +141,34 @@ class RefreshableTask<T> {
             return this;
         }
 
+        /**
+         * Set the function that will determine when the task will proactively refresh a value,
+         * before any caller needs it to be. Optional.
+         *
+         * @return This object for method chaining.
+         */
+        public Builder withProactiveRefreshTime(SdkFunction<T, Date> proactiveRefreshTime) {
+            this.proactiveRefreshTime = proactiveRefreshTime;
+            return this;
+        }
+
+        /**
+         * Set the scheduler that will run the asynchronous and proactive refreshes. Defaults to
+         * {@link SessionCredentialsRefreshScheduler#getDefault()}.
+         *
+         * @return This object for method chaining.
+         */
+        public Builder withRefreshScheduler(SessionCredentialsRefreshScheduler scheduler) {
+            this.scheduler = scheduler;
+            return this;
+        }
+
         /**
          * @return The configured RefreshableTask
          */
         public RefreshableTask<T> build() {
             return new RefreshableTask<T>(refreshCallable, shouldDoBlockingRefresh,
-                                          shouldDoAsyncRefresh);
+                                          shouldDoAsyncRefresh, proactiveRefreshTime, scheduler);
         }
     }
 
@@ -163,8 +190,8 @@ class RefreshableTask<T> {
     }
 
     /**
-     * Forces a refresh of the value. This method will not attempt to lock on calls to refresh the
-     * value.
+     * Forces a refresh of the value. Joins the refresh in progress, if any, rather than starting
+     * another one.
      *
      * @throws AmazonClientException If error occurs during refresh.
      * @throws IllegalStateException If value if invalid after refreshing.
@@ -203,27 +230,11 @@ class RefreshableTask<T> {
      * or an exception is thrown.
      */
     private void blockingRefresh() {
-        try {
-            if (blockingRefreshLock
-                    .tryLock(BLOCKING_REFRESH_MAX_WAIT_IN_SECONDS, TimeUnit.SECONDS)) {
-                try {
-                    // Return if successful refresh occurred while waiting for the lock
-                    if (!shouldDoBlockingRefresh()) {
-                        return;
-                    } else {
-                        // Otherwise do a synchronous refresh if the last lock holder was unable to
-                        // refresh the value
-                        refreshValue();
-                        return;
-                    }
-                } finally {
-                    blockingRefreshLock.unlock();
-                }
-            }
-        } catch (InterruptedException ex) {
-            handleInterruptedException("Interrupted waiting to refresh the value.", ex);
+        RefreshFuture refresh = refreshInProgress.get();
+        // Return if a refresh completed since the check
+        if (refresh == null && !shouldDoBlockingRefresh()) {
+            return;
         }
-        // Couldn't acquire the lock. Just try a synchronous refresh
         refreshValue();
     }
 
@@ -232,40 +243,99 @@ class RefreshableTask<T> {
      */
     private void asyncRefresh() {
         // Immediately return if refresh already in progress
-        if (asyncRefreshing.compareAndSet(false, true)) {
+        if (refreshInProgress.get() != null) {
+            return;
+        }
+        RefreshFuture refresh = new RefreshFuture();
+        if (refreshInProgress.compareAndSet(null, refresh)) {
             try {
-                executor.submit(new Runnable() {
-                    @Override
-                    public void run() {
-                        try {
-                            refreshValue();
-                        } finally {
-                            asyncRefreshing.set(false);
-                        }
-                    }
-                });
+                scheduler.execute(refresh);
             } catch (RuntimeException ex) {
-                asyncRefreshing.set(false);
+                refreshInProgress.compareAndSet(refresh, null);
                 throw ex;
             }
         }
     }
 
     /**
-     * Invokes the callback to get a new value.
+     * Called by the scheduler when it is time to refresh the value proactively. Failures are
+     * ignored; callers fall back to an async or blocking refresh as the value nears expiration.
+     */
+    void proactiveRefresh() {
+        try {
+            refreshValue();
+        } catch (RuntimeException ignored) {
+            // Recorded by the scheduler
+        }
+    }
+
+    /**
+     * Refreshes the value in the calling thread, or waits for the refresh in progress to complete.
      */
     private void refreshValue() {
+        RefreshFuture refresh = refreshInProgress.get();
+        if (refresh == null) {
+            RefreshFuture newRefresh = new RefreshFuture();
+            if (refreshInProgress.compareAndSet(null, newRefresh)) {
+                newRefresh.run();
+                refresh = newRefresh;
+            } else if ((refresh = refreshInProgress.get()) == null) {
+                // A concurrent refresh just completed
+                return;
+            }
+        }
+        awaitRefresh(refresh);
+    }
+
+    /**
+     * Waits for the given refresh to complete, rethrowing its failure if any. A refresh still
+     * queued on the scheduler is run in the calling thread rather than waiting behind the other
+     * tasks of the scheduler; it then does nothing once the scheduler gets to it.
+     */
+    private void awaitRefresh(RefreshFuture refresh) {
+        refresh.run();
         try {
-            refreshableValueHolder
-                    .compareAndSet(refreshableValueHolder.get(), refreshCallable.call());
-        } catch (AmazonServiceException ase) {
-            // Preserve the original ASE
-            throw ase;
-        } catch (AmazonClientException ace) {
-            // Preserve the original ACE
-            throw ace;
-        } catch (Exception e) {
-            throw new AmazonClientException(e);
+            refresh.get();
+        } catch (InterruptedException ex) {
+            handleInterruptedException("Interrupted waiting to refresh the value.", ex);
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof AmazonClientException) {
+                // Preserve the original ACE or ASE
+                throw (AmazonClientException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new AmazonClientException(cause);
+        }
+    }
+
+    /**
+     * Schedules the next proactive refresh of the given value, replacing the previous one. Values
+     * already due for refresh, e.g. because of a clock skew, are left to the callers so as not to
+     * refresh them in a loop.
+     */
+    private void scheduleProactiveRefresh(T value) {
+        Date refreshTime = proactiveRefreshTime == null || cancelled ? null : proactiveRefreshTime.apply(value);
+        if (refreshTime != null && refreshTime.getTime() <= System.currentTimeMillis()) {
+            refreshTime = null;
+        }
+        ScheduledFuture<?> previous = scheduledRefresh;
+        scheduledRefresh = refreshTime == null ? null : scheduler.schedule(this, refreshTime);
+        if (previous != null) {
+            scheduler.cancel(previous);
+        }
+    }
+
+    /**
+     * Cancels the proactive refreshes of the value, for a task being replaced by another one.
+     */
+    void cancel() {
+        cancelled = true;
+        ScheduledFuture<?> previous = scheduledRefresh;
+        scheduledRefresh = null;
+        if (previous != null) {
+            scheduler.cancel(previous);
         }
     }
 
@@ -278,4 +348,34 @@ class RefreshableTask<T> {
         throw new AmazonClientException(message, cause);
     }
 
+    /**
+     * A single refresh, which invokes the callback to get a new value and records its outcome.
+     */
+    private final class RefreshFuture extends FutureTask<T> {
+
+        RefreshFuture() {
+            super(new Callable<T>() {
+                @Override
+                public T call() throws Exception {
+                    long startNanos = System.nanoTime();
+                    boolean success = false;
+                    try {
+                        T value = refreshCallable.call();
+                        refreshableValueHolder.set(value);
+                        success = true;
+                        scheduleProactiveRefresh(value);
+                        return value;
+                    } finally {
+                        scheduler.recordRefresh(startNanos, success);
+                    }
+                }
+            });
+        }
+
+        @Override
+        protected void done() {
+            refreshInProgress.compareAndSet(this, null);
+        }
+    }
+
 }
@@ -75,6 +75,11 @@ public class STSAssumeRoleSessionCredentialsProvider implements AWSSessionCreden
         }
     };
 
+    /**
+     * Refreshes the sessions of this provider, and possibly of other providers.
+     */
+    private final SessionCredentialsRefreshScheduler refreshScheduler;
+
     /**
      * Handles the refreshing of sessions. Ideally this should be final but #setSTSClientEndpoint
      * forces us to create a new one.
@@ -173,7 +178,9 @@ public class STSAssumeRoleSessionCredentialsProvider implements AWSSessionCreden
         return new RefreshableTask.Builder<SessionCredentialsHolder>()
                 .withRefreshCallable(refreshCallable)
                 .withBlockingRefreshPredicate(new ShouldDoBlockingSessionRefresh())
-                .withAsyncRefreshPredicate(new ShouldDoAsyncSessionRefresh()).build();
+                .withAsyncRefreshPredicate(new ShouldDoAsyncSessionRefresh())
+                .withProactiveRefreshTime(new SessionRefreshTime())
+                .withRefreshScheduler(refreshScheduler).build();
     }
 
     /**
@@ -216,8 +223,10 @@ public class STSAssumeRoleSessionCredentialsProvider implements AWSSessionCreden
             this.roleSessionDurationSeconds = DEFAULT_DURATION_SECONDS;
         }
 
-        this.refreshableTask = createRefreshableTask();
         this.scopeDownPolicy = builder.scopeDownPolicy;
+        this.refreshScheduler = builder.refreshScheduler == null
+                ? SessionCredentialsRefreshScheduler.getDefault() : builder.refreshScheduler;
+        this.refreshableTask = createRefreshableTask();
     }
 
     /**
@@ -278,6 +287,7 @@ public class STSAssumeRoleSessionCredentialsProvider implements AWSSessionCreden
     @Deprecated
     public synchronized void setSTSClientEndpoint(String endpoint) {
         securityTokenService.setEndpoint(endpoint);
+        refreshableTask.cancel();
         this.refreshableTask = createRefreshableTask();
     }
 
@@ -328,6 +338,7 @@ public class STSAssumeRoleSessionCredentialsProvider implements AWSSessionCreden
         private int roleSessionDurationSeconds;
         private String scopeDownPolicy;
         private AWSSecurityTokenService sts;
+        private SessionCredentialsRefreshScheduler refreshScheduler;
 
         /**
          * @param roleArn         Required roleArn parameter used when starting a session
@@ -509,6 +520,19 @@ public class STSAssumeRoleSessionCredentialsProvider implements AWSSessionCreden
             return this;
         }
 
+        /**
+         * Sets the scheduler that refreshes the sessions of the provider. Providers sharing a
+         * scheduler share its bounded pool of threads and its refresh metrics. Defaults to {@link
+         * SessionCredentialsRefreshScheduler#getDefault()}.
+         *
+         * @param refreshScheduler Scheduler to refresh sessions with.
+         * @return This object for chained calls.
+         */
+        public Builder withRefreshScheduler(SessionCredentialsRefreshScheduler refreshScheduler) {
+            this.refreshScheduler = refreshScheduler;
+            return this;
+        }
+
         /**
          * Build the configured provider
          *
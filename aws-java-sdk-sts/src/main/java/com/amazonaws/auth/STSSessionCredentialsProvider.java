@@ -48,6 +48,11 @@ public class STSSessionCredentialsProvider implements AWSSessionCredentialsProvi
         }
     };
 
+    /**
+     * Refreshes the sessions of this provider, and possibly of other providers.
+     */
+    private final SessionCredentialsRefreshScheduler refreshScheduler;
+
     /**
      * Handles the refreshing of sessions. Ideally this should be final but #setSTSClientEndpoint
      * forces us to create a new one.
@@ -114,7 +119,9 @@ public class STSSessionCredentialsProvider implements AWSSessionCredentialsProvi
         return new RefreshableTask.Builder<SessionCredentialsHolder>()
                 .withRefreshCallable(refreshCallable)
                 .withBlockingRefreshPredicate(new ShouldDoBlockingSessionRefresh())
-                .withAsyncRefreshPredicate(new ShouldDoAsyncSessionRefresh()).build();
+                .withAsyncRefreshPredicate(new ShouldDoAsyncSessionRefresh())
+                .withProactiveRefreshTime(new SessionRefreshTime())
+                .withRefreshScheduler(refreshScheduler).build();
     }
 
     /**
@@ -123,7 +130,20 @@ public class STSSessionCredentialsProvider implements AWSSessionCredentialsProvi
      * @param sts Preconfigured STS client to use for this provider
      */
     public STSSessionCredentialsProvider(AWSSecurityTokenService sts) {
+        this(sts, SessionCredentialsRefreshScheduler.getDefault());
+    }
+
+    /**
+     * Constructs a new STSSessionCredentialsProvider with the alredy configured STS client, whose
+     * sessions are refreshed by the given scheduler.
+     *
+     * @param sts              Preconfigured STS client to use for this provider
+     * @param refreshScheduler Scheduler shared with other providers to refresh sessions
+     */
+    public STSSessionCredentialsProvider(AWSSecurityTokenService sts,
+                                         SessionCredentialsRefreshScheduler refreshScheduler) {
         this.securityTokenService = sts;
+        this.refreshScheduler = refreshScheduler;
         this.refreshableTask = createRefreshableTask();
     }
 
@@ -145,6 +165,7 @@ public class STSSessionCredentialsProvider implements AWSSessionCredentialsProvi
     public synchronized void setSTSClientEndpoint(String endpoint) {
         securityTokenService.setEndpoint(endpoint);
         // Create a new task rather then trying to synchronize this in the refreshable task
+        refreshableTask.cancel();
         this.refreshableTask = createRefreshableTask();
     }
 
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.auth;
+
+import com.amazonaws.annotation.ThreadSafe;
+import com.amazonaws.metrics.LatencyHistogram;
+
+import java.lang.ref.WeakReference;
+import java.util.Date;
+import java.util.Random;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs the session credentials refreshes of STS credentials providers on a bounded pool of daemon
+ * threads shared by all the providers registered with it, rather than on a thread per provider.
+ * <p>
+ * Sessions are refreshed proactively ahead of expiration, at a random time so that providers
+ * whose sessions started together don't call STS at the same time. The latency and failures of
+ * all the refreshes are recorded and can be read with {@link #getRefreshLatency()} and {@link
+ * #getRefreshFailureCount()}.
+ * <p>
+ * Threads that have been idle for {@link #KEEP_ALIVE_SECONDS} go away, and a scheduler created for
+ * some providers can be {@link #shutdown() shut down} once they're no longer used. The providers
+ * then refresh their sessions in the threads getting credentials from them.
+ * <p>
+ * {@link STSAssumeRoleSessionCredentialsProvider} and {@link STSSessionCredentialsProvider} use
+ * the {@link #getDefault() default scheduler} unless another one is configured.
+ */
+@ThreadSafe
+public class SessionCredentialsRefreshScheduler {
+
+    /**
+     * Default number of threads of the default scheduler.
+     */
+    public static final int DEFAULT_MAX_THREADS = 2;
+
+    /**
+     * Time after which idle threads go away.
+     */
+    public static final long KEEP_ALIVE_SECONDS = 60;
+
+    /**
+     * Maximum random time a proactive refresh is brought forward by.
+     */
+    private static final long MAX_JITTER_MILLIS = TimeUnit.MINUTES.toMillis(2);
+
+    private static final Random RANDOM = new Random();
+
+    private final ScheduledThreadPoolExecutor executor;
+
+    private final AtomicLong refreshCount = new AtomicLong();
+
+    private final AtomicLong refreshFailureCount = new AtomicLong();
+
+    private final LatencyHistogram refreshLatency = new LatencyHistogram();
+
+    /**
+     * Creates a scheduler with the given maximum number of threads.
+     *
+     * @param maxThreads Maximum number of concurrent refreshes.
+     */
+    public SessionCredentialsRefreshScheduler(int maxThreads) {
+        if (maxThreads < 1) {
+            throw new IllegalArgumentException("maxThreads must be at least 1: " + maxThreads);
+        }
+        final AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ScheduledThreadPoolExecutor(maxThreads, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable);
+                thread.setName("java-sdk-session-credentials-refresh-thread-"
+                               + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        this.executor.setKeepAliveTime(KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * @return The scheduler shared by all the providers that aren't configured with another one.
+     */
+    public static SessionCredentialsRefreshScheduler getDefault() {
+        return LazyHolder.DEFAULT;
+    }
+
+    /**
+     * @return The number of session refreshes performed, including failed ones.
+     */
+    public long getRefreshCount() {
+        return refreshCount.get();
+    }
+
+    /**
+     * @return The number of session refreshes that failed.
+     */
+    public long getRefreshFailureCount() {
+        return refreshFailureCount.get();
+    }
+
+    /**
+     * @return A snapshot of the latencies of the session refreshes, in microseconds.
+     */
+    public LatencyHistogram getRefreshLatency() {
+        return refreshLatency.copy();
+    }
+
+    /**
+     * Shuts down the threads of this scheduler once the refreshes in progress complete. Proactive
+     * refreshes not due yet are cancelled, and the providers using this scheduler then refresh
+     * their sessions in the threads getting credentials from them. The {@link #getDefault()
+     * default scheduler} can't be shut down.
+     */
+    public void shutdown() {
+        if (this == LazyHolder.DEFAULT) {
+            throw new IllegalStateException("The default scheduler can't be shut down");
+        }
+        executor.shutdown();
+        // Refreshes already due are left to run, since callers may be waiting for them
+        for (Runnable task : executor.getQueue()) {
+            ScheduledFuture<?> refresh = (ScheduledFuture<?>) task;
+            if (refresh.getDelay(TimeUnit.NANOSECONDS) > 0) {
+                refresh.cancel(false);
+            }
+        }
+        executor.purge();
+    }
+
+    /**
+     * Runs the given refresh as soon as a thread is available, or in the calling thread if this
+     * scheduler has been shut down.
+     */
+    void execute(Runnable refresh) {
+        try {
+            executor.execute(refresh);
+        } catch (RejectedExecutionException e) {
+            refresh.run();
+        }
+    }
+
+    /**
+     * Schedules a proactive refresh of the given task at a random time up to {@link
+     * #MAX_JITTER_MILLIS}, or a quarter of the time remaining, before the given time. The task is
+     * only weakly referenced so that the providers no longer used can be garbage collected.
+     *
+     * @return The scheduled refresh, or null if this scheduler has been shut down.
+     */
+    ScheduledFuture<?> schedule(RefreshableTask<?> task, Date refreshTime) {
+        long delay = Math.max(0, refreshTime.getTime() - System.currentTimeMillis());
+        long maxJitter = Math.min(MAX_JITTER_MILLIS, delay / 4);
+        if (maxJitter > 0) {
+            delay -= (long) (RANDOM.nextDouble() * maxJitter);
+        }
+        final WeakReference<RefreshableTask<?>> taskReference = new WeakReference<RefreshableTask<?>>(task);
+        try {
+            return executor.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    RefreshableTask<?> task = taskReference.get();
+                    if (task != null) {
+                        task.proactiveRefresh();
+                    }
+                }
+            }, delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Cancels the given scheduled refresh, and removes it from the queue of this scheduler rather
+     * than leaving it there until it is due.
+     */
+    void cancel(ScheduledFuture<?> refresh) {
+        if (refresh.cancel(false)) {
+            executor.purge();
+        }
+    }
+
+    /**
+     * Records the outcome of a refresh started at the given time.
+     */
+    void recordRefresh(long startNanos, boolean success) {
+        refreshLatency.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos));
+        refreshCount.incrementAndGet();
+        if (!success) {
+            refreshFailureCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Used to avoid creating the default scheduler until absolutely necessary.
+     */
+    private static final class LazyHolder {
+        private static final SessionCredentialsRefreshScheduler DEFAULT =
+                new SessionCredentialsRefreshScheduler(DEFAULT_MAX_THREADS);
+    }
+}
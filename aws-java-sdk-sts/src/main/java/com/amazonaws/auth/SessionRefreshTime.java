@@ -0,0 +1,44 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.auth;
+
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.annotation.ThreadSafe;
+import com.amazonaws.internal.SdkFunction;
+
+import java.util.Date;
+
+/**
+ * Function to determine when to proactively refresh session credentials, which is just before
+ * {@link ShouldDoAsyncSessionRefresh} would have callers kick off an async refresh, so that
+ * callers are seldom involved in refreshing sessions at all.
+ */
+@SdkInternalApi
+@ThreadSafe
+class SessionRefreshTime implements SdkFunction<SessionCredentialsHolder, Date> {
+
+    @Override
+    public Date apply(SessionCredentialsHolder sessionCredentialsHolder) {
+        if (sessionCredentialsHolder == null) {
+            return null;
+        }
+        Date expiryTime = sessionCredentialsHolder.getSessionCredentialsExpiration();
+        if (expiryTime == null) {
+            return null;
+        }
+        return new Date(expiryTime.getTime()
+                        - ShouldDoAsyncSessionRefresh.ASYNC_REFRESH_EXPIRATION_IN_MILLIS);
+    }
+}
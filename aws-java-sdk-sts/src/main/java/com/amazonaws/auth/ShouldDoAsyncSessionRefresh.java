@@ -34,7 +34,7 @@ class ShouldDoAsyncSessionRefresh extends SdkPredicate<SessionCredentialsHolder>
     /**
      * Time before expiry within which session credentials will be asynchronously refreshed.
      */
-    private static final long ASYNC_REFRESH_EXPIRATION_IN_MILLIS = TimeUnit.MINUTES.toMillis(5);
+    static final long ASYNC_REFRESH_EXPIRATION_IN_MILLIS = TimeUnit.MINUTES.toMillis(5);
 
     @Override
     public boolean test(SessionCredentialsHolder sessionCredentialsHolder) {
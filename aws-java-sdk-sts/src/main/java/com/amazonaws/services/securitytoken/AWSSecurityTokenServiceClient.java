@@ -139,6 +139,12 @@ public class AWSSecurityTokenServiceClient extends AmazonWebServiceClient
      */
     protected final List<Unmarshaller<AmazonServiceException, Node>> exceptionUnmarshallers = new ArrayList<Unmarshaller<AmazonServiceException, Node>>();
 
+    /**
+     * Handler of the error responses, built once all the exception
+     * unmarshallers are registered
+     */
+    private volatile DefaultErrorResponseHandler errorResponseHandler;
+
     /**
      * Constructs a new client to invoke service methods on AWS STS. A
      * credentials provider chain will be used that searches for credentials in
@@ -326,6 +332,9 @@ public class AWSSecurityTokenServiceClient extends AmazonWebServiceClient
                 .add(new StandardErrorUnmarshaller(
                         com.amazonaws.services.securitytoken.model.AWSSecurityTokenServiceException.class));
 
+        errorResponseHandler = new DefaultErrorResponseHandler(
+                exceptionUnmarshallers);
+
         setServiceNameIntern(DEFAULT_SIGNING_NAME);
         setEndpointPrefix(ENDPOINT_PREFIX);
         // calling this.setEndPoint(...) will also modify the signer accordingly
@@ -1426,9 +1435,6 @@ public class AWSSecurityTokenServiceClient extends AmazonWebServiceClient
         request.setEndpoint(endpoint);
         request.setTimeOffset(timeOffset);
 
-        DefaultErrorResponseHandler errorResponseHandler = new DefaultErrorResponseHandler(
-                exceptionUnmarshallers);
-
         return client.execute(request, responseHandler, errorResponseHandler,
                 executionContext);
     }
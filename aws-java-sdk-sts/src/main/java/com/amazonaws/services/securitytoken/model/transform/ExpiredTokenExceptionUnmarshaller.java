@@ -26,7 +26,7 @@ public class ExpiredTokenExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public ExpiredTokenExceptionUnmarshaller() {
-        super(ExpiredTokenException.class);
+        super(ExpiredTokenException.class, "ExpiredTokenException");
     }
 
     @Override
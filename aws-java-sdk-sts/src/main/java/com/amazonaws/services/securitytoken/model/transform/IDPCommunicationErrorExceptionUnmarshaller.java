@@ -26,7 +26,7 @@ public class IDPCommunicationErrorExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public IDPCommunicationErrorExceptionUnmarshaller() {
-        super(IDPCommunicationErrorException.class);
+        super(IDPCommunicationErrorException.class, "IDPCommunicationError");
     }
 
     @Override
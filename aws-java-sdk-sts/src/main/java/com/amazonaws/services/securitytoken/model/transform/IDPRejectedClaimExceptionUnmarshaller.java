@@ -26,7 +26,7 @@ public class IDPRejectedClaimExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public IDPRejectedClaimExceptionUnmarshaller() {
-        super(IDPRejectedClaimException.class);
+        super(IDPRejectedClaimException.class, "IDPRejectedClaim");
     }
 
     @Override
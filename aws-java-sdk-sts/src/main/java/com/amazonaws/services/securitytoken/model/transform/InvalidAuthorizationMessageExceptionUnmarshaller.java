@@ -26,7 +26,7 @@ public class InvalidAuthorizationMessageExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidAuthorizationMessageExceptionUnmarshaller() {
-        super(InvalidAuthorizationMessageException.class);
+        super(InvalidAuthorizationMessageException.class, "InvalidAuthorizationMessageException");
     }
 
     @Override
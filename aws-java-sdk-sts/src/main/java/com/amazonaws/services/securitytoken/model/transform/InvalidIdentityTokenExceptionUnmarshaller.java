@@ -26,7 +26,7 @@ public class InvalidIdentityTokenExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public InvalidIdentityTokenExceptionUnmarshaller() {
-        super(InvalidIdentityTokenException.class);
+        super(InvalidIdentityTokenException.class, "InvalidIdentityToken");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class PackedPolicyTooLargeExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public PackedPolicyTooLargeExceptionUnmarshaller() {
-        super(PackedPolicyTooLargeException.class);
+        super(PackedPolicyTooLargeException.class, "PackedPolicyTooLarge");
     }
 
     @Override
@@ -26,7 +26,7 @@ public class RegionDisabledExceptionUnmarshaller extends
         StandardErrorUnmarshaller {
 
     public RegionDisabledExceptionUnmarshaller() {
-        super(RegionDisabledException.class);
+        super(RegionDisabledException.class, "RegionDisabledException");
     }
 
     @Override